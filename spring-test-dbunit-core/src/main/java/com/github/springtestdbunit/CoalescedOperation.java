@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.springtestdbunit;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.dbunit.dataset.CompositeDataSet;
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.IDataSet;
+
+import com.github.springtestdbunit.annotation.DatabaseOperation;
+import com.github.springtestdbunit.annotation.DatabaseSetupTearDownAnnotationAttributes;
+
+/**
+ * Consecutive setup or teardown annotations executed as a single operation. Annotations are only coalesced when the
+ * result is the same as executing them one after the other: they must use the same connection, their datasets must
+ * not share tables, and either have the same operation or be {@link DatabaseOperation#CLEAN_INSERT CLEAN_INSERT}
+ * annotations followed by {@link DatabaseOperation#INSERT INSERT} annotations. In the latter case the tables of the
+ * CLEAN_INSERT datasets are cleared with DELETE_ALL and all datasets are inserted with a single INSERT.
+ */
+class CoalescedOperation {
+
+	private final String connection;
+
+	private final DatabaseOperation operation;
+
+	private final List<IDataSet> dataSets = new ArrayList<IDataSet>();
+
+	private final List<IDataSet> cleanDataSets = new ArrayList<IDataSet>();
+
+	private final Set<String> tableNames = new HashSet<String>();
+
+	private final List<DatabaseSetupTearDownAnnotationAttributes> annotations = new ArrayList<>();
+
+	private boolean inserting;
+
+	/**
+	 * Create a new operation.
+	 * @param annotation the first annotation
+	 * @param dataSets the datasets of the annotation
+	 * @throws DataSetException if the datasets cannot be read
+	 */
+	public CoalescedOperation(DatabaseSetupTearDownAnnotationAttributes annotation, List<IDataSet> dataSets)
+			throws DataSetException {
+		this.connection = annotation.getConnection();
+		this.operation = annotation.getType();
+		addDataSets(annotation, dataSets);
+	}
+
+	/**
+	 * Add an annotation to this operation, if the result is the same as executing it after this operation.
+	 * @param annotation the annotation
+	 * @param dataSets the datasets of the annotation
+	 * @return {@code true} if the annotation was added
+	 * @throws DataSetException if the datasets cannot be read
+	 */
+	public boolean add(DatabaseSetupTearDownAnnotationAttributes annotation, List<IDataSet> dataSets)
+			throws DataSetException {
+		if (!this.connection.equals(annotation.getConnection()) || isFullDatabase()
+				|| (annotation.getValue().length == 0)) {
+			return false;
+		}
+		boolean sameOperation = !this.inserting && (annotation.getType() == this.operation);
+		boolean inserting = (this.operation == DatabaseOperation.CLEAN_INSERT)
+				&& (annotation.getType() == DatabaseOperation.INSERT);
+		if (!sameOperation && !inserting) {
+			return false;
+		}
+		for (IDataSet dataSet : dataSets) {
+			for (String tableName : dataSet.getTableNames()) {
+				if (this.tableNames.contains(tableName.toUpperCase())) {
+					return false;
+				}
+			}
+		}
+		if (inserting && !this.inserting) {
+			this.cleanDataSets.addAll(this.dataSets);
+			this.inserting = true;
+		}
+		addDataSets(annotation, dataSets);
+		return true;
+	}
+
+	private void addDataSets(DatabaseSetupTearDownAnnotationAttributes annotation, List<IDataSet> dataSets)
+			throws DataSetException {
+		this.annotations.add(annotation);
+		for (IDataSet dataSet : dataSets) {
+			this.dataSets.add(dataSet);
+			for (String tableName : dataSet.getTableNames()) {
+				this.tableNames.add(tableName.toUpperCase());
+			}
+		}
+	}
+
+	public String getConnection() {
+		return this.connection;
+	}
+
+	/**
+	 * @return the operation to execute on {@link #getDataSet() the dataset}
+	 */
+	public DatabaseOperation getOperation() {
+		return (this.inserting ? DatabaseOperation.INSERT : this.operation);
+	}
+
+	/**
+	 * @return the datasets of all annotations
+	 * @throws DataSetException if the datasets cannot be combined
+	 */
+	public IDataSet getDataSet() throws DataSetException {
+		return new CompositeDataSet(this.dataSets.toArray(new IDataSet[this.dataSets.size()]));
+	}
+
+	/**
+	 * @return the datasets whose tables must be cleared before {@link #getDataSet() the dataset} is inserted, or
+	 * {@code null}
+	 * @throws DataSetException if the datasets cannot be combined
+	 */
+	public IDataSet getCleanDataSet() throws DataSetException {
+		if (!this.inserting) {
+			return null;
+		}
+		return new CompositeDataSet(this.cleanDataSets.toArray(new IDataSet[this.cleanDataSets.size()]));
+	}
+
+	/**
+	 * @return if the operation applies to the full database, as annotations without dataset do
+	 */
+	public boolean isFullDatabase() {
+		return (this.annotations.get(0).getValue().length == 0);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder operations = new StringBuilder();
+		for (DatabaseSetupTearDownAnnotationAttributes annotation : this.annotations) {
+			operations.append(operations.length() > 0 ? "+" : "").append(annotation.getType());
+		}
+		return operations + " on " + this.dataSets;
+	}
+
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.springtestdbunit;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.IDataSet;
+import org.springframework.util.StringUtils;
+
+import com.github.springtestdbunit.annotation.AbstractDatabaseAnnotationAttributes;
+import com.github.springtestdbunit.dataset.DataSetLoader;
+import com.github.springtestdbunit.util.DataSetAnnotationUtils;
+
+/**
+ * Datasets of a single test method that are being loaded in parallel. Datasets are identified by the loader configured
+ * on the annotation and the location so that the same file is only loaded once per test method.
+ *
+ * @see com.github.springtestdbunit.bean.DbUnitRunnerConfigBean#setParallelPrefetchEnabled(boolean)
+ */
+class DataSetPrefetch {
+
+	private final DbUnitTestContext testContext;
+
+	private final Executor executor;
+
+	private final Map<List<Object>, DataSetLoader> loaders = new HashMap<List<Object>, DataSetLoader>();
+
+	private final Map<List<Object>, CompletableFuture<IDataSet>> dataSets = new HashMap<List<Object>, CompletableFuture<IDataSet>>();
+
+	public DataSetPrefetch(DbUnitTestContext testContext, Executor executor) {
+		this.testContext = testContext;
+		this.executor = executor;
+	}
+
+	/**
+	 * Start loading the dataset at the specified location, unless it is already loading.
+	 * @param annotation the annotation that declares the dataset
+	 * @param location the location of the dataset
+	 */
+	public void prefetch(AbstractDatabaseAnnotationAttributes annotation, String location) {
+		if (!StringUtils.hasLength(location)) {
+			return;
+		}
+		List<Object> key = getKey(annotation, location);
+		if (this.dataSets.containsKey(key)) {
+			return;
+		}
+		final DataSetLoader loader = getLoader(annotation);
+		final Class<?> testClass = this.testContext.getTestClass();
+		final String dataSetLocation = location;
+		this.dataSets.put(key, CompletableFuture.supplyAsync(() -> {
+			try {
+				return loader.loadDataSet(testClass, dataSetLocation);
+			} catch (Exception ex) {
+				throw new CompletionException(ex);
+			}
+		}, this.executor));
+	}
+
+	private DataSetLoader getLoader(AbstractDatabaseAnnotationAttributes annotation) {
+		List<Object> key = getKey(annotation, null);
+		DataSetLoader loader = this.loaders.get(key);
+		if (loader == null) {
+			loader = DataSetAnnotationUtils.getDataSetLoader(this.testContext, annotation);
+			this.loaders.put(key, loader);
+		}
+		return loader;
+	}
+
+	/**
+	 * Determine if the dataset at the specified location has been prefetched.
+	 * @param annotation the annotation that declares the dataset
+	 * @param location the location of the dataset
+	 * @return {@code true} if {@link #get} can be used
+	 */
+	public boolean contains(AbstractDatabaseAnnotationAttributes annotation, String location) {
+		return this.dataSets.containsKey(getKey(annotation, location));
+	}
+
+	/**
+	 * Wait for a prefetched dataset.
+	 * @param annotation the annotation that declares the dataset
+	 * @param location the location of the dataset
+	 * @return the dataset or {@code null} if the loader could not find it
+	 * @throws DataSetException An exception thrown if the dataset itself has a problem.
+	 * @throws IOException An exception thrown if the dataset could not be loaded.
+	 */
+	public IDataSet get(AbstractDatabaseAnnotationAttributes annotation, String location)
+			throws DataSetException, IOException {
+		try {
+			return this.dataSets.get(getKey(annotation, location)).get();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new DataSetException("Interrupted while loading dataset " + location, ex);
+		} catch (ExecutionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof DataSetException) {
+				throw (DataSetException) cause;
+			}
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			}
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw new DataSetException("Unable to load dataset " + location, cause);
+		}
+	}
+
+	/**
+	 * Cancel any dataset that is still loading.
+	 */
+	public void cancel() {
+		for (CompletableFuture<IDataSet> dataSet : this.dataSets.values()) {
+			dataSet.cancel(false);
+		}
+	}
+
+	private List<Object> getKey(AbstractDatabaseAnnotationAttributes annotation, String location) {
+		return Arrays.<Object>asList(annotation.getDataSetLoaderBean(), annotation.getDataSetLoader(), location);
+	}
+
+}
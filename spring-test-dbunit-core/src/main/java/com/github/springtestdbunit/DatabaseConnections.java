@@ -18,10 +18,15 @@ package com.github.springtestdbunit;
 
 import java.sql.SQLException;
 
+import javax.sql.DataSource;
+
+import org.dbunit.database.DatabaseConfig;
 import org.dbunit.database.IDatabaseConnection;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
+import com.github.springtestdbunit.operation.CachingStatementFactory;
+
 /**
  * Holds a number of {@link IDatabaseConnection} beans.
  *
@@ -33,27 +38,64 @@ public class DatabaseConnections {
 
 	private final IDatabaseConnection[] connections;
 
+	private final DataSource[] dataSources;
+
 	public DatabaseConnections(String[] names, IDatabaseConnection[] connections) {
+		this(names, connections, new DataSource[connections.length]);
+	}
+
+	/**
+	 * Create a new instance.
+	 * @param names the bean names
+	 * @param connections the connections
+	 * @param dataSources the data source each connection was created for, {@code null} elements when unknown
+	 */
+	public DatabaseConnections(String[] names, IDatabaseConnection[] connections, DataSource[] dataSources) {
 		Assert.notEmpty(names, "Names must not be empty");
 		Assert.notEmpty(connections, "Connections must not be empty");
 		Assert.isTrue(names.length == connections.length, "Names and Connections must have the same length");
+		Assert.isTrue(dataSources.length == connections.length, "DataSources and Connections must have the same length");
 		this.names = names;
 		this.connections = connections;
+		this.dataSources = dataSources;
 	}
 
 	public void closeAll() throws SQLException {
 		for (IDatabaseConnection connection : this.connections) {
 			connection.close();
 		}
+		for (IDatabaseConnection connection : this.connections) {
+			Object statementFactory = connection.getConfig().getProperty(DatabaseConfig.PROPERTY_STATEMENT_FACTORY);
+			if (statementFactory instanceof CachingStatementFactory) {
+				((CachingStatementFactory) statementFactory).evictClosedConnections();
+			}
+		}
+	}
+
+	public String[] getNames() {
+		return this.names;
 	}
 
 	public IDatabaseConnection get(String name) {
+		return this.connections[indexOf(name)];
+	}
+
+	/**
+	 * Returns the data source that the named connection was created for.
+	 * @param name the connection name, the first connection is used when empty
+	 * @return the data source or {@code null} if the connection bean was not created from a data source bean
+	 */
+	public DataSource getDataSource(String name) {
+		return this.dataSources[indexOf(name)];
+	}
+
+	private int indexOf(String name) {
 		if (!StringUtils.hasLength(name)) {
-			return this.connections[0];
+			return 0;
 		}
 		for (int i = 0; i < this.names.length; i++) {
 			if (this.names[i].equals(name)) {
-				return this.connections[i];
+				return i;
 			}
 		}
 		throw new IllegalStateException("Unable to find connection named " + name);
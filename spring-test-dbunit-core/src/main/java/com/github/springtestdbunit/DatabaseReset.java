@@ -0,0 +1,202 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.springtestdbunit;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.QualifiedTableName;
+
+import com.github.springtestdbunit.annotation.DatabaseOperation;
+import com.github.springtestdbunit.operation.ForeignKeyDependencies;
+import com.github.springtestdbunit.util.DatabaseConnectionUtils;
+import com.github.springtestdbunit.util.DatabaseDialect;
+
+/**
+ * Clears every table of a database, as done by DELETE, DELETE_ALL and TRUNCATE_TABLE annotations without dataset.
+ * Unlike the DbUnit operations that run on {@link DatabaseConnectionUtils#createDataSet(IDatabaseConnection) the
+ * full database dataset}, the table list and the foreign key order are read once per database and cached for the
+ * lifetime of the JVM, and the statements are sent to the database as a single batch.
+ * <p>
+ * Tables created or dropped after the first reset of a database are not seen until the cache is {@link #clear()
+ * cleared}.
+ *
+ * @see com.github.springtestdbunit.bean.DbUnitRunnerConfigBean#setDatabaseResetEnabled(boolean)
+ */
+class DatabaseReset {
+
+	private static final Log logger = LogFactory.getLog(DbUnitTestExecutionListener.class);
+
+	/**
+	 * Instance shared by all runners.
+	 */
+	public static final DatabaseReset SHARED = new DatabaseReset();
+
+	private final Map<String, Plan> plans = new ConcurrentHashMap<>();
+
+	/**
+	 * Remove every row from every table, referencing tables first.
+	 * @param connection the connection
+	 * @param operation the DELETE, DELETE_ALL or TRUNCATE_TABLE operation
+	 * @param resetIdentities if identity columns are restarted as well
+	 * @return {@code true} if the database was cleared, {@code false} if the foreign keys form a cycle and the tables
+	 * cannot be ordered
+	 * @throws SQLException if a statement fails
+	 * @throws DataSetException if the tables cannot be listed
+	 */
+	public boolean reset(IDatabaseConnection connection, DatabaseOperation operation, boolean resetIdentities)
+			throws SQLException, DataSetException {
+		Plan plan = getPlan(connection);
+		if (plan.tableNames == null) {
+			return false;
+		}
+		DatabaseDialect dialect = DatabaseDialect.get(connection);
+		List<String> statements;
+		if (operation == DatabaseOperation.TRUNCATE_TABLE) {
+			statements = dialect.getTruncateTablesSql(plan.tableNames);
+		} else {
+			statements = new ArrayList<String>(plan.tableNames.size());
+			for (String tableName : plan.tableNames) {
+				statements.add("DELETE FROM " + tableName);
+			}
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug("Clearing " + plan.tableNames.size() + " tables using " + statements.size() + " statements");
+		}
+		executeBatch(connection, statements);
+		if (resetIdentities) {
+			for (String[] identityColumn : plan.getIdentityColumns(connection)) {
+				String sql = dialect.getRestartIdentitySql(identityColumn[0], identityColumn[1]);
+				if (sql != null) {
+					DatabaseConnectionUtils.execute(connection, sql);
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Remove all cached table lists.
+	 */
+	public void clear() {
+		this.plans.clear();
+	}
+
+	private Plan getPlan(IDatabaseConnection connection) throws SQLException, DataSetException {
+		String databaseKey = DatabaseConnectionUtils.getDatabaseKey(connection);
+		Plan plan = this.plans.get(databaseKey);
+		if (plan == null) {
+			plan = createPlan(connection);
+			this.plans.put(databaseKey, plan);
+		}
+		return plan;
+	}
+
+	private Plan createPlan(IDatabaseConnection connection) throws SQLException, DataSetException {
+		List<String> tableNames = Arrays.asList(DatabaseConnectionUtils.createDataSet(connection).getTableNames());
+		List<List<String>> layers = ForeignKeyDependencies.getLayers(connection, tableNames);
+		if (layers == null) {
+			logger.warn("Foreign keys form a cycle, the database is cleared table by table");
+			return new Plan(null, null);
+		}
+		List<String> orderedNames = new ArrayList<String>(tableNames.size());
+		for (List<String> layer : layers) {
+			orderedNames.addAll(layer);
+		}
+		Collections.reverse(orderedNames);
+		List<String> sqlNames = new ArrayList<String>(orderedNames.size());
+		for (String tableName : orderedNames) {
+			sqlNames.add(DatabaseConnectionUtils.getQualifiedTableName(connection, tableName));
+		}
+		return new Plan(orderedNames, sqlNames);
+	}
+
+	private void executeBatch(IDatabaseConnection connection, List<String> statements) throws SQLException {
+		if (statements.size() == 1) {
+			DatabaseConnectionUtils.execute(connection, statements.get(0));
+			return;
+		}
+		Statement statement = connection.getConnection().createStatement();
+		try {
+			for (String sql : statements) {
+				statement.addBatch(sql);
+			}
+			statement.executeBatch();
+		} finally {
+			statement.close();
+		}
+	}
+
+	/**
+	 * The cached tables of a database.
+	 */
+	private static class Plan {
+
+		private final List<String> names;
+
+		private final List<String> tableNames;
+
+		private volatile List<String[]> identityColumns;
+
+		public Plan(List<String> names, List<String> tableNames) {
+			this.names = names;
+			this.tableNames = tableNames;
+		}
+
+		/**
+		 * Returns the identity columns as pairs of SQL table name and column name, read on first use.
+		 */
+		public List<String[]> getIdentityColumns(IDatabaseConnection connection) throws SQLException {
+			List<String[]> identityColumns = this.identityColumns;
+			if (identityColumns == null) {
+				identityColumns = new ArrayList<String[]>();
+				DatabaseMetaData metaData = connection.getConnection().getMetaData();
+				for (int i = 0; i < this.names.size(); i++) {
+					QualifiedTableName name = new QualifiedTableName(this.names.get(i), connection.getSchema());
+					ResultSet resultSet = metaData.getColumns(null, name.getSchema(), name.getTable(), null);
+					try {
+						while (resultSet.next()) {
+							if ("YES".equals(resultSet.getString("IS_AUTOINCREMENT"))) {
+								identityColumns.add(new String[] { this.tableNames.get(i), DatabaseConnectionUtils
+										.getQualifiedColumnName(connection, resultSet.getString("COLUMN_NAME")) });
+							}
+						}
+					} finally {
+						resultSet.close();
+					}
+				}
+				this.identityColumns = identityColumns;
+			}
+			return identityColumns;
+		}
+
+	}
+
+}
@@ -12,22 +12,39 @@
 package com.github.springtestdbunit ;
 
 import java.io.IOException ;
+import java.lang.annotation.Annotation ;
 import java.lang.reflect.InvocationTargetException ;
+import java.sql.Connection ;
 import java.sql.SQLException ;
 import java.util.ArrayList ;
 import java.util.Collection ;
+import java.util.EnumSet ;
+import java.util.LinkedHashMap ;
 import java.util.LinkedList ;
 import java.util.List ;
+import java.util.Map ;
+import java.util.Set ;
+import java.util.concurrent.Executor ;
+import java.util.concurrent.ForkJoinPool ;
+
+import javax.sql.DataSource ;
 
 import org.apache.commons.logging.Log ;
 import org.apache.commons.logging.LogFactory ;
 import org.dbunit.DatabaseUnitException ;
+import org.dbunit.database.DatabaseConnection ;
 import org.dbunit.database.IDatabaseConnection ;
-import org.dbunit.dataset.CompositeDataSet ;
 import org.dbunit.dataset.DataSetException ;
+import org.dbunit.dataset.DefaultDataSet ;
+import org.dbunit.dataset.DefaultTable ;
 import org.dbunit.dataset.IDataSet ;
 import org.dbunit.dataset.ITable ;
+import org.dbunit.dataset.ITableMetaData ;
 import org.dbunit.dataset.filter.IColumnFilter ;
+import org.dbunit.dataset.stream.DefaultConsumer ;
+import org.dbunit.dataset.stream.IDataSetProducer ;
+import org.dbunit.dataset.stream.StreamingDataSet ;
+import org.springframework.transaction.support.TransactionSynchronizationManager ;
 import org.springframework.util.Assert ;
 import org.springframework.util.StringUtils ;
 
@@ -42,11 +59,18 @@ import com.github.springtestdbunit.annotation.DatabaseTearDowns ;
 import com.github.springtestdbunit.annotation.ExpectedDatabase ;
 import com.github.springtestdbunit.annotation.ExpectedDatabaseAnnotationAttributes ;
 import com.github.springtestdbunit.annotation.ExpectedDatabases ;
+import com.github.springtestdbunit.assertion.ConnectionDatabaseAssertion ;
 import com.github.springtestdbunit.assertion.DatabaseAssertion ;
+import com.github.springtestdbunit.assertion.DatabaseAssertionMode ;
+import com.github.springtestdbunit.assertion.StreamingTableComparison ;
 import com.github.springtestdbunit.bean.DbUnitRunnerConfigBean ;
+import com.github.springtestdbunit.bean.DirtyTableTrackingDataSource ;
 import com.github.springtestdbunit.dataset.DataSetLoader ;
 import com.github.springtestdbunit.dataset.DataSetModifier ;
+import com.github.springtestdbunit.dataset.StreamingDataSetLoader ;
+import com.github.springtestdbunit.operation.FastCleanInsertOperation ;
 import com.github.springtestdbunit.util.DataSetAnnotationUtils ;
+import com.github.springtestdbunit.util.DatabaseConnectionUtils ;
 
 /**
  * Internal delegate class used to run tests with support for {@link DatabaseSetup &#064;DatabaseSetup}, {@link DatabaseTearDown &#064;DatabaseTearDown} and {@link ExpectedDatabase
@@ -62,6 +86,26 @@ public class DbUnitRunner {
 
     private static final Log logger = LogFactory.getLog(DbUnitTestExecutionListener.class) ;
 
+    /**
+     * Operations that only iterate forward over the dataset and can therefore be used with a {@link StreamingDataSet}, CLEAN_INSERT is run as DELETE_ALL
+     * followed by INSERT.
+     */
+    private static final Set<DatabaseOperation> STREAMABLE_OPERATIONS = EnumSet.of(DatabaseOperation.INSERT, DatabaseOperation.UPDATE, DatabaseOperation.REFRESH,
+            DatabaseOperation.CLEAN_INSERT) ;
+
+    /**
+     * Operations whose outcome only depends on the dataset, they can be skipped when the database is already in that state or restricted to the changed
+     * tables.
+     */
+    private static final Set<DatabaseOperation> FINGERPRINTED_OPERATIONS = EnumSet.of(DatabaseOperation.CLEAN_INSERT, DatabaseOperation.FAST_CLEAN_INSERT,
+            DatabaseOperation.DELETE_ALL) ;
+
+    /**
+     * Operations that clear every table of the database when the annotation has no dataset, they can be run by {@link DatabaseReset}.
+     */
+    private static final Set<DatabaseOperation> RESETTABLE_OPERATIONS = EnumSet.of(DatabaseOperation.DELETE, DatabaseOperation.DELETE_ALL,
+            DatabaseOperation.TRUNCATE_TABLE) ;
+
     private DbUnitRunnerConfigBean defaultConfigBean = null ;
 
     /**
@@ -73,8 +117,80 @@ public class DbUnitRunner {
      * @throws SQLException If the dataset corresponding to the entire database could not be loaded.
      */
     public void beforeTestMethod(DbUnitTestContext testContext) throws IOException, SQLException, DatabaseUnitException {
+        beforeTestMethod(testContext, true) ;
+    }
+
+    /**
+     * Called before a test method is executed to perform any database setup.
+     *
+     * @param testContext The test context
+     * @param includeClassAnnotations If the class level annotations are applied, when {@code false} only the method level annotations are.
+     * @throws DatabaseUnitException If a dataset could not be imported into the database.
+     * @throws IOException If a dataset could not be loaded.
+     * @throws SQLException If the dataset corresponding to the entire database could not be loaded.
+     */
+    public void beforeTestMethod(DbUnitTestContext testContext, boolean includeClassAnnotations) throws IOException, SQLException, DatabaseUnitException {
+        final Annotations<DatabaseSetup> annotations = Annotations.get(testContext, DatabaseSetups.class, DatabaseSetup.class) ;
+        final Collection<DatabaseSetupTearDownAnnotationAttributes> setupAnnotations = DatabaseSetupTearDownAnnotationAttributes.get(select(annotations,
+                includeClassAnnotations)) ;
+        if (isParallelPrefetchEnabled(testContext)) {
+            prefetchDataSets((DbUnitTestContextAdapter) testContext, setupAnnotations, includeClassAnnotations) ;
+        }
+        setupOrTeardown(testContext, true, setupAnnotations) ;
+    }
+
+    /**
+     * Applies the class level {@link DatabaseSetup &#064;DatabaseSetup} annotations only, for listeners that set up the database once per test class.
+     *
+     * @param testContext The test context of the first test method of the class
+     * @throws DatabaseUnitException If a dataset could not be imported into the database.
+     * @throws IOException If a dataset could not be loaded.
+     * @throws SQLException If the dataset corresponding to the entire database could not be loaded.
+     */
+    public void setupTestClass(DbUnitTestContext testContext) throws IOException, SQLException, DatabaseUnitException {
         final Annotations<DatabaseSetup> annotations = Annotations.get(testContext, DatabaseSetups.class, DatabaseSetup.class) ;
-        setupOrTeardown(testContext, true, DatabaseSetupTearDownAnnotationAttributes.get(annotations)) ;
+        setupOrTeardown(testContext, true, DatabaseSetupTearDownAnnotationAttributes.get(annotations.getClassAnnotations())) ;
+    }
+
+    private <T extends Annotation> Iterable<T> select(Annotations<T> annotations, boolean includeClassAnnotations) {
+        if (includeClassAnnotations) {
+            return annotations ;
+        }
+        return annotations.getMethodAnnotations() ;
+    }
+
+    private boolean isParallelPrefetchEnabled(DbUnitTestContext testContext) {
+        return (defaultConfigBean != null) && defaultConfigBean.isParallelPrefetchEnabled() && (testContext instanceof DbUnitTestContextAdapter) ;
+    }
+
+    /**
+     * Starts loading every setup, teardown and expected dataset of the test method, the datasets are still used in their declared order.
+     */
+    private void prefetchDataSets(DbUnitTestContextAdapter testContext, Collection<DatabaseSetupTearDownAnnotationAttributes> setupAnnotations,
+            boolean includeClassAnnotations) {
+        final Executor executor = (defaultConfigBean.getPrefetchExecutor() != null ? defaultConfigBean.getPrefetchExecutor() : ForkJoinPool.commonPool()) ;
+        final DataSetPrefetch prefetch = new DataSetPrefetch(testContext, executor) ;
+        final List<DatabaseSetupTearDownAnnotationAttributes> setupTearDownAnnotations = new ArrayList<>(setupAnnotations) ;
+        setupTearDownAnnotations.addAll(DatabaseSetupTearDownAnnotationAttributes.get(select(Annotations.get(testContext, DatabaseTearDowns.class, DatabaseTearDown.class),
+                includeClassAnnotations))) ;
+        for (final DatabaseSetupTearDownAnnotationAttributes annotation : setupTearDownAnnotations) {
+            if (!isStreamable(testContext, annotation)) {
+                for (final String dataSetLocation : annotation.getValue()) {
+                    prefetch.prefetch(annotation, dataSetLocation) ;
+                }
+            }
+        }
+        for (final ExpectedDatabase annotation : Annotations.get(testContext, ExpectedDatabases.class, ExpectedDatabase.class)) {
+            prefetch.prefetch(new ExpectedDatabaseAnnotationAttributes(annotation), annotation.value()) ;
+        }
+        testContext.setAttribute(DbUnitTestContextConstants.DATA_SET_PREFETCH_ATTRIBUTE, prefetch) ;
+    }
+
+    private DataSetPrefetch getDataSetPrefetch(DbUnitTestContext testContext) {
+        if (testContext instanceof DbUnitTestContextAdapter) {
+            return (DataSetPrefetch) ((DbUnitTestContextAdapter) testContext).getAttribute(DbUnitTestContextConstants.DATA_SET_PREFETCH_ATTRIBUTE) ;
+        }
+        return null ;
     }
 
     /**
@@ -93,6 +209,27 @@ public class DbUnitRunner {
      */
     public void afterTestMethod(DbUnitTestContext testContext) throws SQLException, IOException, DatabaseUnitException, InstantiationException, IllegalAccessException,
             IllegalArgumentException, InvocationTargetException, NoSuchMethodException, SecurityException {
+        afterTestMethod(testContext, true) ;
+    }
+
+    /**
+     * Called after a test method is executed to perform any database teardown and to check expected results. Expectations are always checked at both class and
+     * method level.
+     *
+     * @param testContext The test context
+     * @param includeClassAnnotations If the class level teardown annotations are applied, when {@code false} only the method level annotations are.
+     * @throws SQLException An exception thrown if the test connections cannot be closed.
+     * @throws DatabaseUnitException If a dataset could not be imported into the database.
+     * @throws IOException An exception thrown if a dataset could not be loaded.
+     * @throws IllegalAccessException If a database column filter could not be initialised.
+     * @throws InstantiationException If a database column filter could not be initialised.
+     * @throws SecurityException If a database column filter could not be initialised.
+     * @throws NoSuchMethodException If a database column filter could not be initialised.
+     * @throws InvocationTargetException If a database column filter could not be initialised.
+     * @throws IllegalArgumentException If a database column filter could not be initialised.
+     */
+    public void afterTestMethod(DbUnitTestContext testContext, boolean includeClassAnnotations) throws SQLException, IOException, DatabaseUnitException,
+            InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException, NoSuchMethodException, SecurityException {
 
         try {
             verifyExpected(testContext, Annotations.get(testContext, ExpectedDatabases.class, ExpectedDatabase.class)) ;
@@ -100,7 +237,7 @@ public class DbUnitRunner {
             final Annotations<DatabaseTearDown> annotations = Annotations.get(testContext, DatabaseTearDowns.class, DatabaseTearDown.class) ;
 
             try {
-                setupOrTeardown(testContext, false, DatabaseSetupTearDownAnnotationAttributes.get(annotations)) ;
+                setupOrTeardown(testContext, false, DatabaseSetupTearDownAnnotationAttributes.get(select(annotations, includeClassAnnotations))) ;
             } catch (final RuntimeException ex) {
                 if (testContext.getTestException() == null) {
                     throw ex ;
@@ -109,6 +246,11 @@ public class DbUnitRunner {
                     logger.warn("Unable to throw database cleanup exception due to existing test error", ex) ;
                 }
             } finally {
+                final DataSetPrefetch prefetch = getDataSetPrefetch(testContext) ;
+                if (prefetch != null) {
+                    prefetch.cancel() ;
+                    ((DbUnitTestContextAdapter) testContext).setAttribute(DbUnitTestContextConstants.DATA_SET_PREFETCH_ATTRIBUTE, null) ;
+                }
                 testContext.getConnections().closeAll() ;
             }
         }
@@ -126,53 +268,144 @@ public class DbUnitRunner {
 
         final DatabaseConnections connections = testContext.getConnections() ;
         final DataSetModifier modifier = getModifier(testContext, annotations) ;
+        final List<ExpectedDatabase> expectedDatabases = new ArrayList<>() ;
         boolean override = false ;
 
         for (final ExpectedDatabase annotation : annotations.getMethodAnnotations()) {
-            verifyExpected(testContext, connections, modifier, annotation) ;
+            expectedDatabases.add(annotation) ;
             override |= annotation.override() ;
         }
 
         if (!override) {
             for (final ExpectedDatabase annotation : annotations.getClassAnnotations()) {
-                verifyExpected(testContext, connections, modifier, annotation) ;
+                expectedDatabases.add(annotation) ;
             }
         }
+
+        if (isParallelVerificationEnabled()) {
+            verifyInParallel(testContext, connections, modifier, expectedDatabases) ;
+            return ;
+        }
+
+        for (final ExpectedDatabase annotation : expectedDatabases) {
+            final IDataSet expectedDataSet = loadDataset(testContext, new ExpectedDatabaseAnnotationAttributes(annotation), annotation.value(), modifier) ;
+            if (expectedDataSet != null) {
+                verifyExpected(annotation, expectedDataSet, connections.get(annotation.connection()), getColumnFilters(annotation)) ;
+            }
+        }
+    }
+
+    /**
+     * The pooled connections used to verify in parallel would not see the uncommitted changes of a transaction.
+     */
+    private boolean isParallelVerificationEnabled() {
+        return (defaultConfigBean != null) && defaultConfigBean.isParallelVerificationEnabled() && !TransactionSynchronizationManager.isActualTransactionActive() ;
     }
 
-    private void verifyExpected(DbUnitTestContext testContext, DatabaseConnections connections, DataSetModifier modifier, ExpectedDatabase annotation)
+    /**
+     * Verify the expectations on different connections concurrently, the tables of a non strict dataset expectation on a connection created for a DataSource bean
+     * are each verified on their own pooled connection. The datasets and column filters are loaded beforehand, in the declared order.
+     */
+    private void verifyInParallel(DbUnitTestContext testContext, DatabaseConnections connections, DataSetModifier modifier, List<ExpectedDatabase> expectedDatabases)
             throws DataSetException, SQLException, DatabaseUnitException, InstantiationException, IllegalAccessException, IOException, IllegalArgumentException,
             InvocationTargetException, NoSuchMethodException, SecurityException {
+        final Executor executor = (defaultConfigBean.getVerificationExecutor() != null ? defaultConfigBean.getVerificationExecutor() : ForkJoinPool.commonPool()) ;
+        final ParallelVerification verification = new ParallelVerification(executor) ;
+        for (final ExpectedDatabase annotation : expectedDatabases) {
+            final IDataSet expectedDataSet = loadDataset(testContext, new ExpectedDatabaseAnnotationAttributes(annotation), annotation.value(), modifier) ;
+            if (expectedDataSet == null) {
+                continue ;
+            }
+            final List<IColumnFilter> columnFilters = getColumnFilters(annotation) ;
+            final IDatabaseConnection connection = connections.get(annotation.connection()) ;
+            final DataSource dataSource = connections.getDataSource(annotation.connection()) ;
+            if (isTableParallelizable(annotation, connection, dataSource)) {
+                for (final String tableName : expectedDataSet.getTableNames()) {
+                    final ITable expectedTable = expectedDataSet.getTable(tableName) ;
+                    verification.add(expectedTable, () -> verifyExpected(annotation, expectedTable, tableName, connection, dataSource, columnFilters)) ;
+                }
+            } else {
+                verification.add(connection, () -> verifyExpected(annotation, expectedDataSet, connection, columnFilters)) ;
+            }
+        }
+        verification.verify() ;
+    }
+
+    /**
+     * The default assertion also compares the table names of the whole dataset, the other modes compare each expected table on its own.
+     */
+    private boolean isTableParallelizable(ExpectedDatabase annotation, IDatabaseConnection connection, DataSource dataSource) throws SQLException {
+        return (dataSource != null) && (annotation.assertionMode() != DatabaseAssertionMode.DEFAULT) && !StringUtils.hasLength(annotation.query())
+                && !StringUtils.hasLength(annotation.table()) && connection.getConnection().getAutoCommit() ;
+    }
+
+    /**
+     * Verify an expected table of a dataset on a new connection of the data source, configured as the connection of the annotation.
+     */
+    private void verifyExpected(ExpectedDatabase annotation, ITable expectedTable, String tableName, IDatabaseConnection connection, DataSource dataSource,
+            List<IColumnFilter> columnFilters) throws DatabaseUnitException, SQLException {
+        final Connection pooledConnection = dataSource.getConnection() ;
+        try {
+            final DatabaseConnection tableConnection = new DatabaseConnection(pooledConnection, connection.getSchema()) ;
+            DatabaseConnectionUtils.copyConfig(connection.getConfig(), tableConnection.getConfig()) ;
+            final DatabaseAssertion assertion = annotation.assertionMode().getDatabaseAssertion() ;
+            if (assertion instanceof ConnectionDatabaseAssertion) {
+                ((ConnectionDatabaseAssertion) assertion).assertEquals(expectedTable, tableConnection, tableName, columnFilters) ;
+            } else {
+                assertion.assertEquals(expectedTable, tableConnection.createTable(tableName), columnFilters) ;
+            }
+        } finally {
+            pooledConnection.close() ;
+        }
+    }
+
+    private void verifyExpected(ExpectedDatabase annotation, IDataSet expectedDataSet, IDatabaseConnection connection, List<IColumnFilter> columnFilters)
+            throws SQLException, DatabaseUnitException {
 
         final String query = annotation.query() ;
         final String table = annotation.table() ;
-        final IDataSet expectedDataSet = loadDataset(testContext, new ExpectedDatabaseAnnotationAttributes(annotation), annotation.value(), modifier) ;
-        final IDatabaseConnection connection = connections.get(annotation.connection()) ;
 
-        if (expectedDataSet != null) {
-            if (logger.isDebugEnabled()) {
-                logger.debug("Veriftying @DatabaseTest expectation using " + annotation.value()) ;
-            }
+        if (logger.isDebugEnabled()) {
+            logger.debug("Veriftying @DatabaseTest expectation using " + annotation.value()) ;
+        }
 
-            final DatabaseAssertion assertion = annotation.assertionMode().getDatabaseAssertion() ;
-            final List<IColumnFilter> columnFilters = getColumnFilters(annotation) ;
+        final DatabaseAssertion assertion = annotation.assertionMode().getDatabaseAssertion() ;
 
-            if (StringUtils.hasLength(query)) {
-                Assert.hasLength(table, "The table name must be specified when using a SQL query") ;
-                final ITable expectedTable = expectedDataSet.getTable(table) ;
+        if (StringUtils.hasLength(query)) {
+            Assert.hasLength(table, "The table name must be specified when using a SQL query") ;
+            final ITable expectedTable = expectedDataSet.getTable(table) ;
+            if (!isStreamedMatch(annotation, columnFilters, expectedTable, connection, query)) {
                 final ITable actualTable = connection.createQueryTable(table, query) ;
                 assertion.assertEquals(expectedTable, actualTable, columnFilters) ;
-            } else if (StringUtils.hasLength(table)) {
+            }
+        } else if (StringUtils.hasLength(table)) {
+            final ITable expectedTable = expectedDataSet.getTable(table) ;
+            if (assertion instanceof ConnectionDatabaseAssertion) {
+                ((ConnectionDatabaseAssertion) assertion).assertEquals(expectedTable, connection, table, columnFilters) ;
+            } else if (!isStreamedMatch(annotation, columnFilters, expectedTable, connection, null)) {
                 final ITable actualTable = connection.createTable(table) ;
-                final ITable expectedTable = expectedDataSet.getTable(table) ;
                 assertion.assertEquals(expectedTable, actualTable, columnFilters) ;
-            } else {
-                final IDataSet actualDataSet = connection.createDataSet() ;
-                assertion.assertEquals(expectedDataSet, actualDataSet, columnFilters) ;
             }
+        } else if (assertion instanceof ConnectionDatabaseAssertion) {
+            ((ConnectionDatabaseAssertion) assertion).assertEquals(expectedDataSet, connection, columnFilters) ;
+        } else {
+            final IDataSet actualDataSet = DatabaseConnectionUtils.createDataSet(connection) ;
+            assertion.assertEquals(expectedDataSet, actualDataSet, columnFilters) ;
         }
     }
 
+    /**
+     * Compare the expected table with the rows read one at a time from the database, when enabled. The rows are only read in memory by the regular assertion when
+     * they do not match, to report the differences.
+     */
+    private boolean isStreamedMatch(ExpectedDatabase annotation, List<IColumnFilter> columnFilters, ITable expectedTable, IDatabaseConnection connection,
+            String query) throws SQLException, DatabaseUnitException {
+        if ((defaultConfigBean == null) || !defaultConfigBean.isStreamingAssertionEnabled()) {
+            return false ;
+        }
+        return new StreamingTableComparison(annotation.assertionMode(), columnFilters).matches(expectedTable, connection, annotation.table(), query) ;
+    }
+
     private DataSetModifier getModifier(DbUnitTestContext testContext, Annotations<ExpectedDatabase> annotations) {
         final DataSetModifiers modifiers = new DataSetModifiers() ;
         for (final ExpectedDatabase annotation : annotations) {
@@ -187,24 +420,162 @@ public class DbUnitRunner {
             throws IOException, SQLException, DatabaseUnitException {
 
         final DatabaseConnections connections = testContext.getConnections() ;
+        CoalescedOperation coalesced = null ;
 
         for (final DatabaseSetupTearDownAnnotationAttributes annotation : annotations) {
+            if (isStreamable(testContext, annotation)) {
+                execute(testContext, isSetup, coalesced) ;
+                coalesced = null ;
+                streamDataSets(testContext, isSetup, annotation) ;
+                continue ;
+            }
+            if (isDatabaseReset(annotation)) {
+                execute(testContext, isSetup, coalesced) ;
+                coalesced = null ;
+                if (DatabaseReset.SHARED.reset(connections.get(annotation.getConnection()), annotation.getType(), defaultConfigBean.isIdentityResetEnabled())) {
+                    continue ;
+                }
+            }
             final List<IDataSet> datasets = loadDataSets(testContext, annotation) ;
-            final DatabaseOperation operation = annotation.getType() ;
-            final org.dbunit.operation.DatabaseOperation dbUnitOperation = getDbUnitDatabaseOperation(testContext, operation) ;
+            if ((coalesced == null) || !isCoalescingEnabled() || !coalesced.add(annotation, datasets)) {
+                execute(testContext, isSetup, coalesced) ;
+                coalesced = new CoalescedOperation(annotation, datasets) ;
+            }
+        }
+        execute(testContext, isSetup, coalesced) ;
+    }
 
-            if (!datasets.isEmpty()) {
-                if (logger.isDebugEnabled()) {
-                    logger.debug("Executing " + (isSetup ? "Setup" : "Teardown") + " of @DatabaseTest using " + operation + " on " + datasets.toString()) ;
-                }
+    private boolean isCoalescingEnabled() {
+        return (defaultConfigBean != null) && defaultConfigBean.isSetupCoalescingEnabled() ;
+    }
+
+    private void execute(DbUnitTestContext testContext, boolean isSetup, CoalescedOperation coalesced) throws SQLException, DatabaseUnitException {
+        if (coalesced == null) {
+            return ;
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("Executing " + (isSetup ? "Setup" : "Teardown") + " of @DatabaseTest using " + coalesced) ;
+        }
+
+        final IDatabaseConnection connection = testContext.getConnections().get(coalesced.getConnection()) ;
+        final IDataSet cleanDataSet = coalesced.getCleanDataSet() ;
+        if (cleanDataSet != null) {
+            getDbUnitDatabaseOperation(testContext, DatabaseOperation.DELETE_ALL).execute(connection, cleanDataSet) ;
+        }
+        final DatabaseOperation operation = coalesced.getOperation() ;
+        final org.dbunit.operation.DatabaseOperation dbUnitOperation = getDbUnitDatabaseOperation(testContext, operation) ;
+        final IDataSet dataSet = coalesced.getDataSet() ;
+        final DirtyTableTrackingDataSource dirtyTableTracker = getDirtyTableTracker(connection, coalesced) ;
+        if (dirtyTableTracker != null) {
+            DirtyTables.SHARED.execute(connection, dirtyTableTracker, operation, dbUnitOperation, dataSet) ;
+        } else if (isFingerprinted(coalesced)) {
+            executeUnlessApplied(connection, operation, dbUnitOperation, dataSet) ;
+        } else {
+            dbUnitOperation.execute(connection, dataSet) ;
+        }
+    }
 
-                final IDatabaseConnection connection = connections.get(annotation.getConnection()) ;
-                final IDataSet dataSet = new CompositeDataSet(datasets.toArray(new IDataSet[datasets.size()])) ;
-                dbUnitOperation.execute(connection, dataSet) ;
+    private boolean isDatabaseReset(DatabaseSetupTearDownAnnotationAttributes annotation) {
+        return (defaultConfigBean != null) && defaultConfigBean.isDatabaseResetEnabled() && (annotation.getValue().length == 0)
+                && RESETTABLE_OPERATIONS.contains(annotation.getType()) ;
+    }
+
+    /**
+     * Returns the data source that tracks the tables changed through the connection, if the operation can be restricted to the changed tables.
+     */
+    private DirtyTableTrackingDataSource getDirtyTableTracker(IDatabaseConnection connection, CoalescedOperation coalesced) throws SQLException {
+        if (coalesced.isFullDatabase() || !FINGERPRINTED_OPERATIONS.contains(coalesced.getOperation())) {
+            return null ;
+        }
+        return DirtyTableTrackingDataSource.get(connection) ;
+    }
+
+    private boolean isFingerprinted(CoalescedOperation coalesced) {
+        return (defaultConfigBean != null) && defaultConfigBean.isSetupFingerprintEnabled() && !coalesced.isFullDatabase()
+                && FINGERPRINTED_OPERATIONS.contains(coalesced.getOperation()) ;
+    }
+
+
+    /**
+     * Executes the operation unless the database is provably already in the state the operation produces, see {@link SetupFingerprints}.
+     */
+    private void executeUnlessApplied(IDatabaseConnection connection, DatabaseOperation operation, org.dbunit.operation.DatabaseOperation dbUnitOperation, IDataSet dataSet)
+            throws SQLException, DatabaseUnitException {
+        final SetupFingerprints fingerprints = SetupFingerprints.SHARED ;
+        final SetupFingerprints.Fingerprint fingerprint = fingerprints.fingerprint(connection, operation, dataSet) ;
+        if (!fingerprints.isApplied(connection, fingerprint)) {
+            dbUnitOperation.execute(connection, dataSet) ;
+            fingerprints.applied(connection, fingerprint) ;
+        }
+    }
+
+    private boolean isStreamable(DbUnitTestContext testContext, DatabaseSetupTearDownAnnotationAttributes annotation) {
+        if ((defaultConfigBean == null) || !defaultConfigBean.isStreamingSetupEnabled()) {
+            return false ;
+        }
+        if ((annotation.getValue().length == 0) || !STREAMABLE_OPERATIONS.contains(annotation.getType())) {
+            return false ;
+        }
+        final DataSetLoader dataSetLoader = DataSetAnnotationUtils.getDataSetLoader(testContext, annotation) ;
+        return (dataSetLoader instanceof StreamingDataSetLoader) && ((StreamingDataSetLoader) dataSetLoader).isStreamingSupported() ;
+    }
+
+    /**
+     * Executes the operation of the annotation while the datasets are being parsed, so that rows are never all held in memory.
+     */
+    private void streamDataSets(DbUnitTestContext testContext, boolean isSetup, DatabaseSetupTearDownAnnotationAttributes annotation)
+            throws IOException, SQLException, DatabaseUnitException {
+
+        final StreamingDataSetLoader dataSetLoader = (StreamingDataSetLoader) DataSetAnnotationUtils.getDataSetLoader(testContext, annotation) ;
+        final IDatabaseConnection connection = testContext.getConnections().get(annotation.getConnection()) ;
+        DatabaseOperation operation = annotation.getType() ;
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Executing " + (isSetup ? "Setup" : "Teardown") + " of @DatabaseTest using streamed " + operation + " on "
+                    + StringUtils.arrayToCommaDelimitedString(annotation.getValue())) ;
+        }
+
+        if (operation == DatabaseOperation.CLEAN_INSERT) {
+            final Map<String, ITableMetaData> tables = new LinkedHashMap<>() ;
+            for (final String dataSetLocation : annotation.getValue()) {
+                collectTables(loadDataSetProducer(testContext, dataSetLoader, dataSetLocation), tables) ;
+            }
+            final DefaultDataSet emptyDataSet = new DefaultDataSet() ;
+            for (final ITableMetaData metaData : tables.values()) {
+                emptyDataSet.addTable(new DefaultTable(metaData)) ;
             }
+            getDbUnitDatabaseOperation(testContext, DatabaseOperation.DELETE_ALL).execute(connection, emptyDataSet) ;
+            operation = DatabaseOperation.INSERT ;
+        }
+
+        final org.dbunit.operation.DatabaseOperation dbUnitOperation = getDbUnitDatabaseOperation(testContext, operation) ;
+        for (final String dataSetLocation : annotation.getValue()) {
+            final IDataSetProducer producer = loadDataSetProducer(testContext, dataSetLoader, dataSetLocation) ;
+            dbUnitOperation.execute(connection, new StreamingDataSet(producer)) ;
         }
     }
 
+    private IDataSetProducer loadDataSetProducer(DbUnitTestContext testContext, StreamingDataSetLoader dataSetLoader, String dataSetLocation)
+            throws DataSetException, IOException {
+        final IDataSetProducer producer = dataSetLoader.loadDataSetProducer(testContext.getTestClass(), dataSetLocation) ;
+        Assert.notNull(producer, "Unable to load dataset from \"" + dataSetLocation + "\" using " + dataSetLoader.getClass()) ;
+        return producer ;
+    }
+
+    private void collectTables(IDataSetProducer producer, final Map<String, ITableMetaData> tables) throws DataSetException {
+        producer.setConsumer(new DefaultConsumer() {
+
+            @Override
+            public void startTable(ITableMetaData metaData) throws DataSetException {
+                final String key = metaData.getTableName().toUpperCase() ;
+                if (!tables.containsKey(key)) {
+                    tables.put(key, metaData) ;
+                }
+            }
+        }) ;
+        producer.produce() ;
+    }
+
     private List<IDataSet> loadDataSets(DbUnitTestContext testContext, DatabaseSetupTearDownAnnotationAttributes annotation) throws DataSetException, IOException, SQLException {
 
         final List<IDataSet> datasets = new ArrayList<>() ;
@@ -220,9 +591,9 @@ public class DbUnitRunner {
         return datasets ;
     }
 
-    private IDataSet getFullDatabaseDataSet(DbUnitTestContext testContext, String name) throws SQLException {
+    private IDataSet getFullDatabaseDataSet(DbUnitTestContext testContext, String name) throws SQLException, DataSetException {
         final IDatabaseConnection connection = testContext.getConnections().get(name) ;
-        return connection.createDataSet() ;
+        return DatabaseConnectionUtils.createDataSet(connection) ;
     }
 
     /**
@@ -242,7 +613,13 @@ public class DbUnitRunner {
         final DataSetLoader dataSetLoader = DataSetAnnotationUtils.getDataSetLoader(testContext, annotation) ;
 
         if (StringUtils.hasLength(dataSetLocation)) {
-            IDataSet dataSet = dataSetLoader.loadDataSet(testContext.getTestClass(), dataSetLocation) ;
+            final DataSetPrefetch prefetch = getDataSetPrefetch(testContext) ;
+            IDataSet dataSet ;
+            if ((prefetch != null) && prefetch.contains(annotation, dataSetLocation)) {
+                dataSet = prefetch.get(annotation, dataSetLocation) ;
+            } else {
+                dataSet = dataSetLoader.loadDataSet(testContext.getTestClass(), dataSetLocation) ;
+            }
             dataSet = modifier.modify(dataSet) ;
             Assert.notNull(dataSet, "Unable to load dataset from \"" + dataSetLocation + "\" using " + dataSetLoader.getClass()) ;
             return dataSet ;
@@ -267,6 +644,9 @@ public class DbUnitRunner {
     private org.dbunit.operation.DatabaseOperation getDbUnitDatabaseOperation(DbUnitTestContext testContext, DatabaseOperation operation) {
         final org.dbunit.operation.DatabaseOperation databaseOperation = testContext.getDatabaseOperationLookup().get(operation) ;
         Assert.state(databaseOperation != null, "The database operation " + operation + " is not supported") ;
+        if ((databaseOperation instanceof FastCleanInsertOperation) && (defaultConfigBean != null) && defaultConfigBean.isFastCleanInsertValidationEnabled()) {
+            return ((FastCleanInsertOperation) databaseOperation).withValidation() ;
+        }
         return databaseOperation ;
     }
 
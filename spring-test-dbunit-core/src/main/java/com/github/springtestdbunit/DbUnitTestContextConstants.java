@@ -33,6 +33,9 @@ public final class DbUnitTestContextConstants {
 	public static final String DATABASE_OPERATION_LOOKUP_ATTRIBUTE = Conventions
 			.getQualifiedAttributeName(DbUnitTestExecutionListener.class, "databaseOperationLookup");
 
+	public static final String DATA_SET_PREFETCH_ATTRIBUTE = Conventions
+			.getQualifiedAttributeName(DbUnitTestExecutionListener.class, "dataSetPrefetch");
+
 	/**
 	 * Default private constructor to avoid instantiating this class.
 	 */
@@ -17,7 +17,9 @@ import javax.sql.DataSource ;
 
 import org.apache.commons.logging.Log ;
 import org.apache.commons.logging.LogFactory ;
+import org.dbunit.database.DatabaseConfig ;
 import org.dbunit.database.IDatabaseConnection ;
+import org.dbunit.database.statement.PreparedStatementFactory ;
 import org.springframework.test.context.TestContext ;
 import org.springframework.test.context.support.AbstractTestExecutionListener ;
 import org.springframework.test.context.transaction.TransactionalTestExecutionListener ;
@@ -31,9 +33,13 @@ import com.github.springtestdbunit.annotation.DbUnitConfiguration ;
 import com.github.springtestdbunit.annotation.ExpectedDatabase ;
 import com.github.springtestdbunit.bean.DatabaseDataSourceConnectionFactoryBean ;
 import com.github.springtestdbunit.bean.DbUnitRunnerConfigBean ;
+import com.github.springtestdbunit.bean.TableMetaDataCache ;
+import com.github.springtestdbunit.dataset.AbstractDataSetLoader ;
 import com.github.springtestdbunit.dataset.AcceptColumSensingEnabling ;
+import com.github.springtestdbunit.dataset.DataSetCache ;
 import com.github.springtestdbunit.dataset.DataSetLoader ;
 import com.github.springtestdbunit.dataset.FlatXmlDataSetLoader ;
+import com.github.springtestdbunit.operation.CachingStatementFactory ;
 import com.github.springtestdbunit.operation.DatabaseOperationLookup ;
 import com.github.springtestdbunit.operation.DefaultDatabaseOperationLookup ;
 
@@ -83,6 +89,7 @@ public class DbUnitTestExecutionListener extends AbstractTestExecutionListener {
         String dataSetLoaderBeanName = null ;
         Class<? extends DataSetLoader> dataSetLoaderClass = FlatXmlDataSetLoader.class ;
         Class<? extends DatabaseOperationLookup> databaseOperationLookupClass = DefaultDatabaseOperationLookup.class ;
+        String databaseOperationLookupBeanName = null ;
         String dbUnitRunnerConfigBeanName = null ;
 
         final DbUnitConfiguration configuration = testContext.getTestClass().getAnnotation(DbUnitConfiguration.class) ;
@@ -94,6 +101,7 @@ public class DbUnitTestExecutionListener extends AbstractTestExecutionListener {
             dataSetLoaderClass = configuration.dataSetLoader() ;
             dataSetLoaderBeanName = configuration.dataSetLoaderBean() ;
             databaseOperationLookupClass = configuration.databaseOperationLookup() ;
+            databaseOperationLookupBeanName = configuration.databaseOperationLookupBean() ;
             dbUnitRunnerConfigBeanName = configuration.dbUnitRunnerConfigBean() ;
         }
 
@@ -115,8 +123,9 @@ public class DbUnitTestExecutionListener extends AbstractTestExecutionListener {
         }
         attachRunnerConfiguration(testContext, dbUnitRunnerConfigBeanName) ;
         prepareDatabaseConnection(testContext, databaseConnectionBeanNames) ;
-        prepareDataSetLoader(testContext, dataSetLoaderBeanName, dataSetLoaderClass, runner.getDefaultConfigBean().isEnabledColumnSense()) ;
-        prepareDatabaseOperationLookup(testContext, databaseOperationLookupClass) ;
+        prepareDataSetLoader(testContext, dataSetLoaderBeanName, dataSetLoaderClass, runner.getDefaultConfigBean().isEnabledColumnSense(),
+                runner.getDefaultConfigBean().getDataSetCache()) ;
+        prepareDatabaseOperationLookup(testContext, databaseOperationLookupBeanName, databaseOperationLookupClass) ;
     }
 
     private void attachRunnerConfiguration(DbUnitTestContextAdapter testContext, String dbUnitRunnerConfigBeanName) {
@@ -140,19 +149,39 @@ public class DbUnitTestExecutionListener extends AbstractTestExecutionListener {
     private void prepareDatabaseConnection(DbUnitTestContextAdapter testContext, String[] connectionBeanNames) throws Exception {
 
         final IDatabaseConnection[] connections = new IDatabaseConnection[connectionBeanNames.length] ;
+        final DataSource[] dataSources = new DataSource[connectionBeanNames.length] ;
 
         for (int i = 0; i < connectionBeanNames.length; i++) {
             Object databaseConnection = testContext.getApplicationContext().getBean(connectionBeanNames[i]) ;
             if (databaseConnection instanceof DataSource) {
-                databaseConnection = DatabaseDataSourceConnectionFactoryBean.newConnection((DataSource) databaseConnection) ;
+                DataSource dataSource = (DataSource) databaseConnection ;
+                dataSources[i] = dataSource ;
+                databaseConnection = DatabaseDataSourceConnectionFactoryBean.newConnection(dataSource,
+                        runner.getDefaultConfigBean().isTableMetaDataCacheEnabled() ? TableMetaDataCache.get(dataSource) : null) ;
             }
             Assert.isInstanceOf(IDatabaseConnection.class, databaseConnection) ;
             connections[i] = (IDatabaseConnection) databaseConnection ;
+            if (dataSources[i] == null) {
+                // Connections created from a data source only live for one test, their statements cannot be reused
+                attachStatementCache(connections[i], runner.getDefaultConfigBean().getStatementCache()) ;
+            }
+        }
+        testContext.setAttribute(DbUnitTestContextConstants.CONNECTION_ATTRIBUTE, new DatabaseConnections(connectionBeanNames, connections, dataSources)) ;
+    }
+
+    private void attachStatementCache(IDatabaseConnection connection, CachingStatementFactory statementCache) {
+        if (null == statementCache) {
+            return ;
+        }
+        DatabaseConfig config = connection.getConfig() ;
+        Object statementFactory = config.getProperty(DatabaseConfig.PROPERTY_STATEMENT_FACTORY) ;
+        if ((null == statementFactory) || PreparedStatementFactory.class.equals(statementFactory.getClass())) {
+            config.setProperty(DatabaseConfig.PROPERTY_STATEMENT_FACTORY, statementCache) ;
         }
-        testContext.setAttribute(DbUnitTestContextConstants.CONNECTION_ATTRIBUTE, new DatabaseConnections(connectionBeanNames, connections)) ;
     }
 
-    private void prepareDataSetLoader(DbUnitTestContextAdapter testContext, String beanName, Class<? extends DataSetLoader> dataSetLoaderClass, boolean isColumnSenseEnabled) {
+    private void prepareDataSetLoader(DbUnitTestContextAdapter testContext, String beanName, Class<? extends DataSetLoader> dataSetLoaderClass, boolean isColumnSenseEnabled,
+            DataSetCache dataSetCache) {
         DataSetLoader loader = null ;
         if (StringUtils.hasLength(beanName)) {
             loader = testContext.getApplicationContext().getBean(beanName, DataSetLoader.class) ;
@@ -168,9 +197,18 @@ public class DbUnitTestExecutionListener extends AbstractTestExecutionListener {
         if ((null != loader) && (loader instanceof AcceptColumSensingEnabling)) {
             ((AcceptColumSensingEnabling) loader).setColumnSensingEnabled(isColumnSenseEnabled) ;
         }
+        if ((null != dataSetCache) && (loader instanceof AbstractDataSetLoader)) {
+            ((AbstractDataSetLoader) loader).setDataSetCache(dataSetCache) ;
+        }
     }
 
-    private void prepareDatabaseOperationLookup(DbUnitTestContextAdapter testContext, Class<? extends DatabaseOperationLookup> databaseOperationLookupClass) {
+    private void prepareDatabaseOperationLookup(DbUnitTestContextAdapter testContext, String beanName,
+            Class<? extends DatabaseOperationLookup> databaseOperationLookupClass) {
+        if (StringUtils.hasLength(beanName)) {
+            testContext.setAttribute(DbUnitTestContextConstants.DATABASE_OPERATION_LOOKUP_ATTRIBUTE,
+                    testContext.getApplicationContext().getBean(beanName, DatabaseOperationLookup.class)) ;
+            return ;
+        }
         try {
             testContext.setAttribute(DbUnitTestContextConstants.DATABASE_OPERATION_LOOKUP_ATTRIBUTE, databaseOperationLookupClass.getDeclaredConstructor().newInstance()) ;
         } catch (final Exception ex) {
@@ -178,6 +216,13 @@ public class DbUnitTestExecutionListener extends AbstractTestExecutionListener {
         }
     }
 
+    /**
+     * @return the runner shared by the DBUnit listeners
+     */
+    protected DbUnitRunner getRunner() {
+        return runner ;
+    }
+
     @Override
     public void beforeTestMethod(TestContext testContext) throws Exception {
         runner.beforeTestMethod(new DbUnitTestContextAdapter(testContext)) ;
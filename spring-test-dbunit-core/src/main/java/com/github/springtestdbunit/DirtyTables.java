@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.springtestdbunit;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.dbunit.DatabaseUnitException;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.dataset.FilteredDataSet;
+import org.dbunit.dataset.IDataSet;
+
+import com.github.springtestdbunit.SetupFingerprints.Fingerprint;
+import com.github.springtestdbunit.annotation.DatabaseOperation;
+import com.github.springtestdbunit.bean.DirtyTableTrackingDataSource;
+import com.github.springtestdbunit.operation.ForeignKeyDependencies;
+
+/**
+ * Applies operations only to the tables that changed since the same operation and dataset were last applied, as told
+ * by a {@link DirtyTableTrackingDataSource}. Only operations whose outcome for a table is fully determined by the
+ * dataset content of that table, such as CLEAN_INSERT and DELETE_ALL, may be restricted. The tables of the dataset that
+ * reference a changed table are applied as well so that they can be cleared first.
+ */
+class DirtyTables {
+
+	private static final Log logger = LogFactory.getLog(DbUnitTestExecutionListener.class);
+
+	/**
+	 * Instance shared by all runners.
+	 */
+	public static final DirtyTables SHARED = new DirtyTables();
+
+	private final Map<DirtyTableTrackingDataSource, Map<Fingerprint, Map<String, Long>>> appliedSequences = Collections
+			.synchronizedMap(new WeakHashMap<>());
+
+	/**
+	 * Execute the operation on the tables that changed since it was last applied.
+	 * @param connection the connection
+	 * @param dataSource the data source that tracks the changes of the connection
+	 * @param operation the operation
+	 * @param dbUnitOperation the DBUnit operation
+	 * @param dataSet the dataset of the operation
+	 * @throws SQLException if the database cannot be accessed
+	 * @throws DatabaseUnitException if the operation fails
+	 */
+	public void execute(IDatabaseConnection connection, DirtyTableTrackingDataSource dataSource,
+			DatabaseOperation operation, org.dbunit.operation.DatabaseOperation dbUnitOperation, IDataSet dataSet)
+			throws SQLException, DatabaseUnitException {
+		Fingerprint key = SetupFingerprints.SHARED.fingerprint(connection, operation, dataSet);
+		Map<String, Long> applied = getAppliedSequences(dataSource).remove(key);
+		List<String> tableNames = new ArrayList<String>(
+				new LinkedHashSet<String>(Arrays.asList(dataSet.getTableNames())));
+		Set<String> changed = new LinkedHashSet<String>();
+		for (String tableName : tableNames) {
+			Long sequence = (applied != null ? applied.get(tableName.toUpperCase()) : null);
+			if ((sequence == null) || dataSource.isChangedSince(tableName, sequence)) {
+				changed.add(tableName.toUpperCase());
+			}
+		}
+		if (!changed.isEmpty() && (changed.size() < tableNames.size())) {
+			addReferencingTables(connection, tableNames, changed);
+		}
+		if (changed.size() == tableNames.size()) {
+			dbUnitOperation.execute(connection, dataSet);
+		} else if (!changed.isEmpty()) {
+			List<String> changedNames = new ArrayList<String>();
+			for (String tableName : tableNames) {
+				if (changed.contains(tableName.toUpperCase())) {
+					changedNames.add(tableName);
+				}
+			}
+			if (logger.isInfoEnabled()) {
+				logger.info("Executing " + operation + " on changed tables " + changedNames + " only");
+			}
+			dbUnitOperation.execute(connection,
+					new FilteredDataSet(changedNames.toArray(new String[changedNames.size()]), dataSet));
+		} else if (logger.isInfoEnabled()) {
+			logger.info("Skipping " + operation + " on " + tableNames + ", no table changed since it was applied");
+		}
+		long sequence = dataSource.getSequence();
+		applied = new ConcurrentHashMap<String, Long>();
+		for (String tableName : tableNames) {
+			applied.put(tableName.toUpperCase(), sequence);
+		}
+		getAppliedSequences(dataSource).put(key, applied);
+	}
+
+	private void addReferencingTables(IDatabaseConnection connection, List<String> tableNames, Set<String> changed)
+			throws SQLException, DatabaseUnitException {
+		Map<String, Set<String>> parents = ForeignKeyDependencies.getParents(connection, tableNames);
+		boolean added = true;
+		while (added) {
+			added = false;
+			for (Map.Entry<String, Set<String>> entry : parents.entrySet()) {
+				if (!changed.contains(entry.getKey()) && !Collections.disjoint(entry.getValue(), changed)) {
+					changed.add(entry.getKey());
+					added = true;
+				}
+			}
+		}
+	}
+
+	private Map<Fingerprint, Map<String, Long>> getAppliedSequences(DirtyTableTrackingDataSource dataSource) {
+		synchronized (this.appliedSequences) {
+			Map<Fingerprint, Map<String, Long>> appliedSequences = this.appliedSequences.get(dataSource);
+			if (appliedSequences == null) {
+				appliedSequences = new ConcurrentHashMap<Fingerprint, Map<String, Long>>();
+				this.appliedSequences.put(dataSource, appliedSequences);
+			}
+			return appliedSequences;
+		}
+	}
+
+	/**
+	 * Forget all applied operations.
+	 */
+	public void clear() {
+		this.appliedSequences.clear();
+	}
+
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.springtestdbunit;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.dbunit.DatabaseUnitException;
+
+/**
+ * Expectations of a single test method that are verified concurrently. Each verification is added to a lane, the
+ * verifications of a lane run one after the other (they share a connection) while the lanes run in parallel. Every
+ * verification runs, even after a failure, and the failures are reported in the order the verifications were added
+ * whatever the order they completed in.
+ *
+ * @see com.github.springtestdbunit.bean.DbUnitRunnerConfigBean#setParallelVerificationEnabled(boolean)
+ */
+class ParallelVerification {
+
+	private final Executor executor;
+
+	private final Map<Object, List<Integer>> lanes = new IdentityHashMap<Object, List<Integer>>();
+
+	private final List<Object> laneOrder = new ArrayList<Object>();
+
+	private final List<Verification> verifications = new ArrayList<Verification>();
+
+	public ParallelVerification(Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Add a verification.
+	 * @param lane the lane, usually the connection used by the verification
+	 * @param verification the verification
+	 */
+	public void add(Object lane, Verification verification) {
+		List<Integer> indexes = this.lanes.get(lane);
+		if (indexes == null) {
+			indexes = new ArrayList<Integer>();
+			this.lanes.put(lane, indexes);
+			this.laneOrder.add(lane);
+		}
+		indexes.add(this.verifications.size());
+		this.verifications.add(verification);
+	}
+
+	/**
+	 * Run every verification and wait for them to complete.
+	 * @throws DatabaseUnitException if a verification failed with a DBUnit exception
+	 * @throws SQLException if a verification failed with an SQL exception
+	 */
+	public void verify() throws DatabaseUnitException, SQLException {
+		Throwable[] failures = new Throwable[this.verifications.size()];
+		if (this.laneOrder.size() == 1) {
+			verify(this.lanes.get(this.laneOrder.get(0)), failures);
+		} else {
+			List<CompletableFuture<Void>> futures = new ArrayList<CompletableFuture<Void>>();
+			for (Object lane : this.laneOrder) {
+				List<Integer> indexes = this.lanes.get(lane);
+				futures.add(CompletableFuture.runAsync(() -> verify(indexes, failures), this.executor));
+			}
+			for (CompletableFuture<Void> future : futures) {
+				future.join();
+			}
+		}
+		List<Throwable> reported = new ArrayList<Throwable>();
+		for (Throwable failure : failures) {
+			if (failure != null) {
+				reported.add(failure);
+			}
+		}
+		report(reported);
+	}
+
+	private void verify(List<Integer> indexes, Throwable[] failures) {
+		for (int index : indexes) {
+			try {
+				this.verifications.get(index).verify();
+			} catch (Throwable ex) {
+				failures[index] = ex;
+			}
+		}
+	}
+
+	/**
+	 * Throw the failures. A single failure is thrown as is. Several assertion failures are combined in an
+	 * {@link AssertionError} listing their messages. Otherwise the first failure is thrown with the others suppressed.
+	 */
+	static void report(List<Throwable> failures) throws DatabaseUnitException, SQLException {
+		if (failures.isEmpty()) {
+			return;
+		}
+		Throwable first = failures.get(0);
+		if ((failures.size() > 1) && isAssertionErrors(failures)) {
+			StringBuilder message = new StringBuilder().append(failures.size()).append(" expectations failed");
+			for (int i = 0; i < failures.size(); i++) {
+				message.append("\n(").append(i + 1).append(") ").append(failures.get(i).getMessage());
+			}
+			AssertionError error = new AssertionError(message.toString(), first);
+			for (int i = 1; i < failures.size(); i++) {
+				error.addSuppressed(failures.get(i));
+			}
+			throw error;
+		}
+		for (int i = 1; i < failures.size(); i++) {
+			first.addSuppressed(failures.get(i));
+		}
+		if (first instanceof DatabaseUnitException) {
+			throw (DatabaseUnitException) first;
+		}
+		if (first instanceof SQLException) {
+			throw (SQLException) first;
+		}
+		if (first instanceof RuntimeException) {
+			throw (RuntimeException) first;
+		}
+		if (first instanceof Error) {
+			throw (Error) first;
+		}
+		throw new IllegalStateException(first);
+	}
+
+	private static boolean isAssertionErrors(List<Throwable> failures) {
+		for (Throwable failure : failures) {
+			if (!(failure instanceof AssertionError)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * A single verification.
+	 */
+	interface Verification {
+
+		void verify() throws DatabaseUnitException, SQLException;
+
+	}
+
+}
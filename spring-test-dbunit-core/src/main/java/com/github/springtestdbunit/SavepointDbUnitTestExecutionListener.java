@@ -0,0 +1,234 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.springtestdbunit;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.core.Conventions;
+import org.springframework.jdbc.datasource.ConnectionHolder;
+import org.springframework.jdbc.datasource.TransactionAwareDataSourceProxy;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.transaction.TransactionalTestExecutionListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+import com.github.springtestdbunit.annotation.DatabaseSetup;
+import com.github.springtestdbunit.annotation.DatabaseTearDown;
+import com.github.springtestdbunit.annotation.DbUnitConfiguration;
+import com.github.springtestdbunit.annotation.ExpectedDatabase;
+
+/**
+ * <code>TestExecutionListener</code> which provides support for {@link DatabaseSetup &#064;DatabaseSetup},
+ * {@link DatabaseTearDown &#064;DatabaseTearDown} and {@link ExpectedDatabase &#064;ExpectedDatabase} annotations and
+ * isolates test methods with JDBC savepoints instead of re-applying the class level setup before each method.
+ * <p>
+ * A single connection per data source is opened for the whole test class and bound to the data source as the current
+ * transaction. Class level {@link DatabaseSetup &#064;DatabaseSetup} annotations are applied once, before the first
+ * test method. A savepoint is then set before each method, method level setup, test and expectations run, and the
+ * connection is rolled back to the savepoint. The class transaction is rolled back after the last test method, class
+ * level {@link DatabaseTearDown &#064;DatabaseTearDown} annotations are therefore not applied.
+ * <p>
+ * The {@link DbUnitConfiguration#databaseConnection() database connections} must be {@link DataSource} beans. Code
+ * under test must obtain its connections through Spring, for example with a {@code JdbcTemplate}, a
+ * {@link TransactionAwareDataSourceProxy} or a {@code DataSourceTransactionManager} (which joins the class
+ * transaction). Connections obtained from the data source in any other way, from another thread or in a
+ * {@code REQUIRES_NEW} transaction see neither the setup nor the changes of the test. This listener must not be
+ * combined with the {@link TransactionalTestExecutionListener}.
+ *
+ * @see DbUnitTestExecutionListener
+ */
+public class SavepointDbUnitTestExecutionListener extends DbUnitTestExecutionListener {
+
+	private static final Log logger = LogFactory.getLog(SavepointDbUnitTestExecutionListener.class);
+
+	private static final String CLASS_TRANSACTION_ATTRIBUTE = Conventions
+			.getQualifiedAttributeName(SavepointDbUnitTestExecutionListener.class, "classTransaction");
+
+	@Override
+	public void prepareTestInstance(TestContext testContext) throws Exception {
+		super.prepareTestInstance(testContext);
+		if (testContext.getAttribute(CLASS_TRANSACTION_ATTRIBUTE) == null) {
+			// Bind before the DBUnit connections are first used so that they share the class transaction
+			testContext.setAttribute(CLASS_TRANSACTION_ATTRIBUTE,
+					ClassTransaction.begin(new DbUnitTestContextAdapter(testContext)));
+		}
+	}
+
+	@Override
+	public void beforeTestMethod(TestContext testContext) throws Exception {
+		DbUnitTestContextAdapter dbUnitTestContext = new DbUnitTestContextAdapter(testContext);
+		ClassTransaction transaction = getClassTransaction(testContext);
+		if (!transaction.isSetup()) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Applying class level setup of " + testContext.getTestClass() + " once");
+			}
+			getRunner().setupTestClass(dbUnitTestContext);
+			transaction.setSetup(true);
+		}
+		transaction.setSavepoints();
+		getRunner().beforeTestMethod(dbUnitTestContext, false);
+	}
+
+	@Override
+	public void afterTestMethod(TestContext testContext) throws Exception {
+		try {
+			getRunner().afterTestMethod(new DbUnitTestContextAdapter(testContext), false);
+		} finally {
+			ClassTransaction transaction = (ClassTransaction) testContext.getAttribute(CLASS_TRANSACTION_ATTRIBUTE);
+			if (transaction != null) {
+				transaction.rollbackToSavepoints();
+			}
+		}
+	}
+
+	@Override
+	public void afterTestClass(TestContext testContext) throws Exception {
+		ClassTransaction transaction = (ClassTransaction) testContext.removeAttribute(CLASS_TRANSACTION_ATTRIBUTE);
+		if (transaction != null) {
+			transaction.end();
+		}
+	}
+
+	private ClassTransaction getClassTransaction(TestContext testContext) {
+		ClassTransaction transaction = (ClassTransaction) testContext.getAttribute(CLASS_TRANSACTION_ATTRIBUTE);
+		Assert.state(transaction != null, "No class transaction, the test instance was not prepared");
+		return transaction;
+	}
+
+	/**
+	 * The connections shared by all the test methods of a class.
+	 */
+	private static class ClassTransaction {
+
+		private final List<DataSource> dataSources = new ArrayList<DataSource>();
+
+		private final List<Connection> connections = new ArrayList<Connection>();
+
+		private final List<Boolean> autoCommits = new ArrayList<Boolean>();
+
+		private final List<Savepoint> savepoints = new ArrayList<Savepoint>();
+
+		private boolean setup;
+
+		public static ClassTransaction begin(DbUnitTestContextAdapter testContext) throws SQLException {
+			ClassTransaction transaction = new ClassTransaction();
+			try {
+				for (String name : testContext.getConnections().getNames()) {
+					Object bean = testContext.getApplicationContext().getBean(name);
+					Assert.state(bean instanceof DataSource, "Savepoint isolation requires DataSource connection beans, '"
+							+ name + "' is a " + bean.getClass().getName());
+					transaction.bind((DataSource) bean);
+				}
+			} catch (SQLException ex) {
+				transaction.end();
+				throw ex;
+			} catch (RuntimeException ex) {
+				transaction.end();
+				throw ex;
+			}
+			return transaction;
+		}
+
+		private void bind(DataSource dataSource) throws SQLException {
+			if (dataSource instanceof TransactionAwareDataSourceProxy) {
+				dataSource = ((TransactionAwareDataSourceProxy) dataSource).getTargetDataSource();
+			}
+			if (this.dataSources.contains(dataSource)) {
+				return;
+			}
+			Assert.state(!TransactionSynchronizationManager.hasResource(dataSource),
+					"A transaction is already bound to " + dataSource + ", savepoint isolation cannot be combined with "
+							+ "test managed transactions");
+			Connection connection = dataSource.getConnection();
+			this.autoCommits.add(connection.getAutoCommit());
+			this.connections.add(connection);
+			this.dataSources.add(dataSource);
+			connection.setAutoCommit(false);
+			TransactionSynchronizationManager.bindResource(dataSource, new ClassConnectionHolder(connection));
+		}
+
+		public boolean isSetup() {
+			return this.setup;
+		}
+
+		public void setSetup(boolean setup) {
+			this.setup = setup;
+		}
+
+		public void setSavepoints() throws SQLException {
+			this.savepoints.clear();
+			for (Connection connection : this.connections) {
+				this.savepoints.add(connection.setSavepoint());
+			}
+		}
+
+		public void rollbackToSavepoints() throws SQLException {
+			try {
+				for (int i = 0; i < this.savepoints.size(); i++) {
+					this.connections.get(i).rollback(this.savepoints.get(i));
+				}
+			} finally {
+				this.savepoints.clear();
+			}
+		}
+
+		public void end() throws SQLException {
+			SQLException exception = null;
+			for (int i = 0; i < this.connections.size(); i++) {
+				TransactionSynchronizationManager.unbindResourceIfPossible(this.dataSources.get(i));
+				Connection connection = this.connections.get(i);
+				try {
+					try {
+						connection.rollback();
+						connection.setAutoCommit(this.autoCommits.get(i));
+					} finally {
+						connection.close();
+					}
+				} catch (SQLException ex) {
+					if (exception == null) {
+						exception = ex;
+					}
+				}
+			}
+			if (exception != null) {
+				throw exception;
+			}
+		}
+
+	}
+
+	/**
+	 * Holder marked as an active transaction, so that Spring transaction managers join it instead of committing.
+	 */
+	private static class ClassConnectionHolder extends ConnectionHolder {
+
+		public ClassConnectionHolder(Connection connection) {
+			super(connection);
+			setTransactionActive(true);
+		}
+
+	}
+
+}
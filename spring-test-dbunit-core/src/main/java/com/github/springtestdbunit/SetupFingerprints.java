@@ -0,0 +1,269 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.springtestdbunit;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.IDataSet;
+
+import com.github.springtestdbunit.annotation.DatabaseOperation;
+import com.github.springtestdbunit.util.DataSetUtils;
+import com.github.springtestdbunit.util.DatabaseConnectionUtils;
+
+/**
+ * Remembers the state that setup operations left the database in, so that an operation can be skipped when the
+ * database is provably still in that state. Only operations whose outcome is fully determined by the dataset, such as
+ * CLEAN_INSERT and DELETE_ALL, may be fingerprinted. For each database, operation and dataset content the row counts
+ * of the dataset tables are recorded after the operation ran. Checksums can be expensive, they are only recorded once
+ * the operation was found to be executed again on tables with the same row counts, so that suites whose tests change
+ * the row counts never compute them. The operation is skipped when the tables have the same row counts and checksums
+ * again.
+ * <p>
+ * Fingerprints outlive the test connections and are shared by all tests of the JVM.
+ *
+ * @see com.github.springtestdbunit.bean.DbUnitRunnerConfigBean#setSetupFingerprintEnabled(boolean)
+ */
+class SetupFingerprints {
+
+	private static final Log logger = LogFactory.getLog(SetupFingerprints.class);
+
+	/**
+	 * Instance shared by all runners.
+	 */
+	public static final SetupFingerprints SHARED = new SetupFingerprints();
+
+	private final Map<Fingerprint, TablesState> appliedStates = new ConcurrentHashMap<>();
+
+	/**
+	 * Create the fingerprint of an operation.
+	 * @param connection the connection the operation is executed on
+	 * @param operation the operation
+	 * @param dataSet the dataset of the operation
+	 * @return the fingerprint
+	 * @throws SQLException if the connection cannot be identified
+	 * @throws DataSetException if the dataset cannot be read
+	 */
+	public Fingerprint fingerprint(IDatabaseConnection connection, DatabaseOperation operation, IDataSet dataSet)
+			throws SQLException, DataSetException {
+		List<String> tableNames = new ArrayList<String>();
+		for (String tableName : dataSet.getTableNames()) {
+			if (!tableNames.contains(tableName)) {
+				tableNames.add(tableName);
+			}
+		}
+		return new Fingerprint(DatabaseConnectionUtils.getDatabaseKey(connection), operation,
+				DataSetUtils.digest(dataSet), tableNames);
+	}
+
+	/**
+	 * Determine if the database is in the state that the fingerprinted operation last left it in.
+	 * @param connection the connection
+	 * @param fingerprint the fingerprint of the operation
+	 * @return {@code true} if the operation can be skipped
+	 */
+	public boolean isApplied(IDatabaseConnection connection, Fingerprint fingerprint) {
+		TablesState appliedState = this.appliedStates.get(fingerprint);
+		if (appliedState == null) {
+			if (logger.isInfoEnabled()) {
+				logger.info("Executing setup operation on " + fingerprint.tableNames
+						+ ", no fingerprint recorded for this dataset");
+			}
+			return false;
+		}
+		try {
+			// Counting is cheap and catches most changes before any checksum is computed
+			String changedTable = appliedState.getChangedRowCount(connection);
+			if ((changedTable == null) && !appliedState.hasChecksums()) {
+				appliedState.setChecksumsWanted(true);
+				if (logger.isInfoEnabled()) {
+					logger.info("Executing setup operation on " + fingerprint.tableNames
+							+ ", no checksum recorded for this dataset yet");
+				}
+				return false;
+			}
+			if (changedTable == null) {
+				changedTable = appliedState.getChangedChecksum(connection);
+			}
+			if (changedTable != null) {
+				if (logger.isInfoEnabled()) {
+					logger.info("Executing setup operation on " + fingerprint.tableNames + ", table " + changedTable
+							+ " changed since the dataset was applied");
+				}
+				return false;
+			}
+		} catch (SQLException ex) {
+			if (logger.isInfoEnabled()) {
+				logger.info("Executing setup operation on " + fingerprint.tableNames + ", unable to checksum tables",
+						ex);
+			}
+			return false;
+		}
+		if (logger.isInfoEnabled()) {
+			logger.info("Skipping setup operation on " + fingerprint.tableNames
+					+ ", database is already in the expected state");
+		}
+		return true;
+	}
+
+	/**
+	 * Record the state of the database after the fingerprinted operation was executed. Only the row counts are recorded
+	 * until {@link #isApplied} finds the same row counts again.
+	 * @param connection the connection
+	 * @param fingerprint the fingerprint of the operation
+	 */
+	public void applied(IDatabaseConnection connection, Fingerprint fingerprint) {
+		TablesState previousState = this.appliedStates.get(fingerprint);
+		boolean checksums = (previousState != null) && previousState.isChecksumsWanted();
+		try {
+			this.appliedStates.put(fingerprint, TablesState.read(connection, fingerprint.tableNames, checksums));
+		} catch (SQLException ex) {
+			this.appliedStates.remove(fingerprint);
+			if (logger.isInfoEnabled()) {
+				logger.info("Unable to record the fingerprint of " + fingerprint.tableNames
+						+ ", the operation will not be skipped", ex);
+			}
+		}
+	}
+
+	/**
+	 * Forget all recorded fingerprints.
+	 */
+	public void clear() {
+		this.appliedStates.clear();
+	}
+
+	/**
+	 * The row count and, optionally, the checksum of each table, as computed by {@link DatabaseConnectionUtils}.
+	 * Checksums are computed by the database when the dialect allows it, and read from every row otherwise.
+	 */
+	static final class TablesState {
+
+		private final Map<String, Long> rowCounts = new LinkedHashMap<String, Long>();
+
+		private final Map<String, String> checksums;
+
+		private volatile boolean checksumsWanted;
+
+		private TablesState(boolean checksums) {
+			this.checksums = (checksums ? new LinkedHashMap<String, String>() : null);
+		}
+
+		static TablesState read(IDatabaseConnection connection, List<String> tableNames, boolean checksums)
+				throws SQLException {
+			TablesState state = new TablesState(checksums);
+			for (String tableName : tableNames) {
+				state.rowCounts.put(tableName, DatabaseConnectionUtils.countRows(connection, tableName));
+				if (checksums) {
+					state.checksums.put(tableName, DatabaseConnectionUtils.checksumTable(connection, tableName));
+				}
+			}
+			return state;
+		}
+
+		boolean hasChecksums() {
+			return (this.checksums != null);
+		}
+
+		boolean isChecksumsWanted() {
+			return this.checksumsWanted;
+		}
+
+		void setChecksumsWanted(boolean checksumsWanted) {
+			this.checksumsWanted = checksumsWanted;
+		}
+
+		/**
+		 * Returns the first table whose row count changed, {@code null} if none did.
+		 */
+		String getChangedRowCount(IDatabaseConnection connection) throws SQLException {
+			for (Map.Entry<String, Long> entry : this.rowCounts.entrySet()) {
+				if (entry.getValue() != DatabaseConnectionUtils.countRows(connection, entry.getKey())) {
+					return entry.getKey();
+				}
+			}
+			return null;
+		}
+
+		/**
+		 * Returns the first table whose checksum changed, {@code null} if none did.
+		 */
+		String getChangedChecksum(IDatabaseConnection connection) throws SQLException {
+			for (Map.Entry<String, String> entry : this.checksums.entrySet()) {
+				if (!String.valueOf(entry.getValue())
+						.equals(String.valueOf(DatabaseConnectionUtils.checksumTable(connection, entry.getKey())))) {
+					return entry.getKey();
+				}
+			}
+			return null;
+		}
+
+	}
+
+	/**
+	 * Identifies an operation with a given dataset on a given database.
+	 */
+	static final class Fingerprint {
+
+		private final String databaseKey;
+
+		private final DatabaseOperation operation;
+
+		private final byte[] digest;
+
+		private final List<String> tableNames;
+
+		Fingerprint(String databaseKey, DatabaseOperation operation, byte[] digest, List<String> tableNames) {
+			this.databaseKey = databaseKey;
+			this.operation = operation;
+			this.digest = digest;
+			this.tableNames = tableNames;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj == this) {
+				return true;
+			}
+			if (!(obj instanceof Fingerprint)) {
+				return false;
+			}
+			Fingerprint other = (Fingerprint) obj;
+			return this.databaseKey.equals(other.databaseKey) && (this.operation == other.operation)
+					&& Arrays.equals(this.digest, other.digest);
+		}
+
+		@Override
+		public int hashCode() {
+			int result = this.databaseKey.hashCode();
+			result = 31 * result + this.operation.hashCode();
+			result = 31 * result + Arrays.hashCode(this.digest);
+			return result;
+		}
+
+	}
+
+}
@@ -65,7 +65,18 @@ public enum DatabaseOperation {
 	/**
 	 * Deletes all rows from a database table when the tables is specified in the dataset and subsequently insert new
 	 * contents. Equivalent to calling {@link #DELETE_ALL} followed by {@link #INSERT}.
+	 * @see #FAST_CLEAN_INSERT
 	 */
-	CLEAN_INSERT;
+	CLEAN_INSERT,
+
+	/**
+	 * Like {@link #CLEAN_INSERT}, but referential integrity is disabled while the tables are cleared and filled so that
+	 * the tables can be written in any order. Tables are truncated when the database allows it, in which case the
+	 * operation cannot be rolled back. Rows inserted with integrity disabled are not checked, unless validation is
+	 * enabled. On databases where integrity cannot be disabled, and when rows of tables outside of the dataset reference
+	 * the dataset tables, this operation is identical to {@link #CLEAN_INSERT}.
+	 * @see com.github.springtestdbunit.operation.FastCleanInsertOperation
+	 */
+	FAST_CLEAN_INSERT;
 
 }
@@ -43,7 +43,7 @@ public class DatabaseSetupTearDownAnnotationAttributes extends AbstractDatabaseA
 	}
 
 	public static <T extends Annotation> Collection<DatabaseSetupTearDownAnnotationAttributes> get(
-			final Annotations<T> annotations) {
+			final Iterable<T> annotations) {
 
 		List<DatabaseSetupTearDownAnnotationAttributes> annotationAttributes = new ArrayList<DatabaseSetupTearDownAnnotationAttributes>();
 
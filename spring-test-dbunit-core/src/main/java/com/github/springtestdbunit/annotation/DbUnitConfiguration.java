@@ -74,6 +74,14 @@ public @interface DbUnitConfiguration {
      */
     Class<? extends DatabaseOperationLookup> databaseOperationLookup() default DefaultDatabaseOperationLookup.class;
 
+    /**
+     * Returns the name of the bean that will be used to lookup DBUnit database operations, in place of the {@link #databaseOperationLookup() class}. The specified bean must
+     * implement {@link DatabaseOperationLookup}.
+     * 
+     * @return the database operation lookup bean name
+     */
+    String databaseOperationLookupBean() default "";
+
     /**
      * @return the name of the configuration bean for the dbunit runner.
      * @see DbUnitRunnerConfigBean
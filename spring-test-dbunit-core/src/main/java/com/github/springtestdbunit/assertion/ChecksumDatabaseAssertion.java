@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.springtestdbunit.assertion;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.dbunit.DatabaseUnitException;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.Columns;
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.ITableMetaData;
+import org.dbunit.dataset.datatype.DataType;
+import org.dbunit.dataset.filter.IColumnFilter;
+
+import com.github.springtestdbunit.util.DatabaseConnectionUtils;
+import com.github.springtestdbunit.util.RowChecksum;
+
+/**
+ * Implements the checksum database assertion strategy: compares data sets as
+ * {@link NonStrictUnorderedDatabaseAssertion} does, but first compares an order-independent {@link RowChecksum} of
+ * the expected table with the checksum of the compared columns of the actual table. The actual rows are read from a
+ * forward-only result set and only their checksum is kept, so a table that matches is never loaded in memory. When the
+ * checksums differ, or a value cannot be checksummed, the table is loaded and compared as usual to report the
+ * differences.
+ * <p>
+ * Equal checksums are taken as a match. Two different tables with the same row count would have to collide on a 64-bit
+ * sum of row hashes to pass. Expectations on a query are compared in memory.
+ */
+public class ChecksumDatabaseAssertion extends NonStrictUnorderedDatabaseAssertion
+		implements ConnectionDatabaseAssertion {
+
+	private static final Log logger = LogFactory.getLog(ChecksumDatabaseAssertion.class);
+
+	ChecksumDatabaseAssertion() {
+		super();
+	}
+
+	public void assertEquals(IDataSet expectedDataSet, IDatabaseConnection connection,
+			List<IColumnFilter> columnFilters) throws DatabaseUnitException, SQLException {
+		for (String tableName : expectedDataSet.getTableNames()) {
+			assertEquals(expectedDataSet.getTable(tableName), connection, tableName, columnFilters);
+		}
+	}
+
+	public void assertEquals(ITable expectedTable, IDatabaseConnection connection, String tableName,
+			List<IColumnFilter> columnFilters) throws DatabaseUnitException, SQLException {
+		if (!isChecksumMatch(expectedTable, connection, tableName, columnFilters)) {
+			assertEquals(expectedTable, connection.createTable(tableName), columnFilters);
+		}
+	}
+
+	private boolean isChecksumMatch(ITable expectedTable, IDatabaseConnection connection, String tableName,
+			List<IColumnFilter> columnFilters) throws DatabaseUnitException, SQLException {
+		ITableMetaData actualMetaData = connection.createDataSet().getTableMetaData(tableName);
+		Column[] expectedColumns = getComparedColumns(expectedTable.getTableMetaData(), actualMetaData, columnFilters);
+		if (expectedColumns == null) {
+			return false;
+		}
+		Column[] columns = new Column[expectedColumns.length];
+		DataType[] dataTypes = new DataType[expectedColumns.length];
+		for (int i = 0; i < expectedColumns.length; i++) {
+			columns[i] = Columns.getColumn(expectedColumns[i].getColumnName(), actualMetaData.getColumns());
+			dataTypes[i] = RowMultiset.getComparisonDataType(expectedColumns[i], columns[i]);
+		}
+		RowChecksum expected = TableChecksum.of(expectedTable, expectedColumns, dataTypes);
+		if (expected == null) {
+			return false;
+		}
+		RowChecksum actual = checksum(connection, actualMetaData, columns, dataTypes);
+		if (logger.isDebugEnabled()) {
+			logger.debug("Checksum of table " + tableName + " is " + actual + ", expected " + expected);
+		}
+		return expected.equals(actual);
+	}
+
+	private RowChecksum checksum(IDatabaseConnection connection, ITableMetaData metaData, Column[] columns,
+			DataType[] dataTypes) throws SQLException, DataSetException {
+		StringBuilder sql = new StringBuilder("SELECT ");
+		for (int i = 0; i < columns.length; i++) {
+			sql.append(i > 0 ? ", " : "")
+					.append(DatabaseConnectionUtils.getQualifiedColumnName(connection, columns[i].getColumnName()));
+		}
+		sql.append(" FROM ").append(DatabaseConnectionUtils.getQualifiedTableName(connection, metaData.getTableName()));
+		Statement statement = connection.getConnection().createStatement(ResultSet.TYPE_FORWARD_ONLY,
+				ResultSet.CONCUR_READ_ONLY);
+		try {
+			statement.setFetchSize(DatabaseConnectionUtils.getFetchSize(connection.getConfig()));
+			ResultSet resultSet = statement.executeQuery(sql.toString());
+			try {
+				return TableChecksum.of(resultSet, columns, dataTypes);
+			} finally {
+				resultSet.close();
+			}
+		} finally {
+			statement.close();
+		}
+	}
+
+}
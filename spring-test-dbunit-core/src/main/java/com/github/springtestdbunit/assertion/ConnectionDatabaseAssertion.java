@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.springtestdbunit.assertion;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import org.dbunit.DatabaseUnitException;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.filter.IColumnFilter;
+
+/**
+ * A {@link DatabaseAssertion} that can compare expected data with the tables of a connection without the actual
+ * tables being read first. Used in place of the {@link DatabaseAssertion} methods for expectations on a whole dataset
+ * or on a table.
+ */
+public interface ConnectionDatabaseAssertion extends DatabaseAssertion {
+
+	/**
+	 * Assert that the specified {@link IDataSet data set} matches the tables of the connection.
+	 * @param expectedDataSet the expected data set
+	 * @param connection the connection
+	 * @param columnFilters any column filters to apply
+	 * @throws DatabaseUnitException if the data sets do not match
+	 * @throws SQLException if the database cannot be read
+	 */
+	void assertEquals(IDataSet expectedDataSet, IDatabaseConnection connection, List<IColumnFilter> columnFilters)
+			throws DatabaseUnitException, SQLException;
+
+	/**
+	 * Assert that the specified {@link ITable table} matches a table of the connection.
+	 * @param expectedTable the expected table
+	 * @param connection the connection
+	 * @param tableName the name of the actual table
+	 * @param columnFilters any column filters to apply
+	 * @throws DatabaseUnitException if the tables do not match
+	 * @throws SQLException if the database cannot be read
+	 */
+	void assertEquals(ITable expectedTable, IDatabaseConnection connection, String tableName,
+			List<IColumnFilter> columnFilters) throws DatabaseUnitException, SQLException;
+
+}
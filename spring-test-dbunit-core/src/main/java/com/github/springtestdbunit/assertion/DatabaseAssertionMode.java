@@ -58,7 +58,33 @@ public enum DatabaseAssertionMode {
 	 * rows.</li>
 	 * </ul>
 	 */
-	NON_STRICT_UNORDERED(new NonStrictUnorderedDatabaseAssertion());
+	NON_STRICT_UNORDERED(new NonStrictUnorderedDatabaseAssertion()),
+
+	/**
+	 * Same as {@link #NON_STRICT_UNORDERED} but the tables are compared inside the database, see
+	 * {@link SqlPushdownDatabaseAssertion}. Only the differing rows are read from the database.
+	 * <p>
+	 * <strong>Notes:</strong>
+	 * <ul>
+	 * <li>Expected rows are written to scratch tables, values are compared using the types of the database
+	 * columns.</li>
+	 * <li>Expectations on a query and tables with large object columns are compared in memory.</li>
+	 * </ul>
+	 */
+	SQL_PUSHDOWN(new SqlPushdownDatabaseAssertion()),
+
+	/**
+	 * Same as {@link #NON_STRICT_UNORDERED} but each table is first compared with an order-independent checksum of its
+	 * rows, see {@link ChecksumDatabaseAssertion}. The actual table is only loaded in memory when the checksums differ,
+	 * to report the differences.
+	 * <p>
+	 * <strong>Notes:</strong>
+	 * <ul>
+	 * <li>Values are checksummed after being converted to the types used to compare them.</li>
+	 * <li>Expectations on a query and values that cannot be checksummed are compared in memory.</li>
+	 * </ul>
+	 */
+	CHECKSUM(new ChecksumDatabaseAssertion());
 
 	private DatabaseAssertion databaseAssertion;
 
@@ -16,6 +16,7 @@
 
 package com.github.springtestdbunit.assertion;
 
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
@@ -57,7 +58,7 @@ class NonStrictDatabaseAssertion implements DatabaseAssertion {
 				ignoredColumns.toArray(new String[ignoredColumns.size()]));
 	}
 
-	private Set<String> getColumnsToIgnore(ITableMetaData expectedMetaData, ITableMetaData actualMetaData,
+	protected Set<String> getColumnsToIgnore(ITableMetaData expectedMetaData, ITableMetaData actualMetaData,
 			List<IColumnFilter> columnFilters) throws DataSetException {
 		if (columnFilters.size() == 0) {
 			return getColumnsToIgnore(expectedMetaData, actualMetaData);
@@ -70,6 +71,40 @@ class NonStrictDatabaseAssertion implements DatabaseAssertion {
 		return ignoredColumns;
 	}
 
+	/**
+	 * Returns the expected columns that are compared, {@code null} when a compared column is missing from the actual
+	 * table, in which case the tables are not matched row by row but directly compared to report the difference.
+	 * @param expectedMetaData the expected table metadata
+	 * @param actualMetaData the actual table metadata
+	 * @param columnFilters the column filters
+	 * @return the compared columns or {@code null}
+	 * @throws DataSetException if the columns cannot be read
+	 */
+	protected Column[] getComparedColumns(ITableMetaData expectedMetaData, ITableMetaData actualMetaData,
+			List<IColumnFilter> columnFilters) throws DataSetException {
+		Set<String> ignoredColumns = getColumnsToIgnore(expectedMetaData, actualMetaData, columnFilters);
+		Column[] actualColumns = actualMetaData.getColumns();
+		List<Column> columns = new ArrayList<Column>();
+		for (Column column : expectedMetaData.getColumns()) {
+			if (!isIgnored(column.getColumnName(), ignoredColumns)) {
+				if (Columns.getColumn(column.getColumnName(), actualColumns) == null) {
+					return null;
+				}
+				columns.add(column);
+			}
+		}
+		return (columns.isEmpty() ? null : columns.toArray(new Column[columns.size()]));
+	}
+
+	private boolean isIgnored(String columnName, Set<String> ignoredColumns) {
+		for (String ignoredColumn : ignoredColumns) {
+			if (ignoredColumn.equalsIgnoreCase(columnName)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	protected Set<String> getColumnsToIgnore(ITableMetaData expectedMetaData, ITableMetaData actualMetaData)
 			throws DataSetException {
 		Column[] notSpecifiedInExpected = Columns.getColumnDiff(expectedMetaData, actualMetaData).getActual();
@@ -16,18 +16,26 @@
 
 package com.github.springtestdbunit.assertion;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.dbunit.DatabaseUnitException;
 import org.dbunit.dataset.Column;
+import org.dbunit.dataset.Columns;
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.DefaultTable;
 import org.dbunit.dataset.ITable;
 import org.dbunit.dataset.SortedTable;
+import org.dbunit.dataset.datatype.DataType;
 import org.dbunit.dataset.filter.IColumnFilter;
 
 /**
  * Implements non-strict unordered database assertion strategy : compares data sets ignoring all tables and columns
  * which are not specified in expected data set but possibly exist in actual data set and sorting rows in expected and
  * actual data sets with column order in expected data set to ignore row orders in expected and actual data sets.
+ * <p>
+ * Rows are first matched in linear time using a {@link RowMultiset} of the expected rows, only the rows left unmatched
+ * are sorted and compared to report the differences.
  *
  * @author Mario Zagar
  * @author Sunitha Rajarathnam
@@ -36,12 +44,58 @@ import org.dbunit.dataset.filter.IColumnFilter;
 class NonStrictUnorderedDatabaseAssertion extends NonStrictDatabaseAssertion {
 
 	@Override
-	public void assertEquals(ITable expectedSortedTable, ITable actualSortedTable, List<IColumnFilter> columnFilters)
+	public void assertEquals(ITable expectedTable, ITable actualTable, List<IColumnFilter> columnFilters)
 			throws DatabaseUnitException {
+		Column[] expectedColumns = getComparedColumns(expectedTable.getTableMetaData(), actualTable.getTableMetaData(),
+				columnFilters);
+		if ((expectedColumns == null) || (expectedTable.getRowCount() != actualTable.getRowCount())) {
+			assertSortedEquals(expectedTable, actualTable, columnFilters);
+			return;
+		}
+		Column[] actualColumns = actualTable.getTableMetaData().getColumns();
+		DataType[] dataTypes = new DataType[expectedColumns.length];
+		for (int i = 0; i < expectedColumns.length; i++) {
+			Column actualColumn = Columns.getColumn(expectedColumns[i].getColumnName(), actualColumns);
+			dataTypes[i] = RowMultiset.getComparisonDataType(expectedColumns[i], actualColumn);
+		}
+		RowMultiset expectedRows = new RowMultiset(dataTypes, expectedTable.getRowCount());
+		for (int row = 0; row < expectedTable.getRowCount(); row++) {
+			expectedRows.add(getValues(expectedTable, row, expectedColumns));
+		}
+		List<Integer> unmatchedActualRows = new ArrayList<Integer>();
+		for (int row = 0; row < actualTable.getRowCount(); row++) {
+			if (!expectedRows.remove(getValues(actualTable, row, expectedColumns))) {
+				unmatchedActualRows.add(row);
+			}
+		}
+		if (expectedRows.size() == 0) {
+			return;
+		}
+		DefaultTable expectedDifferences = new DefaultTable(expectedTable.getTableMetaData());
+		for (int row : expectedRows.getRemainingIndexes()) {
+			expectedDifferences.addRow(getValues(expectedTable, row, expectedTable.getTableMetaData().getColumns()));
+		}
+		DefaultTable actualDifferences = new DefaultTable(actualTable.getTableMetaData());
+		for (int row : unmatchedActualRows) {
+			actualDifferences.addRow(getValues(actualTable, row, actualColumns));
+		}
+		assertSortedEquals(expectedDifferences, actualDifferences, columnFilters);
+	}
+
+	private void assertSortedEquals(ITable expectedSortedTable, ITable actualSortedTable,
+			List<IColumnFilter> columnFilters) throws DatabaseUnitException {
 		Column[] expectedColumns = expectedSortedTable.getTableMetaData().getColumns();
 		expectedSortedTable = new SortedTable(expectedSortedTable, expectedColumns);
 		actualSortedTable = new SortedTable(actualSortedTable, expectedColumns);
 		super.assertEquals(expectedSortedTable, actualSortedTable, columnFilters);
 	}
 
+	private Object[] getValues(ITable table, int row, Column[] columns) throws DataSetException {
+		Object[] values = new Object[columns.length];
+		for (int i = 0; i < columns.length; i++) {
+			values[i] = table.getValue(row, columns[i].getColumnName());
+		}
+		return values;
+	}
+
 }
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.springtestdbunit.assertion;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.datatype.DataType;
+import org.dbunit.dataset.datatype.TypeCastException;
+
+/**
+ * A multiset of table rows, hashed on the values of the compared columns. Rows are added once, then removed by
+ * equal rows, so that two tables can be reconciled in linear time. Values are compared with the {@link DataType}
+ * of their column, the hash only groups rows that are likely to be equal.
+ * <p>
+ * Rows are chained by hash in primitive arrays: {@code heads} holds the first row of each hash (plus one, {@code 0}
+ * for a free slot and {@code -1} for a slot whose rows were all removed) and {@code next} the following row.
+ */
+class RowMultiset {
+
+	private final DataType[] dataTypes;
+
+	private final Object[][] rows;
+
+	private final int[] next;
+
+	private final long[] keys;
+
+	private final int[] heads;
+
+	private final int mask;
+
+	private int rowCount;
+
+	private int size;
+
+	/**
+	 * Create a new empty multiset.
+	 * @param dataTypes the data types of the compared columns
+	 * @param capacity the number of rows that will be added
+	 */
+	public RowMultiset(DataType[] dataTypes, int capacity) {
+		this.dataTypes = dataTypes;
+		this.rows = new Object[capacity][];
+		this.next = new int[capacity];
+		int slots = Integer.highestOneBit(Math.max(capacity, 1) * 2 - 1) * 2;
+		this.keys = new long[slots];
+		this.heads = new int[slots];
+		this.mask = slots - 1;
+	}
+
+	/**
+	 * Add a row.
+	 * @param row the values of the compared columns
+	 */
+	public void add(Object[] row) {
+		int index = this.rowCount++;
+		this.rows[index] = row;
+		int slot = getSlot(hash(row));
+		this.next[index] = Math.max(this.heads[slot], 0);
+		this.heads[slot] = index + 1;
+		this.size++;
+	}
+
+	/**
+	 * Remove a row equal to the given row.
+	 * @param row the values of the compared columns
+	 * @return {@code true} if an equal row was removed
+	 */
+	public boolean remove(Object[] row) {
+		int slot = getSlot(hash(row));
+		int previous = 0;
+		for (int candidate = this.heads[slot]; candidate > 0; candidate = this.next[candidate - 1]) {
+			if (isEqual(this.rows[candidate - 1], row)) {
+				int following = this.next[candidate - 1];
+				if (previous == 0) {
+					this.heads[slot] = (following > 0 ? following : -1);
+				} else {
+					this.next[previous - 1] = following;
+				}
+				this.rows[candidate - 1] = null;
+				this.size--;
+				return true;
+			}
+			previous = candidate;
+		}
+		return false;
+	}
+
+	/**
+	 * @return the number of rows that were not removed
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * @return the indexes, in order of addition, of the rows that were not removed
+	 */
+	public int[] getRemainingIndexes() {
+		int[] indexes = new int[this.size];
+		int count = 0;
+		for (int i = 0; i < this.rowCount; i++) {
+			if (this.rows[i] != null) {
+				indexes[count++] = i;
+			}
+		}
+		return indexes;
+	}
+
+	private int getSlot(long hash) {
+		int slot = (int) hash & this.mask;
+		while ((this.heads[slot] != 0) && (this.keys[slot] != hash)) {
+			slot = (slot + 1) & this.mask;
+		}
+		this.keys[slot] = hash;
+		return slot;
+	}
+
+	private boolean isEqual(Object[] expected, Object[] actual) {
+		return isEqual(this.dataTypes, expected, actual);
+	}
+
+	/**
+	 * Determine if two rows are equal.
+	 * @param dataTypes the data types used to compare the values
+	 * @param expected the expected values
+	 * @param actual the actual values
+	 * @return {@code true} if every value compares as equal
+	 */
+	static boolean isEqual(DataType[] dataTypes, Object[] expected, Object[] actual) {
+		for (int i = 0; i < dataTypes.length; i++) {
+			try {
+				if (dataTypes[i].compare(expected[i], actual[i]) != 0) {
+					return false;
+				}
+			} catch (TypeCastException ex) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the data type used to compare the values of two columns, following DbUnit: the expected type unless one
+	 * of the types is unknown or both are different.
+	 * @param expectedColumn the expected column
+	 * @param actualColumn the actual column
+	 * @return the data type
+	 */
+	static DataType getComparisonDataType(Column expectedColumn, Column actualColumn) {
+		DataType expectedDataType = expectedColumn.getDataType();
+		DataType actualDataType = actualColumn.getDataType();
+		if (expectedDataType.getClass().isInstance(actualDataType)) {
+			return expectedDataType;
+		}
+		if (expectedDataType == DataType.UNKNOWN) {
+			return actualDataType;
+		}
+		if (actualDataType == DataType.UNKNOWN) {
+			return expectedDataType;
+		}
+		return DataType.UNKNOWN;
+	}
+
+	private long hash(Object[] row) {
+		long hash = 1;
+		for (int i = 0; i < this.dataTypes.length; i++) {
+			hash = hash * 31 + hash(this.dataTypes[i], row[i]);
+		}
+		hash ^= (hash >>> 33);
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= (hash >>> 33);
+		return hash;
+	}
+
+	/**
+	 * Hash a value so that values that compare as equal have the same hash in most cases. Values that cannot be
+	 * converted to the column type only lose the benefit of the hash, they are still compared.
+	 */
+	private static int hash(DataType dataType, Object value) {
+		if (value == null) {
+			return 0;
+		}
+		try {
+			if (dataType == DataType.UNKNOWN) {
+				return DataType.asString(value).hashCode();
+			}
+			Object typed = dataType.typeCast(value);
+			if (typed instanceof byte[]) {
+				return Arrays.hashCode((byte[]) typed);
+			}
+			if (typed instanceof Number) {
+				// Numbers of different scales, such as 1 and 1.0, compare as equal
+				return new BigDecimal(typed.toString()).stripTrailingZeros().hashCode();
+			}
+			return (typed != null ? typed.hashCode() : 0);
+		} catch (TypeCastException ex) {
+			return -1;
+		} catch (NumberFormatException ex) {
+			return value.toString().hashCode();
+		}
+	}
+
+}
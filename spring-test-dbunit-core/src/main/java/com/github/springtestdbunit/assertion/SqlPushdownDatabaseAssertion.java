@@ -0,0 +1,334 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.springtestdbunit.assertion;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.dbunit.DatabaseUnitException;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.Columns;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.ITableMetaData;
+import org.dbunit.dataset.datatype.DataType;
+import org.dbunit.dataset.datatype.TypeCastException;
+import org.dbunit.dataset.filter.IColumnFilter;
+
+import com.github.springtestdbunit.util.DatabaseConnectionUtils;
+import com.github.springtestdbunit.util.DatabaseDialect;
+import com.github.springtestdbunit.util.RowChecksum;
+
+/**
+ * Implements the SQL pushdown database assertion strategy: compares data sets as
+ * {@link NonStrictUnorderedDatabaseAssertion} does, but inside the database. The expected rows are inserted with
+ * batched statements into a scratch table, which is then compared with the actual table by two {@code EXCEPT}
+ * queries on the rows grouped and counted, so that duplicate rows are also compared. Only the differing rows are read
+ * to report a failure.
+ * <p>
+ * The database applies its own equality rules: inserted values are rounded or truncated to the column precision, and
+ * strings are compared according to the column collation. The scratch rows are therefore read back and checked
+ * against the expected table with the {@link DataType}s that DbUnit compares with, and character columns are compared
+ * with the {@link DatabaseDialect#getExactComparisonExpression(String) exact comparison expression} of the database.
+ * When the scratch rows differ from the expected table, the tables are compared in memory.
+ * <p>
+ * Scratch tables are created in the schema of the connection, named with the {@link #SCRATCH_TABLE_PREFIX prefix},
+ * once for each table and set of compared columns, and are left out of the
+ * {@link DatabaseConnectionUtils#createDataSet(IDatabaseConnection) full database dataset}. Creating them is DDL,
+ * which many databases commit immediately.
+ * Scratch tables are kept for the lifetime of the JVM, use {@link #dropScratchTables(IDatabaseConnection)} to remove
+ * them from a persistent database, including the ones left behind by earlier runs. Expectations on a query, tables with large object columns and databases that
+ * cannot run the comparison are compared in memory.
+ */
+public class SqlPushdownDatabaseAssertion extends NonStrictUnorderedDatabaseAssertion
+		implements ConnectionDatabaseAssertion {
+
+	private static final Log logger = LogFactory.getLog(SqlPushdownDatabaseAssertion.class);
+
+	/**
+	 * The prefix of scratch table names.
+	 */
+	public static final String SCRATCH_TABLE_PREFIX = "DBUNIT_EXP_";
+
+	private static final String RUN_ID = Integer.toString(ThreadLocalRandom.current().nextInt(36 * 36 * 36), 36)
+			.toUpperCase();
+
+	private static final AtomicInteger SCRATCH_TABLE_COUNT = new AtomicInteger();
+
+	private static final Map<String, String> SCRATCH_TABLES = new ConcurrentHashMap<String, String>();
+
+	private static final Map<String, Object> LOCKS = new ConcurrentHashMap<String, Object>();
+
+	static {
+		DatabaseConnectionUtils.addInternalTablePrefix(SCRATCH_TABLE_PREFIX);
+	}
+
+	SqlPushdownDatabaseAssertion() {
+		super();
+	}
+
+	public void assertEquals(IDataSet expectedDataSet, IDatabaseConnection connection,
+			List<IColumnFilter> columnFilters) throws DatabaseUnitException, SQLException {
+		for (String tableName : expectedDataSet.getTableNames()) {
+			assertEquals(expectedDataSet.getTable(tableName), connection, tableName, columnFilters);
+		}
+	}
+
+	public void assertEquals(ITable expectedTable, IDatabaseConnection connection, String tableName,
+			List<IColumnFilter> columnFilters) throws DatabaseUnitException, SQLException {
+		ITableMetaData actualMetaData = connection.createDataSet().getTableMetaData(tableName);
+		Column[] expectedColumns = getComparedColumns(expectedTable.getTableMetaData(), actualMetaData,
+				columnFilters);
+		if (expectedColumns != null) {
+			Column[] columns = new Column[expectedColumns.length];
+			DataType[] dataTypes = new DataType[expectedColumns.length];
+			for (int i = 0; i < expectedColumns.length; i++) {
+				columns[i] = Columns.getColumn(expectedColumns[i].getColumnName(), actualMetaData.getColumns());
+				dataTypes[i] = RowMultiset.getComparisonDataType(expectedColumns[i], columns[i]);
+			}
+			String table = DatabaseConnectionUtils.getQualifiedTableName(connection, actualMetaData.getTableName());
+			if (!hasLargeObjects(columns)) {
+				// Expectations verified in parallel on the same table share its scratch table
+				synchronized (getLock(table)) {
+					if (assertEquals(expectedTable, expectedColumns, connection, tableName, table, columns, dataTypes,
+							columnFilters)) {
+						return;
+					}
+				}
+			}
+		}
+		assertEquals(expectedTable, connection.createTable(tableName), columnFilters);
+	}
+
+	/**
+	 * Compare the tables in the database.
+	 * @return {@code true} if the comparison is complete, {@code false} if the tables should be compared in memory
+	 */
+	private boolean assertEquals(ITable expectedTable, Column[] expectedColumns, IDatabaseConnection connection,
+			String tableName, String table, Column[] columns, DataType[] dataTypes, List<IColumnFilter> columnFilters)
+			throws DatabaseUnitException, SQLException {
+		DatabaseDialect dialect = DatabaseDialect.get(connection);
+		String columnList = getColumnList(connection, columns);
+		String comparedList = getComparedList(connection, dialect, columns);
+		String except = " " + dialect.getExceptOperator() + " ";
+		String scratchTable;
+		try {
+			scratchTable = getScratchTable(connection, table, columnList);
+			insert(connection, scratchTable, columnList, columns, expectedTable, expectedColumns);
+			if (!isReadBack(connection, scratchTable, columnList, columns, dataTypes, expectedTable, expectedColumns)) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Expected rows of table " + tableName + " changed when stored, comparing in memory");
+				}
+				return false;
+			}
+			if (DatabaseConnectionUtils.queryForLong(connection, "SELECT COUNT(*) FROM " + table) != expectedTable.getRowCount()) {
+				return false;
+			}
+			String expectedGroups = "SELECT " + comparedList + ", COUNT(*) FROM " + scratchTable + " GROUP BY "
+					+ comparedList;
+			String actualGroups = "SELECT " + comparedList + ", COUNT(*) FROM " + table + " GROUP BY "
+					+ comparedList;
+			if (!hasRows(connection, expectedGroups + except + actualGroups)
+					&& !hasRows(connection, actualGroups + except + expectedGroups)) {
+				return true;
+			}
+		} catch (SQLException | TypeCastException ex) {
+			logger.warn("Unable to compare table " + tableName + " in the database, comparing in memory", ex);
+			return false;
+		}
+		String expectedRowsSql = "SELECT " + columnList + " FROM " + scratchTable;
+		String actualRowsSql = "SELECT " + columnList + " FROM " + table;
+		ITable expectedRows = connection.createQueryTable(tableName, expectedRowsSql + except + actualRowsSql);
+		ITable actualRows = connection.createQueryTable(tableName, actualRowsSql + except + expectedRowsSql);
+		if ((expectedRows.getRowCount() == 0) || (expectedRows.getRowCount() != actualRows.getRowCount())) {
+			// Only duplicates differ, or rows are missing on one side
+			return false;
+		}
+		assertEquals(expectedRows, actualRows, columnFilters);
+		return true;
+	}
+
+	/**
+	 * Check that the scratch table holds the expected rows, as compared by DbUnit.
+	 */
+	private boolean isReadBack(IDatabaseConnection connection, String scratchTable, String columnList,
+			Column[] columns, DataType[] dataTypes, ITable expectedTable, Column[] expectedColumns)
+			throws DatabaseUnitException, SQLException {
+		RowChecksum expected = TableChecksum.of(expectedTable, expectedColumns, dataTypes);
+		if (expected == null) {
+			return false;
+		}
+		Statement statement = connection.getConnection().createStatement();
+		try {
+			ResultSet resultSet = statement.executeQuery("SELECT " + columnList + " FROM " + scratchTable);
+			try {
+				return expected.equals(TableChecksum.of(resultSet, columns, dataTypes));
+			} finally {
+				resultSet.close();
+			}
+		} finally {
+			statement.close();
+		}
+	}
+
+	private boolean hasLargeObjects(Column[] columns) {
+		for (Column column : columns) {
+			int sqlType = column.getDataType().getSqlType();
+			if ((sqlType == Types.BLOB) || (sqlType == Types.CLOB) || (sqlType == Types.NCLOB)
+					|| (sqlType == Types.LONGVARBINARY) || (sqlType == Types.LONGVARCHAR)
+					|| (sqlType == Types.LONGNVARCHAR)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private Object getLock(String table) {
+		return LOCKS.computeIfAbsent(table, key -> new Object());
+	}
+
+	private String getScratchTable(IDatabaseConnection connection, String table, String columnList)
+			throws SQLException {
+		String key = DatabaseConnectionUtils.getDatabaseKey(connection) + "|" + table + "|" + columnList;
+		String scratchTable = SCRATCH_TABLES.get(key);
+		if (scratchTable == null) {
+			scratchTable = DatabaseConnectionUtils.getQualifiedTableName(connection,
+					SCRATCH_TABLE_PREFIX + RUN_ID + "_" + SCRATCH_TABLE_COUNT.incrementAndGet());
+			DatabaseConnectionUtils.execute(connection, DatabaseDialect.get(connection).getCreateTableAsSelectSql(scratchTable,
+					"SELECT " + columnList + " FROM " + table + " WHERE 1 = 0"));
+			SCRATCH_TABLES.put(key, scratchTable);
+		} else {
+			DatabaseConnectionUtils.execute(connection, "DELETE FROM " + scratchTable);
+		}
+		return scratchTable;
+	}
+
+	private void insert(IDatabaseConnection connection, String scratchTable, String columnList, Column[] columns,
+			ITable expectedTable, Column[] expectedColumns) throws DatabaseUnitException, SQLException {
+		StringBuilder parameters = new StringBuilder();
+		for (int i = 0; i < columns.length; i++) {
+			parameters.append(i > 0 ? ", ?" : "?");
+		}
+		String sql = "INSERT INTO " + scratchTable + " (" + columnList + ") VALUES ("
+				+ parameters + ")";
+		int maxBatchSize = DatabaseConnectionUtils.getBatchSize(connection.getConfig());
+		PreparedStatement statement = connection.getConnection().prepareStatement(sql);
+		try {
+			int batchCount = 0;
+			for (int row = 0; row < expectedTable.getRowCount(); row++) {
+				for (int i = 0; i < columns.length; i++) {
+					Object value = expectedTable.getValue(row, expectedColumns[i].getColumnName());
+					if ((value == null) || (value == ITable.NO_VALUE)) {
+						statement.setNull(i + 1, columns[i].getDataType().getSqlType());
+					} else {
+						columns[i].getDataType().setSqlValue(value, i + 1, statement);
+					}
+				}
+				statement.addBatch();
+				if (++batchCount == maxBatchSize) {
+					statement.executeBatch();
+					batchCount = 0;
+				}
+			}
+			if (batchCount > 0) {
+				statement.executeBatch();
+			}
+		} finally {
+			statement.close();
+		}
+	}
+
+	private String getColumnList(IDatabaseConnection connection, Column[] columns) {
+		StringBuilder columnList = new StringBuilder();
+		for (int i = 0; i < columns.length; i++) {
+			columnList.append(i > 0 ? ", " : "")
+					.append(DatabaseConnectionUtils.getQualifiedColumnName(connection, columns[i].getColumnName()));
+		}
+		return columnList.toString();
+	}
+
+	private String getComparedList(IDatabaseConnection connection, DatabaseDialect dialect, Column[] columns) {
+		StringBuilder comparedList = new StringBuilder();
+		for (int i = 0; i < columns.length; i++) {
+			String columnName = DatabaseConnectionUtils.getQualifiedColumnName(connection, columns[i].getColumnName());
+			if (isCharacter(columns[i])) {
+				columnName = dialect.getExactComparisonExpression(columnName);
+			}
+			comparedList.append(i > 0 ? ", " : "").append(columnName);
+		}
+		return comparedList.toString();
+	}
+
+	private boolean isCharacter(Column column) {
+		int sqlType = column.getDataType().getSqlType();
+		return (sqlType == Types.CHAR) || (sqlType == Types.VARCHAR) || (sqlType == Types.NCHAR)
+				|| (sqlType == Types.NVARCHAR);
+	}
+
+	private boolean hasRows(IDatabaseConnection connection, String sql) throws SQLException {
+		Statement statement = connection.getConnection().createStatement();
+		try {
+			statement.setMaxRows(1);
+			ResultSet resultSet = statement.executeQuery(sql);
+			try {
+				return resultSet.next();
+			} finally {
+				resultSet.close();
+			}
+		} finally {
+			statement.close();
+		}
+	}
+
+	/**
+	 * Drop the scratch tables created on the database of the given connection, and every other table of the connection
+	 * schema named with the {@link #SCRATCH_TABLE_PREFIX prefix}, such as the scratch tables of earlier runs. Must not be
+	 * called while another JVM compares tables in the same database.
+	 * @param connection the connection
+	 * @throws SQLException if the database cannot be identified or a scratch table of an earlier run cannot be dropped
+	 */
+	public static void dropScratchTables(IDatabaseConnection connection) throws SQLException {
+		String databaseKey = DatabaseConnectionUtils.getDatabaseKey(connection) + "|";
+		Iterator<Map.Entry<String, String>> iterator = SCRATCH_TABLES.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<String, String> entry = iterator.next();
+			if (entry.getKey().startsWith(databaseKey)) {
+				iterator.remove();
+				try {
+					DatabaseConnectionUtils.execute(connection, "DROP TABLE " + entry.getValue());
+				} catch (SQLException ex) {
+					logger.warn("Unable to drop scratch table " + entry.getValue(), ex);
+				}
+			}
+		}
+		DatabaseConnectionUtils.dropTables(connection, SCRATCH_TABLE_PREFIX);
+	}
+
+}
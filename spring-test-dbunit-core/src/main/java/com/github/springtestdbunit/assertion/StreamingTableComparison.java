@@ -0,0 +1,218 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.springtestdbunit.assertion;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.dbunit.DatabaseUnitException;
+import org.dbunit.database.DatabaseConfig;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.Columns;
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.DefaultTableMetaData;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.ITableMetaData;
+import org.dbunit.dataset.datatype.DataType;
+import org.dbunit.dataset.datatype.IDataTypeFactory;
+import org.dbunit.dataset.filter.IColumnFilter;
+import org.springframework.util.StringUtils;
+
+import com.github.springtestdbunit.util.DatabaseConnectionUtils;
+
+/**
+ * Compares an expected table with the rows of a table or a query read one at a time from a forward-only
+ * {@link ResultSet}, instead of loading the actual rows in memory first. Ordered assertion modes compare each row with
+ * the expected row at the same position, {@link DatabaseAssertionMode#NON_STRICT_UNORDERED} removes each row from a
+ * {@link RowMultiset} of the expected rows.
+ * <p>
+ * The comparison only tells whether the rows match. When they do not, the {@link DatabaseAssertion} of the mode should
+ * be used to report the differences.
+ */
+public class StreamingTableComparison {
+
+	private final DatabaseAssertion assertion;
+
+	private final List<IColumnFilter> columnFilters;
+
+	/**
+	 * Create a new comparison.
+	 * @param assertionMode the assertion mode
+	 * @param columnFilters the column filters
+	 */
+	public StreamingTableComparison(DatabaseAssertionMode assertionMode, List<IColumnFilter> columnFilters) {
+		this.assertion = assertionMode.getDatabaseAssertion();
+		this.columnFilters = columnFilters;
+	}
+
+	/**
+	 * Determine if the rows of a table or query match the expected table.
+	 * @param expectedTable the expected table
+	 * @param connection the connection
+	 * @param tableName the name of the table
+	 * @param query the query returning the actual rows, or {@code null} to read the whole table
+	 * @return {@code true} if the rows match, {@code false} if they differ or cannot be compared this way
+	 * @throws SQLException if the rows cannot be read
+	 * @throws DatabaseUnitException if the rows cannot be compared
+	 */
+	public boolean matches(ITable expectedTable, IDatabaseConnection connection, String tableName, String query)
+			throws SQLException, DatabaseUnitException {
+		ITableMetaData expectedMetaData = expectedTable.getTableMetaData();
+		Column[] columns = null;
+		String sql = query;
+		if (!StringUtils.hasLength(query)) {
+			ITableMetaData actualMetaData = connection.createDataSet().getTableMetaData(tableName);
+			columns = getComparedColumns(expectedMetaData, actualMetaData);
+			if (columns == null) {
+				return false;
+			}
+			sql = getSelectStatement(connection, actualMetaData, columns);
+		}
+		Statement statement = connection.getConnection().createStatement(ResultSet.TYPE_FORWARD_ONLY,
+				ResultSet.CONCUR_READ_ONLY);
+		try {
+			statement.setFetchSize(DatabaseConnectionUtils.getFetchSize(connection.getConfig()));
+			ResultSet resultSet = statement.executeQuery(sql);
+			try {
+				ITableMetaData actualMetaData = getMetaData(connection, tableName, resultSet.getMetaData());
+				if (columns == null) {
+					columns = getComparedColumns(expectedMetaData, actualMetaData);
+					if (columns == null) {
+						return false;
+					}
+				}
+				return matches(expectedTable, columns, actualMetaData, resultSet);
+			} finally {
+				resultSet.close();
+			}
+		} finally {
+			statement.close();
+		}
+	}
+
+	private boolean matches(ITable expectedTable, Column[] expectedColumns, ITableMetaData actualMetaData,
+			ResultSet resultSet) throws SQLException, DatabaseUnitException {
+		Column[] actualColumns = actualMetaData.getColumns();
+		int[] indexes = new int[expectedColumns.length];
+		Column[] columns = new Column[expectedColumns.length];
+		DataType[] dataTypes = new DataType[expectedColumns.length];
+		for (int i = 0; i < expectedColumns.length; i++) {
+			indexes[i] = actualMetaData.getColumnIndex(expectedColumns[i].getColumnName()) + 1;
+			columns[i] = actualColumns[indexes[i] - 1];
+			dataTypes[i] = RowMultiset.getComparisonDataType(expectedColumns[i], columns[i]);
+		}
+		int rowCount = expectedTable.getRowCount();
+		boolean unordered = (this.assertion instanceof NonStrictUnorderedDatabaseAssertion);
+		RowMultiset expectedRows = (unordered ? new RowMultiset(dataTypes, rowCount) : null);
+		if (unordered) {
+			for (int row = 0; row < rowCount; row++) {
+				expectedRows.add(getValues(expectedTable, row, expectedColumns));
+			}
+		}
+		int row = 0;
+		while (resultSet.next()) {
+			if (row == rowCount) {
+				return false;
+			}
+			Object[] actualValues = new Object[columns.length];
+			for (int i = 0; i < columns.length; i++) {
+				actualValues[i] = columns[i].getDataType().getSqlValue(indexes[i], resultSet);
+			}
+			boolean matched = (unordered ? expectedRows.remove(actualValues)
+					: RowMultiset.isEqual(dataTypes, getValues(expectedTable, row, expectedColumns), actualValues));
+			if (!matched) {
+				return false;
+			}
+			row++;
+		}
+		return (row == rowCount);
+	}
+
+	/**
+	 * Returns the compared expected columns, {@code null} if the tables cannot be compared column by column.
+	 */
+	private Column[] getComparedColumns(ITableMetaData expectedMetaData, ITableMetaData actualMetaData)
+			throws DataSetException {
+		if (this.assertion instanceof NonStrictDatabaseAssertion) {
+			return ((NonStrictDatabaseAssertion) this.assertion).getComparedColumns(expectedMetaData, actualMetaData,
+					this.columnFilters);
+		}
+		// Strict assertions also compare the columns, which must be the same
+		Column[] expectedColumns = expectedMetaData.getColumns();
+		return (getColumnNames(expectedColumns).equals(getColumnNames(actualMetaData.getColumns())) ? expectedColumns
+				: null);
+	}
+
+	private Set<String> getColumnNames(Column[] columns) {
+		Set<String> names = new TreeSet<String>();
+		for (Column column : columns) {
+			names.add(column.getColumnName().toUpperCase(Locale.ENGLISH));
+		}
+		return names;
+	}
+
+	/**
+	 * Select the compared columns of a table, ordered by primary key as DbUnit does when reading a table.
+	 */
+	private String getSelectStatement(IDatabaseConnection connection, ITableMetaData metaData, Column[] columns)
+			throws DataSetException {
+		StringBuilder sql = new StringBuilder("SELECT ");
+		for (int i = 0; i < columns.length; i++) {
+			String columnName = Columns.getColumn(columns[i].getColumnName(), metaData.getColumns()).getColumnName();
+			sql.append(i > 0 ? ", " : "").append(DatabaseConnectionUtils.getQualifiedColumnName(connection, columnName));
+		}
+		sql.append(" FROM ").append(DatabaseConnectionUtils.getQualifiedTableName(connection, metaData.getTableName()));
+		Column[] primaryKeys = metaData.getPrimaryKeys();
+		for (int i = 0; i < primaryKeys.length; i++) {
+			sql.append(i > 0 ? ", " : " ORDER BY ")
+					.append(DatabaseConnectionUtils.getQualifiedColumnName(connection, primaryKeys[i].getColumnName()));
+		}
+		return sql.toString();
+	}
+
+	private ITableMetaData getMetaData(IDatabaseConnection connection, String tableName, ResultSetMetaData metaData)
+			throws SQLException, DataSetException {
+		IDataTypeFactory dataTypeFactory = (IDataTypeFactory) connection.getConfig()
+				.getProperty(DatabaseConfig.PROPERTY_DATATYPE_FACTORY);
+		List<Column> columns = new ArrayList<Column>();
+		for (int i = 1; i <= metaData.getColumnCount(); i++) {
+			String columnName = metaData.getColumnLabel(i);
+			DataType dataType = dataTypeFactory.createDataType(metaData.getColumnType(i), metaData.getColumnTypeName(i),
+					tableName, columnName);
+			columns.add(new Column(columnName, dataType));
+		}
+		return new DefaultTableMetaData(tableName, columns.toArray(new Column[columns.size()]));
+	}
+
+	private Object[] getValues(ITable table, int row, Column[] columns) throws DataSetException {
+		Object[] values = new Object[columns.length];
+		for (int i = 0; i < columns.length; i++) {
+			values[i] = table.getValue(row, columns[i].getColumnName());
+		}
+		return values;
+	}
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.springtestdbunit.assertion;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Date;
+
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.datatype.DataType;
+import org.dbunit.dataset.datatype.TypeCastException;
+
+import com.github.springtestdbunit.util.RowChecksum;
+
+/**
+ * Computes the {@link RowChecksum} of the compared columns of a table. Each value is first converted with the
+ * {@link DataType} used to compare its column, then hashed in a canonical form, so that values that compare as equal,
+ * such as {@code 1} and {@code 1.0}, have the same hash.
+ * <p>
+ * Equal checksums mean that the tables hold the same rows, unless two different sets of rows collide on the 64-bit
+ * sum. Values without a canonical form (objects of unknown types, values that cannot be converted or
+ * {@link ITable#NO_VALUE}) cannot be checksummed.
+ */
+final class TableChecksum {
+
+	private TableChecksum() {
+	}
+
+	/**
+	 * Checksum the rows of a table.
+	 * @param table the table
+	 * @param columns the columns of the table to checksum
+	 * @param dataTypes the data types used to compare the values of each column
+	 * @return the checksum or {@code null} if a value cannot be checksummed
+	 * @throws DataSetException if the table cannot be read
+	 */
+	public static RowChecksum of(ITable table, Column[] columns, DataType[] dataTypes) throws DataSetException {
+		RowChecksum checksum = new RowChecksum();
+		int rowCount = table.getRowCount();
+		for (int row = 0; row < rowCount; row++) {
+			for (int i = 0; i < columns.length; i++) {
+				if (!add(checksum, dataTypes[i], table.getValue(row, columns[i].getColumnName()))) {
+					return null;
+				}
+			}
+			checksum.endRow();
+		}
+		return checksum;
+	}
+
+	/**
+	 * Checksum the rows of a result set, reading them to the end.
+	 * @param resultSet the result set
+	 * @param columns the result set columns, in order
+	 * @param dataTypes the data types used to compare the values of each column
+	 * @return the checksum or {@code null} if a value cannot be checksummed
+	 * @throws SQLException if the rows cannot be read
+	 * @throws DataSetException if a value cannot be read
+	 */
+	public static RowChecksum of(ResultSet resultSet, Column[] columns, DataType[] dataTypes)
+			throws SQLException, DataSetException {
+		RowChecksum checksum = new RowChecksum();
+		while (resultSet.next()) {
+			for (int i = 0; i < columns.length; i++) {
+				if (!add(checksum, dataTypes[i], columns[i].getDataType().getSqlValue(i + 1, resultSet))) {
+					return null;
+				}
+			}
+			checksum.endRow();
+		}
+		return checksum;
+	}
+
+	/**
+	 * Add the canonical form of a value to the checksum.
+	 * @return {@code false} if the value has no canonical form
+	 */
+	private static boolean add(RowChecksum checksum, DataType dataType, Object value) {
+		if (value == ITable.NO_VALUE) {
+			return false;
+		}
+		if (value == null) {
+			checksum.addValue(null);
+			return true;
+		}
+		try {
+			Object typed = (dataType == DataType.UNKNOWN ? DataType.asString(value) : dataType.typeCast(value));
+			if (typed instanceof byte[]) {
+				checksum.addValue((byte[]) typed);
+				return true;
+			}
+			String canonical = getCanonicalString(typed);
+			if (canonical != null) {
+				checksum.addValue(canonical.getBytes(StandardCharsets.UTF_8));
+			}
+			return (canonical != null);
+		} catch (TypeCastException | NumberFormatException ex) {
+			return false;
+		}
+	}
+
+	private static String getCanonicalString(Object typed) {
+		if ((typed instanceof String) || (typed instanceof Boolean) || (typed instanceof Character)) {
+			return typed.toString();
+		}
+		if ((typed instanceof Double) || (typed instanceof Float)) {
+			// Compared with compareTo, so 0.0 and -0.0 differ
+			return typed.toString();
+		}
+		if (typed instanceof Number) {
+			// Numbers of different scales, such as 1 and 1.0, compare as equal
+			BigDecimal number = new BigDecimal(typed.toString());
+			return (number.signum() == 0 ? "0" : number.stripTrailingZeros().toPlainString());
+		}
+		if (typed instanceof Timestamp) {
+			return ((Timestamp) typed).getTime() + "." + ((Timestamp) typed).getNanos();
+		}
+		if (typed instanceof Date) {
+			return Long.toString(((Date) typed).getTime());
+		}
+		return null;
+	}
+
+}
@@ -16,10 +16,13 @@
 
 package com.github.springtestdbunit.bean;
 
+import java.sql.SQLException;
+
 import javax.sql.DataSource;
 
 import org.dbunit.database.DatabaseDataSourceConnection;
 import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.dataset.IDataSet;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.jdbc.datasource.TransactionAwareDataSourceProxy;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -46,6 +49,8 @@ public class DatabaseDataSourceConnectionFactoryBean implements FactoryBean<Data
 
 	private DatabaseConfigBean databaseConfig;
 
+	private TableMetaDataCache tableMetaDataCache;
+
 	public DatabaseDataSourceConnectionFactoryBean() {
 		super();
 	}
@@ -58,8 +63,11 @@ public class DatabaseDataSourceConnectionFactoryBean implements FactoryBean<Data
 	public DatabaseDataSourceConnection getObject() throws Exception {
 
 		Assert.notNull(dataSource, "The dataSource is required");
-		DatabaseDataSourceConnection dataSourceConnection = new DatabaseDataSourceConnection(
-				makeTransactionAware(dataSource), schema, username, password);
+		DataSource transactionAwareDataSource = makeTransactionAware(dataSource);
+		DatabaseDataSourceConnection dataSourceConnection = (tableMetaDataCache != null
+				? new CachedMetaDataConnection(transactionAwareDataSource, schema, username, password,
+						tableMetaDataCache)
+				: new DatabaseDataSourceConnection(transactionAwareDataSource, schema, username, password));
 
 		if (databaseConfig != null) {
 			databaseConfig.apply(dataSourceConnection.getConfig());
@@ -127,6 +135,16 @@ public class DatabaseDataSourceConnectionFactoryBean implements FactoryBean<Data
 		this.databaseConfig = databaseConfig;
 	}
 
+	/**
+	 * Set an optional {@link TableMetaDataCache cache} used to share the table metadata of the newly created
+	 * {@link DatabaseDataSourceConnection} with other connections.
+	 *
+	 * @param tableMetaDataCache the cache or {@code null} if the metadata should be read by each connection.
+	 */
+	public void setTableMetaDataCache(TableMetaDataCache tableMetaDataCache) {
+		this.tableMetaDataCache = tableMetaDataCache;
+	}
+
 	/**
 	 * Determines if the {@link IDatabaseConnection} created by this bean should be aware of Spring
 	 * {@link PlatformTransactionManager}s. Defaults to {@code true}
@@ -143,11 +161,50 @@ public class DatabaseDataSourceConnectionFactoryBean implements FactoryBean<Data
 	 * @return A {@link IDatabaseConnection}
 	 */
 	public static IDatabaseConnection newConnection(DataSource dataSource) {
+		return newConnection(dataSource, null);
+	}
+
+	/**
+	 * Convenience method that can be used to construct a transaction aware {@link IDatabaseConnection} from a
+	 * {@link DataSource}, reading its table metadata from the given cache.
+	 * @param dataSource The data source
+	 * @param tableMetaDataCache The table metadata cache or {@code null}
+	 * @return A {@link IDatabaseConnection}
+	 */
+	public static IDatabaseConnection newConnection(DataSource dataSource, TableMetaDataCache tableMetaDataCache) {
 		try {
-			return (new DatabaseDataSourceConnectionFactoryBean(dataSource)).getObject();
+			DatabaseDataSourceConnectionFactoryBean factoryBean = new DatabaseDataSourceConnectionFactoryBean(
+					dataSource);
+			factoryBean.setTableMetaDataCache(tableMetaDataCache);
+			return factoryBean.getObject();
 		} catch (Exception ex) {
 			throw new IllegalStateException(ex);
 		}
 	}
 
+	/**
+	 * A {@link DatabaseDataSourceConnection} whose dataset reads the table metadata from a {@link TableMetaDataCache}.
+	 */
+	private static class CachedMetaDataConnection extends DatabaseDataSourceConnection {
+
+		private final TableMetaDataCache tableMetaDataCache;
+
+		private IDataSet dataSet;
+
+		public CachedMetaDataConnection(DataSource dataSource, String schema, String username, String password,
+				TableMetaDataCache tableMetaDataCache) throws SQLException {
+			super(dataSource, schema, username, password);
+			this.tableMetaDataCache = tableMetaDataCache;
+		}
+
+		@Override
+		public IDataSet createDataSet() throws SQLException {
+			if (this.dataSet == null) {
+				this.dataSet = this.tableMetaDataCache.createDataSet(this);
+			}
+			return this.dataSet;
+		}
+
+	}
+
 }
@@ -1,6 +1,12 @@
 package com.github.springtestdbunit.bean ;
 
+import java.util.concurrent.Executor ;
+
 import com.github.springtestdbunit.DbUnitRunner ;
+import com.github.springtestdbunit.dataset.AbstractDataSetLoader ;
+import com.github.springtestdbunit.dataset.DataSetCache ;
+import com.github.springtestdbunit.dataset.StreamingDataSetLoader ;
+import com.github.springtestdbunit.operation.CachingStatementFactory ;
 
 /**
  * Configuration to be taken into account by {@link DbUnitRunner}, follow the javadoc instruction to change default behavior.
@@ -35,6 +41,80 @@ public class DbUnitRunnerConfigBean {
      */
     private boolean loadXmlFromStreamInsteadOfUrl = false ;
 
+    /**
+     * Set a cache to share parsed datasets between tests, it is given to every {@link AbstractDataSetLoader}.
+     */
+    private DataSetCache dataSetCache = null ;
+
+    /**
+     * Set to true to stream INSERT, UPDATE, REFRESH and CLEAN_INSERT datasets from a {@link StreamingDataSetLoader} instead of loading them in memory.
+     */
+    private boolean streamingSetupEnabled = false ;
+
+    /**
+     * Set to true to load all the setup, teardown and expected datasets of a test method in parallel before the setup runs.
+     */
+    private boolean parallelPrefetchEnabled = false ;
+
+    /**
+     * Set the executor used to prefetch datasets, the common fork-join pool is used when null (a virtual thread executor can be used on recent JVMs).
+     */
+    private Executor prefetchExecutor = null ;
+
+    /**
+     * Set to true to check the foreign keys of the dataset tables once FAST_CLEAN_INSERT enables referential integrity again.
+     */
+    private boolean fastCleanInsertValidationEnabled = false ;
+
+    /**
+     * Set to true to skip CLEAN_INSERT, FAST_CLEAN_INSERT and DELETE_ALL operations when the checksums of the dataset tables show that the database is already in the state they produce.
+     */
+    private boolean setupFingerprintEnabled = false ;
+
+    /**
+     * Set to true to clear the whole database with cached, batched DELETE or TRUNCATE statements when a DELETE, DELETE_ALL or TRUNCATE_TABLE annotation has no dataset.
+     */
+    private boolean databaseResetEnabled = false ;
+
+    /**
+     * Set to true to also restart the identity (auto-increment) columns when the whole database is cleared, see {@link #setDatabaseResetEnabled(boolean)}.
+     */
+    private boolean identityResetEnabled = false ;
+
+    /**
+     * Set to true to execute consecutive setup or teardown annotations on the same connection as a single operation when the result is the same as executing them one by one.
+     */
+    private boolean setupCoalescingEnabled = false ;
+
+    /**
+     * Set a statement factory to keep the prepared statements of DBUnit operations open between operations and tests, it is given to every connection bean using the default DBUnit statement factory, but not to the connections created for a DataSource bean.
+     */
+    private CachingStatementFactory statementCache = null ;
+
+    /**
+     * Set to true to share the table metadata read by the connections created for a DataSource bean between tests, see {@link TableMetaDataCache}.
+     */
+    private boolean tableMetaDataCacheEnabled = false ;
+
+    /**
+     * Set to true to compare table and query expectations with the rows read one at a time from the database, the rows are only loaded in memory to report differences.
+     */
+    private boolean streamingAssertionEnabled = false ;
+
+    /**
+     * Set to true to verify the expectations on different connections, and the tables of a non strict dataset expectation on a DataSource bean, concurrently.
+     */
+    private boolean parallelVerificationEnabled = false ;
+
+    /**
+     * Set the executor used to verify expectations in parallel, the common fork-join pool is used when null.
+     */
+    private Executor verificationExecutor = null ;
+
+    public DataSetCache getDataSetCache() {
+        return dataSetCache ;
+    }
+
     public String getDefaultNameOfTestClassSetupDatabase() {
         return defaultNameOfTestClassSetupDatabase ;
     }
@@ -47,14 +127,74 @@ public class DbUnitRunnerConfigBean {
         return defaultNameOfTestMethodSetupDatabase ;
     }
 
+    public Executor getPrefetchExecutor() {
+        return prefetchExecutor ;
+    }
+
+    public CachingStatementFactory getStatementCache() {
+        return statementCache ;
+    }
+
+    public Executor getVerificationExecutor() {
+        return verificationExecutor ;
+    }
+
+    public boolean isDatabaseResetEnabled() {
+        return databaseResetEnabled ;
+    }
+
     public boolean isEnabledColumnSense() {
         return enabledColumnSense ;
     }
 
+    public boolean isFastCleanInsertValidationEnabled() {
+        return fastCleanInsertValidationEnabled ;
+    }
+
+    public boolean isIdentityResetEnabled() {
+        return identityResetEnabled ;
+    }
+
     public boolean isLoadXmlFromStreamInsteadOfUrl() {
         return loadXmlFromStreamInsteadOfUrl ;
     }
 
+    public boolean isParallelPrefetchEnabled() {
+        return parallelPrefetchEnabled ;
+    }
+
+    public boolean isParallelVerificationEnabled() {
+        return parallelVerificationEnabled ;
+    }
+
+    public boolean isSetupCoalescingEnabled() {
+        return setupCoalescingEnabled ;
+    }
+
+    public boolean isSetupFingerprintEnabled() {
+        return setupFingerprintEnabled ;
+    }
+
+    public boolean isStreamingAssertionEnabled() {
+        return streamingAssertionEnabled ;
+    }
+
+    public boolean isStreamingSetupEnabled() {
+        return streamingSetupEnabled ;
+    }
+
+    public boolean isTableMetaDataCacheEnabled() {
+        return tableMetaDataCacheEnabled ;
+    }
+
+    public void setDatabaseResetEnabled(boolean databaseResetEnabled) {
+        this.databaseResetEnabled = databaseResetEnabled ;
+    }
+
+    public void setDataSetCache(DataSetCache dataSetCache) {
+        this.dataSetCache = dataSetCache ;
+    }
+
     public void setDefaultNameOfTestClassSetupDatabase(String defaultNameOfTestClassSetupDatabase) {
         this.defaultNameOfTestClassSetupDatabase = defaultNameOfTestClassSetupDatabase ;
     }
@@ -71,8 +211,56 @@ public class DbUnitRunnerConfigBean {
         this.enabledColumnSense = enabledColumnSense ;
     }
 
+    public void setFastCleanInsertValidationEnabled(boolean fastCleanInsertValidationEnabled) {
+        this.fastCleanInsertValidationEnabled = fastCleanInsertValidationEnabled ;
+    }
+
+    public void setIdentityResetEnabled(boolean identityResetEnabled) {
+        this.identityResetEnabled = identityResetEnabled ;
+    }
+
     public void setLoadXmlFromStreamInsteadOfUrl(boolean loadXmlFromStreamInsteadOfUrl) {
         this.loadXmlFromStreamInsteadOfUrl = loadXmlFromStreamInsteadOfUrl ;
     }
 
+    public void setParallelPrefetchEnabled(boolean parallelPrefetchEnabled) {
+        this.parallelPrefetchEnabled = parallelPrefetchEnabled ;
+    }
+
+    public void setParallelVerificationEnabled(boolean parallelVerificationEnabled) {
+        this.parallelVerificationEnabled = parallelVerificationEnabled ;
+    }
+
+    public void setPrefetchExecutor(Executor prefetchExecutor) {
+        this.prefetchExecutor = prefetchExecutor ;
+    }
+
+    public void setSetupCoalescingEnabled(boolean setupCoalescingEnabled) {
+        this.setupCoalescingEnabled = setupCoalescingEnabled ;
+    }
+
+    public void setSetupFingerprintEnabled(boolean setupFingerprintEnabled) {
+        this.setupFingerprintEnabled = setupFingerprintEnabled ;
+    }
+
+    public void setStatementCache(CachingStatementFactory statementCache) {
+        this.statementCache = statementCache ;
+    }
+
+    public void setStreamingAssertionEnabled(boolean streamingAssertionEnabled) {
+        this.streamingAssertionEnabled = streamingAssertionEnabled ;
+    }
+
+    public void setStreamingSetupEnabled(boolean streamingSetupEnabled) {
+        this.streamingSetupEnabled = streamingSetupEnabled ;
+    }
+
+    public void setTableMetaDataCacheEnabled(boolean tableMetaDataCacheEnabled) {
+        this.tableMetaDataCacheEnabled = tableMetaDataCacheEnabled ;
+    }
+
+    public void setVerificationExecutor(Executor verificationExecutor) {
+        this.verificationExecutor = verificationExecutor ;
+    }
+
 }
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.springtestdbunit.bean;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.dbunit.database.IDatabaseConnection;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import com.github.springtestdbunit.util.SqlUtils;
+
+/**
+ * A {@link DataSource} proxy that records which tables are changed through its connections. The target tables of the
+ * statements are parsed when statements are executed, each change is given an increasing sequence number.
+ * Statements whose target cannot be told, such as DDL, procedure calls or queries that call non-standard functions, and
+ * transaction rollbacks are considered to change every table.
+ * <p>
+ * Declare this data source in place of the data source of the application, and use it as the DBUnit connection (either
+ * directly or through {@link DatabaseDataSourceConnectionFactoryBean}). CLEAN_INSERT, FAST_CLEAN_INSERT and DELETE_ALL
+ * setup and teardown operations will then only be applied to the tables that were changed since the same dataset was
+ * last applied. Changes made by other means, for example by another data source or by triggers, are not seen, so
+ * the datasets of tables that such changes write to may be left unapplied and leave stale rows.
+ * <p>
+ * Schema changes are also recorded, they invalidate the {@link TableMetaDataCache} of the connections.
+ */
+public class DirtyTableTrackingDataSource extends DelegatingDataSource {
+
+	private final AtomicLong sequence = new AtomicLong();
+
+	private final Map<String, Long> lastChanges = new ConcurrentHashMap<String, Long>();
+
+	private volatile long lastUnknownChange;
+
+	private volatile long lastSchemaChange;
+
+	public DirtyTableTrackingDataSource() {
+		super();
+	}
+
+	public DirtyTableTrackingDataSource(DataSource targetDataSource) {
+		super(targetDataSource);
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return createConnectionProxy(super.getConnection());
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return createConnectionProxy(super.getConnection(username, password));
+	}
+
+	private Connection createConnectionProxy(Connection connection) {
+		return (Connection) Proxy.newProxyInstance(DirtyTableTrackingDataSource.class.getClassLoader(),
+				new Class<?>[] { Connection.class }, new ConnectionInvocationHandler(connection));
+	}
+
+	/**
+	 * Returns the sequence number of the last change.
+	 * @return the sequence number, {@code 0} if nothing changed yet
+	 */
+	public long getSequence() {
+		return this.sequence.get();
+	}
+
+	/**
+	 * Returns the sequence number of the last statement that changed the schema, such as a {@code CREATE} or
+	 * {@code ALTER} statement.
+	 * @return the sequence number, {@code 0} if the schema did not change yet
+	 */
+	public long getSchemaSequence() {
+		return this.lastSchemaChange;
+	}
+
+	/**
+	 * Determine if a table was changed after the given sequence number.
+	 * @param tableName the table name, possibly qualified
+	 * @param sequence the sequence number, as returned by {@link #getSequence()}
+	 * @return {@code true} if the table may have changed
+	 */
+	public boolean isChangedSince(String tableName, long sequence) {
+		if (this.lastUnknownChange > sequence) {
+			return true;
+		}
+		Long lastChange = this.lastChanges.get(SqlUtils.getTableKey(tableName));
+		return (lastChange != null) && (lastChange > sequence);
+	}
+
+	private void changed(String sql) {
+		Set<String> tableKeys = SqlUtils.getChangedTableKeys(sql);
+		if (tableKeys == null) {
+			changedAll();
+			if (SqlUtils.isSchemaChange(sql)) {
+				this.lastSchemaChange = this.lastUnknownChange;
+			}
+		} else if (!tableKeys.isEmpty()) {
+			long change = this.sequence.incrementAndGet();
+			for (String tableKey : tableKeys) {
+				this.lastChanges.put(tableKey, change);
+			}
+		}
+	}
+
+	private void changedAll() {
+		this.lastUnknownChange = this.sequence.incrementAndGet();
+	}
+
+	/**
+	 * Returns the tracking data source that provides the JDBC connection of the given DBUnit connection.
+	 * @param connection the DBUnit connection
+	 * @return the data source or {@code null} if the connection is not tracked
+	 * @throws SQLException if the JDBC connection cannot be obtained
+	 */
+	public static DirtyTableTrackingDataSource get(IDatabaseConnection connection) throws SQLException {
+		Connection jdbcConnection = connection.getConnection();
+		if (jdbcConnection.isWrapperFor(DirtyTableTrackingDataSource.class)) {
+			return jdbcConnection.unwrap(DirtyTableTrackingDataSource.class);
+		}
+		return null;
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException ex) {
+			throw ex.getTargetException();
+		}
+	}
+
+	/**
+	 * Records the statements prepared or executed on a connection.
+	 */
+	private class ConnectionInvocationHandler implements InvocationHandler {
+
+		private final Connection target;
+
+		public ConnectionInvocationHandler(Connection target) {
+			this.target = target;
+		}
+
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			String name = method.getName();
+			if ("equals".equals(name)) {
+				return (proxy == args[0]);
+			}
+			if ("hashCode".equals(name)) {
+				return System.identityHashCode(proxy);
+			}
+			if (("unwrap".equals(name) || "isWrapperFor".equals(name))
+					&& DirtyTableTrackingDataSource.class.equals(args[0])) {
+				return ("unwrap".equals(name) ? DirtyTableTrackingDataSource.this : Boolean.TRUE);
+			}
+			if ("rollback".equals(name)) {
+				changedAll();
+			} else if ("close".equals(name) && !this.target.isClosed() && !this.target.getAutoCommit()) {
+				// Uncommitted changes may be rolled back
+				changedAll();
+			}
+			Object result = DirtyTableTrackingDataSource.invoke(this.target, method, args);
+			if ("createStatement".equals(name)) {
+				return createStatementProxy(Statement.class, (Connection) proxy, (Statement) result, null);
+			}
+			if ("prepareStatement".equals(name)) {
+				return createStatementProxy(PreparedStatement.class, (Connection) proxy, (Statement) result,
+						(String) args[0]);
+			}
+			if ("prepareCall".equals(name)) {
+				return createStatementProxy(CallableStatement.class, (Connection) proxy, (Statement) result,
+						(String) args[0]);
+			}
+			return result;
+		}
+
+	}
+
+	private Object createStatementProxy(Class<? extends Statement> statementType, Connection connection,
+			Statement statement, String sql) {
+		return Proxy.newProxyInstance(DirtyTableTrackingDataSource.class.getClassLoader(),
+				new Class<?>[] { statementType }, new StatementInvocationHandler(connection, statement, sql));
+	}
+
+	/**
+	 * Records the statements executed on a {@link Statement}, or each time a {@link PreparedStatement} or
+	 * {@link CallableStatement} is executed.
+	 */
+	private class StatementInvocationHandler implements InvocationHandler {
+
+		private final Connection connection;
+
+		private final Statement target;
+
+		private final String preparedSql;
+
+		private final List<String> batch = new ArrayList<String>();
+
+		public StatementInvocationHandler(Connection connection, Statement target, String preparedSql) {
+			this.connection = connection;
+			this.target = target;
+			this.preparedSql = preparedSql;
+		}
+
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			String name = method.getName();
+			if ("equals".equals(name)) {
+				return (proxy == args[0]);
+			}
+			if ("hashCode".equals(name)) {
+				return System.identityHashCode(proxy);
+			}
+			if ("getConnection".equals(name)) {
+				return this.connection;
+			}
+			if ("addBatch".equals(name) && (args != null) && (args[0] instanceof String)) {
+				this.batch.add((String) args[0]);
+			} else if ("clearBatch".equals(name)) {
+				this.batch.clear();
+			} else if (name.endsWith("Batch") && name.startsWith("execute")) {
+				executed(this.preparedSql);
+				for (String sql : this.batch) {
+					changed(sql);
+				}
+				this.batch.clear();
+			} else if (name.startsWith("execute")) {
+				executed((args != null) && (args[0] instanceof String) ? (String) args[0] : this.preparedSql);
+			}
+			return DirtyTableTrackingDataSource.invoke(this.target, method, args);
+		}
+
+		private void executed(String sql) {
+			if (sql != null) {
+				changed(sql);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.springtestdbunit.bean;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.sql.DataSource;
+
+import org.dbunit.database.DatabaseDataSet;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.DefaultTableMetaData;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.ITableMetaData;
+
+/**
+ * Caches the table names and the table metadata (columns, primary keys and data types) read by DBUnit, so that they
+ * are read from the {@link java.sql.DatabaseMetaData} only once instead of once per connection. Metadata is read
+ * lazily, the first time a table is used.
+ * <p>
+ * A cache is given to the connections created by a {@link DatabaseDataSourceConnectionFactoryBean} using
+ * {@link DatabaseDataSourceConnectionFactoryBean#setTableMetaDataCache(TableMetaDataCache)}, the connections created
+ * for a {@link DataSource} bean share the cache returned by {@link #get(DataSource)}. The cache must be
+ * {@link #clear() cleared} when the schema changes. This is done automatically when the connection is obtained from a
+ * {@link DirtyTableTrackingDataSource}, which records the DDL statements that it executes.
+ */
+public class TableMetaDataCache {
+
+	private static final Map<DataSource, TableMetaDataCache> CACHES = Collections
+			.synchronizedMap(new WeakHashMap<DataSource, TableMetaDataCache>());
+
+	private final Map<String, ITableMetaData> tableMetaData = new ConcurrentHashMap<String, ITableMetaData>();
+
+	private volatile String[] tableNames;
+
+	private volatile long schemaSequence;
+
+	/**
+	 * Create a new DBUnit dataset for the given connection that reads its table names and metadata from this cache.
+	 * @param connection the connection
+	 * @return the dataset
+	 * @throws SQLException if the dataset cannot be created
+	 */
+	public IDataSet createDataSet(IDatabaseConnection connection) throws SQLException {
+		return new CachedDatabaseDataSet(connection);
+	}
+
+	/**
+	 * Remove every cached table name and metadata, they are read again on next use.
+	 */
+	public void clear() {
+		this.tableNames = null;
+		this.tableMetaData.clear();
+	}
+
+	private void checkSchema(IDatabaseConnection connection) throws DataSetException {
+		try {
+			DirtyTableTrackingDataSource dataSource = DirtyTableTrackingDataSource.get(connection);
+			long schemaSequence = (dataSource != null ? dataSource.getSchemaSequence() : 0);
+			if (schemaSequence != this.schemaSequence) {
+				clear();
+				this.schemaSequence = schemaSequence;
+			}
+		} catch (SQLException ex) {
+			throw new DataSetException(ex);
+		}
+	}
+
+	/**
+	 * Returns the cache shared by the connections of the given data source.
+	 * @param dataSource the data source
+	 * @return the cache
+	 */
+	public static TableMetaDataCache get(DataSource dataSource) {
+		synchronized (CACHES) {
+			TableMetaDataCache cache = CACHES.get(dataSource);
+			if (cache == null) {
+				cache = new TableMetaDataCache();
+				CACHES.put(dataSource, cache);
+			}
+			return cache;
+		}
+	}
+
+	/**
+	 * A {@link DatabaseDataSet} that keeps its table names and metadata in the cache.
+	 */
+	private class CachedDatabaseDataSet extends DatabaseDataSet {
+
+		private final IDatabaseConnection connection;
+
+		public CachedDatabaseDataSet(IDatabaseConnection connection) throws SQLException {
+			super(connection);
+			this.connection = connection;
+		}
+
+		@Override
+		public String[] getTableNames() throws DataSetException {
+			checkSchema(this.connection);
+			String[] tableNames = TableMetaDataCache.this.tableNames;
+			if (tableNames == null) {
+				tableNames = super.getTableNames();
+				TableMetaDataCache.this.tableNames = tableNames;
+			}
+			return tableNames.clone();
+		}
+
+		@Override
+		public ITableMetaData getTableMetaData(String tableName) throws DataSetException {
+			checkSchema(this.connection);
+			String key = (isCaseSensitiveTableNames() ? tableName : tableName.toUpperCase(Locale.ENGLISH));
+			ITableMetaData metaData = TableMetaDataCache.this.tableMetaData.get(key);
+			if (metaData == null) {
+				// Read the metadata now, the DBUnit metadata is bound to this connection
+				ITableMetaData databaseMetaData = super.getTableMetaData(tableName);
+				metaData = new DefaultTableMetaData(databaseMetaData.getTableName(), databaseMetaData.getColumns(),
+						databaseMetaData.getPrimaryKeys());
+				TableMetaDataCache.this.tableMetaData.put(key, metaData);
+			}
+			return metaData;
+		}
+
+	}
+
+}
@@ -37,13 +37,18 @@ import org.springframework.core.io.ResourceLoader;
  */
 public abstract class AbstractDataSetLoader implements DataSetLoader {
 
+	private DataSetCache dataSetCache;
+
+	private ResourceResolutionCache resourceResolutionCache;
+
 	/**
 	 * Loads a {@link IDataSet dataset} from {@link Resource}s obtained from the specified {@code location}. Each
 	 * {@code location} can be mapped to a number of potential {@link #getResourceLocations resources}, the first
 	 * resource that {@link Resource#exists() exists} will be used. {@link Resource}s are loaded using the
 	 * {@link ResourceLoader} returned from {@link #getResourceLoader}.
 	 * <p>
-	 * If no resource can be found then {@code null} will be returned.
+	 * If no resource can be found then {@code null} will be returned. When a {@link #setDataSetCache cache} is set,
+	 * previously parsed datasets are returned from the cache instead of being created again.
 	 * @throws DataSetException An exception thrown if the dataset itself has a problem.
 	 * @throws IOException An exception thrown if the dataset could not be loaded.
 	 *
@@ -51,17 +56,52 @@ public abstract class AbstractDataSetLoader implements DataSetLoader {
 	 * @see com.github.springtestdbunit.dataset.DataSetLoader#loadDataSet(Class, String) java.lang.String)
 	 */
 	public IDataSet loadDataSet(Class<?> testClass, String location) throws DataSetException, IOException {
-		ResourceLoader resourceLoader = getResourceLoader(testClass);
-		String[] resourceLocations = getResourceLocations(testClass, location);
+		Resource resource = getResource(testClass, location);
+		return (resource != null ? getOrCreateDataSet(resource) : null);
+	}
+
+	/**
+	 * Return the first {@link #getResourceLocations resource} for the specified {@code location} that
+	 * {@link Resource#exists() exists}. When a {@link #setResourceResolutionCache resolution cache} is set, resolved
+	 * resources are remembered by the cache.
+	 * @param testClass The class under test
+	 * @param location The source location
+	 * @return the resource or {@code null} if no resource can be found
+	 */
+	protected Resource getResource(Class<?> testClass, String location) {
+		final ResourceLoader resourceLoader = getResourceLoader(testClass);
+		final String[] resourceLocations = getResourceLocations(testClass, location);
+		ResourceResolutionCache cache = this.resourceResolutionCache;
+		if (cache == null) {
+			return findResource(resourceLoader, resourceLocations);
+		}
+		return cache.resolve(testClass, resourceLoader, resourceLocations,
+				() -> findResource(resourceLoader, resourceLocations));
+	}
+
+	private Resource findResource(ResourceLoader resourceLoader, String[] resourceLocations) {
 		for (String resourceLocation : resourceLocations) {
 			Resource resource = resourceLoader.getResource(resourceLocation);
 			if (resource.exists()) {
-				return createDataSet(resource);
+				return resource;
 			}
 		}
 		return null;
 	}
 
+	private IDataSet getOrCreateDataSet(Resource resource) throws DataSetException, IOException {
+		DataSetCache cache = this.dataSetCache;
+		if ((cache == null) || !cache.isEnabled()) {
+			return createDataSet(resource);
+		}
+		DataSetCache.Key key = DataSetCache.createKey(getClass(), getCacheVariant(), resource);
+		IDataSet dataSet = cache.get(key);
+		if (dataSet == null) {
+			dataSet = cache.put(key, createDataSet(resource));
+		}
+		return dataSet;
+	}
+
 	/**
 	 * Gets the {@link ResourceLoader} that will be used to load the dataset {@link Resource}s.
 	 * @param testClass The class under test
@@ -91,4 +131,37 @@ public abstract class AbstractDataSetLoader implements DataSetLoader {
 	 */
 	protected abstract IDataSet createDataSet(Resource resource) throws DataSetException, IOException;
 
+	/**
+	 * Return a description of any loader setting that changes the {@link #createDataSet(Resource) created} dataset.
+	 * Used to distinguish {@link DataSetCache} entries of differently configured loaders.
+	 * @return the cache variant, empty by default
+	 */
+	protected String getCacheVariant() {
+		return "";
+	}
+
+	public DataSetCache getDataSetCache() {
+		return this.dataSetCache;
+	}
+
+	/**
+	 * Set the cache used to share parsed datasets between tests, {@code null} to disable caching.
+	 * @param dataSetCache the cache
+	 */
+	public void setDataSetCache(DataSetCache dataSetCache) {
+		this.dataSetCache = dataSetCache;
+	}
+
+	public ResourceResolutionCache getResourceResolutionCache() {
+		return this.resourceResolutionCache;
+	}
+
+	/**
+	 * Set the cache used to remember resource resolutions, {@code null} to probe resources on every load.
+	 * @param resourceResolutionCache the cache
+	 */
+	public void setResourceResolutionCache(ResourceResolutionCache resourceResolutionCache) {
+		this.resourceResolutionCache = resourceResolutionCache;
+	}
+
 }
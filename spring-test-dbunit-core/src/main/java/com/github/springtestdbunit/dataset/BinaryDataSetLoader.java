@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.springtestdbunit.dataset;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.IDataSet;
+import org.springframework.core.io.Resource;
+
+import com.github.springtestdbunit.dataset.binary.BinaryDataSet;
+import com.github.springtestdbunit.dataset.binary.BinaryDataSetConverter;
+import com.github.springtestdbunit.dataset.binary.BinaryDataSetFormat;
+
+/**
+ * A {@link DataSetLoader data set loader} that can be used to load {@link BinaryDataSet BinaryDataSets}. Files are
+ * memory-mapped when possible, resources packaged in a jar are read in memory.
+ *
+ * @see BinaryDataSetFormat
+ * @see BinaryDataSetConverter
+ */
+public class BinaryDataSetLoader extends AbstractDataSetLoader {
+
+	@Override
+	protected IDataSet createDataSet(Resource resource) throws DataSetException, IOException {
+		if (resource.isFile()) {
+			return BinaryDataSet.map(resource.getFile());
+		}
+		InputStream inputStream = resource.getInputStream();
+		try {
+			return BinaryDataSet.read(inputStream);
+		} finally {
+			inputStream.close();
+		}
+	}
+
+}
@@ -0,0 +1,395 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.springtestdbunit.dataset;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.dbunit.dataset.AbstractDataSet;
+import org.dbunit.dataset.AbstractTable;
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.DefaultTableIterator;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.ITableIterator;
+import org.dbunit.dataset.ITableMetaData;
+import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
+
+/**
+ * Cache of parsed {@link IDataSet datasets} that can be shared between tests. Entries are keyed on the loader, the
+ * resolved resource URL and the resource version (last modified time, or a content checksum when the time is not
+ * available). Cached datasets are fully materialized read-only copies and can safely be handed out to any number of
+ * tests. The cache is bounded by an estimated memory budget, least recently used entries are evicted first.
+ * <p>
+ * A cache is attached to {@link AbstractDataSetLoader} instances using
+ * {@link AbstractDataSetLoader#setDataSetCache(DataSetCache)}, usually via
+ * {@link com.github.springtestdbunit.bean.DbUnitRunnerConfigBean#setDataSetCache(DataSetCache)}.
+ */
+public class DataSetCache {
+
+	private static final Log logger = LogFactory.getLog(DataSetCache.class);
+
+	/**
+	 * The default memory budget (64 MB).
+	 */
+	public static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+
+	private final long maxBytes;
+
+	private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true);
+
+	private long currentBytes;
+
+	private volatile boolean enabled = true;
+
+	private final AtomicLong hitCount = new AtomicLong();
+
+	private final AtomicLong missCount = new AtomicLong();
+
+	private final AtomicLong evictionCount = new AtomicLong();
+
+	public DataSetCache() {
+		this(DEFAULT_MAX_BYTES);
+	}
+
+	/**
+	 * Create a new cache.
+	 * @param maxBytes the estimated number of bytes that cached datasets may occupy
+	 */
+	public DataSetCache(long maxBytes) {
+		Assert.isTrue(maxBytes > 0, "MaxBytes must be positive");
+		this.maxBytes = maxBytes;
+	}
+
+	/**
+	 * Return the dataset for the given key or {@code null} if it is not cached.
+	 * @param key the key
+	 * @return the cached dataset or {@code null}
+	 */
+	public IDataSet get(Key key) {
+		Entry entry;
+		synchronized (this.entries) {
+			entry = this.entries.get(key);
+		}
+		if (entry == null) {
+			this.missCount.incrementAndGet();
+			return null;
+		}
+		this.hitCount.incrementAndGet();
+		return entry.dataSet;
+	}
+
+	/**
+	 * Store a copy of the given dataset in the cache.
+	 * @param key the key
+	 * @param dataSet the dataset to cache
+	 * @return a read-only copy of the dataset that should be used in place of the original
+	 * @throws DataSetException if the dataset cannot be read
+	 */
+	public IDataSet put(Key key, IDataSet dataSet) throws DataSetException {
+		ReadOnlyDataSet copy = new ReadOnlyDataSet(dataSet);
+		if (copy.getEstimatedSize() > this.maxBytes) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Dataset " + key + " exceeds the cache budget and will not be cached");
+			}
+			return copy;
+		}
+		synchronized (this.entries) {
+			Entry previous = this.entries.put(key, new Entry(copy));
+			if (previous != null) {
+				this.currentBytes -= previous.dataSet.getEstimatedSize();
+			}
+			this.currentBytes += copy.getEstimatedSize();
+			Iterator<Entry> iterator = this.entries.values().iterator();
+			while ((this.currentBytes > this.maxBytes) && iterator.hasNext()) {
+				Entry eldest = iterator.next();
+				iterator.remove();
+				this.currentBytes -= eldest.dataSet.getEstimatedSize();
+				this.evictionCount.incrementAndGet();
+			}
+		}
+		return copy;
+	}
+
+	/**
+	 * Remove all entries from the cache. Counters are not reset.
+	 */
+	public void clear() {
+		synchronized (this.entries) {
+			this.entries.clear();
+			this.currentBytes = 0;
+		}
+	}
+
+	public boolean isEnabled() {
+		return this.enabled;
+	}
+
+	/**
+	 * Enable or disable the cache. A disabled cache keeps its entries but is bypassed by the loaders.
+	 * @param enabled if the cache is enabled
+	 */
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public long getMaxBytes() {
+		return this.maxBytes;
+	}
+
+	/**
+	 * @return the estimated number of bytes used by the cached datasets
+	 */
+	public long getCurrentBytes() {
+		synchronized (this.entries) {
+			return this.currentBytes;
+		}
+	}
+
+	public int size() {
+		synchronized (this.entries) {
+			return this.entries.size();
+		}
+	}
+
+	public long getHitCount() {
+		return this.hitCount.get();
+	}
+
+	public long getMissCount() {
+		return this.missCount.get();
+	}
+
+	public long getEvictionCount() {
+		return this.evictionCount.get();
+	}
+
+	@Override
+	public String toString() {
+		return "DataSetCache[entries=" + size() + ", bytes=" + getCurrentBytes() + "/" + this.maxBytes + ", hits="
+				+ getHitCount() + ", misses=" + getMissCount() + ", evictions=" + getEvictionCount() + "]";
+	}
+
+	/**
+	 * Create a cache key for the given resource.
+	 * @param loaderClass the loader that parses the resource
+	 * @param variant any loader setting that changes the parsed result (may be empty)
+	 * @param resource the resolved resource
+	 * @return a key
+	 * @throws IOException if the resource cannot be read
+	 */
+	public static Key createKey(Class<?> loaderClass, String variant, Resource resource) throws IOException {
+		String url = resource.getURL().toExternalForm();
+		long lastModified = 0;
+		try {
+			lastModified = resource.lastModified();
+		} catch (IOException ex) {
+			// Fall back to a checksum of the content
+		}
+		String version = (lastModified > 0 ? "t" + lastModified : "c" + checksum(resource));
+		return new Key(loaderClass.getName(), variant, url, version);
+	}
+
+	private static long checksum(Resource resource) throws IOException {
+		CRC32 crc = new CRC32();
+		byte[] buffer = new byte[8192];
+		InputStream inputStream = resource.getInputStream();
+		try {
+			int read;
+			while ((read = inputStream.read(buffer)) != -1) {
+				crc.update(buffer, 0, read);
+			}
+		} finally {
+			inputStream.close();
+		}
+		return crc.getValue();
+	}
+
+	private static class Entry {
+
+		private final ReadOnlyDataSet dataSet;
+
+		public Entry(ReadOnlyDataSet dataSet) {
+			this.dataSet = dataSet;
+		}
+
+	}
+
+	/**
+	 * Key used to identify cached datasets.
+	 */
+	public static final class Key {
+
+		private final String loader;
+
+		private final String variant;
+
+		private final String url;
+
+		private final String version;
+
+		Key(String loader, String variant, String url, String version) {
+			this.loader = loader;
+			this.variant = (variant == null ? "" : variant);
+			this.url = url;
+			this.version = version;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj == this) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return this.loader.equals(other.loader) && this.variant.equals(other.variant) && this.url.equals(other.url)
+					&& this.version.equals(other.version);
+		}
+
+		@Override
+		public int hashCode() {
+			int result = this.loader.hashCode();
+			result = 31 * result + this.variant.hashCode();
+			result = 31 * result + this.url.hashCode();
+			result = 31 * result + this.version.hashCode();
+			return result;
+		}
+
+		@Override
+		public String toString() {
+			return this.url + " (" + this.loader + (this.variant.length() > 0 ? ", " + this.variant : "") + ", "
+					+ this.version + ")";
+		}
+
+	}
+
+	/**
+	 * Fully materialized read-only copy of a dataset.
+	 */
+	static class ReadOnlyDataSet extends AbstractDataSet {
+
+		private final ITable[] tables;
+
+		private final long estimatedSize;
+
+		public ReadOnlyDataSet(IDataSet source) throws DataSetException {
+			super(source.isCaseSensitiveTableNames());
+			List<ITable> tables = new ArrayList<ITable>();
+			long estimatedSize = 0;
+			ITableIterator iterator = source.iterator();
+			while (iterator.next()) {
+				ReadOnlyTable table = new ReadOnlyTable(iterator.getTable());
+				estimatedSize += table.getEstimatedSize();
+				tables.add(table);
+			}
+			this.tables = tables.toArray(new ITable[tables.size()]);
+			this.estimatedSize = estimatedSize;
+			// Initialize the table name lookup eagerly so that the instance can be shared between threads
+			getTableNames();
+		}
+
+		@Override
+		protected ITableIterator createIterator(boolean reversed) throws DataSetException {
+			return new DefaultTableIterator(this.tables, reversed);
+		}
+
+		public long getEstimatedSize() {
+			return this.estimatedSize;
+		}
+
+	}
+
+	/**
+	 * Fully materialized read-only copy of a table.
+	 */
+	static class ReadOnlyTable extends AbstractTable {
+
+		private final ITableMetaData metaData;
+
+		private final Map<String, Integer> columnIndexes = new LinkedHashMap<String, Integer>();
+
+		private final Object[][] rows;
+
+		private final long estimatedSize;
+
+		public ReadOnlyTable(ITable source) throws DataSetException {
+			this.metaData = source.getTableMetaData();
+			Column[] columns = this.metaData.getColumns();
+			for (int i = 0; i < columns.length; i++) {
+				this.columnIndexes.put(columns[i].getColumnName().toUpperCase(), i);
+			}
+			this.rows = new Object[source.getRowCount()][];
+			long estimatedSize = 64 + (columns.length * 64);
+			for (int row = 0; row < this.rows.length; row++) {
+				Object[] values = new Object[columns.length];
+				estimatedSize += 16 + (8 * columns.length);
+				for (int column = 0; column < columns.length; column++) {
+					values[column] = source.getValue(row, columns[column].getColumnName());
+					estimatedSize += estimateSize(values[column]);
+				}
+				this.rows[row] = values;
+			}
+			this.estimatedSize = estimatedSize;
+		}
+
+		private static long estimateSize(Object value) {
+			if ((value == null) || (value == ITable.NO_VALUE)) {
+				return 0;
+			}
+			if (value instanceof String) {
+				return 40 + (2L * ((String) value).length());
+			}
+			if (value instanceof byte[]) {
+				return 16 + ((byte[]) value).length;
+			}
+			return 24;
+		}
+
+		public ITableMetaData getTableMetaData() {
+			return this.metaData;
+		}
+
+		public int getRowCount() {
+			return this.rows.length;
+		}
+
+		public Object getValue(int row, String column) throws DataSetException {
+			assertValidRowIndex(row);
+			Integer index = this.columnIndexes.get(column.toUpperCase());
+			return this.rows[row][(index != null ? index : getColumnIndex(column))];
+		}
+
+		public long getEstimatedSize() {
+			return this.estimatedSize;
+		}
+
+	}
+
+}
@@ -17,16 +17,23 @@ import java.net.URL ;
 
 import org.dbunit.dataset.DataSetException ;
 import org.dbunit.dataset.IDataSet ;
+import org.dbunit.dataset.stream.IDataSetProducer ;
 import org.dbunit.dataset.xml.FlatXmlDataSet ;
 import org.dbunit.dataset.xml.FlatXmlDataSetBuilder ;
+import org.dbunit.dataset.xml.FlatXmlProducer ;
 import org.springframework.core.io.Resource ;
+import org.xml.sax.InputSource ;
 
 /**
  * A {@link DataSetLoader data set loader} that can be used to load {@link FlatXmlDataSet FlatXmlDataSets}
+ * <p>
+ * Column sensing cannot be used when streaming, since the columns of a streamed table must be known from its first
+ * row. Datasets are only streamed when column sensing is {@link #setColumnSensingEnabled disabled}: the columns of each
+ * table are then defined by the DTD or by the first row of the table, as when loaded in memory.
  *
  * @author Phillip Webb
  */
-public class FlatXmlDataSetLoader extends AbstractDataSetLoader {
+public class FlatXmlDataSetLoader extends AbstractDataSetLoader implements StreamingDataSetLoader {
 
     private boolean columnSensingEnabled = true ;
 
@@ -59,6 +66,34 @@ public class FlatXmlDataSetLoader extends AbstractDataSetLoader {
         }
     }
 
+    @Override
+    public IDataSetProducer loadDataSetProducer(Class<?> testClass, String location) throws DataSetException, IOException {
+        final Resource resource = getResource(testClass, location) ;
+        if (resource == null) {
+            return null ;
+        }
+        return new FlatXmlProducer(getInputSource(resource), true, false) ;
+    }
+
+    @Override
+    public boolean isStreamingSupported() {
+        return !isColumnSensingEnabled() ;
+    }
+
+    private InputSource getInputSource(Resource resource) throws IOException {
+        try {
+            // Prefer URL loading if possible so that DTDs can be resolved
+            return new InputSource(resource.getURL().toExternalForm()) ;
+        } catch (final IOException ex) {
+            return new InputSource(resource.getInputStream()) ;
+        }
+    }
+
+    @Override
+    protected String getCacheVariant() {
+        return "columnSensing=" + isColumnSensingEnabled() ;
+    }
+
     public boolean isColumnSensingEnabled() {
         return columnSensingEnabled ;
     }
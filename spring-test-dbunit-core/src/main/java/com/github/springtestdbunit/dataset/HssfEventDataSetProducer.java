@@ -0,0 +1,218 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.springtestdbunit.dataset;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.poi.hssf.eventusermodel.FormatTrackingHSSFListener;
+import org.apache.poi.hssf.eventusermodel.HSSFEventFactory;
+import org.apache.poi.hssf.eventusermodel.HSSFListener;
+import org.apache.poi.hssf.eventusermodel.HSSFRequest;
+import org.apache.poi.hssf.eventusermodel.MissingRecordAwareHSSFListener;
+import org.apache.poi.hssf.eventusermodel.dummyrecord.LastCellOfRowDummyRecord;
+import org.apache.poi.hssf.record.BOFRecord;
+import org.apache.poi.hssf.record.BoolErrRecord;
+import org.apache.poi.hssf.record.BoundSheetRecord;
+import org.apache.poi.hssf.record.CellValueRecordInterface;
+import org.apache.poi.hssf.record.EOFRecord;
+import org.apache.poi.hssf.record.FormulaRecord;
+import org.apache.poi.hssf.record.LabelRecord;
+import org.apache.poi.hssf.record.LabelSSTRecord;
+import org.apache.poi.hssf.record.NumberRecord;
+import org.apache.poi.hssf.record.Record;
+import org.apache.poi.hssf.record.SSTRecord;
+import org.apache.poi.hssf.record.StringRecord;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
+import org.apache.poi.ss.usermodel.CellType;
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.stream.DefaultConsumer;
+import org.dbunit.dataset.stream.IDataSetConsumer;
+import org.dbunit.dataset.stream.IDataSetProducer;
+
+/**
+ * {@link IDataSetProducer} for Excel 97-2003 ({@code .xls}) workbooks built on the POI event API. Records are
+ * reported as they are read so that the workbook object model is never created.
+ *
+ * @see StreamingXlsDataSetLoader
+ */
+class HssfEventDataSetProducer implements IDataSetProducer, HSSFListener {
+
+	private final InputStream inputStream;
+
+	private IDataSetConsumer consumer = new DefaultConsumer();
+
+	private SpreadsheetTableEmitter emitter;
+
+	private FormatTrackingHSSFListener formats;
+
+	private final List<BoundSheetRecord> boundSheets = new ArrayList<BoundSheetRecord>();
+
+	private BoundSheetRecord[] orderedSheets;
+
+	private int sheetIndex = -1;
+
+	private boolean inSheet;
+
+	private SSTRecord sharedStrings;
+
+	private FormulaRecord pendingFormula;
+
+	/**
+	 * Create a new producer.
+	 * @param inputStream the workbook stream, closed once the workbook has been produced
+	 */
+	public HssfEventDataSetProducer(InputStream inputStream) {
+		this.inputStream = inputStream;
+	}
+
+	public void setConsumer(IDataSetConsumer consumer) throws DataSetException {
+		this.consumer = consumer;
+	}
+
+	public void produce() throws DataSetException {
+		this.emitter = new SpreadsheetTableEmitter(this.consumer);
+		this.formats = new FormatTrackingHSSFListener(this);
+		HSSFRequest request = new HSSFRequest();
+		request.addListenerForAllRecords(new MissingRecordAwareHSSFListener(this.formats));
+		this.consumer.startDataSet();
+		try {
+			POIFSFileSystem fileSystem = new POIFSFileSystem(this.inputStream);
+			try {
+				new HSSFEventFactory().processWorkbookEvents(request, fileSystem);
+			} finally {
+				fileSystem.close();
+			}
+		} catch (ConsumerException ex) {
+			throw ex.getCause();
+		} catch (IOException ex) {
+			throw new DataSetException("Unable to read workbook", ex);
+		} finally {
+			closeQuietly();
+		}
+		this.consumer.endDataSet();
+	}
+
+	private void closeQuietly() {
+		try {
+			this.inputStream.close();
+		} catch (IOException ex) {
+			// Ignore
+		}
+	}
+
+	public void processRecord(Record record) {
+		try {
+			process(record);
+		} catch (DataSetException ex) {
+			throw new ConsumerException(ex);
+		}
+	}
+
+	private void process(Record record) throws DataSetException {
+		if (record instanceof BoundSheetRecord) {
+			this.boundSheets.add((BoundSheetRecord) record);
+		} else if (record instanceof BOFRecord) {
+			if (((BOFRecord) record).getType() == BOFRecord.TYPE_WORKSHEET) {
+				startSheet();
+			}
+		} else if (record instanceof EOFRecord) {
+			if (this.inSheet) {
+				this.emitter.endSheet();
+				this.inSheet = false;
+			}
+		} else if (record instanceof SSTRecord) {
+			this.sharedStrings = (SSTRecord) record;
+		} else if (this.inSheet) {
+			processCell(record);
+		}
+	}
+
+	private void startSheet() {
+		if (this.orderedSheets == null) {
+			this.orderedSheets = BoundSheetRecord.orderByBofPosition(this.boundSheets);
+		}
+		this.sheetIndex++;
+		this.emitter.startSheet(this.orderedSheets[this.sheetIndex].getSheetname());
+		this.inSheet = true;
+	}
+
+	private void processCell(Record record) throws DataSetException {
+		if (record instanceof LabelSSTRecord) {
+			LabelSSTRecord label = (LabelSSTRecord) record;
+			cell(label, this.sharedStrings.getString(label.getSSTIndex()).getString());
+		} else if (record instanceof LabelRecord) {
+			cell((LabelRecord) record, ((LabelRecord) record).getValue());
+		} else if (record instanceof NumberRecord) {
+			NumberRecord number = (NumberRecord) record;
+			cell(number, toNumericValue(number, number.getValue()));
+		} else if (record instanceof FormulaRecord) {
+			processFormula((FormulaRecord) record);
+		} else if (record instanceof StringRecord) {
+			if (this.pendingFormula != null) {
+				cell(this.pendingFormula, ((StringRecord) record).getString());
+				this.pendingFormula = null;
+			}
+		} else if (record instanceof BoolErrRecord) {
+			BoolErrRecord boolErr = (BoolErrRecord) record;
+			cell(boolErr, (boolErr.isBoolean() ? Boolean.valueOf(boolErr.getBooleanValue()) : null));
+		} else if (record instanceof LastCellOfRowDummyRecord) {
+			this.emitter.row(((LastCellOfRowDummyRecord) record).getRow());
+		}
+	}
+
+	private void processFormula(FormulaRecord formula) throws DataSetException {
+		// Formulas are reported with their cached result, string results follow in a separate record
+		if (formula.hasCachedResultString()) {
+			this.pendingFormula = formula;
+		} else if (formula.getCachedResultType() == CellType.BOOLEAN.getCode()) {
+			cell(formula, Boolean.valueOf(formula.getCachedBooleanValue()));
+		} else if (formula.getCachedResultType() == CellType.NUMERIC.getCode()) {
+			cell(formula, toNumericValue(formula, formula.getValue()));
+		} else {
+			cell(formula, null);
+		}
+	}
+
+	private Object toNumericValue(CellValueRecordInterface record, double value) {
+		return SpreadsheetTableEmitter.toNumericValue(value, this.formats.getFormatIndex(record),
+				this.formats.getFormatString(record));
+	}
+
+	private void cell(CellValueRecordInterface record, Object value) throws DataSetException {
+		this.emitter.cell(record.getRow(), record.getColumn(), value);
+	}
+
+	/**
+	 * Carries consumer failures through the POI listener callback.
+	 */
+	private static class ConsumerException extends RuntimeException {
+
+		public ConsumerException(DataSetException cause) {
+			super(cause);
+		}
+
+		@Override
+		public synchronized DataSetException getCause() {
+			return (DataSetException) super.getCause();
+		}
+
+	}
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.springtestdbunit.dataset;
+
+import java.io.IOException;
+import java.net.URL;
+
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.IDataSet;
+import org.springframework.core.io.Resource;
+
+import com.github.springtestdbunit.dataset.xml.IndexedFlatXmlDataSet;
+
+/**
+ * A {@link FlatXmlDataSetLoader} that returns {@link IndexedFlatXmlDataSet}s, only parsing the tables that are read.
+ * Useful for large expected datasets that are compared one {@link com.github.springtestdbunit.annotation.ExpectedDatabase#table()
+ * table} at a time. Documents that declare a {@code DOCTYPE}, or that cannot be read from a URL, are parsed eagerly.
+ * <p>
+ * A {@link DataSetCache} copies all tables of a dataset and therefore materializes every table. The indexed dataset
+ * already keeps the tables it parsed.
+ */
+public class IndexedFlatXmlDataSetLoader extends FlatXmlDataSetLoader {
+
+	@Override
+	protected IDataSet createDataSet(Resource resource) throws DataSetException, IOException {
+		URL url;
+		try {
+			url = resource.getURL();
+		} catch (IOException ex) {
+			return super.createDataSet(resource);
+		}
+		IDataSet dataSet = IndexedFlatXmlDataSet.create(url, isColumnSensingEnabled());
+		return (dataSet != null ? dataSet : super.createDataSet(resource));
+	}
+
+}
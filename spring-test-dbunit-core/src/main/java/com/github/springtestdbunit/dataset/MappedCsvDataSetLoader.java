@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.springtestdbunit.dataset;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.IDataSet;
+import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
+
+import com.github.springtestdbunit.dataset.csv.MappedCsvDataSet;
+
+/**
+ * A {@link DataSetLoader data set loader} for CSV directories that uses {@link MappedCsvDataSet}. Reads the same
+ * layout as {@link CsvUrlDataSetLoader} but memory-maps local files, tokenizes the tables in parallel and decodes
+ * values lazily.
+ *
+ * @see CsvUrlDataSetLoader
+ */
+public class MappedCsvDataSetLoader extends AbstractDataSetLoader {
+
+	private Executor executor = ForkJoinPool.commonPool();
+
+	@Override
+	protected IDataSet createDataSet(Resource resource) throws DataSetException, IOException {
+		return new MappedCsvDataSet(resource.getURL(), this.executor);
+	}
+
+	public Executor getExecutor() {
+		return this.executor;
+	}
+
+	/**
+	 * Set the executor used to tokenize the table files in parallel. Defaults to the
+	 * {@link ForkJoinPool#commonPool() common pool}.
+	 * @param executor the executor
+	 */
+	public void setExecutor(Executor executor) {
+		Assert.notNull(executor, "Executor must not be null");
+		this.executor = executor;
+	}
+
+}
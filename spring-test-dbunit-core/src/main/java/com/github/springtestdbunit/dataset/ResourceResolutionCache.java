@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.springtestdbunit.dataset;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+
+/**
+ * Cache of dataset {@link Resource} resolutions used by {@link AbstractDataSetLoader}. Resolutions are keyed on the
+ * test class, the type of {@link ResourceLoader} and the candidate resource locations, so that all loaders that
+ * resolve a location in the same way share entries. Locations that do not exist are not cached, they are probed again
+ * on every load.
+ * <p>
+ * The cache records how long resolutions took so that the probing time saved by cache hits can be reported. Caching
+ * is disabled unless a cache is set on the loaders, entries then live as long as that cache.
+ *
+ * @see AbstractDataSetLoader#setResourceResolutionCache(ResourceResolutionCache)
+ */
+public class ResourceResolutionCache {
+
+	private final ConcurrentMap<List<Object>, Resolution> resolutions = new ConcurrentHashMap<List<Object>, Resolution>();
+
+	private final AtomicLong hitCount = new AtomicLong();
+
+	private final AtomicLong missCount = new AtomicLong();
+
+	private final AtomicLong probeNanos = new AtomicLong();
+
+	private final AtomicLong savedProbeNanos = new AtomicLong();
+
+	/**
+	 * Return the resolved resource, probing the candidates with {@code resolver} if the resolution is not cached.
+	 * @param testClass the class under test
+	 * @param resourceLoader the resource loader used to resolve the candidates
+	 * @param resourceLocations the candidate locations
+	 * @param resolver resolves the candidates, returning {@code null} when none exists
+	 * @return the resource or {@code null}
+	 */
+	public Resource resolve(Class<?> testClass, ResourceLoader resourceLoader, String[] resourceLocations,
+			Supplier<Resource> resolver) {
+		List<Object> key = Arrays.<Object>asList(testClass, resourceLoader.getClass(),
+				Arrays.asList(resourceLocations));
+		Resolution resolution = this.resolutions.get(key);
+		if (resolution != null) {
+			this.hitCount.incrementAndGet();
+			this.savedProbeNanos.addAndGet(resolution.probeNanos);
+			return resolution.resource;
+		}
+		this.missCount.incrementAndGet();
+		long start = System.nanoTime();
+		Resource resource = resolver.get();
+		long elapsed = System.nanoTime() - start;
+		this.probeNanos.addAndGet(elapsed);
+		if (resource != null) {
+			this.resolutions.putIfAbsent(key, new Resolution(resource, elapsed));
+		}
+		return resource;
+	}
+
+	/**
+	 * Remove all cached resolutions. Counters are not reset.
+	 */
+	public void clear() {
+		this.resolutions.clear();
+	}
+
+	public int size() {
+		return this.resolutions.size();
+	}
+
+	public long getHitCount() {
+		return this.hitCount.get();
+	}
+
+	public long getMissCount() {
+		return this.missCount.get();
+	}
+
+	/**
+	 * @return the time spent probing resources, in nanoseconds
+	 */
+	public long getProbeNanos() {
+		return this.probeNanos.get();
+	}
+
+	/**
+	 * @return the probing time avoided by cache hits, in nanoseconds
+	 */
+	public long getSavedProbeNanos() {
+		return this.savedProbeNanos.get();
+	}
+
+	@Override
+	public String toString() {
+		return "ResourceResolutionCache[entries=" + size() + ", hits=" + getHitCount() + ", misses=" + getMissCount()
+				+ ", probeMillis=" + (getProbeNanos() / 1000000) + ", savedMillis=" + (getSavedProbeNanos() / 1000000)
+				+ "]";
+	}
+
+	private static class Resolution {
+
+		private final Resource resource;
+
+		private final long probeNanos;
+
+		public Resolution(Resource resource, long probeNanos) {
+			this.resource = resource;
+			this.probeNanos = probeNanos;
+		}
+
+	}
+
+}
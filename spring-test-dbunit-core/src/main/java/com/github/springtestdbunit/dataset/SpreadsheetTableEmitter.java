@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.springtestdbunit.dataset;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.DefaultTableMetaData;
+import org.dbunit.dataset.datatype.DataType;
+import org.dbunit.dataset.stream.IDataSetConsumer;
+
+/**
+ * Turns the cells of a spreadsheet, reported in row order, into {@link IDataSetConsumer} table events. Follows the
+ * conventions of {@link org.dbunit.dataset.excel.XlsTable}: each sheet is a table, the first row holds the column
+ * names (up to the first empty cell) and all columns are of {@link DataType#UNKNOWN unknown} type.
+ */
+class SpreadsheetTableEmitter {
+
+	/**
+	 * Format used by {@link org.dbunit.dataset.excel.XlsDataSetWriter} for dates written as numbers.
+	 */
+	private static final String DATE_AS_NUMBER_FORMAT = "####################";
+
+	private final IDataSetConsumer consumer;
+
+	private final List<String> columnNames = new ArrayList<String>();
+
+	private String tableName;
+
+	private boolean headerComplete;
+
+	private boolean tableStarted;
+
+	private int currentRow;
+
+	private Object[] values;
+
+	public SpreadsheetTableEmitter(IDataSetConsumer consumer) {
+		this.consumer = consumer;
+	}
+
+	/**
+	 * Start a new sheet.
+	 * @param sheetName the name of the sheet, used as table name
+	 */
+	public void startSheet(String sheetName) {
+		this.tableName = sheetName;
+		this.columnNames.clear();
+		this.headerComplete = false;
+		this.tableStarted = false;
+		this.currentRow = 0;
+		this.values = null;
+	}
+
+	/**
+	 * Report a cell value. Cells must be reported in ascending row order.
+	 * @param row the zero based row index
+	 * @param column the zero based column index
+	 * @param value the converted cell value
+	 * @throws DataSetException if the consumer fails
+	 */
+	public void cell(int row, int column, Object value) throws DataSetException {
+		if (row == 0) {
+			header(column, value);
+			return;
+		}
+		moveTo(row);
+		if (column < this.values.length) {
+			this.values[column] = value;
+		}
+	}
+
+	/**
+	 * Report a row that may not contain any cell values.
+	 * @param row the zero based row index
+	 * @throws DataSetException if the consumer fails
+	 */
+	public void row(int row) throws DataSetException {
+		if (row > 0) {
+			moveTo(row);
+		}
+	}
+
+	/**
+	 * End the current sheet.
+	 * @throws DataSetException if the consumer fails
+	 */
+	public void endSheet() throws DataSetException {
+		startTable();
+		if (this.currentRow > 0) {
+			this.consumer.row(this.values);
+		}
+		this.consumer.endTable();
+	}
+
+	private void header(int column, Object value) {
+		if (this.headerComplete) {
+			return;
+		}
+		String name = (value == null ? "" : value.toString().trim());
+		if ((column != this.columnNames.size()) || (name.length() == 0)) {
+			this.headerComplete = true;
+			return;
+		}
+		this.columnNames.add(name);
+	}
+
+	private void moveTo(int row) throws DataSetException {
+		startTable();
+		if (row == this.currentRow) {
+			return;
+		}
+		if (row < this.currentRow) {
+			throw new DataSetException("Rows of sheet '" + this.tableName + "' are not in ascending order");
+		}
+		if (this.currentRow > 0) {
+			this.consumer.row(this.values);
+		}
+		for (int missing = this.currentRow + 1; missing < row; missing++) {
+			this.consumer.row(new Object[this.columnNames.size()]);
+		}
+		this.currentRow = row;
+		this.values = new Object[this.columnNames.size()];
+	}
+
+	private void startTable() throws DataSetException {
+		if (this.tableStarted) {
+			return;
+		}
+		this.headerComplete = true;
+		Column[] columns = new Column[this.columnNames.size()];
+		for (int i = 0; i < columns.length; i++) {
+			columns[i] = new Column(this.columnNames.get(i), DataType.UNKNOWN);
+		}
+		this.consumer.startTable(new DefaultTableMetaData(this.tableName, columns));
+		this.tableStarted = true;
+	}
+
+	/**
+	 * Convert a numeric cell the same way as {@link org.dbunit.dataset.excel.XlsTable}: dates become epoch
+	 * milliseconds and other numbers {@link BigDecimal}s.
+	 * @param value the cell value
+	 * @param formatIndex the index of the cell format
+	 * @param formatString the cell format, may be {@code null}
+	 * @return the converted value
+	 */
+	public static Object toNumericValue(double value, int formatIndex, String formatString) {
+		if (DATE_AS_NUMBER_FORMAT.equals(formatString)) {
+			return Long.valueOf(toBigDecimal(value).longValue());
+		}
+		if ((formatString != null) && DateUtil.isADateFormat(formatIndex, formatString)
+				&& DateUtil.isValidExcelDate(value)) {
+			return Long.valueOf(DateUtil.getJavaDate(value).getTime());
+		}
+		return toBigDecimal(value);
+	}
+
+	private static BigDecimal toBigDecimal(double value) {
+		String string = String.valueOf(value);
+		if (string.endsWith(".0")) {
+			string = string.substring(0, string.length() - 2);
+		}
+		return new BigDecimal(string);
+	}
+
+}
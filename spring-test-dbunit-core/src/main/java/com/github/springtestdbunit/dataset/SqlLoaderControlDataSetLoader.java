@@ -18,14 +18,28 @@ package com.github.springtestdbunit.dataset;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
+import org.dbunit.dataset.CompositeDataSet;
 import org.dbunit.dataset.DataSetException;
 import org.dbunit.dataset.IDataSet;
 import org.dbunit.dataset.sqlloader.SqlLoaderControlDataSet;
 import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
 
 /**
  * A {@link DataSetLoader data set loader} that can be used to load {@link SqlLoaderControlDataSet}s.
+ * <p>
+ * When {@link #setParallelParsingEnabled parallel parsing} is enabled, each table listed in {@code tables.lst} is
+ * parsed on its own using the {@link #setExecutor executor}. Tables are still returned in {@code tables.lst} order.
  *
  * @author Paul Podgorsek
  */
@@ -33,6 +47,10 @@ public class SqlLoaderControlDataSetLoader extends AbstractDataSetLoader {
 
 	private static final String ORDERED_TABLE_FILE = "tables.lst";
 
+	private boolean parallelParsingEnabled;
+
+	private Executor executor = ForkJoinPool.commonPool();
+
 	@Override
 	protected IDataSet createDataSet(final Resource resource) throws IOException, DataSetException {
 
@@ -45,7 +63,71 @@ public class SqlLoaderControlDataSetLoader extends AbstractDataSetLoader {
 
 		File orderedTablesFile = new File(ctlDirPath + ORDERED_TABLE_FILE);
 
+		if (isParallelParsingEnabled()) {
+			return createDataSetInParallel(ctlDir, orderedTablesFile);
+		}
+
 		return new SqlLoaderControlDataSet(ctlDir, orderedTablesFile);
 	}
 
+	private IDataSet createDataSetInParallel(final File ctlDir, final File orderedTablesFile)
+			throws IOException, DataSetException {
+
+		List<CompletableFuture<IDataSet>> futures = new ArrayList<CompletableFuture<IDataSet>>();
+
+		for (String line : Files.readAllLines(orderedTablesFile.toPath(), StandardCharsets.UTF_8)) {
+			final String tableName = line.trim();
+			if (tableName.length() > 0) {
+				futures.add(CompletableFuture.supplyAsync(() -> {
+					try {
+						return new SqlLoaderControlDataSet(ctlDir, Collections.singletonList(tableName));
+					} catch (DataSetException ex) {
+						throw new CompletionException(ex);
+					}
+				}, this.executor));
+			}
+		}
+
+		IDataSet[] dataSets = new IDataSet[futures.size()];
+
+		try {
+			for (int i = 0; i < dataSets.length; i++) {
+				dataSets[i] = futures.get(i).join();
+			}
+		} catch (CompletionException ex) {
+			if (ex.getCause() instanceof DataSetException) {
+				throw (DataSetException) ex.getCause();
+			}
+			throw ex;
+		}
+
+		return new CompositeDataSet(dataSets);
+	}
+
+	public boolean isParallelParsingEnabled() {
+		return this.parallelParsingEnabled;
+	}
+
+	/**
+	 * Enable or disable parsing the tables listed in {@code tables.lst} concurrently. Disabled by default.
+	 * @param parallelParsingEnabled if tables are parsed concurrently
+	 */
+	public void setParallelParsingEnabled(final boolean parallelParsingEnabled) {
+		this.parallelParsingEnabled = parallelParsingEnabled;
+	}
+
+	public Executor getExecutor() {
+		return this.executor;
+	}
+
+	/**
+	 * Set the executor used when {@link #setParallelParsingEnabled parallel parsing} is enabled. Defaults to the
+	 * {@link ForkJoinPool#commonPool() common pool}.
+	 * @param executor the executor
+	 */
+	public void setExecutor(final Executor executor) {
+		Assert.notNull(executor, "Executor must not be null");
+		this.executor = executor;
+	}
+
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.springtestdbunit.dataset;
+
+import java.io.IOException;
+
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.stream.IDataSetProducer;
+
+/**
+ * {@link DataSetLoader} that can also provide a dataset as a stream of rows. Streaming allows very large datasets to be
+ * inserted without holding them in memory.
+ *
+ * @see org.dbunit.dataset.stream.StreamingDataSet
+ */
+public interface StreamingDataSetLoader extends DataSetLoader {
+
+	/**
+	 * Load a {@link IDataSetProducer producer} for the dataset at the specified location. The producer will only be
+	 * used once.
+	 * @param testClass The class under test
+	 * @param location The location to load
+	 * @return a dataset producer or {@code null} if the location does not exist
+	 * @throws DataSetException An exception thrown if the dataset itself has a problem.
+	 * @throws IOException An exception thrown if the dataset could not be loaded.
+	 */
+	IDataSetProducer loadDataSetProducer(Class<?> testClass, String location) throws DataSetException, IOException;
+
+	/**
+	 * Return if the streamed datasets are read as they would be {@link #loadDataSet loaded} with the current settings
+	 * of the loader. Datasets are loaded in memory when streaming would read them differently.
+	 * @return {@code true} if datasets can be streamed
+	 */
+	boolean isStreamingSupported();
+
+}
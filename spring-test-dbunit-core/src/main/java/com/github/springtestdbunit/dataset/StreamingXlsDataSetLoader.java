@@ -0,0 +1,188 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.springtestdbunit.dataset;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.dbunit.dataset.CachedDataSet;
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.stream.DefaultConsumer;
+import org.dbunit.dataset.stream.IDataSetConsumer;
+import org.dbunit.dataset.stream.IDataSetProducer;
+import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link DataSetLoader data set loader} for Excel workbooks that uses the POI event and SAX APIs instead of the
+ * workbook object model used by {@link XlsDataSetLoader}. Both Excel 97-2003 ({@code .xls}) and Excel 2007+
+ * ({@code .xlsx}) workbooks are supported, the format is detected from the content. Sheets and cells follow the same
+ * conventions as {@link org.dbunit.dataset.excel.XlsDataSet}.
+ * <p>
+ * When loaded as a whole, the sheets of {@code .xlsx} workbooks are decoded in parallel using the
+ * {@link #setExecutor executor}. The sheets of {@code .xls} workbooks share a single record stream and are always
+ * decoded sequentially. Reading {@code .xlsx} workbooks requires {@code poi-ooxml}.
+ *
+ * @see XlsDataSetLoader
+ */
+public class StreamingXlsDataSetLoader extends AbstractDataSetLoader implements StreamingDataSetLoader {
+
+	private static final byte[] ZIP_SIGNATURE = { 'P', 'K', 3, 4 };
+
+	private static final byte[] OLE2_SIGNATURE = { (byte) 0xD0, (byte) 0xCF, 0x11, (byte) 0xE0 };
+
+	private Executor executor = ForkJoinPool.commonPool();
+
+	@Override
+	protected IDataSet createDataSet(Resource resource) throws DataSetException, IOException {
+		InputStream inputStream = new BufferedInputStream(resource.getInputStream());
+		try {
+			if (isOfficeOpenXml(resource, inputStream)) {
+				OPCPackage workbook = openPackage(resource, inputStream);
+				try {
+					return new XssfWorkbookReader(workbook).read(this.executor);
+				} finally {
+					workbook.revert();
+				}
+			}
+			return new CachedDataSet(new HssfEventDataSetProducer(inputStream));
+		} finally {
+			inputStream.close();
+		}
+	}
+
+	public IDataSetProducer loadDataSetProducer(Class<?> testClass, String location)
+			throws DataSetException, IOException {
+		Resource resource = getResource(testClass, location);
+		return (resource != null ? new WorkbookProducer(resource) : null);
+	}
+
+	public boolean isStreamingSupported() {
+		return true;
+	}
+
+	private boolean isOfficeOpenXml(Resource resource, InputStream inputStream) throws IOException, DataSetException {
+		byte[] signature = new byte[4];
+		inputStream.mark(signature.length);
+		int read = 0;
+		while (read < signature.length) {
+			int count = inputStream.read(signature, read, signature.length - read);
+			if (count == -1) {
+				break;
+			}
+			read += count;
+		}
+		inputStream.reset();
+		if (matches(signature, ZIP_SIGNATURE)) {
+			return true;
+		}
+		if (matches(signature, OLE2_SIGNATURE)) {
+			return false;
+		}
+		throw new DataSetException("Unsupported workbook format " + resource.getDescription());
+	}
+
+	private boolean matches(byte[] bytes, byte[] signature) {
+		for (int i = 0; i < signature.length; i++) {
+			if (bytes[i] != signature[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private OPCPackage openPackage(Resource resource, InputStream inputStream) throws DataSetException, IOException {
+		try {
+			if (resource.isFile()) {
+				// Read zip entries on demand rather than buffering the whole package
+				return OPCPackage.open(resource.getFile(), PackageAccess.READ);
+			}
+			return OPCPackage.open(inputStream);
+		} catch (InvalidFormatException ex) {
+			throw new DataSetException("Unable to open workbook " + resource.getDescription(), ex);
+		}
+	}
+
+	public Executor getExecutor() {
+		return this.executor;
+	}
+
+	/**
+	 * Set the executor used to decode the sheets of {@code .xlsx} workbooks in parallel. Defaults to the
+	 * {@link ForkJoinPool#commonPool() common pool}.
+	 * @param executor the executor
+	 */
+	public void setExecutor(Executor executor) {
+		Assert.notNull(executor, "Executor must not be null");
+		this.executor = executor;
+	}
+
+	/**
+	 * Produces the sheets of a workbook resource in order, opening the resource only when produced.
+	 */
+	private class WorkbookProducer implements IDataSetProducer {
+
+		private final Resource resource;
+
+		private IDataSetConsumer consumer = new DefaultConsumer();
+
+		public WorkbookProducer(Resource resource) {
+			this.resource = resource;
+		}
+
+		public void setConsumer(IDataSetConsumer consumer) throws DataSetException {
+			this.consumer = consumer;
+		}
+
+		public void produce() throws DataSetException {
+			try {
+				InputStream inputStream = new BufferedInputStream(this.resource.getInputStream());
+				try {
+					if (isOfficeOpenXml(this.resource, inputStream)) {
+						produceOfficeOpenXml(inputStream);
+					} else {
+						HssfEventDataSetProducer producer = new HssfEventDataSetProducer(inputStream);
+						producer.setConsumer(this.consumer);
+						producer.produce();
+					}
+				} finally {
+					inputStream.close();
+				}
+			} catch (IOException ex) {
+				throw new DataSetException("Unable to read workbook " + this.resource.getDescription(), ex);
+			}
+		}
+
+		private void produceOfficeOpenXml(InputStream inputStream) throws DataSetException, IOException {
+			OPCPackage workbook = openPackage(this.resource, inputStream);
+			try {
+				new XssfWorkbookReader(workbook).produce(this.consumer);
+			} finally {
+				workbook.revert();
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.springtestdbunit.dataset;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.dbunit.dataset.CachedDataSet;
+import org.dbunit.dataset.CompositeDataSet;
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.stream.IDataSetConsumer;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Reads Excel 2007+ ({@code .xlsx}) workbooks by parsing the sheet XML with SAX. Only the shared strings and styles
+ * are held in memory. Sheets are independent parts of the package and can be decoded in parallel.
+ *
+ * @see StreamingXlsDataSetLoader
+ */
+class XssfWorkbookReader {
+
+	private final ReadOnlySharedStringsTable sharedStrings;
+
+	private final StylesTable styles;
+
+	private final List<Sheet> sheets = new ArrayList<Sheet>();
+
+	/**
+	 * Create a new reader for the given package. All sheet streams are opened and must be consumed by
+	 * {@link #produce} or {@link #read}.
+	 * @param workbook the workbook package
+	 * @throws DataSetException if the workbook cannot be opened
+	 */
+	public XssfWorkbookReader(OPCPackage workbook) throws DataSetException {
+		try {
+			XSSFReader reader = new XSSFReader(workbook);
+			this.sharedStrings = new ReadOnlySharedStringsTable(workbook);
+			this.styles = reader.getStylesTable();
+			XSSFReader.SheetIterator iterator = (XSSFReader.SheetIterator) reader.getSheetsData();
+			while (iterator.hasNext()) {
+				InputStream inputStream = iterator.next();
+				this.sheets.add(new Sheet(iterator.getSheetName(), inputStream));
+			}
+		} catch (IOException ex) {
+			throw new DataSetException("Unable to read workbook", ex);
+		} catch (OpenXML4JException ex) {
+			throw new DataSetException("Unable to read workbook", ex);
+		} catch (SAXException ex) {
+			throw new DataSetException("Unable to read workbook", ex);
+		}
+	}
+
+	/**
+	 * Report all sheets, in workbook order, to the given consumer.
+	 * @param consumer the consumer
+	 * @throws DataSetException if a sheet cannot be read or the consumer fails
+	 */
+	public void produce(IDataSetConsumer consumer) throws DataSetException {
+		consumer.startDataSet();
+		for (Sheet sheet : this.sheets) {
+			parse(sheet, consumer);
+		}
+		consumer.endDataSet();
+	}
+
+	/**
+	 * Read all sheets into memory, decoding them in parallel.
+	 * @param executor the executor used to decode the sheets
+	 * @return the dataset
+	 * @throws DataSetException if a sheet cannot be read
+	 */
+	public IDataSet read(Executor executor) throws DataSetException {
+		List<CompletableFuture<IDataSet>> futures = new ArrayList<CompletableFuture<IDataSet>>();
+		for (final Sheet sheet : this.sheets) {
+			futures.add(CompletableFuture.supplyAsync(() -> {
+				try {
+					CachedDataSet dataSet = new CachedDataSet();
+					dataSet.startDataSet();
+					parse(sheet, dataSet);
+					dataSet.endDataSet();
+					return dataSet;
+				} catch (DataSetException ex) {
+					throw new CompletionException(ex);
+				}
+			}, executor));
+		}
+		IDataSet[] dataSets = new IDataSet[futures.size()];
+		try {
+			for (int i = 0; i < dataSets.length; i++) {
+				dataSets[i] = futures.get(i).join();
+			}
+		} catch (CompletionException ex) {
+			if (ex.getCause() instanceof DataSetException) {
+				throw (DataSetException) ex.getCause();
+			}
+			throw ex;
+		}
+		return new CompositeDataSet(dataSets);
+	}
+
+	private void parse(Sheet sheet, IDataSetConsumer consumer) throws DataSetException {
+		SpreadsheetTableEmitter emitter = new SpreadsheetTableEmitter(consumer);
+		emitter.startSheet(sheet.name);
+		try {
+			SAXParserFactory factory = SAXParserFactory.newInstance();
+			factory.setNamespaceAware(true);
+			XMLReader xmlReader = factory.newSAXParser().getXMLReader();
+			xmlReader.setContentHandler(new SheetHandler(emitter));
+			xmlReader.parse(new InputSource(sheet.inputStream));
+		} catch (ConsumerException ex) {
+			throw ex.getCause();
+		} catch (IOException ex) {
+			throw new DataSetException("Unable to read sheet '" + sheet.name + "'", ex);
+		} catch (SAXException ex) {
+			throw new DataSetException("Unable to read sheet '" + sheet.name + "'", ex);
+		} catch (ParserConfigurationException ex) {
+			throw new DataSetException("Unable to read sheet '" + sheet.name + "'", ex);
+		} finally {
+			sheet.close();
+		}
+		emitter.endSheet();
+	}
+
+	private Object toValue(String type, String style, String text) {
+		if (text.length() == 0) {
+			return null;
+		}
+		if ("s".equals(type)) {
+			return this.sharedStrings.getEntryAt(Integer.parseInt(text));
+		}
+		if ("inlineStr".equals(type) || "str".equals(type)) {
+			return text;
+		}
+		if ("b".equals(type)) {
+			return Boolean.valueOf("1".equals(text));
+		}
+		if ("e".equals(type)) {
+			return null;
+		}
+		double value = Double.parseDouble(text);
+		if ((style == null) || (this.styles == null)) {
+			return SpreadsheetTableEmitter.toNumericValue(value, 0, null);
+		}
+		XSSFCellStyle cellStyle = this.styles.getStyleAt(Integer.parseInt(style));
+		return SpreadsheetTableEmitter.toNumericValue(value, cellStyle.getDataFormat(),
+				cellStyle.getDataFormatString());
+	}
+
+	private static class Sheet {
+
+		private final String name;
+
+		private final InputStream inputStream;
+
+		public Sheet(String name, InputStream inputStream) {
+			this.name = name;
+			this.inputStream = inputStream;
+		}
+
+		public void close() {
+			try {
+				this.inputStream.close();
+			} catch (IOException ex) {
+				// Ignore
+			}
+		}
+
+	}
+
+	/**
+	 * SAX handler for the {@code sheetData} of a single sheet.
+	 */
+	private class SheetHandler extends DefaultHandler {
+
+		private final SpreadsheetTableEmitter emitter;
+
+		private final StringBuilder text = new StringBuilder();
+
+		private boolean collecting;
+
+		private int row = -1;
+
+		private int column;
+
+		private String type;
+
+		private String style;
+
+		public SheetHandler(SpreadsheetTableEmitter emitter) {
+			this.emitter = emitter;
+		}
+
+		@Override
+		public void startElement(String uri, String localName, String qName, Attributes attributes) {
+			if ("row".equals(localName)) {
+				String reference = attributes.getValue("r");
+				this.row = (reference != null ? Integer.parseInt(reference) - 1 : this.row + 1);
+				this.column = -1;
+			} else if ("c".equals(localName)) {
+				String reference = attributes.getValue("r");
+				this.column = (reference != null ? new CellReference(reference).getCol() : this.column + 1);
+				this.type = attributes.getValue("t");
+				this.style = attributes.getValue("s");
+				this.text.setLength(0);
+			} else if ("v".equals(localName) || "t".equals(localName)) {
+				this.collecting = true;
+			}
+		}
+
+		@Override
+		public void characters(char[] ch, int start, int length) {
+			if (this.collecting) {
+				this.text.append(ch, start, length);
+			}
+		}
+
+		@Override
+		public void endElement(String uri, String localName, String qName) {
+			try {
+				if ("v".equals(localName) || "t".equals(localName)) {
+					this.collecting = false;
+				} else if ("c".equals(localName)) {
+					this.emitter.cell(this.row, this.column, toValue(this.type, this.style, this.text.toString()));
+				} else if ("row".equals(localName)) {
+					this.emitter.row(this.row);
+				}
+			} catch (DataSetException ex) {
+				throw new ConsumerException(ex);
+			}
+		}
+
+	}
+
+	/**
+	 * Carries consumer failures through the SAX callbacks.
+	 */
+	private static class ConsumerException extends RuntimeException {
+
+		public ConsumerException(DataSetException cause) {
+			super(cause);
+		}
+
+		@Override
+		public synchronized DataSetException getCause() {
+			return (DataSetException) super.getCause();
+		}
+
+	}
+
+}
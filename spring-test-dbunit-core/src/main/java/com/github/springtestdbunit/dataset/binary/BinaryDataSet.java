@@ -0,0 +1,275 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.springtestdbunit.dataset.binary;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.dbunit.dataset.AbstractDataSet;
+import org.dbunit.dataset.AbstractTable;
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.DefaultTableIterator;
+import org.dbunit.dataset.DefaultTableMetaData;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.ITableIterator;
+import org.dbunit.dataset.ITableMetaData;
+import org.dbunit.dataset.datatype.DataType;
+import org.dbunit.dataset.datatype.DataTypeException;
+import org.springframework.util.StreamUtils;
+
+/**
+ * {@link org.dbunit.dataset.IDataSet Dataset} read from the {@link BinaryDataSetFormat binary dataset format}. Only the
+ * table structure is read up front, column values and dictionary strings are decoded the first time they are accessed.
+ * Instances are read-only and can be shared between threads.
+ *
+ * @see BinaryDataSetWriter
+ */
+public class BinaryDataSet extends AbstractDataSet {
+
+	private final ByteBuffer buffer;
+
+	private final int[] stringOffsets;
+
+	private final AtomicReferenceArray<String> strings;
+
+	private final ITable[] tables;
+
+	/**
+	 * Create a new dataset from the specified buffer.
+	 * @param buffer a buffer containing a binary dataset
+	 * @throws DataSetException if the buffer does not contain a valid binary dataset
+	 */
+	public BinaryDataSet(ByteBuffer buffer) throws DataSetException {
+		this.buffer = buffer.duplicate();
+		int position = this.buffer.position();
+		if ((this.buffer.remaining() < 6) || (this.buffer.getInt(position) != BinaryDataSetFormat.MAGIC)) {
+			throw new DataSetException("Not a binary dataset");
+		}
+		if (this.buffer.getShort(position + 4) != BinaryDataSetFormat.VERSION) {
+			throw new DataSetException("Unsupported binary dataset version " + this.buffer.getShort(position + 4));
+		}
+		position += 6;
+		int count = this.buffer.getInt(position);
+		this.stringOffsets = new int[count];
+		this.strings = new AtomicReferenceArray<String>(count);
+		position += 4;
+		for (int i = 0; i < count; i++) {
+			this.stringOffsets[i] = position;
+			position += 4 + this.buffer.getInt(position);
+		}
+		this.tables = new ITable[this.buffer.getInt(position)];
+		position += 4;
+		for (int i = 0; i < this.tables.length; i++) {
+			BinaryTable table = new BinaryTable(position);
+			this.tables[i] = table;
+			position = table.getEnd();
+		}
+		// Initialize the table name lookup eagerly so that the instance can be shared between threads
+		getTableNames();
+	}
+
+	/**
+	 * Create a new dataset by memory-mapping the specified file.
+	 * @param file the file to map
+	 * @return the dataset
+	 * @throws DataSetException if the file does not contain a valid binary dataset
+	 * @throws IOException if the file cannot be read
+	 */
+	public static BinaryDataSet map(File file) throws DataSetException, IOException {
+		RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+		try {
+			FileChannel channel = randomAccessFile.getChannel();
+			return new BinaryDataSet(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+		} finally {
+			randomAccessFile.close();
+		}
+	}
+
+	/**
+	 * Create a new dataset by reading the specified stream. The stream is not closed.
+	 * @param inputStream the stream to read
+	 * @return the dataset
+	 * @throws DataSetException if the stream does not contain a valid binary dataset
+	 * @throws IOException if the stream cannot be read
+	 */
+	public static BinaryDataSet read(InputStream inputStream) throws DataSetException, IOException {
+		return new BinaryDataSet(ByteBuffer.wrap(StreamUtils.copyToByteArray(inputStream)));
+	}
+
+	@Override
+	protected ITableIterator createIterator(boolean reversed) throws DataSetException {
+		return new DefaultTableIterator(this.tables, reversed);
+	}
+
+	private String getString(int reference) {
+		if (reference < 0) {
+			return null;
+		}
+		String value = this.strings.get(reference);
+		if (value == null) {
+			int offset = this.stringOffsets[reference];
+			byte[] bytes = new byte[this.buffer.getInt(offset)];
+			ByteBuffer source = this.buffer.duplicate();
+			source.position(offset + 4);
+			source.get(bytes);
+			// Threads decoding the same string concurrently all return the first one stored
+			this.strings.compareAndSet(reference, null, new String(bytes, StandardCharsets.UTF_8));
+			value = this.strings.get(reference);
+		}
+		return value;
+	}
+
+	private class BinaryTable extends AbstractTable {
+
+		private final ITableMetaData metaData;
+
+		private final int rowCount;
+
+		private final byte[] encodings;
+
+		private final int[] columnOffsets;
+
+		private final AtomicReferenceArray<Object[]> columnValues;
+
+		private final int end;
+
+		public BinaryTable(int offset) throws DataSetException {
+			ByteBuffer buffer = BinaryDataSet.this.buffer;
+			int position = offset;
+			String tableName = getString(buffer.getInt(position));
+			Column[] columns = new Column[buffer.getInt(position + 4)];
+			position += 8;
+			for (int i = 0; i < columns.length; i++) {
+				String name = getString(buffer.getInt(position));
+				DataType dataType = getDataType(buffer.getInt(position + 4));
+				String sqlTypeName = getString(buffer.getInt(position + 8));
+				Column.Nullable nullable = (buffer.get(position + 12) == 0 ? Column.NO_NULLS : Column.NULLABLE);
+				columns[i] = new Column(name, dataType, (sqlTypeName != null ? sqlTypeName : dataType.toString()),
+						nullable);
+				position += 13;
+			}
+			Column[] primaryKeys = new Column[buffer.getInt(position)];
+			position += 4;
+			for (int i = 0; i < primaryKeys.length; i++) {
+				primaryKeys[i] = columns[buffer.getInt(position)];
+				position += 4;
+			}
+			this.metaData = new DefaultTableMetaData(tableName, columns, primaryKeys);
+			this.rowCount = buffer.getInt(position);
+			position += 4;
+			this.encodings = new byte[columns.length];
+			this.columnOffsets = new int[columns.length];
+			this.columnValues = new AtomicReferenceArray<Object[]>(columns.length);
+			for (int i = 0; i < columns.length; i++) {
+				this.encodings[i] = buffer.get(position);
+				this.columnOffsets[i] = position + 5;
+				position += 5 + buffer.getInt(position + 1);
+			}
+			this.end = position;
+		}
+
+		private DataType getDataType(int sqlType) {
+			if (sqlType == BinaryDataSetFormat.UNKNOWN_SQL_TYPE) {
+				return DataType.UNKNOWN;
+			}
+			try {
+				return DataType.forSqlType(sqlType);
+			} catch (DataTypeException ex) {
+				return DataType.UNKNOWN;
+			}
+		}
+
+		public ITableMetaData getTableMetaData() {
+			return this.metaData;
+		}
+
+		public int getRowCount() {
+			return this.rowCount;
+		}
+
+		public Object getValue(int row, String column) throws DataSetException {
+			assertValidRowIndex(row);
+			int columnIndex = getColumnIndex(column);
+			Object[] values = this.columnValues.get(columnIndex);
+			if (values == null) {
+				this.columnValues.compareAndSet(columnIndex, null, decodeColumn(columnIndex));
+				values = this.columnValues.get(columnIndex);
+			}
+			return values[row];
+		}
+
+		private Object[] decodeColumn(int columnIndex) {
+			ByteBuffer buffer = BinaryDataSet.this.buffer;
+			byte encoding = this.encodings[columnIndex];
+			int position = this.columnOffsets[columnIndex];
+			Object[] values = new Object[this.rowCount];
+			if ((encoding == BinaryDataSetFormat.STRING) || (encoding == BinaryDataSetFormat.DECIMAL)) {
+				for (int row = 0; row < this.rowCount; row++) {
+					int reference = buffer.getInt(position + (row * 4));
+					if (reference == BinaryDataSetFormat.NO_VALUE_REFERENCE) {
+						values[row] = ITable.NO_VALUE;
+					} else if ((reference >= 0) && (encoding == BinaryDataSetFormat.DECIMAL)) {
+						values[row] = new BigDecimal(getString(reference));
+					} else {
+						values[row] = getString(reference);
+					}
+				}
+				return values;
+			}
+			int data = position + this.rowCount;
+			for (int row = 0; row < this.rowCount; row++) {
+				byte presence = buffer.get(position + row);
+				Object value = (presence == BinaryDataSetFormat.NO_VALUE ? ITable.NO_VALUE : null);
+				if (encoding == BinaryDataSetFormat.LONG) {
+					value = (presence == BinaryDataSetFormat.PRESENT ? Long.valueOf(buffer.getLong(data)) : value);
+					data += 8;
+				} else if (encoding == BinaryDataSetFormat.DOUBLE) {
+					value = (presence == BinaryDataSetFormat.PRESENT ? Double.valueOf(buffer.getDouble(data)) : value);
+					data += 8;
+				} else if (encoding == BinaryDataSetFormat.DATE) {
+					value = (presence == BinaryDataSetFormat.PRESENT ? new Date(buffer.getLong(data)) : value);
+					data += 8;
+				} else {
+					byte[] bytes = new byte[buffer.getInt(data)];
+					ByteBuffer source = buffer.duplicate();
+					source.position(data + 4);
+					source.get(bytes);
+					value = (presence == BinaryDataSetFormat.PRESENT ? bytes : value);
+					data += 4 + bytes.length;
+				}
+				values[row] = value;
+			}
+			return values;
+		}
+
+		public int getEnd() {
+			return this.end;
+		}
+
+	}
+
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.springtestdbunit.dataset.binary;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.csv.CsvDataSet;
+import org.dbunit.dataset.excel.XlsDataSet;
+import org.dbunit.dataset.xml.FlatXmlDataSetBuilder;
+import org.dbunit.dataset.xml.XmlDataSet;
+
+/**
+ * Build time converter of flat XML, XML, XLS and CSV datasets to the {@link BinaryDataSetFormat binary dataset
+ * format}. Can be run from a build, for example with the {@code exec-maven-plugin}:
+ *
+ * <pre>
+ * java com.github.springtestdbunit.dataset.binary.BinaryDataSetConverter &lt;source&gt; [&lt;target directory&gt;]
+ * </pre>
+ *
+ * The source can be a single {@code .xml} or {@code .xls} file, a CSV dataset directory (containing a
+ * {@code table-ordering.txt} file) or a directory that is searched recursively for datasets. Each converted dataset is
+ * written next to its source (or below the target directory) with the {@link BinaryDataSetFormat#FILE_EXTENSION binary
+ * extension} replacing the original one. XML files are read as {@link XmlDataSet XML datasets} when the
+ * {@code dataset} root element starts with a {@code table} element, as flat XML datasets otherwise, and are skipped when
+ * their root element is not {@code dataset}.
+ */
+public class BinaryDataSetConverter {
+
+	private static final String CSV_TABLE_ORDERING = "table-ordering.txt";
+
+	private static final String DATASET_ELEMENT = "dataset";
+
+	private static final String XML_TABLE_ELEMENT = "table";
+
+	private final File sourceRoot;
+
+	private final File targetRoot;
+
+	private int converted;
+
+	public BinaryDataSetConverter(File sourceRoot, File targetRoot) {
+		this.sourceRoot = sourceRoot;
+		this.targetRoot = targetRoot;
+	}
+
+	public static void main(String[] args) throws Exception {
+		if ((args.length < 1) || (args.length > 2)) {
+			System.err.println("Usage: " + BinaryDataSetConverter.class.getName() + " <source> [<target directory>]");
+			System.exit(1);
+		}
+		File source = new File(args[0]);
+		File target = (args.length > 1 ? new File(args[1]) : null);
+		BinaryDataSetConverter converter = new BinaryDataSetConverter(source, target);
+		converter.convert();
+		System.out.println("Converted " + converter.converted + " dataset(s)");
+	}
+
+	/**
+	 * Convert all datasets found below the source.
+	 * @return the number of converted datasets
+	 * @throws DataSetException if a dataset cannot be read
+	 * @throws IOException if a file cannot be read or written
+	 */
+	public int convert() throws DataSetException, IOException {
+		if (!this.sourceRoot.exists()) {
+			throw new IOException("Source " + this.sourceRoot + " does not exist");
+		}
+		if (this.sourceRoot.isDirectory() && !isCsvDataSet(this.sourceRoot)) {
+			convertDirectory(this.sourceRoot);
+		} else {
+			convertSource(this.sourceRoot);
+		}
+		return this.converted;
+	}
+
+	private void convertDirectory(File directory) throws DataSetException, IOException {
+		File[] files = directory.listFiles();
+		if (files == null) {
+			return;
+		}
+		for (File file : files) {
+			if (file.isDirectory() && !isCsvDataSet(file)) {
+				convertDirectory(file);
+			} else if (file.isDirectory() || file.getName().endsWith(".xml") || file.getName().endsWith(".xls")) {
+				convertSource(file);
+			}
+		}
+	}
+
+	private void convertSource(File source) throws DataSetException, IOException {
+		IDataSet dataSet = readDataSet(source);
+		if (dataSet == null) {
+			System.out.println("Skipping " + source);
+			return;
+		}
+		File target = getTarget(source);
+		target.getParentFile().mkdirs();
+		BinaryDataSetWriter.write(dataSet, target);
+		this.converted++;
+		System.out.println("Converted " + source + " to " + target);
+	}
+
+	private IDataSet readDataSet(File source) throws DataSetException, IOException {
+		if (isCsvDataSet(source)) {
+			return new CsvDataSet(source);
+		}
+		if (source.getName().endsWith(".xls")) {
+			InputStream inputStream = new FileInputStream(source);
+			try {
+				return new XlsDataSet(inputStream);
+			} finally {
+				inputStream.close();
+			}
+		}
+		if (source.getName().endsWith(".xml")) {
+			return readXmlDataSet(source);
+		}
+		return null;
+	}
+
+	private IDataSet readXmlDataSet(File source) throws DataSetException, IOException {
+		String firstElement = getFirstDataSetElement(source);
+		if (firstElement == null) {
+			return null;
+		}
+		InputStream inputStream = new FileInputStream(source);
+		try {
+			if (XML_TABLE_ELEMENT.equals(firstElement)) {
+				return new XmlDataSet(inputStream);
+			}
+			return new FlatXmlDataSetBuilder().setColumnSensing(true).build(inputStream);
+		} finally {
+			inputStream.close();
+		}
+	}
+
+	/**
+	 * Returns the name of the first element below the {@code dataset} root element, an empty string if the dataset is
+	 * empty, or {@code null} if the file is not a dataset.
+	 */
+	private String getFirstDataSetElement(File source) throws IOException {
+		XMLInputFactory factory = XMLInputFactory.newInstance();
+		factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		InputStream inputStream = new FileInputStream(source);
+		try {
+			XMLStreamReader reader = factory.createXMLStreamReader(inputStream);
+			try {
+				if (!DATASET_ELEMENT.equals(nextElement(reader))) {
+					return null;
+				}
+				String firstElement = nextElement(reader);
+				return (firstElement != null ? firstElement : "");
+			} finally {
+				reader.close();
+			}
+		} catch (XMLStreamException ex) {
+			// Not well-formed XML
+			return null;
+		} finally {
+			inputStream.close();
+		}
+	}
+
+	/**
+	 * Returns the name of the next element, or {@code null} if the current element ends first.
+	 */
+	private String nextElement(XMLStreamReader reader) throws XMLStreamException {
+		while (reader.hasNext()) {
+			int event = reader.next();
+			if (event == XMLStreamConstants.START_ELEMENT) {
+				return reader.getLocalName();
+			}
+			if (event == XMLStreamConstants.END_ELEMENT) {
+				return null;
+			}
+		}
+		return null;
+	}
+
+	private File getTarget(File source) {
+		String name = source.getName();
+		int extension = name.lastIndexOf('.');
+		name = (extension > 0 && !source.isDirectory() ? name.substring(0, extension) : name)
+				+ BinaryDataSetFormat.FILE_EXTENSION;
+		if (this.targetRoot == null) {
+			return new File(source.getAbsoluteFile().getParentFile(), name);
+		}
+		String relativePath = this.sourceRoot.toURI().relativize(source.getParentFile().toURI()).getPath();
+		if (source.equals(this.sourceRoot)) {
+			relativePath = "";
+		}
+		return new File(new File(this.targetRoot, relativePath), name);
+	}
+
+	private boolean isCsvDataSet(File file) {
+		return file.isDirectory() && new File(file, CSV_TABLE_ORDERING).isFile();
+	}
+
+}
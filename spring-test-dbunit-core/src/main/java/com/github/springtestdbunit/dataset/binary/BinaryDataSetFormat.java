@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.springtestdbunit.dataset.binary;
+
+/**
+ * Constants of the binary dataset format. All numbers are big-endian.
+ *
+ * <pre>
+ * header      : int magic, short version
+ * dictionary  : int count, { int length, UTF-8 bytes } * count
+ * tables      : int count, table * count
+ * table       : int name, int columnCount, column * columnCount, int primaryKeyCount, int primaryKeyColumn * primaryKeyCount,
+ *               int rowCount, { byte encoding, int length, data } * columnCount
+ * column      : int name, int sqlType, int sqlTypeName, byte nullable
+ * </pre>
+ *
+ * Names refer to entries of the string dictionary. Column data is stored per column: {@link #STRING} and
+ * {@link #DECIMAL} columns hold one dictionary reference per row, {@link #LONG}, {@link #DOUBLE} and {@link #DATE}
+ * columns hold one presence byte per row followed by one fixed size value per row, {@link #BYTES} columns hold one
+ * presence byte and a length prefixed value per row.
+ */
+public final class BinaryDataSetFormat {
+
+	/**
+	 * The file extension used for binary datasets.
+	 */
+	public static final String FILE_EXTENSION = ".sdb";
+
+	static final int MAGIC = 0x53444255;
+
+	static final short VERSION = 1;
+
+	static final int UNKNOWN_SQL_TYPE = Integer.MIN_VALUE;
+
+	static final int NULL_REFERENCE = -1;
+
+	static final int NO_VALUE_REFERENCE = -2;
+
+	static final byte NULL = 0;
+
+	static final byte PRESENT = 1;
+
+	static final byte NO_VALUE = 2;
+
+	static final byte STRING = 0;
+
+	static final byte LONG = 1;
+
+	static final byte DOUBLE = 2;
+
+	static final byte DECIMAL = 3;
+
+	static final byte DATE = 4;
+
+	static final byte BYTES = 5;
+
+	private BinaryDataSetFormat() {
+		super();
+	}
+
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.springtestdbunit.dataset.binary;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.ITableIterator;
+import org.dbunit.dataset.ITableMetaData;
+import org.dbunit.dataset.datatype.DataType;
+
+/**
+ * Writes {@link IDataSet datasets} using the {@link BinaryDataSetFormat binary dataset format}.
+ *
+ * @see BinaryDataSet
+ * @see BinaryDataSetConverter
+ */
+public class BinaryDataSetWriter {
+
+	private final Map<String, Integer> dictionary = new LinkedHashMap<String, Integer>();
+
+	/**
+	 * Write the dataset to the specified file.
+	 * @param dataSet the dataset to write
+	 * @param file the target file
+	 * @throws DataSetException if the dataset cannot be read
+	 * @throws IOException if the file cannot be written
+	 */
+	public static void write(IDataSet dataSet, File file) throws DataSetException, IOException {
+		OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(file));
+		try {
+			write(dataSet, outputStream);
+		} finally {
+			outputStream.close();
+		}
+	}
+
+	/**
+	 * Write the dataset to the specified stream. The stream is not closed.
+	 * @param dataSet the dataset to write
+	 * @param outputStream the target stream
+	 * @throws DataSetException if the dataset cannot be read
+	 * @throws IOException if the stream cannot be written
+	 */
+	public static void write(IDataSet dataSet, OutputStream outputStream) throws DataSetException, IOException {
+		new BinaryDataSetWriter().writeDataSet(dataSet, outputStream);
+	}
+
+	private void writeDataSet(IDataSet dataSet, OutputStream outputStream) throws DataSetException, IOException {
+		List<byte[]> tables = new ArrayList<byte[]>();
+		ITableIterator iterator = dataSet.iterator();
+		while (iterator.next()) {
+			tables.add(encodeTable(iterator.getTable()));
+		}
+		DataOutputStream out = new DataOutputStream(outputStream);
+		out.writeInt(BinaryDataSetFormat.MAGIC);
+		out.writeShort(BinaryDataSetFormat.VERSION);
+		out.writeInt(this.dictionary.size());
+		for (String value : this.dictionary.keySet()) {
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			out.writeInt(bytes.length);
+			out.write(bytes);
+		}
+		out.writeInt(tables.size());
+		for (byte[] table : tables) {
+			out.write(table);
+		}
+		out.flush();
+	}
+
+	private byte[] encodeTable(ITable table) throws DataSetException, IOException {
+		ITableMetaData metaData = table.getTableMetaData();
+		Column[] columns = metaData.getColumns();
+		Column[] primaryKeys = metaData.getPrimaryKeys();
+		int rowCount = table.getRowCount();
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeInt(reference(metaData.getTableName()));
+		out.writeInt(columns.length);
+		for (Column column : columns) {
+			out.writeInt(reference(column.getColumnName()));
+			DataType dataType = column.getDataType();
+			out.writeInt(((dataType == null) || (dataType == DataType.UNKNOWN)) ? BinaryDataSetFormat.UNKNOWN_SQL_TYPE
+					: dataType.getSqlType());
+			out.writeInt(column.getSqlTypeName() != null ? reference(column.getSqlTypeName())
+					: BinaryDataSetFormat.NULL_REFERENCE);
+			out.writeByte(column.getNullable() == Column.NO_NULLS ? 0 : 1);
+		}
+		out.writeInt(primaryKeys == null ? 0 : primaryKeys.length);
+		if (primaryKeys != null) {
+			for (Column primaryKey : primaryKeys) {
+				out.writeInt(metaData.getColumnIndex(primaryKey.getColumnName()));
+			}
+		}
+		out.writeInt(rowCount);
+		for (Column column : columns) {
+			Object[] values = new Object[rowCount];
+			for (int row = 0; row < rowCount; row++) {
+				values[row] = table.getValue(row, column.getColumnName());
+			}
+			byte encoding = getEncoding(values);
+			byte[] data = encodeColumn(encoding, values);
+			out.writeByte(encoding);
+			out.writeInt(data.length);
+			out.write(data);
+		}
+		out.flush();
+		return bytes.toByteArray();
+	}
+
+	private byte getEncoding(Object[] values) {
+		Class<?> type = null;
+		for (Object value : values) {
+			if ((value != null) && (value != ITable.NO_VALUE)) {
+				Class<?> valueType = getValueType(value);
+				if ((type != null) && (type != valueType)) {
+					return BinaryDataSetFormat.STRING;
+				}
+				type = valueType;
+			}
+		}
+		if (type == Long.class) {
+			return BinaryDataSetFormat.LONG;
+		}
+		if (type == Double.class) {
+			return BinaryDataSetFormat.DOUBLE;
+		}
+		if (type == BigDecimal.class) {
+			return BinaryDataSetFormat.DECIMAL;
+		}
+		if (type == Date.class) {
+			return BinaryDataSetFormat.DATE;
+		}
+		if (type == byte[].class) {
+			return BinaryDataSetFormat.BYTES;
+		}
+		return BinaryDataSetFormat.STRING;
+	}
+
+	private Class<?> getValueType(Object value) {
+		if ((value instanceof Long) || (value instanceof Integer) || (value instanceof Short) || (value instanceof Byte)) {
+			return Long.class;
+		}
+		if ((value instanceof Double) || (value instanceof Float)) {
+			return Double.class;
+		}
+		if ((value instanceof BigDecimal) || (value instanceof byte[])) {
+			return value.getClass();
+		}
+		// SQL date and time subclasses keep their own string form
+		return (value.getClass() == Date.class ? Date.class : String.class);
+	}
+
+	private byte[] encodeColumn(byte encoding, Object[] values) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		if ((encoding == BinaryDataSetFormat.STRING) || (encoding == BinaryDataSetFormat.DECIMAL)) {
+			for (Object value : values) {
+				out.writeInt(value == null ? BinaryDataSetFormat.NULL_REFERENCE
+						: value == ITable.NO_VALUE ? BinaryDataSetFormat.NO_VALUE_REFERENCE
+								: reference(value instanceof BigDecimal ? ((BigDecimal) value).toString()
+										: String.valueOf(value)));
+			}
+		} else {
+			for (Object value : values) {
+				out.writeByte(value == null ? BinaryDataSetFormat.NULL
+						: value == ITable.NO_VALUE ? BinaryDataSetFormat.NO_VALUE : BinaryDataSetFormat.PRESENT);
+			}
+			for (Object value : values) {
+				boolean present = (value != null) && (value != ITable.NO_VALUE);
+				if (encoding == BinaryDataSetFormat.LONG) {
+					out.writeLong(present ? ((Number) value).longValue() : 0);
+				} else if (encoding == BinaryDataSetFormat.DOUBLE) {
+					out.writeDouble(present ? ((Number) value).doubleValue() : 0);
+				} else if (encoding == BinaryDataSetFormat.DATE) {
+					out.writeLong(present ? ((Date) value).getTime() : 0);
+				} else {
+					byte[] data = (present ? (byte[]) value : new byte[0]);
+					out.writeInt(data.length);
+					out.write(data);
+				}
+			}
+		}
+		out.flush();
+		return bytes.toByteArray();
+	}
+
+	private int reference(String value) {
+		Integer reference = this.dictionary.get(value);
+		if (reference == null) {
+			reference = this.dictionary.size();
+			this.dictionary.put(value, reference);
+		}
+		return reference;
+	}
+
+}
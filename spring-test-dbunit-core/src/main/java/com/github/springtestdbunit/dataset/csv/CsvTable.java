@@ -0,0 +1,288 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.springtestdbunit.dataset.csv;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.dbunit.dataset.AbstractTable;
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.DefaultTableMetaData;
+import org.dbunit.dataset.ITableMetaData;
+import org.dbunit.dataset.datatype.DataType;
+
+/**
+ * Table backed by the raw bytes of a CSV file. The file is tokenized once, recording only the offsets of each field,
+ * values are decoded to strings the first time they are read. Follows the conventions of
+ * {@link org.dbunit.dataset.csv.CsvDataSet}: the first line holds the column names, fields may be quoted with
+ * {@code "}, {@code \} escapes the next character and the text {@code null} is read as {@code null}.
+ */
+class CsvTable extends AbstractTable {
+
+	private static final String NULL = "null";
+
+	private static final int QUOTED = 1;
+
+	private static final int ESCAPED = 2;
+
+	private static final Object UNDECODED = new Object();
+
+	private final ByteBuffer buffer;
+
+	private final ITableMetaData metaData;
+
+	private final int columnCount;
+
+	private final int rowCount;
+
+	/**
+	 * Field start, end and flags, three entries per field, header excluded.
+	 */
+	private final int[] fields;
+
+	private final Object[] values;
+
+	private CsvTable(ByteBuffer buffer, ITableMetaData metaData, int columnCount, int rowCount, int[] fields) {
+		this.buffer = buffer;
+		this.metaData = metaData;
+		this.columnCount = columnCount;
+		this.rowCount = rowCount;
+		this.fields = fields;
+		this.values = new Object[this.columnCount * rowCount];
+		Arrays.fill(this.values, UNDECODED);
+	}
+
+	public ITableMetaData getTableMetaData() {
+		return this.metaData;
+	}
+
+	public int getRowCount() {
+		return this.rowCount;
+	}
+
+	public Object getValue(int row, String column) throws DataSetException {
+		assertValidRowIndex(row);
+		int index = (row * this.columnCount) + getColumnIndex(column);
+		Object value = this.values[index];
+		if (value == UNDECODED) {
+			// Decoding is idempotent, racing threads store equal values
+			value = decode(this.buffer, this.fields, index);
+			this.values[index] = value;
+		}
+		return value;
+	}
+
+	private static String decode(ByteBuffer buffer, int[] fields, int field) {
+		int start = fields[field * 3];
+		int end = fields[(field * 3) + 1];
+		int flags = fields[(field * 3) + 2];
+		byte[] bytes = new byte[end - start];
+		ByteBuffer source = buffer.duplicate();
+		source.position(start);
+		source.get(bytes);
+		String value = new String(bytes, StandardCharsets.UTF_8);
+		if ((flags & ESCAPED) != 0) {
+			value = unescape(value, (flags & QUOTED) != 0);
+		}
+		return (NULL.equals(value) ? null : value);
+	}
+
+	private static String unescape(String value, boolean quoted) {
+		StringBuilder result = new StringBuilder(value.length());
+		for (int i = 0; i < value.length(); i++) {
+			char ch = value.charAt(i);
+			if (((ch == '\\') || (quoted && (ch == '"'))) && (i + 1 < value.length())) {
+				i++;
+				ch = value.charAt(i);
+			}
+			result.append(ch);
+		}
+		return result.toString();
+	}
+
+	/**
+	 * Tokenize the given buffer.
+	 * @param tableName the name of the table
+	 * @param buffer UTF-8 encoded CSV content, the buffer is retained by the table
+	 * @return the table
+	 * @throws DataSetException if the content is not valid CSV
+	 */
+	public static CsvTable parse(String tableName, ByteBuffer buffer) throws DataSetException {
+		Tokenizer tokenizer = new Tokenizer(tableName, buffer);
+		int columnCount = tokenizer.nextLine();
+		if (columnCount == 0) {
+			throw new DataSetException("Missing column names in CSV file for table '" + tableName + "'");
+		}
+		Column[] columns = new Column[columnCount];
+		for (int i = 0; i < columnCount; i++) {
+			columns[i] = new Column(decode(buffer, tokenizer.fields, i).trim(), DataType.UNKNOWN);
+		}
+		tokenizer.reset();
+		int rowCount = 0;
+		int fieldCount;
+		while ((fieldCount = tokenizer.nextLine()) != -1) {
+			if (fieldCount != columnCount) {
+				throw new DataSetException("Expected " + columnCount + " values in row " + (rowCount + 1) + " of table '"
+						+ tableName + "' but found " + fieldCount);
+			}
+			rowCount++;
+		}
+		return new CsvTable(buffer, new DefaultTableMetaData(tableName, columns), columnCount, rowCount,
+				Arrays.copyOf(tokenizer.fields, tokenizer.size));
+	}
+
+	/**
+	 * Single pass byte tokenizer. Safe for UTF-8 since all delimiters are ASCII.
+	 */
+	private static class Tokenizer {
+
+		private final String tableName;
+
+		private final ByteBuffer buffer;
+
+		private final int limit;
+
+		private int position;
+
+		private int[] fields = new int[96];
+
+		private int size;
+
+		public Tokenizer(String tableName, ByteBuffer buffer) {
+			this.tableName = tableName;
+			this.buffer = buffer;
+			this.position = buffer.position();
+			this.limit = buffer.limit();
+		}
+
+		public void reset() {
+			this.size = 0;
+		}
+
+		/**
+		 * Tokenize the next non blank line.
+		 * @return the number of fields or {@code -1} at the end of the buffer
+		 * @throws DataSetException on unterminated quotes
+		 */
+		public int nextLine() throws DataSetException {
+			while ((this.position < this.limit) && isLineEnd(this.buffer.get(this.position))) {
+				this.position++;
+			}
+			if (this.position >= this.limit) {
+				return -1;
+			}
+			int count = 0;
+			while (true) {
+				byte terminator = nextField();
+				count++;
+				if (terminator != ',') {
+					return count;
+				}
+			}
+		}
+
+		private byte nextField() throws DataSetException {
+			skipBlanks();
+			if ((this.position < this.limit) && (this.buffer.get(this.position) == '"')) {
+				return nextQuotedField();
+			}
+			int start = this.position;
+			int end = start;
+			int flags = 0;
+			while (this.position < this.limit) {
+				byte b = this.buffer.get(this.position);
+				if ((b == ',') || isLineEnd(b)) {
+					break;
+				}
+				this.position++;
+				if ((b == '\\') && (this.position < this.limit)) {
+					flags = ESCAPED;
+					this.position++;
+				}
+				if (!isBlank(b)) {
+					end = this.position;
+				}
+			}
+			add(start, end, flags);
+			return terminate();
+		}
+
+		private byte nextQuotedField() throws DataSetException {
+			this.position++;
+			int start = this.position;
+			int flags = QUOTED;
+			while (true) {
+				if (this.position >= this.limit) {
+					throw new DataSetException("Unterminated quote in CSV file for table '" + this.tableName + "'");
+				}
+				byte b = this.buffer.get(this.position++);
+				if (b == '\\') {
+					flags |= ESCAPED;
+					this.position++;
+				} else if (b == '"') {
+					if ((this.position < this.limit) && (this.buffer.get(this.position) == '"')) {
+						flags |= ESCAPED;
+						this.position++;
+					} else {
+						break;
+					}
+				}
+			}
+			add(start, this.position - 1, flags);
+			skipBlanks();
+			return terminate();
+		}
+
+		private byte terminate() {
+			if (this.position >= this.limit) {
+				return '\n';
+			}
+			byte b = this.buffer.get(this.position++);
+			if ((b == '\r') && (this.position < this.limit) && (this.buffer.get(this.position) == '\n')) {
+				this.position++;
+			}
+			return b;
+		}
+
+		private void skipBlanks() {
+			while ((this.position < this.limit) && isBlank(this.buffer.get(this.position))) {
+				this.position++;
+			}
+		}
+
+		private void add(int start, int end, int flags) {
+			if (this.size + 3 > this.fields.length) {
+				this.fields = Arrays.copyOf(this.fields, this.fields.length * 2);
+			}
+			this.fields[this.size++] = start;
+			this.fields[this.size++] = end;
+			this.fields[this.size++] = flags;
+		}
+
+		private static boolean isBlank(byte b) {
+			return (b == ' ') || (b == '\t');
+		}
+
+		private static boolean isLineEnd(byte b) {
+			return (b == '\n') || (b == '\r');
+		}
+
+	}
+
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.springtestdbunit.dataset.csv;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import org.dbunit.dataset.AbstractDataSet;
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.DefaultTableIterator;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.ITableIterator;
+import org.springframework.util.StreamUtils;
+
+/**
+ * CSV {@link org.dbunit.dataset.IDataSet dataset} with the same layout as {@link org.dbunit.dataset.csv.CsvURLDataSet}:
+ * a directory containing a {@code table-ordering.txt} file that lists the tables and a {@code <table>.csv} file per
+ * table. Local files are memory-mapped, other URLs are read into memory. Table files are tokenized in parallel and
+ * values are only decoded when read. Files must be UTF-8 encoded. Instances are read-only and can be shared between
+ * threads.
+ */
+public class MappedCsvDataSet extends AbstractDataSet {
+
+	/**
+	 * The file listing the tables of the dataset.
+	 */
+	public static final String TABLE_ORDERING_FILE = "table-ordering.txt";
+
+	private final ITable[] tables;
+
+	/**
+	 * Create a new dataset, tokenizing the table files on the {@link ForkJoinPool#commonPool() common pool}.
+	 * @param base the URL of the directory containing the dataset
+	 * @throws DataSetException if the dataset cannot be read
+	 */
+	public MappedCsvDataSet(URL base) throws DataSetException {
+		this(base, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Create a new dataset.
+	 * @param base the URL of the directory containing the dataset
+	 * @param executor the executor used to tokenize the table files
+	 * @throws DataSetException if the dataset cannot be read
+	 */
+	public MappedCsvDataSet(URL base, Executor executor) throws DataSetException {
+		try {
+			URL directory = (base.toExternalForm().endsWith("/") ? base : new URL(base.toExternalForm() + "/"));
+			List<String> tableNames = readTableNames(new URL(directory, TABLE_ORDERING_FILE));
+			List<CompletableFuture<CsvTable>> futures = new ArrayList<CompletableFuture<CsvTable>>();
+			for (final String tableName : tableNames) {
+				final URL url = new URL(directory, tableName + ".csv");
+				futures.add(CompletableFuture.supplyAsync(() -> {
+					try {
+						return CsvTable.parse(tableName, load(url));
+					} catch (DataSetException ex) {
+						throw new CompletionException(ex);
+					} catch (IOException ex) {
+						throw new CompletionException(
+								new DataSetException("Unable to read CSV file for table '" + tableName + "'", ex));
+					}
+				}, executor));
+			}
+			this.tables = new ITable[futures.size()];
+			for (int i = 0; i < this.tables.length; i++) {
+				this.tables[i] = futures.get(i).join();
+			}
+		} catch (CompletionException ex) {
+			if (ex.getCause() instanceof DataSetException) {
+				throw (DataSetException) ex.getCause();
+			}
+			throw ex;
+		} catch (IOException ex) {
+			throw new DataSetException("Unable to read CSV dataset " + base, ex);
+		}
+		// Initialize the table name lookup eagerly so that the instance can be shared between threads
+		getTableNames();
+	}
+
+	private List<String> readTableNames(URL url) throws IOException {
+		List<String> tableNames = new ArrayList<String>();
+		BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8));
+		try {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				String tableName = line.trim();
+				if (tableName.length() > 0) {
+					tableNames.add(tableName);
+				}
+			}
+		} finally {
+			reader.close();
+		}
+		return tableNames;
+	}
+
+	private ByteBuffer load(URL url) throws IOException {
+		if ("file".equals(url.getProtocol())) {
+			try {
+				return map(new File(url.toURI()));
+			} catch (URISyntaxException ex) {
+				// Fall back to reading the stream
+			}
+		}
+		InputStream inputStream = url.openStream();
+		try {
+			return ByteBuffer.wrap(StreamUtils.copyToByteArray(inputStream));
+		} finally {
+			inputStream.close();
+		}
+	}
+
+	private ByteBuffer map(File file) throws IOException {
+		RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+		try {
+			FileChannel channel = randomAccessFile.getChannel();
+			return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		} finally {
+			randomAccessFile.close();
+		}
+	}
+
+	@Override
+	protected ITableIterator createIterator(boolean reversed) throws DataSetException {
+		return new DefaultTableIterator(this.tables, reversed);
+	}
+
+}
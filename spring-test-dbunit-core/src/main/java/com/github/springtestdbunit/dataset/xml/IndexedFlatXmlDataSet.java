@@ -0,0 +1,334 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.springtestdbunit.dataset.xml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.dbunit.dataset.AbstractDataSet;
+import org.dbunit.dataset.AbstractTable;
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.DefaultTableIterator;
+import org.dbunit.dataset.DefaultTableMetaData;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.ITableIterator;
+import org.dbunit.dataset.ITableMetaData;
+import org.dbunit.dataset.datatype.DataType;
+
+/**
+ * Flat XML {@link org.dbunit.dataset.IDataSet dataset} that only parses the tables that are actually read. The document
+ * is first scanned with a StAX pull parser to build an index of the table names, columns and row ranges, without
+ * reading any attribute values. The rows of a table are parsed the first time one of its values is read and are kept
+ * for reuse. Table names and metadata are served from the index.
+ * <p>
+ * Row ranges are recorded as element positions rather than character offsets since StAX implementations do not agree
+ * on what the location of an event points to. Materializing a table skips the elements before its range without
+ * reading their attributes.
+ * <p>
+ * Documents that declare a {@code DOCTYPE}, or that split a table over non adjacent elements, are not supported and
+ * must be read with {@link org.dbunit.dataset.xml.FlatXmlDataSetBuilder}.
+ *
+ * @see #create(URL, boolean)
+ */
+public class IndexedFlatXmlDataSet extends AbstractDataSet {
+
+	private final URL url;
+
+	private final ITable[] tables;
+
+	private IndexedFlatXmlDataSet(URL url, List<TableIndex> indexes) {
+		this.url = url;
+		this.tables = new ITable[indexes.size()];
+		for (int i = 0; i < this.tables.length; i++) {
+			this.tables[i] = new LazyTable(indexes.get(i));
+		}
+	}
+
+	/**
+	 * Index the flat XML document at the given URL.
+	 * @param url the document URL, opened again whenever a table is materialized
+	 * @param columnSensing if the columns of a table are the union of the attributes of all its rows rather than the
+	 * attributes of its first row
+	 * @return the dataset or {@code null} if the document cannot be indexed
+	 * @throws DataSetException if the document cannot be read
+	 */
+	public static IndexedFlatXmlDataSet create(URL url, boolean columnSensing) throws DataSetException {
+		List<TableIndex> indexes = index(url, columnSensing);
+		if (indexes == null) {
+			return null;
+		}
+		IndexedFlatXmlDataSet dataSet = new IndexedFlatXmlDataSet(url, indexes);
+		// Initialize the table name lookup eagerly so that the instance can be shared between threads
+		dataSet.getTableNames();
+		return dataSet;
+	}
+
+	private static List<TableIndex> index(URL url, boolean columnSensing) throws DataSetException {
+		List<TableIndex> indexes = new ArrayList<TableIndex>();
+		Map<String, TableIndex> indexesByName = new HashMap<String, TableIndex>();
+		Reader reader = new Reader(url);
+		try {
+			TableIndex current = null;
+			int event;
+			while ((event = reader.next()) != XMLStreamConstants.END_DOCUMENT) {
+				if (event == XMLStreamConstants.DTD) {
+					return null;
+				}
+				if (event != XMLStreamConstants.START_ELEMENT || reader.depth != 2) {
+					continue;
+				}
+				String name = reader.getName();
+				if ((current == null) || !current.name.equals(name)) {
+					if (indexesByName.containsKey(name.toUpperCase())) {
+						return null;
+					}
+					current = new TableIndex(name, reader.ordinal);
+					indexes.add(current);
+					indexesByName.put(name.toUpperCase(), current);
+				}
+				current.end = reader.ordinal + 1;
+				int attributeCount = reader.stax.getAttributeCount();
+				if (attributeCount > 0) {
+					if (columnSensing || (current.rowCount == 0)) {
+						for (int i = 0; i < attributeCount; i++) {
+							current.columnNames.add(getName(reader.stax.getAttributePrefix(i),
+									reader.stax.getAttributeLocalName(i)));
+						}
+					}
+					current.rowCount++;
+				}
+			}
+			return indexes;
+		} finally {
+			reader.close();
+		}
+	}
+
+	private Object[][] materialize(TableIndex index) throws DataSetException {
+		Map<String, Integer> columnIndexes = new HashMap<String, Integer>();
+		for (String columnName : index.columnNames) {
+			columnIndexes.put(columnName, columnIndexes.size());
+		}
+		Object[][] rows = new Object[index.rowCount][];
+		int row = 0;
+		Reader reader = new Reader(this.url);
+		try {
+			int event;
+			while ((event = reader.next()) != XMLStreamConstants.END_DOCUMENT) {
+				if ((event != XMLStreamConstants.START_ELEMENT) || (reader.depth != 2)
+						|| (reader.ordinal < index.start)) {
+					continue;
+				}
+				if (reader.ordinal >= index.end) {
+					break;
+				}
+				int attributeCount = reader.stax.getAttributeCount();
+				if (attributeCount == 0) {
+					continue;
+				}
+				Object[] values = new Object[columnIndexes.size()];
+				for (int i = 0; i < attributeCount; i++) {
+					Integer column = columnIndexes.get(
+							getName(reader.stax.getAttributePrefix(i), reader.stax.getAttributeLocalName(i)));
+					if (column != null) {
+						values[column] = reader.stax.getAttributeValue(i);
+					}
+				}
+				rows[row++] = values;
+			}
+		} finally {
+			reader.close();
+		}
+		if (row != rows.length) {
+			throw new DataSetException("Document " + this.url + " changed while table '" + index.name + "' was read");
+		}
+		return rows;
+	}
+
+	private static String getName(String prefix, String localName) {
+		return ((prefix == null) || (prefix.length() == 0) ? localName : prefix + ":" + localName);
+	}
+
+	@Override
+	protected ITableIterator createIterator(boolean reversed) throws DataSetException {
+		return new DefaultTableIterator(this.tables, reversed);
+	}
+
+	/**
+	 * Index entry of a single table.
+	 */
+	private static class TableIndex {
+
+		private final String name;
+
+		private final Set<String> columnNames = new LinkedHashSet<String>();
+
+		private final int start;
+
+		private int end;
+
+		private int rowCount;
+
+		public TableIndex(String name, int start) {
+			this.name = name;
+			this.start = start;
+		}
+
+	}
+
+	/**
+	 * Table whose rows are parsed on first access.
+	 */
+	private class LazyTable extends AbstractTable {
+
+		private final TableIndex index;
+
+		private final ITableMetaData metaData;
+
+		private final Map<String, Integer> columnIndexes = new LinkedHashMap<String, Integer>();
+
+		private Object[][] rows;
+
+		public LazyTable(TableIndex index) {
+			this.index = index;
+			Column[] columns = new Column[index.columnNames.size()];
+			int i = 0;
+			for (String columnName : index.columnNames) {
+				this.columnIndexes.put(columnName.toUpperCase(), i);
+				columns[i++] = new Column(columnName, DataType.UNKNOWN);
+			}
+			this.metaData = new DefaultTableMetaData(index.name, columns);
+		}
+
+		public ITableMetaData getTableMetaData() {
+			return this.metaData;
+		}
+
+		public int getRowCount() {
+			return this.index.rowCount;
+		}
+
+		public Object getValue(int row, String column) throws DataSetException {
+			assertValidRowIndex(row);
+			Integer columnIndex = this.columnIndexes.get(column.toUpperCase());
+			return getRows()[row][(columnIndex != null ? columnIndex : getColumnIndex(column))];
+		}
+
+		private synchronized Object[][] getRows() throws DataSetException {
+			if (this.rows == null) {
+				this.rows = materialize(this.index);
+			}
+			return this.rows;
+		}
+
+	}
+
+	/**
+	 * Thin wrapper around a {@link XMLStreamReader} that tracks the element depth and the position of each child of
+	 * the root element.
+	 */
+	private static class Reader {
+
+		private static final XMLInputFactory FACTORY = createFactory();
+
+		private final URL url;
+
+		private final InputStream inputStream;
+
+		private final XMLStreamReader stax;
+
+		private int depth;
+
+		private int ordinal = -1;
+
+		public Reader(URL url) throws DataSetException {
+			this.url = url;
+			try {
+				this.inputStream = url.openStream();
+			} catch (IOException ex) {
+				throw new DataSetException("Unable to read " + url, ex);
+			}
+			try {
+				this.stax = FACTORY.createXMLStreamReader(url.toExternalForm(), this.inputStream);
+			} catch (XMLStreamException ex) {
+				close();
+				throw new DataSetException("Unable to parse " + url, ex);
+			}
+		}
+
+		private static XMLInputFactory createFactory() {
+			XMLInputFactory factory = XMLInputFactory.newInstance();
+			// The DOCTYPE is only detected, documents that use one are read by DbUnit
+			factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+			factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+			return factory;
+		}
+
+		public int next() throws DataSetException {
+			try {
+				if (this.stax.getEventType() == XMLStreamConstants.END_ELEMENT) {
+					this.depth--;
+				}
+				int event = this.stax.next();
+				if (event == XMLStreamConstants.START_ELEMENT) {
+					this.depth++;
+					if (this.depth == 2) {
+						this.ordinal++;
+					}
+				}
+				return event;
+			} catch (XMLStreamException ex) {
+				throw new DataSetException("Unable to parse " + this.url, ex);
+			}
+		}
+
+		public String getName() {
+			return IndexedFlatXmlDataSet.getName(this.stax.getPrefix(), this.stax.getLocalName());
+		}
+
+		public void close() {
+			try {
+				if (this.stax != null) {
+					this.stax.close();
+				}
+			} catch (XMLStreamException ex) {
+				// Ignore
+			}
+			try {
+				this.inputStream.close();
+			} catch (IOException ex) {
+				// Ignore
+			}
+		}
+
+	}
+
+}
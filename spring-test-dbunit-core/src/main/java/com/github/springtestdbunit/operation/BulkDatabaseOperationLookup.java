@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.springtestdbunit.operation;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.dbunit.operation.CompositeOperation;
+
+import com.github.springtestdbunit.annotation.DatabaseOperation;
+
+/**
+ * {@link DatabaseOperationLookup} that writes several rows per statement for the
+ * {@link DatabaseOperation#INSERT INSERT}, {@link DatabaseOperation#CLEAN_INSERT CLEAN_INSERT},
+ * {@link DatabaseOperation#FAST_CLEAN_INSERT FAST_CLEAN_INSERT} and {@link DatabaseOperation#REFRESH REFRESH} operations, see {@link BulkInsertOperation} and
+ * {@link BulkRefreshOperation}. The number of rows per statement is driven by
+ * {@link com.github.springtestdbunit.bean.DatabaseConfigBean#setBatchSize(Integer)}.
+ */
+public class BulkDatabaseOperationLookup extends DefaultDatabaseOperationLookup {
+
+	private static Map<DatabaseOperation, org.dbunit.operation.DatabaseOperation> BULK_LOOKUP;
+
+	static {
+		org.dbunit.operation.DatabaseOperation insert = new BulkInsertOperation();
+		BULK_LOOKUP = new HashMap<DatabaseOperation, org.dbunit.operation.DatabaseOperation>();
+		BULK_LOOKUP.put(DatabaseOperation.INSERT, insert);
+		BULK_LOOKUP.put(DatabaseOperation.REFRESH, new BulkRefreshOperation());
+		BULK_LOOKUP.put(DatabaseOperation.CLEAN_INSERT,
+				new CompositeOperation(org.dbunit.operation.DatabaseOperation.DELETE_ALL, insert));
+		BULK_LOOKUP.put(DatabaseOperation.FAST_CLEAN_INSERT, new FastCleanInsertOperation(insert, false));
+	}
+
+	@Override
+	public org.dbunit.operation.DatabaseOperation get(DatabaseOperation operation) {
+		if (BULK_LOOKUP.containsKey(operation)) {
+			return BULK_LOOKUP.get(operation);
+		}
+		return super.get(operation);
+	}
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.springtestdbunit.operation;
+
+import java.sql.SQLException;
+
+import org.dbunit.DatabaseUnitException;
+import org.dbunit.database.DatabaseConfig;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.ITableIterator;
+import org.dbunit.operation.DatabaseOperation;
+
+/**
+ * INSERT operation that writes several rows per statement. On databases that support it, rows are inserted with
+ * multi-row {@code INSERT ... VALUES (...), (...)} statements holding up to {@link DatabaseConfig#PROPERTY_BATCH_SIZE
+ * batch size} rows, within the parameter limits of the database. On other databases single-row statements are sent in
+ * JDBC batches of that size. Streamed datasets are supported, rows are only buffered up to the batch size.
+ *
+ * @see BulkDatabaseOperationLookup
+ */
+public class BulkInsertOperation extends DatabaseOperation {
+
+	@Override
+	public void execute(IDatabaseConnection connection, IDataSet dataSet) throws DatabaseUnitException, SQLException {
+		BulkWriter writer = new BulkWriter(connection);
+		try {
+			ITableIterator iterator = dataSet.iterator();
+			while (iterator.next()) {
+				ITable source = iterator.getTable();
+				BulkWriter.Table table = writer.getTable(source);
+				BulkWriter.Inserter inserter = writer.createInserter(table);
+				Object[] values;
+				for (int row = 0; (values = writer.readRow(source, table, row)) != null; row++) {
+					inserter.add(values);
+				}
+				inserter.flush();
+			}
+		} finally {
+			writer.close();
+		}
+	}
+
+}
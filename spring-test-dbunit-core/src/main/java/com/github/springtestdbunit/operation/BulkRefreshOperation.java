@@ -0,0 +1,205 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.springtestdbunit.operation;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.dbunit.DatabaseUnitException;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.dataset.DefaultDataSet;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.ITableIterator;
+import org.dbunit.operation.DatabaseOperation;
+
+/**
+ * REFRESH operation that sends its statements in JDBC batches. Rows are first updated on their primary key in batches
+ * of {@link org.dbunit.database.DatabaseConfig#PROPERTY_BATCH_SIZE batch size}, the rows that did not exist are then
+ * inserted as {@link BulkInsertOperation} does. A row whose primary key is already pending in the current batch first
+ * sends the pending statements, so that later rows of the same key update the earlier ones as with DbUnit. Tables
+ * without a primary key are refreshed with DbUnit's {@link DatabaseOperation#REFRESH REFRESH}.
+ *
+ * @see BulkDatabaseOperationLookup
+ */
+public class BulkRefreshOperation extends DatabaseOperation {
+
+	@Override
+	public void execute(IDatabaseConnection connection, IDataSet dataSet) throws DatabaseUnitException, SQLException {
+		BulkWriter writer = new BulkWriter(connection);
+		try {
+			ITableIterator iterator = dataSet.iterator();
+			while (iterator.next()) {
+				ITable source = iterator.getTable();
+				BulkWriter.Table table = writer.getTable(source);
+				if (table.getPrimaryKeyIndexes() == null) {
+					DatabaseOperation.REFRESH.execute(connection, new DefaultDataSet(source));
+				} else {
+					refresh(writer, source, table);
+				}
+			}
+		} finally {
+			writer.close();
+		}
+	}
+
+	private void refresh(BulkWriter writer, ITable source, BulkWriter.Table table)
+			throws SQLException, DatabaseUnitException {
+		BulkWriter.Inserter inserter = writer.createInserter(table);
+		List<Object[]> rows = new ArrayList<Object[]>();
+		Set<List<Object>> pendingKeys = new HashSet<List<Object>>();
+		Object[] values;
+		for (int row = 0; (values = writer.readRow(source, table, row)) != null; row++) {
+			if (!pendingKeys.add(getPrimaryKey(table, values))) {
+				// The key is already waiting to be updated or inserted, write it before this row refreshes it again
+				update(writer, table, rows, inserter);
+				inserter.flush();
+				rows.clear();
+				pendingKeys.clear();
+				pendingKeys.add(getPrimaryKey(table, values));
+			}
+			rows.add(values);
+			if (rows.size() >= writer.getBatchSize()) {
+				update(writer, table, rows, inserter);
+				rows.clear();
+				retainInserted(table, pendingKeys, inserter);
+			}
+		}
+		update(writer, table, rows, inserter);
+		inserter.flush();
+	}
+
+	/**
+	 * Keeps the pending keys of the rows still buffered by the inserter, the keys of the updated rows are no longer
+	 * pending.
+	 */
+	private void retainInserted(BulkWriter.Table table, Set<List<Object>> pendingKeys, BulkWriter.Inserter inserter)
+			throws DatabaseUnitException {
+		pendingKeys.clear();
+		for (Object[] values : inserter.getRows()) {
+			pendingKeys.add(getPrimaryKey(table, values));
+		}
+	}
+
+	/**
+	 * Returns the primary key values of the row, cast to the column types so that keys written differently in the
+	 * dataset still compare equal.
+	 */
+	private List<Object> getPrimaryKey(BulkWriter.Table table, Object[] values) throws DatabaseUnitException {
+		Object[] key = new Object[table.getPrimaryKeyIndexes().length];
+		for (int i = 0; i < key.length; i++) {
+			int index = table.getPrimaryKeyIndexes()[i];
+			Object value = values[index];
+			key[i] = ((value == null) || (value == ITable.NO_VALUE) ? null
+					: table.getColumns()[index].getDataType().typeCast(value));
+		}
+		return Arrays.asList(key);
+	}
+
+	/**
+	 * Updates the given rows and hands the rows that do not exist yet to the inserter.
+	 */
+	private void update(BulkWriter writer, BulkWriter.Table table, List<Object[]> rows, BulkWriter.Inserter inserter)
+			throws SQLException, DatabaseUnitException {
+		Map<String, List<Object[]>> rowsBySql = new LinkedHashMap<String, List<Object[]>>();
+		for (Object[] values : rows) {
+			String sql = getUpdateSql(table, values);
+			List<Object[]> sqlRows = rowsBySql.get(sql);
+			if (sqlRows == null) {
+				sqlRows = new ArrayList<Object[]>();
+				rowsBySql.put(sql, sqlRows);
+			}
+			sqlRows.add(values);
+		}
+		for (Map.Entry<String, List<Object[]>> entry : rowsBySql.entrySet()) {
+			PreparedStatement statement = writer.prepare(entry.getKey());
+			for (Object[] values : entry.getValue()) {
+				bind(statement, table, values);
+				statement.addBatch();
+			}
+			int[] updateCounts = statement.executeBatch();
+			for (int i = 0; i < entry.getValue().size(); i++) {
+				Object[] values = entry.getValue().get(i);
+				int updateCount = (i < updateCounts.length ? updateCounts[i] : Statement.SUCCESS_NO_INFO);
+				if (updateCount == Statement.SUCCESS_NO_INFO) {
+					// The driver does not report counts for batches, updating again is harmless
+					bind(statement, table, values);
+					updateCount = statement.executeUpdate();
+				}
+				if (updateCount == 0) {
+					inserter.add(values);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the UPDATE statement for the row. A row that only holds its primary key sets the first key column to
+	 * itself, so that the update count still tells if the row exists.
+	 */
+	private String getUpdateSql(BulkWriter.Table table, Object[] values) {
+		StringBuilder set = new StringBuilder();
+		for (int i = 0; i < values.length; i++) {
+			if (!isPrimaryKey(table, i) && (values[i] != ITable.NO_VALUE)) {
+				set.append(set.length() > 0 ? ", " : "").append(table.getSqlNames()[i]).append(" = ?");
+			}
+		}
+		if (set.length() == 0) {
+			set.append(table.getSqlNames()[table.getPrimaryKeyIndexes()[0]]).append(" = ?");
+		}
+		StringBuilder where = new StringBuilder();
+		for (int index : table.getPrimaryKeyIndexes()) {
+			where.append(where.length() > 0 ? " AND " : "").append(table.getSqlNames()[index]).append(" = ?");
+		}
+		return "UPDATE " + table.getName() + " SET " + set + " WHERE " + where;
+	}
+
+	private void bind(PreparedStatement statement, BulkWriter.Table table, Object[] values)
+			throws SQLException, DatabaseUnitException {
+		int index = 1;
+		for (int i = 0; i < values.length; i++) {
+			if (!isPrimaryKey(table, i) && (values[i] != ITable.NO_VALUE)) {
+				BulkWriter.setValue(statement, index++, table.getColumns()[i], values[i]);
+			}
+		}
+		if (index == 1) {
+			int first = table.getPrimaryKeyIndexes()[0];
+			BulkWriter.setValue(statement, index++, table.getColumns()[first], values[first]);
+		}
+		for (int primaryKeyIndex : table.getPrimaryKeyIndexes()) {
+			BulkWriter.setValue(statement, index++, table.getColumns()[primaryKeyIndex], values[primaryKeyIndex]);
+		}
+	}
+
+	private boolean isPrimaryKey(BulkWriter.Table table, int columnIndex) {
+		for (int index : table.getPrimaryKeyIndexes()) {
+			if (index == columnIndex) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
@@ -0,0 +1,340 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.springtestdbunit.operation;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.dbunit.DatabaseUnitException;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.Columns;
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.ITableMetaData;
+import org.dbunit.dataset.RowOutOfBoundsException;
+import org.dbunit.dataset.datatype.DataType;
+
+import com.github.springtestdbunit.util.DatabaseConnectionUtils;
+import com.github.springtestdbunit.util.DatabaseDialect;
+
+/**
+ * Writes dataset rows with as few statements as possible, shared by the bulk operations. Prepared statements are cached
+ * on their SQL, so every chunk of the same shape reuses the same statement until the writer is closed.
+ *
+ * @see BulkInsertOperation
+ * @see BulkRefreshOperation
+ */
+class BulkWriter {
+
+	private final IDatabaseConnection connection;
+
+	private final DatabaseDialect dialect;
+
+	private final int batchSize;
+
+	private final IDataSet databaseDataSet;
+
+	private final Map<String, PreparedStatement> statements = new HashMap<String, PreparedStatement>();
+
+	public BulkWriter(IDatabaseConnection connection) throws SQLException {
+		this.connection = connection;
+		this.dialect = DatabaseDialect.get(connection);
+		this.batchSize = DatabaseConnectionUtils.getBatchSize(connection.getConfig());
+		this.databaseDataSet = connection.createDataSet();
+	}
+
+	public int getBatchSize() {
+		return this.batchSize;
+	}
+
+	/**
+	 * Returns the table to write the rows of the given dataset table to.
+	 * @param table the dataset table
+	 * @return the table
+	 * @throws DataSetException if the table or one of the dataset columns does not exist in the database
+	 */
+	public Table getTable(ITable table) throws DataSetException {
+		ITableMetaData metaData = this.databaseDataSet.getTableMetaData(table.getTableMetaData().getTableName());
+		Column[] databaseColumns = metaData.getColumns();
+		Column[] sourceColumns = table.getTableMetaData().getColumns();
+		String[] sourceNames = new String[sourceColumns.length];
+		Column[] columns = new Column[sourceColumns.length];
+		String[] sqlNames = new String[sourceColumns.length];
+		for (int i = 0; i < sourceColumns.length; i++) {
+			sourceNames[i] = sourceColumns[i].getColumnName();
+			columns[i] = Columns.getColumnValidated(sourceNames[i], databaseColumns, metaData.getTableName());
+			sqlNames[i] = DatabaseConnectionUtils.getQualifiedColumnName(this.connection, columns[i].getColumnName());
+		}
+		Column[] primaryKeys = metaData.getPrimaryKeys();
+		int[] primaryKeyIndexes = new int[primaryKeys.length];
+		for (int i = 0; i < primaryKeys.length; i++) {
+			primaryKeyIndexes[i] = indexOf(columns, primaryKeys[i].getColumnName());
+			if (primaryKeyIndexes[i] == -1) {
+				primaryKeyIndexes = null;
+				break;
+			}
+		}
+		String name = DatabaseConnectionUtils.getQualifiedTableName(this.connection, metaData.getTableName());
+		return new Table(name, sourceNames, columns, sqlNames, primaryKeyIndexes);
+	}
+
+	private int indexOf(Column[] columns, String columnName) {
+		for (int i = 0; i < columns.length; i++) {
+			if (columns[i].getColumnName().equalsIgnoreCase(columnName)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Reads a row of a dataset table. Streamed tables do not know their row count, so rows are read until the table
+	 * reports that the row is out of bounds.
+	 * @param source the dataset table
+	 * @param table the table returned by {@link #getTable(ITable)}
+	 * @param row the row index
+	 * @return the values of the row or {@code null} past the last row
+	 * @throws DataSetException if the row cannot be read
+	 */
+	public Object[] readRow(ITable source, Table table, int row) throws DataSetException {
+		String[] sourceNames = table.sourceNames;
+		if (sourceNames.length == 0) {
+			return null;
+		}
+		Object[] values = new Object[sourceNames.length];
+		try {
+			for (int i = 0; i < sourceNames.length; i++) {
+				values[i] = source.getValue(row, sourceNames[i]);
+			}
+		} catch (RowOutOfBoundsException ex) {
+			return null;
+		}
+		return values;
+	}
+
+	public Inserter createInserter(Table table) {
+		return new Inserter(table);
+	}
+
+	/**
+	 * Returns the prepared statement for the given SQL, creating it on first use.
+	 * @param sql the SQL
+	 * @return the statement
+	 * @throws SQLException if the statement cannot be prepared
+	 */
+	public PreparedStatement prepare(String sql) throws SQLException {
+		PreparedStatement statement = this.statements.get(sql);
+		if (statement == null) {
+			statement = this.connection.getConnection().prepareStatement(sql);
+			this.statements.put(sql, statement);
+		}
+		return statement;
+	}
+
+	/**
+	 * Close every prepared statement.
+	 */
+	public void close() {
+		for (PreparedStatement statement : this.statements.values()) {
+			try {
+				statement.close();
+			} catch (SQLException ex) {
+				// The statement is no longer used
+			}
+		}
+		this.statements.clear();
+	}
+
+	/**
+	 * Binds a value the way DbUnit operations do.
+	 * @param statement the statement
+	 * @param index the parameter index
+	 * @param column the database column
+	 * @param value the value
+	 * @throws SQLException if the parameter cannot be set
+	 * @throws DatabaseUnitException if the value cannot be converted to the column type
+	 */
+	public static void setValue(PreparedStatement statement, int index, Column column, Object value)
+			throws SQLException, DatabaseUnitException {
+		DataType dataType = column.getDataType();
+		if ((value == null) || (value == ITable.NO_VALUE)) {
+			statement.setNull(index, dataType.getSqlType());
+		} else {
+			dataType.setSqlValue(value, index, statement);
+		}
+	}
+
+	/**
+	 * A database table and the dataset columns written to it.
+	 */
+	static class Table {
+
+		private final String name;
+
+		private final String[] sourceNames;
+
+		private final Column[] columns;
+
+		private final String[] sqlNames;
+
+		private final int[] primaryKeyIndexes;
+
+		Table(String name, String[] sourceNames, Column[] columns, String[] sqlNames, int[] primaryKeyIndexes) {
+			this.name = name;
+			this.sourceNames = sourceNames;
+			this.columns = columns;
+			this.sqlNames = sqlNames;
+			this.primaryKeyIndexes = primaryKeyIndexes;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public Column[] getColumns() {
+			return this.columns;
+		}
+
+		public String[] getSqlNames() {
+			return this.sqlNames;
+		}
+
+		/**
+		 * @return the indexes of the primary key columns, {@code null} if the table has no primary key or if the
+		 * dataset does not contain every primary key column
+		 */
+		public int[] getPrimaryKeyIndexes() {
+			return ((this.primaryKeyIndexes != null) && (this.primaryKeyIndexes.length > 0) ? this.primaryKeyIndexes
+					: null);
+		}
+
+	}
+
+	/**
+	 * Buffers the rows of a table and inserts them in chunks. Consecutive rows that set the same columns are inserted
+	 * together, columns holding {@link ITable#NO_VALUE} are left out as DbUnit does. A row without any value cannot be
+	 * inserted and is rejected.
+	 */
+	class Inserter {
+
+		private final Table table;
+
+		private final List<Object[]> rows = new ArrayList<Object[]>();
+
+		private boolean[] included;
+
+		private int capacity;
+
+		Inserter(Table table) {
+			this.table = table;
+		}
+
+		/**
+		 * @return the rows buffered since the last flush
+		 */
+		public List<Object[]> getRows() {
+			return this.rows;
+		}
+
+		public void add(Object[] values) throws SQLException, DatabaseUnitException {
+			boolean[] included = new boolean[values.length];
+			int includedCount = 0;
+			for (int i = 0; i < values.length; i++) {
+				included[i] = (values[i] != ITable.NO_VALUE);
+				includedCount += (included[i] ? 1 : 0);
+			}
+			if (includedCount == 0) {
+				throw new DataSetException("A row of table " + this.table.name + " has no value for any of the columns "
+						+ Arrays.toString(this.table.sourceNames) + " and cannot be inserted");
+			}
+			if (!this.rows.isEmpty() && !Arrays.equals(included, this.included)) {
+				flush();
+			}
+			if (this.rows.isEmpty()) {
+				this.included = included;
+				this.capacity = Math.min(BulkWriter.this.batchSize, BulkWriter.this.dialect.supportsMultiRowInsert()
+						? BulkWriter.this.dialect.getMaxInsertRows(includedCount) : Integer.MAX_VALUE);
+			}
+			this.rows.add(values);
+			if (this.rows.size() >= this.capacity) {
+				flush();
+			}
+		}
+
+		public void flush() throws SQLException, DatabaseUnitException {
+			if (this.rows.isEmpty()) {
+				return;
+			}
+			try {
+				if (BulkWriter.this.dialect.supportsMultiRowInsert()) {
+					PreparedStatement statement = prepare(getInsertSql(this.rows.size()));
+					int index = 1;
+					for (Object[] values : this.rows) {
+						index = bind(statement, index, values);
+					}
+					statement.executeUpdate();
+				} else {
+					PreparedStatement statement = prepare(getInsertSql(1));
+					for (Object[] values : this.rows) {
+						bind(statement, 1, values);
+						statement.addBatch();
+					}
+					statement.executeBatch();
+				}
+			} finally {
+				this.rows.clear();
+			}
+		}
+
+		private int bind(PreparedStatement statement, int index, Object[] values)
+				throws SQLException, DatabaseUnitException {
+			for (int i = 0; i < values.length; i++) {
+				if (this.included[i]) {
+					setValue(statement, index++, this.table.columns[i], values[i]);
+				}
+			}
+			return index;
+		}
+
+		private String getInsertSql(int rowCount) {
+			StringBuilder columns = new StringBuilder();
+			StringBuilder parameters = new StringBuilder("(");
+			for (int i = 0; i < this.included.length; i++) {
+				if (this.included[i]) {
+					columns.append(columns.length() > 0 ? ", " : "").append(this.table.sqlNames[i]);
+					parameters.append(parameters.length() > 1 ? ", ?" : "?");
+				}
+			}
+			parameters.append(")");
+			StringBuilder sql = new StringBuilder("INSERT INTO ").append(this.table.name).append(" (").append(columns)
+					.append(") VALUES ");
+			for (int row = 0; row < rowCount; row++) {
+				sql.append(row > 0 ? ", " : "").append(parameters);
+			}
+			return sql.toString();
+		}
+
+	}
+
+}
@@ -0,0 +1,302 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.springtestdbunit.operation;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.dbunit.database.DatabaseConfig;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.database.statement.IBatchStatement;
+import org.dbunit.database.statement.IPreparedBatchStatement;
+import org.dbunit.database.statement.IStatementFactory;
+import org.dbunit.database.statement.PreparedStatementFactory;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.datatype.DataType;
+import org.dbunit.dataset.datatype.TypeCastException;
+import org.springframework.util.Assert;
+
+import com.github.springtestdbunit.util.DatabaseConnectionUtils;
+
+/**
+ * {@link IStatementFactory} that keeps the prepared statements of DbUnit operations open so that they can be reused by
+ * later operations, including operations of later tests. Statements are keyed on their SQL, which is made of the
+ * operation, the table and the column set, and are kept for each JDBC connection. Each connection keeps at most
+ * {@link #getMaxStatements() a fixed number} of statements, the least recently used statement is closed first.
+ * <p>
+ * Statements can only be reused while their JDBC connection stays open, so the cache needs a long-lived
+ * {@link IDatabaseConnection} bean that keeps the same JDBC connection between tests, for example a
+ * {@link org.dbunit.database.DatabaseDataSourceConnection} on a
+ * {@link org.springframework.jdbc.datasource.SingleConnectionDataSource} that suppresses close calls. The factory is
+ * attached to such connections using
+ * {@link com.github.springtestdbunit.bean.DbUnitRunnerConfigBean#setStatementCache(CachingStatementFactory)} or
+ * {@link com.github.springtestdbunit.bean.DatabaseConfigBean#setStatementFactory(IStatementFactory)}.
+ * <p>
+ * Cached statements reference their connection, so connections are held until their statements are closed. The
+ * statements of connections that were closed are closed by {@link #evictClosedConnections()}, which also runs each time
+ * a statement is cached for a new connection, or by {@link #clear()}.
+ */
+public class CachingStatementFactory implements IStatementFactory {
+
+	/**
+	 * The default number of statements kept for each connection.
+	 */
+	public static final int DEFAULT_MAX_STATEMENTS = 256;
+
+	private final IStatementFactory batchStatementFactory = new PreparedStatementFactory();
+
+	private final int maxStatements;
+
+	private final Map<Connection, StatementCache> caches = Collections
+			.synchronizedMap(new HashMap<Connection, StatementCache>());
+
+	private final AtomicLong hitCount = new AtomicLong();
+
+	private final AtomicLong missCount = new AtomicLong();
+
+	public CachingStatementFactory() {
+		this(DEFAULT_MAX_STATEMENTS);
+	}
+
+	/**
+	 * Create a new factory.
+	 * @param maxStatements the number of statements kept for each connection
+	 */
+	public CachingStatementFactory(int maxStatements) {
+		Assert.isTrue(maxStatements > 0, "MaxStatements must be positive");
+		this.maxStatements = maxStatements;
+	}
+
+	public IBatchStatement createBatchStatement(IDatabaseConnection connection) throws SQLException {
+		return this.batchStatementFactory.createBatchStatement(connection);
+	}
+
+	public IPreparedBatchStatement createPreparedBatchStatement(String sql, IDatabaseConnection connection)
+			throws SQLException {
+		Connection jdbcConnection = connection.getConnection();
+		PreparedStatement statement = getStatement(jdbcConnection, sql);
+		DatabaseConfig config = connection.getConfig();
+		boolean batched = config.getFeature(DatabaseConfig.FEATURE_BATCHED_STATEMENTS)
+				&& jdbcConnection.getMetaData().supportsBatchUpdates();
+		return new CachedPreparedBatchStatement(statement, batched, DatabaseConnectionUtils.getBatchSize(config));
+	}
+
+	private PreparedStatement getStatement(Connection connection, String sql) throws SQLException {
+		StatementCache cache;
+		synchronized (this.caches) {
+			cache = this.caches.get(connection);
+			if (cache == null) {
+				evictClosedConnections();
+				cache = new StatementCache(this.maxStatements);
+				this.caches.put(connection, cache);
+			}
+		}
+		synchronized (cache) {
+			PreparedStatement statement = cache.get(sql);
+			if ((statement != null) && !statement.isClosed()) {
+				this.hitCount.incrementAndGet();
+				return statement;
+			}
+			this.missCount.incrementAndGet();
+			statement = connection.prepareStatement(sql);
+			cache.put(sql, statement);
+			return statement;
+		}
+	}
+
+	/**
+	 * Close every cached statement.
+	 */
+	public void clear() {
+		synchronized (this.caches) {
+			for (StatementCache cache : this.caches.values()) {
+				synchronized (cache) {
+					for (PreparedStatement statement : cache.values()) {
+						close(statement);
+					}
+					cache.clear();
+				}
+			}
+			this.caches.clear();
+		}
+	}
+
+	/**
+	 * Close the cached statements of the connections that were closed, and forget the connections.
+	 */
+	public void evictClosedConnections() {
+		synchronized (this.caches) {
+			Iterator<Map.Entry<Connection, StatementCache>> iterator = this.caches.entrySet().iterator();
+			while (iterator.hasNext()) {
+				Map.Entry<Connection, StatementCache> entry = iterator.next();
+				if (isClosed(entry.getKey())) {
+					synchronized (entry.getValue()) {
+						for (PreparedStatement statement : entry.getValue().values()) {
+							close(statement);
+						}
+						entry.getValue().clear();
+					}
+					iterator.remove();
+				}
+			}
+		}
+	}
+
+	public int getMaxStatements() {
+		return this.maxStatements;
+	}
+
+	public long getHitCount() {
+		return this.hitCount.get();
+	}
+
+	public long getMissCount() {
+		return this.missCount.get();
+	}
+
+	private static boolean isClosed(Connection connection) {
+		try {
+			return connection.isClosed();
+		} catch (SQLException ex) {
+			return true;
+		}
+	}
+
+	private static void close(PreparedStatement statement) {
+		try {
+			statement.close();
+		} catch (SQLException ex) {
+			// The statement is no longer used
+		}
+	}
+
+	/**
+	 * The statements of a connection, in access order.
+	 */
+	private static class StatementCache extends LinkedHashMap<String, PreparedStatement> {
+
+		private final int maxStatements;
+
+		public StatementCache(int maxStatements) {
+			super(16, 0.75f, true);
+			this.maxStatements = maxStatements;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+			if (size() > this.maxStatements) {
+				close(eldest.getValue());
+				return true;
+			}
+			return false;
+		}
+
+	}
+
+	/**
+	 * Binds and executes rows the way DbUnit statements do, but leaves the statement open when closed.
+	 */
+	private static class CachedPreparedBatchStatement implements IPreparedBatchStatement {
+
+		private final PreparedStatement statement;
+
+		private final boolean batched;
+
+		private final int batchSize;
+
+		private int index;
+
+		private int batchCount;
+
+		private int result;
+
+		public CachedPreparedBatchStatement(PreparedStatement statement, boolean batched, int batchSize) {
+			this.statement = statement;
+			this.batched = batched;
+			this.batchSize = batchSize;
+		}
+
+		public void addValue(Object value, DataType dataType) throws TypeCastException, SQLException {
+			this.index++;
+			if ((value == null) || (value == ITable.NO_VALUE)) {
+				this.statement.setNull(this.index, dataType.getSqlType());
+			} else {
+				dataType.setSqlValue(value, this.index, this.statement);
+			}
+		}
+
+		public void addBatch() throws SQLException {
+			this.index = 0;
+			if (!this.batched) {
+				this.result += this.statement.executeUpdate();
+				this.statement.clearParameters();
+				return;
+			}
+			this.statement.addBatch();
+			this.batchCount++;
+			if (this.batchCount >= this.batchSize) {
+				this.result += executeStatementBatch();
+			}
+		}
+
+		public int executeBatch() throws SQLException {
+			if (this.batched && (this.batchCount > 0)) {
+				this.result += executeStatementBatch();
+			}
+			int result = this.result;
+			this.result = 0;
+			return result;
+		}
+
+		private int executeStatementBatch() throws SQLException {
+			int result = 0;
+			for (int count : this.statement.executeBatch()) {
+				result += count;
+			}
+			this.statement.clearBatch();
+			this.batchCount = 0;
+			return result;
+		}
+
+		public void clearBatch() throws SQLException {
+			this.index = 0;
+			this.result = 0;
+			this.batchCount = 0;
+			if (this.batched) {
+				this.statement.clearBatch();
+			}
+		}
+
+		public void close() throws SQLException {
+			// Leave the statement open for the next operation, only reset its state
+			if (!this.statement.isClosed()) {
+				clearBatch();
+				this.statement.clearParameters();
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,286 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.springtestdbunit.operation;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.dbunit.DatabaseUnitException;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.operation.CompositeOperation;
+import org.dbunit.operation.DatabaseOperation;
+import org.springframework.util.Assert;
+
+import com.github.springtestdbunit.util.DatabaseConnectionUtils;
+import com.github.springtestdbunit.util.DatabaseDialect;
+
+/**
+ * CLEAN_INSERT operation that disables referential integrity while the dataset tables are cleared and filled, see
+ * {@link DatabaseDialect#getDisableReferentialIntegritySql(List)}. Tables are truncated when the database allows it
+ * and deleted otherwise, in any order, and the rows are inserted in dataset order without foreign key checks.
+ * Integrity is enabled again afterwards, even when the operation fails. Since existing rows are not checked at that
+ * point, the operation can optionally look for rows that violate the foreign keys of the dataset tables.
+ * <p>
+ * Clearing a table with integrity disabled would leave the rows of other tables that reference it pointing at deleted
+ * keys. Before disabling integrity, the foreign keys that reference the dataset tables are therefore read, and when a
+ * table outside of the dataset has rows that reference a dataset table the operation is a plain DELETE_ALL followed by
+ * the insert, which fails on these rows as CLEAN_INSERT does. The same applies on databases where integrity cannot be
+ * disabled.
+ *
+ * @see com.github.springtestdbunit.annotation.DatabaseOperation#FAST_CLEAN_INSERT
+ */
+public class FastCleanInsertOperation extends DatabaseOperation {
+
+	private static final Log logger = LogFactory.getLog(FastCleanInsertOperation.class);
+
+	private final DatabaseOperation insert;
+
+	private final DatabaseOperation cleanInsert;
+
+	private final boolean validate;
+
+	public FastCleanInsertOperation() {
+		this(DatabaseOperation.INSERT, false);
+	}
+
+	/**
+	 * Create a new operation.
+	 * @param insert the operation used to insert the dataset
+	 * @param validate if the foreign keys of the dataset tables are checked once integrity is enabled again
+	 */
+	public FastCleanInsertOperation(DatabaseOperation insert, boolean validate) {
+		Assert.notNull(insert, "Insert must not be null");
+		this.insert = insert;
+		this.cleanInsert = new CompositeOperation(DatabaseOperation.DELETE_ALL, insert);
+		this.validate = validate;
+	}
+
+	/**
+	 * Returns an operation that inserts the dataset in the same way and checks the foreign keys of the dataset tables
+	 * once integrity is enabled again.
+	 * @return the validating operation
+	 */
+	public FastCleanInsertOperation withValidation() {
+		return (this.validate ? this : new FastCleanInsertOperation(this.insert, true));
+	}
+
+	@Override
+	public void execute(IDatabaseConnection connection, IDataSet dataSet) throws DatabaseUnitException, SQLException {
+		DatabaseDialect dialect = DatabaseDialect.get(connection);
+		List<String> tableNames = new ArrayList<String>(
+				new LinkedHashSet<String>(Arrays.asList(dataSet.getTableNames())));
+		List<String> sqlNames = new ArrayList<String>(tableNames.size());
+		for (String tableName : tableNames) {
+			sqlNames.add(DatabaseConnectionUtils.getQualifiedTableName(connection, tableName));
+		}
+		List<String> disableStatements = dialect.getDisableReferentialIntegritySql(sqlNames);
+		if ((disableStatements == null) || isReferencedFromOtherTables(connection, tableNames)) {
+			this.cleanInsert.execute(connection, dataSet);
+			return;
+		}
+		DatabaseConnectionUtils.execute(connection, disableStatements);
+		Throwable failure = null;
+		try {
+			if (dialect.canTruncateWithoutReferentialIntegrity()) {
+				DatabaseConnectionUtils.execute(connection, dialect.getTruncateTablesSql(sqlNames));
+			} else {
+				List<String> deleteStatements = new ArrayList<String>(sqlNames.size());
+				for (String sqlName : sqlNames) {
+					deleteStatements.add("DELETE FROM " + sqlName);
+				}
+				DatabaseConnectionUtils.execute(connection, deleteStatements);
+			}
+			this.insert.execute(connection, dataSet);
+		} catch (Throwable ex) {
+			failure = ex;
+			throw ex;
+		} finally {
+			enableReferentialIntegrity(connection, dialect.getEnableReferentialIntegritySql(sqlNames), failure);
+		}
+		if (this.validate) {
+			validate(connection, tableNames);
+		}
+	}
+
+	private void enableReferentialIntegrity(IDatabaseConnection connection, List<String> enableStatements,
+			Throwable failure) throws SQLException {
+		try {
+			DatabaseConnectionUtils.execute(connection, enableStatements);
+		} catch (SQLException | RuntimeException ex) {
+			if (failure == null) {
+				throw ex;
+			}
+			// Report the failure of the operation
+			failure.addSuppressed(ex);
+		}
+	}
+
+	/**
+	 * Returns if a table outside of the dataset has rows that reference one of the dataset tables.
+	 */
+	private boolean isReferencedFromOtherTables(IDatabaseConnection connection, List<String> tableNames)
+			throws DatabaseUnitException, SQLException {
+		Set<String> keys = new HashSet<String>();
+		for (String tableName : tableNames) {
+			keys.add(tableName.toUpperCase());
+		}
+		IDataSet databaseDataSet = connection.createDataSet();
+		DatabaseMetaData metaData = connection.getConnection().getMetaData();
+		String schema = connection.getSchema();
+		for (String tableName : tableNames) {
+			String databaseTableName = databaseDataSet.getTableMetaData(tableName).getTableName();
+			for (ForeignKey foreignKey : getForeignKeys(metaData, schema, databaseTableName, true)) {
+				if (keys.contains(foreignKey.tableName.toUpperCase()) && isSameSchema(schema, foreignKey.schema)) {
+					continue;
+				}
+				if (!isSameSchema(schema, foreignKey.schema) || (countReferences(connection, foreignKey) > 0)) {
+					if (logger.isDebugEnabled()) {
+						logger.debug("Table " + tableName + " is referenced by rows of " + foreignKey.tableName
+								+ ", deleting rows with referential integrity enabled");
+					}
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private boolean isSameSchema(String schema, String otherSchema) {
+		return (schema == null) || (otherSchema == null) || schema.equalsIgnoreCase(otherSchema);
+	}
+
+	private void validate(IDatabaseConnection connection, List<String> tableNames)
+			throws DatabaseUnitException, SQLException {
+		IDataSet databaseDataSet = connection.createDataSet();
+		DatabaseMetaData metaData = connection.getConnection().getMetaData();
+		for (String tableName : tableNames) {
+			String databaseTableName = databaseDataSet.getTableMetaData(tableName).getTableName();
+			for (ForeignKey foreignKey : getForeignKeys(metaData, connection.getSchema(), databaseTableName, false)) {
+				long count = countViolations(connection, tableName, foreignKey);
+				if (count > 0) {
+					throw new DatabaseUnitException("Foreign key " + foreignKey.name + " of table " + tableName
+							+ " is violated by " + count + " rows");
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the foreign keys of the table, or the foreign keys that reference the table when {@code exported}.
+	 */
+	private List<ForeignKey> getForeignKeys(DatabaseMetaData metaData, String schema, String tableName,
+			boolean exported) throws SQLException {
+		Map<String, ForeignKey> foreignKeys = new LinkedHashMap<String, ForeignKey>();
+		ResultSet resultSet = (exported ? metaData.getExportedKeys(null, schema, tableName)
+				: metaData.getImportedKeys(null, schema, tableName));
+		try {
+			while (resultSet.next()) {
+				String childSchema = resultSet.getString("FKTABLE_SCHEM");
+				String childTableName = resultSet.getString("FKTABLE_NAME");
+				String parentTableName = resultSet.getString("PKTABLE_NAME");
+				String name = resultSet.getString("FK_NAME");
+				String key = childSchema + "|" + childTableName + "|" + parentTableName + "|"
+						+ (name != null ? name : "");
+				ForeignKey foreignKey = foreignKeys.get(key);
+				if (foreignKey == null) {
+					foreignKey = new ForeignKey((name != null ? name : "to " + parentTableName), childSchema,
+							childTableName, parentTableName);
+					foreignKeys.put(key, foreignKey);
+				}
+				// Rows are ordered on KEY_SEQ within a key
+				foreignKey.parentColumns.add(resultSet.getString("PKCOLUMN_NAME"));
+				foreignKey.columns.add(resultSet.getString("FKCOLUMN_NAME"));
+			}
+		} finally {
+			resultSet.close();
+		}
+		return new ArrayList<ForeignKey>(foreignKeys.values());
+	}
+
+	private long countViolations(IDatabaseConnection connection, String tableName, ForeignKey foreignKey)
+			throws SQLException {
+		StringBuilder notNull = new StringBuilder();
+		StringBuilder join = new StringBuilder();
+		for (int i = 0; i < foreignKey.columns.size(); i++) {
+			String column = "c." + DatabaseConnectionUtils.getQualifiedColumnName(connection, foreignKey.columns.get(i));
+			String parentColumn = "p."
+					+ DatabaseConnectionUtils.getQualifiedColumnName(connection, foreignKey.parentColumns.get(i));
+			notNull.append(" AND ").append(column).append(" IS NOT NULL");
+			join.append(i > 0 ? " AND " : "").append(parentColumn).append(" = ").append(column);
+		}
+		String sql = "SELECT COUNT(*) FROM " + DatabaseConnectionUtils.getQualifiedTableName(connection, tableName)
+				+ " c WHERE NOT EXISTS (SELECT 1 FROM "
+				+ DatabaseConnectionUtils.getQualifiedTableName(connection, foreignKey.parentTableName) + " p WHERE "
+				+ join + ")" + notNull;
+		return DatabaseConnectionUtils.queryForLong(connection, sql);
+	}
+
+	/**
+	 * Counts the rows of the referencing table that reference a row of the referenced table, rows with a {@code null}
+	 * column are not checked by the database.
+	 */
+	private long countReferences(IDatabaseConnection connection, ForeignKey foreignKey) throws SQLException {
+		StringBuilder notNull = new StringBuilder();
+		for (String column : foreignKey.columns) {
+			notNull.append(notNull.length() > 0 ? " AND " : "")
+					.append(DatabaseConnectionUtils.getQualifiedColumnName(connection, column)).append(" IS NOT NULL");
+		}
+		String sql = "SELECT COUNT(*) FROM " + DatabaseConnectionUtils.getQualifiedTableName(connection,
+				foreignKey.tableName) + " WHERE " + notNull;
+		return DatabaseConnectionUtils.queryForLong(connection, sql);
+	}
+
+	/**
+	 * A foreign key of a table to a parent table.
+	 */
+	private static class ForeignKey {
+
+		private final String name;
+
+		private final String schema;
+
+		private final String tableName;
+
+		private final String parentTableName;
+
+		private final List<String> columns = new ArrayList<String>();
+
+		private final List<String> parentColumns = new ArrayList<String>();
+
+		public ForeignKey(String name, String schema, String tableName, String parentTableName) {
+			this.name = name;
+			this.schema = schema;
+			this.tableName = tableName;
+			this.parentTableName = parentTableName;
+		}
+
+	}
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.springtestdbunit.operation;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.IDataSet;
+
+import com.github.springtestdbunit.util.DatabaseConnectionUtils;
+
+/**
+ * Orders tables on their foreign keys. The foreign keys of each table are read once from the JDBC
+ * {@link DatabaseMetaData} and cached for the lifetime of the JVM.
+ */
+public final class ForeignKeyDependencies {
+
+	private static final Map<String, Set<String>> PARENTS = new ConcurrentHashMap<String, Set<String>>();
+
+	private ForeignKeyDependencies() {
+		super();
+	}
+
+	/**
+	 * Splits the given tables in layers: the tables of a layer only reference tables of the previous layers, so the
+	 * tables of a layer can be written concurrently once the previous layers are written. Foreign keys to tables that
+	 * are not in the list are ignored.
+	 *
+	 * @param connection The connection.
+	 * @param tableNames The names of the tables, as found in the dataset.
+	 * @return The layers, in insertion order, or {@code null} if the foreign keys form a cycle.
+	 * @throws SQLException If the database metadata cannot be read.
+	 * @throws DataSetException If a table does not exist.
+	 */
+	public static List<List<String>> getLayers(IDatabaseConnection connection, List<String> tableNames)
+			throws SQLException, DataSetException {
+		Map<String, String> remaining = new LinkedHashMap<String, String>();
+		for (String tableName : tableNames) {
+			remaining.put(tableName.toUpperCase(), tableName);
+		}
+		Map<String, Set<String>> parents = getParents(connection, tableNames);
+		List<List<String>> layers = new ArrayList<List<String>>();
+		while (!remaining.isEmpty()) {
+			List<String> layer = new ArrayList<String>();
+			for (String key : remaining.keySet()) {
+				if (Collections.disjoint(parents.get(key), remaining.keySet())) {
+					layer.add(key);
+				}
+			}
+			if (layer.isEmpty()) {
+				return null;
+			}
+			List<String> layerNames = new ArrayList<String>(layer.size());
+			for (String key : layer) {
+				layerNames.add(remaining.remove(key));
+			}
+			layers.add(layerNames);
+		}
+		return layers;
+	}
+
+	/**
+	 * Returns the tables referenced by the foreign keys of each of the given tables. Foreign keys to tables that are not
+	 * in the list, and to the table itself, are ignored.
+	 *
+	 * @param connection The connection.
+	 * @param tableNames The names of the tables, as found in the dataset.
+	 * @return The upper case names of the referenced tables, keyed on the upper case table name.
+	 * @throws SQLException If the database metadata cannot be read.
+	 * @throws DataSetException If a table does not exist.
+	 */
+	public static Map<String, Set<String>> getParents(IDatabaseConnection connection, List<String> tableNames)
+			throws SQLException, DataSetException {
+		String databaseKey = DatabaseConnectionUtils.getDatabaseKey(connection);
+		IDataSet databaseDataSet = connection.createDataSet();
+		Map<String, String> names = new LinkedHashMap<String, String>();
+		for (String tableName : tableNames) {
+			names.put(tableName.toUpperCase(), tableName);
+		}
+		Map<String, Set<String>> parents = new LinkedHashMap<String, Set<String>>();
+		for (String key : names.keySet()) {
+			Set<String> tableParents = new HashSet<String>(getParents(connection, databaseKey, databaseDataSet,
+					names.get(key)));
+			tableParents.retainAll(names.keySet());
+			tableParents.remove(key);
+			parents.put(key, tableParents);
+		}
+		return parents;
+	}
+
+	private static Set<String> getParents(IDatabaseConnection connection, String databaseKey,
+			IDataSet databaseDataSet, String tableName) throws SQLException, DataSetException {
+		String key = databaseKey + "|" + tableName.toUpperCase();
+		Set<String> parents = PARENTS.get(key);
+		if (parents == null) {
+			parents = new HashSet<String>();
+			String databaseTableName = databaseDataSet.getTableMetaData(tableName).getTableName();
+			DatabaseMetaData metaData = connection.getConnection().getMetaData();
+			ResultSet resultSet = metaData.getImportedKeys(null, connection.getSchema(), databaseTableName);
+			try {
+				while (resultSet.next()) {
+					parents.add(resultSet.getString("PKTABLE_NAME").toUpperCase());
+				}
+			} finally {
+				resultSet.close();
+			}
+			PARENTS.put(key, parents);
+		}
+		return parents;
+	}
+
+}
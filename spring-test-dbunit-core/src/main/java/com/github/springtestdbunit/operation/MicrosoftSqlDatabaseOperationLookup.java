@@ -37,6 +37,8 @@ public class MicrosoftSqlDatabaseOperationLookup extends DefaultDatabaseOperatio
 		MSSQL_LOOKUP.put(DatabaseOperation.INSERT, InsertIdentityOperation.INSERT);
 		MSSQL_LOOKUP.put(DatabaseOperation.REFRESH, InsertIdentityOperation.REFRESH);
 		MSSQL_LOOKUP.put(DatabaseOperation.CLEAN_INSERT, InsertIdentityOperation.CLEAN_INSERT);
+		MSSQL_LOOKUP.put(DatabaseOperation.FAST_CLEAN_INSERT,
+				new FastCleanInsertOperation(InsertIdentityOperation.INSERT, false));
 	}
 
 	@Override
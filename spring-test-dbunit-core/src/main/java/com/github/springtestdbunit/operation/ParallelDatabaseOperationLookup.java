@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.springtestdbunit.operation;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import javax.sql.DataSource;
+
+import org.dbunit.operation.CompositeOperation;
+import org.springframework.util.Assert;
+
+import com.github.springtestdbunit.annotation.DatabaseOperation;
+import com.github.springtestdbunit.annotation.DbUnitConfiguration;
+
+/**
+ * {@link DatabaseOperationLookup} that writes the tables of {@link DatabaseOperation#INSERT INSERT},
+ * {@link DatabaseOperation#REFRESH REFRESH} and {@link DatabaseOperation#CLEAN_INSERT CLEAN_INSERT} datasets
+ * concurrently on pooled connections, see {@link ParallelTableOperation}. Each table is written with the operation of
+ * a delegate lookup, CLEAN_INSERT deletes the tables sequentially first.
+ * <p>
+ * The lookup needs the data source of the DbUnit connection and is therefore declared as a bean, referenced with
+ * {@link DbUnitConfiguration#databaseOperationLookupBean()}.
+ */
+public class ParallelDatabaseOperationLookup implements DatabaseOperationLookup {
+
+	/**
+	 * The default maximum number of tables written concurrently.
+	 */
+	public static final int DEFAULT_PARALLELISM = 4;
+
+	private final DataSource dataSource;
+
+	private final DatabaseOperationLookup delegate;
+
+	private Executor executor = ForkJoinPool.commonPool();
+
+	private int parallelism = DEFAULT_PARALLELISM;
+
+	public ParallelDatabaseOperationLookup(DataSource dataSource) {
+		this(dataSource, new DefaultDatabaseOperationLookup());
+	}
+
+	/**
+	 * Create a new lookup.
+	 * @param dataSource the data source of the DbUnit connection
+	 * @param delegate the lookup of the operations applied to each table and of the other operations
+	 */
+	public ParallelDatabaseOperationLookup(DataSource dataSource, DatabaseOperationLookup delegate) {
+		Assert.notNull(dataSource, "DataSource must not be null");
+		Assert.notNull(delegate, "Delegate must not be null");
+		this.dataSource = dataSource;
+		this.delegate = delegate;
+	}
+
+	public org.dbunit.operation.DatabaseOperation get(DatabaseOperation operation) {
+		switch (operation) {
+		case INSERT:
+		case REFRESH:
+			return parallel(this.delegate.get(operation));
+		case CLEAN_INSERT:
+			return new CompositeOperation(this.delegate.get(DatabaseOperation.DELETE_ALL),
+					parallel(this.delegate.get(DatabaseOperation.INSERT)));
+		default:
+			return this.delegate.get(operation);
+		}
+	}
+
+	private org.dbunit.operation.DatabaseOperation parallel(org.dbunit.operation.DatabaseOperation operation) {
+		return new ParallelTableOperation(this.dataSource, operation, this.executor, this.parallelism);
+	}
+
+	/**
+	 * Set the executor that writes the tables. Defaults to the common fork-join pool.
+	 * @param executor the executor
+	 */
+	public void setExecutor(Executor executor) {
+		Assert.notNull(executor, "Executor must not be null");
+		this.executor = executor;
+	}
+
+	/**
+	 * Set the maximum number of tables written concurrently. Each of these tables holds a pooled connection until the
+	 * tables written with it are committed, the parallelism must therefore be lower than the size of the connection pool.
+	 * Defaults to {@link #DEFAULT_PARALLELISM}.
+	 * @param parallelism the parallelism
+	 */
+	public void setParallelism(int parallelism) {
+		Assert.isTrue(parallelism > 0, "Parallelism must be positive");
+		this.parallelism = parallelism;
+	}
+
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.springtestdbunit.operation;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import javax.sql.DataSource;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.dbunit.DatabaseUnitException;
+import org.dbunit.database.DatabaseConfig;
+import org.dbunit.database.DatabaseConnection;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.dataset.DefaultDataSet;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.ITableIterator;
+import org.dbunit.dataset.stream.StreamingDataSet;
+import org.dbunit.operation.DatabaseOperation;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+import com.github.springtestdbunit.util.DatabaseConnectionUtils;
+
+/**
+ * Operation that writes the tables of a dataset concurrently, each table with the given operation on its own pooled
+ * connection. Tables are written in layers worked out from their foreign keys (see {@link ForeignKeyDependencies}):
+ * the tables of a layer only reference tables of the previous layers. Since each table holds its connection until it
+ * is committed, a layer wider than the parallelism is written in chunks of at most that many tables. Once every table
+ * of a chunk is written, all its connections are committed, or all rolled back if one of the tables failed, before the
+ * next chunk starts. A failure therefore leaves the previous chunks committed, as the auto-commit connections used by
+ * DbUnit would. The parallelism should stay below the size of the connection pool, so that the tables of a chunk never
+ * wait for a connection held by another table of the same chunk.
+ * <p>
+ * The dataset is written sequentially on the DbUnit connection when that connection takes part in a transaction (the
+ * pooled connections would not see its uncommitted rows, nor be rolled back with it), when the dataset is streamed or
+ * when the foreign keys form a cycle.
+ *
+ * @see ParallelDatabaseOperationLookup
+ */
+public class ParallelTableOperation extends DatabaseOperation {
+
+	private static final Log logger = LogFactory.getLog(ParallelTableOperation.class);
+
+	private final DataSource dataSource;
+
+	private final DatabaseOperation operation;
+
+	private final Executor executor;
+
+	private final int parallelism;
+
+	/**
+	 * Create a new operation.
+	 * @param dataSource the data source of the DbUnit connection, used to obtain the pooled connections
+	 * @param operation the operation applied to each table
+	 * @param executor the executor that writes the tables
+	 * @param parallelism the maximum number of tables written concurrently, each on its own pooled connection
+	 */
+	public ParallelTableOperation(DataSource dataSource, DatabaseOperation operation, Executor executor,
+			int parallelism) {
+		Assert.notNull(dataSource, "DataSource must not be null");
+		Assert.notNull(operation, "Operation must not be null");
+		Assert.notNull(executor, "Executor must not be null");
+		Assert.isTrue(parallelism > 0, "Parallelism must be positive");
+		this.dataSource = dataSource;
+		this.operation = operation;
+		this.executor = executor;
+		this.parallelism = parallelism;
+	}
+
+	@Override
+	public void execute(IDatabaseConnection connection, IDataSet dataSet) throws DatabaseUnitException, SQLException {
+		Map<String, ITable> tables = (isParallelizable(connection, dataSet) ? getTables(dataSet) : null);
+		List<List<String>> layers = (tables != null
+				? ForeignKeyDependencies.getLayers(connection, new ArrayList<String>(tables.keySet())) : null);
+		if ((layers == null) || (layers.size() == tables.size())) {
+			this.operation.execute(connection, dataSet);
+			return;
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug("Writing " + tables.size() + " tables in " + layers.size() + " layers " + layers);
+		}
+		for (List<String> layer : layers) {
+			if ((layer.size() == 1) || (this.parallelism == 1)) {
+				for (String tableName : layer) {
+					this.operation.execute(connection, new DefaultDataSet(tables.get(tableName)));
+				}
+			} else {
+				for (int i = 0; i < layer.size(); i += this.parallelism) {
+					List<String> chunk = layer.subList(i, Math.min(i + this.parallelism, layer.size()));
+					executeChunk(connection.getConfig(), connection.getSchema(), chunk, tables);
+				}
+			}
+		}
+	}
+
+	private boolean isParallelizable(IDatabaseConnection connection, IDataSet dataSet) throws SQLException {
+		return !(dataSet instanceof StreamingDataSet) && !TransactionSynchronizationManager.isActualTransactionActive()
+				&& connection.getConnection().getAutoCommit();
+	}
+
+	/**
+	 * Returns the tables of the dataset by name, or {@code null} if a table name is repeated.
+	 */
+	private Map<String, ITable> getTables(IDataSet dataSet) throws DatabaseUnitException {
+		Map<String, ITable> tables = new LinkedHashMap<String, ITable>();
+		Map<String, String> names = new LinkedHashMap<String, String>();
+		ITableIterator iterator = dataSet.iterator();
+		while (iterator.next()) {
+			ITable table = iterator.getTable();
+			String tableName = table.getTableMetaData().getTableName();
+			if (names.put(tableName.toUpperCase(), tableName) != null) {
+				return null;
+			}
+			tables.put(tableName, table);
+		}
+		return tables;
+	}
+
+	private void executeChunk(DatabaseConfig config, String schema, List<String> chunk, Map<String, ITable> tables)
+			throws DatabaseUnitException, SQLException {
+		List<CompletableFuture<Connection>> futures = new ArrayList<CompletableFuture<Connection>>();
+		for (String tableName : chunk) {
+			ITable table = tables.get(tableName);
+			futures.add(CompletableFuture.supplyAsync(() -> {
+				try {
+					return executeTable(config, schema, table);
+				} catch (DatabaseUnitException | SQLException ex) {
+					throw new CompletionException(ex);
+				}
+			}, this.executor));
+		}
+		List<Connection> connections = new ArrayList<Connection>();
+		Throwable failure = null;
+		for (CompletableFuture<Connection> future : futures) {
+			try {
+				connections.add(future.join());
+			} catch (CompletionException ex) {
+				failure = (failure != null ? failure : ex.getCause());
+			}
+		}
+		try {
+			for (Connection connection : connections) {
+				if (failure == null) {
+					connection.commit();
+				} else {
+					connection.rollback();
+				}
+			}
+		} finally {
+			for (Connection connection : connections) {
+				close(connection);
+			}
+		}
+		if (failure instanceof DatabaseUnitException) {
+			throw (DatabaseUnitException) failure;
+		}
+		if (failure instanceof SQLException) {
+			throw (SQLException) failure;
+		}
+		if (failure instanceof RuntimeException) {
+			throw (RuntimeException) failure;
+		}
+		if (failure != null) {
+			throw new IllegalStateException(failure);
+		}
+	}
+
+	/**
+	 * Writes the table on a pooled connection and returns that connection, left uncommitted.
+	 */
+	private Connection executeTable(DatabaseConfig config, String schema, ITable table)
+			throws DatabaseUnitException, SQLException {
+		Connection connection = this.dataSource.getConnection();
+		try {
+			connection.setAutoCommit(false);
+			DatabaseConnection tableConnection = new DatabaseConnection(connection, schema);
+			DatabaseConnectionUtils.copyConfig(config, tableConnection.getConfig());
+			this.operation.execute(tableConnection, new DefaultDataSet(table));
+			return connection;
+		} catch (DatabaseUnitException | SQLException | RuntimeException ex) {
+			try {
+				connection.rollback();
+			} catch (SQLException rollbackEx) {
+				// Report the original failure
+			}
+			close(connection);
+			throw ex;
+		}
+	}
+
+	private void close(Connection connection) {
+		try {
+			try {
+				connection.setAutoCommit(true);
+			} finally {
+				connection.close();
+			}
+		} catch (SQLException ex) {
+			logger.warn("Unable to close pooled connection", ex);
+		}
+	}
+
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.springtestdbunit.operation;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.dbunit.DatabaseUnitException;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.operation.DatabaseOperation;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import com.github.springtestdbunit.util.DataSetUtils;
+import com.github.springtestdbunit.util.DatabaseConnectionUtils;
+import com.github.springtestdbunit.util.DatabaseDialect;
+
+/**
+ * CLEAN_INSERT operation that replays the dataset only once. After the first execution, the content of the dataset
+ * tables is copied into shadow tables. Later executions of the same dataset delete the tables and restore them with
+ * set based {@code INSERT INTO ... SELECT} statements. A snapshot is discarded, and the dataset replayed, when the
+ * content of the dataset changes or when the snapshot cannot be restored.
+ * <p>
+ * Shadow tables are created in the schema of the connection, named with the {@link #DEFAULT_SHADOW_TABLE_PREFIX
+ * prefix}. They are left out of the {@link DatabaseConnectionUtils#createDataSet(IDatabaseConnection) full database
+ * dataset}, and their row counts are checked before every restore. Creating them is DDL, which many databases commit
+ * immediately: the first execution of a dataset should not run inside a transaction that is expected to be rolled
+ * back. Snapshots are kept for the lifetime of the JVM, use {@link #dropSnapshots(IDatabaseConnection)} to remove the
+ * shadow tables of a persistent database, including the ones left behind by earlier runs.
+ *
+ * @see SnapshotDatabaseOperationLookup
+ */
+public class SnapshotCleanInsertOperation extends DatabaseOperation {
+
+	private static final Log logger = LogFactory.getLog(SnapshotCleanInsertOperation.class);
+
+	/**
+	 * The default prefix of shadow table names.
+	 */
+	public static final String DEFAULT_SHADOW_TABLE_PREFIX = "DBUNIT_SNAP_";
+
+	private static final String RUN_ID = Integer.toString(ThreadLocalRandom.current().nextInt(36 * 36 * 36), 36)
+			.toUpperCase();
+
+	private static final AtomicInteger SNAPSHOT_COUNT = new AtomicInteger();
+
+	private static final Map<String, Snapshot> SNAPSHOTS = new ConcurrentHashMap<String, Snapshot>();
+
+	private static final Set<String> SHADOW_TABLE_PREFIXES = new CopyOnWriteArraySet<String>(
+			Collections.singleton(DEFAULT_SHADOW_TABLE_PREFIX));
+
+	private final DatabaseOperation cleanInsert;
+
+	private final String shadowTablePrefix;
+
+	public SnapshotCleanInsertOperation() {
+		this(DatabaseOperation.CLEAN_INSERT, DEFAULT_SHADOW_TABLE_PREFIX);
+	}
+
+	/**
+	 * Create a new operation.
+	 * @param cleanInsert the operation used to apply a dataset that has no snapshot yet
+	 * @param shadowTablePrefix the prefix of shadow table names
+	 */
+	public SnapshotCleanInsertOperation(DatabaseOperation cleanInsert, String shadowTablePrefix) {
+		Assert.notNull(cleanInsert, "CleanInsert must not be null");
+		Assert.hasLength(shadowTablePrefix, "ShadowTablePrefix must not be empty");
+		this.cleanInsert = cleanInsert;
+		this.shadowTablePrefix = shadowTablePrefix;
+		SHADOW_TABLE_PREFIXES.add(shadowTablePrefix);
+		DatabaseConnectionUtils.addInternalTablePrefix(shadowTablePrefix);
+	}
+
+	@Override
+	public void execute(IDatabaseConnection connection, IDataSet dataSet) throws DatabaseUnitException, SQLException {
+		Set<String> tableNames = new LinkedHashSet<String>(Arrays.asList(dataSet.getTableNames()));
+		String databaseKey = DatabaseConnectionUtils.getDatabaseKey(connection);
+		String key = databaseKey + "|" + StringUtils.collectionToCommaDelimitedString(tableNames).toUpperCase();
+		byte[] digest = DataSetUtils.digest(dataSet);
+		Snapshot snapshot = SNAPSHOTS.get(key);
+		if ((snapshot != null) && Arrays.equals(snapshot.digest, digest)) {
+			try {
+				if (isIntact(connection, snapshot)) {
+					restore(connection, snapshot);
+					return;
+				}
+				logger.warn("Snapshot tables of " + tableNames + " were modified, the dataset will be replayed");
+			} catch (SQLException ex) {
+				logger.warn("Unable to restore snapshot of " + tableNames + ", the dataset will be replayed", ex);
+			}
+			SNAPSHOTS.remove(key);
+			drop(connection, snapshot);
+		} else if (snapshot != null) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Dataset of " + tableNames + " changed, discarding its snapshot");
+			}
+			SNAPSHOTS.remove(key);
+			drop(connection, snapshot);
+		}
+		this.cleanInsert.execute(connection, dataSet);
+		try {
+			SNAPSHOTS.put(key, capture(connection, databaseKey, tableNames, digest));
+		} catch (SQLException ex) {
+			logger.warn("Unable to capture snapshot of " + tableNames + ", the dataset will be replayed next time", ex);
+		}
+	}
+
+	private Snapshot capture(IDatabaseConnection connection, String databaseKey, Set<String> tableNames,
+			byte[] digest) throws SQLException {
+		DatabaseDialect dialect = DatabaseDialect.get(connection);
+		String snapshotName = this.shadowTablePrefix + RUN_ID + "_" + SNAPSHOT_COUNT.incrementAndGet() + "_";
+		Snapshot snapshot = new Snapshot(databaseKey, digest);
+		try {
+			for (String tableName : tableNames) {
+				String table = DatabaseConnectionUtils.getQualifiedTableName(connection, tableName);
+				String shadowTable = DatabaseConnectionUtils.getQualifiedTableName(connection,
+						snapshotName + snapshot.tables.size());
+				DatabaseConnectionUtils.execute(connection, dialect.getCreateTableAsSelectSql(shadowTable, "SELECT * FROM " + table));
+				snapshot.tables.add(new ShadowTable(table, shadowTable, getColumns(connection, shadowTable),
+						countRows(connection, shadowTable)));
+			}
+		} catch (SQLException ex) {
+			drop(connection, snapshot);
+			throw ex;
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug("Captured snapshot of " + tableNames + " into " + snapshotName + "*");
+		}
+		return snapshot;
+	}
+
+	private String getColumns(IDatabaseConnection connection, String shadowTable) throws SQLException {
+		Statement statement = connection.getConnection().createStatement();
+		try {
+			ResultSet resultSet = statement.executeQuery("SELECT * FROM " + shadowTable + " WHERE 1 = 0");
+			try {
+				ResultSetMetaData metaData = resultSet.getMetaData();
+				List<String> columns = new ArrayList<String>();
+				for (int column = 1; column <= metaData.getColumnCount(); column++) {
+					columns.add(metaData.getColumnName(column));
+				}
+				return StringUtils.collectionToCommaDelimitedString(columns);
+			} finally {
+				resultSet.close();
+			}
+		} finally {
+			statement.close();
+		}
+	}
+
+	/**
+	 * Checks that the shadow tables still hold the captured rows. They are regular tables of the connection schema, and
+	 * can be cleared by code that does not use {@link DatabaseConnectionUtils#createDataSet(IDatabaseConnection)}.
+	 */
+	private boolean isIntact(IDatabaseConnection connection, Snapshot snapshot) throws SQLException {
+		for (ShadowTable shadowTable : snapshot.tables) {
+			if (countRows(connection, shadowTable.shadowTable) != shadowTable.rowCount) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private long countRows(IDatabaseConnection connection, String shadowTable) throws SQLException {
+		return DatabaseConnectionUtils.queryForLong(connection, "SELECT COUNT(*) FROM " + shadowTable);
+	}
+
+	private void restore(IDatabaseConnection connection, Snapshot snapshot) throws SQLException {
+		DatabaseDialect dialect = DatabaseDialect.get(connection);
+		Statement statement = connection.getConnection().createStatement();
+		try {
+			for (int i = snapshot.tables.size() - 1; i >= 0; i--) {
+				statement.executeUpdate("DELETE FROM " + snapshot.tables.get(i).table);
+			}
+			for (ShadowTable shadowTable : snapshot.tables) {
+				String insert = "INSERT INTO " + shadowTable.table + " (" + shadowTable.columns + ") SELECT "
+						+ shadowTable.columns + " FROM " + shadowTable.shadowTable;
+				if (dialect == DatabaseDialect.SQL_SERVER) {
+					insertWithIdentity(statement, shadowTable.table, insert);
+				} else {
+					statement.executeUpdate(insert);
+				}
+			}
+		} finally {
+			statement.close();
+		}
+	}
+
+	private void insertWithIdentity(Statement statement, String table, String insert) throws SQLException {
+		boolean identityInsert;
+		try {
+			statement.execute("SET IDENTITY_INSERT " + table + " ON");
+			identityInsert = true;
+		} catch (SQLException ex) {
+			// The table has no identity column
+			identityInsert = false;
+		}
+		try {
+			statement.executeUpdate(insert);
+		} finally {
+			if (identityInsert) {
+				statement.execute("SET IDENTITY_INSERT " + table + " OFF");
+			}
+		}
+	}
+
+	private static void drop(IDatabaseConnection connection, Snapshot snapshot) {
+		for (ShadowTable shadowTable : snapshot.tables) {
+			try {
+				DatabaseConnectionUtils.execute(connection, "DROP TABLE " + shadowTable.shadowTable);
+			} catch (SQLException ex) {
+				logger.warn("Unable to drop snapshot table " + shadowTable.shadowTable, ex);
+			}
+		}
+	}
+
+	/**
+	 * Drop the shadow tables of every snapshot taken on the database of the given connection, and every other table of
+	 * the connection schema named with the prefix of a shadow table, such as the shadow tables of earlier runs. Must not
+	 * be called while another JVM uses snapshots on the same database.
+	 * @param connection the connection
+	 * @throws SQLException if the database cannot be identified or a shadow table of an earlier run cannot be dropped
+	 */
+	public static void dropSnapshots(IDatabaseConnection connection) throws SQLException {
+		String databaseKey = DatabaseConnectionUtils.getDatabaseKey(connection);
+		Iterator<Snapshot> iterator = SNAPSHOTS.values().iterator();
+		while (iterator.hasNext()) {
+			Snapshot snapshot = iterator.next();
+			if (snapshot.databaseKey.equals(databaseKey)) {
+				iterator.remove();
+				drop(connection, snapshot);
+			}
+		}
+		for (String prefix : SHADOW_TABLE_PREFIXES) {
+			int dropped = DatabaseConnectionUtils.dropTables(connection, prefix);
+			if ((dropped > 0) && logger.isDebugEnabled()) {
+				logger.debug("Dropped " + dropped + " snapshot tables of earlier runs named " + prefix + "*");
+			}
+		}
+	}
+
+	private static class Snapshot {
+
+		private final String databaseKey;
+
+		private final byte[] digest;
+
+		private final List<ShadowTable> tables = new ArrayList<ShadowTable>();
+
+		public Snapshot(String databaseKey, byte[] digest) {
+			this.databaseKey = databaseKey;
+			this.digest = digest;
+		}
+
+	}
+
+	private static class ShadowTable {
+
+		private final String table;
+
+		private final String shadowTable;
+
+		private final String columns;
+
+		private final long rowCount;
+
+		public ShadowTable(String table, String shadowTable, String columns, long rowCount) {
+			this.table = table;
+			this.shadowTable = shadowTable;
+			this.columns = columns;
+			this.rowCount = rowCount;
+		}
+
+	}
+
+}
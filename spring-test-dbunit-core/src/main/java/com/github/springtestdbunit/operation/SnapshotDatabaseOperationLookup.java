@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.springtestdbunit.operation;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.github.springtestdbunit.annotation.DatabaseOperation;
+
+/**
+ * {@link DatabaseOperationLookup} that restores {@link DatabaseOperation#CLEAN_INSERT CLEAN_INSERT} datasets from
+ * snapshots instead of replaying them, see {@link SnapshotCleanInsertOperation}.
+ */
+public class SnapshotDatabaseOperationLookup extends DefaultDatabaseOperationLookup {
+
+	private static Map<DatabaseOperation, org.dbunit.operation.DatabaseOperation> SNAPSHOT_LOOKUP;
+
+	static {
+		SNAPSHOT_LOOKUP = new HashMap<DatabaseOperation, org.dbunit.operation.DatabaseOperation>();
+		SNAPSHOT_LOOKUP.put(DatabaseOperation.CLEAN_INSERT, new SnapshotCleanInsertOperation());
+	}
+
+	@Override
+	public org.dbunit.operation.DatabaseOperation get(DatabaseOperation operation) {
+		if (SNAPSHOT_LOOKUP.containsKey(operation)) {
+			return SNAPSHOT_LOOKUP.get(operation);
+		}
+		return super.get(operation);
+	}
+
+}
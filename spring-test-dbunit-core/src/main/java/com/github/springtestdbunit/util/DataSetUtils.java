@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.springtestdbunit.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.ITableIterator;
+
+/**
+ * Utility class for {@link IDataSet}s.
+ */
+public class DataSetUtils {
+
+	/**
+	 * Default private constructor to avoid instantiating this class.
+	 */
+	private DataSetUtils() {
+		super();
+	}
+
+	/**
+	 * Computes a SHA-256 digest of the content of a dataset: table names, column names and values, in iteration order.
+	 * Table and column names are not case sensitive. Equal digests mean that the datasets hold the same data.
+	 *
+	 * @param dataSet The dataset.
+	 * @return The digest.
+	 * @throws DataSetException If the dataset cannot be read.
+	 */
+	public static byte[] digest(IDataSet dataSet) throws DataSetException {
+		MessageDigest digest = createDigest();
+		ITableIterator iterator = dataSet.iterator();
+		while (iterator.next()) {
+			ITable table = iterator.getTable();
+			update(digest, table.getTableMetaData().getTableName().toUpperCase());
+			Column[] columns = table.getTableMetaData().getColumns();
+			for (Column column : columns) {
+				update(digest, column.getColumnName().toUpperCase());
+			}
+			for (int row = 0; row < table.getRowCount(); row++) {
+				for (Column column : columns) {
+					Object value = table.getValue(row, column.getColumnName());
+					if (value instanceof byte[]) {
+						digest.update((byte[]) value);
+						digest.update((byte) 0);
+					} else {
+						update(digest, String.valueOf(value));
+					}
+				}
+			}
+		}
+		return digest.digest();
+	}
+
+	private static MessageDigest createDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		digest.update(value.getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+	}
+
+}
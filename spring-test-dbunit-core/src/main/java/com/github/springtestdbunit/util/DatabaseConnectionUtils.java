@@ -0,0 +1,356 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.springtestdbunit.util;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import org.dbunit.database.DatabaseConfig;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.FilteredDataSet;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.QualifiedTableName;
+
+/**
+ * Utility class for {@link IDatabaseConnection}s.
+ */
+public class DatabaseConnectionUtils {
+
+	/**
+	 * The batch size used when {@link DatabaseConfig#PROPERTY_BATCH_SIZE} is not set.
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 100;
+
+	/**
+	 * The fetch size used when {@link DatabaseConfig#PROPERTY_FETCH_SIZE} is not set.
+	 */
+	public static final int DEFAULT_FETCH_SIZE = 100;
+
+	private static final Set<String> INTERNAL_TABLE_PREFIXES = new CopyOnWriteArraySet<String>();
+
+	/**
+	 * Default private constructor to avoid instantiating this class.
+	 */
+	private DatabaseConnectionUtils() {
+		super();
+	}
+
+	/**
+	 * Returns a key that identifies the database and schema of a connection. Unlike the connection itself, the key
+	 * stays the same for every connection obtained from the same data source.
+	 *
+	 * @param connection The connection.
+	 * @return The key.
+	 * @throws SQLException If the connection metadata cannot be read.
+	 */
+	public static String getDatabaseKey(IDatabaseConnection connection) throws SQLException {
+		DatabaseMetaData metaData = connection.getConnection().getMetaData();
+		return metaData.getURL() + "|" + metaData.getUserName() + "|" + connection.getSchema();
+	}
+
+	/**
+	 * Returns the table name as used by DbUnit operations, qualified and escaped according to the connection
+	 * configuration.
+	 *
+	 * @param connection The connection.
+	 * @param tableName The table name.
+	 * @return The name to use in SQL statements.
+	 */
+	public static String getQualifiedTableName(IDatabaseConnection connection, String tableName) {
+		DatabaseConfig config = connection.getConfig();
+		String escapePattern = (String) config.getProperty(DatabaseConfig.PROPERTY_ESCAPE_PATTERN);
+		return new QualifiedTableName(tableName, connection.getSchema(), escapePattern)
+				.getQualifiedNameIfEnabled(config);
+	}
+
+	/**
+	 * Returns the column name as used by DbUnit operations, escaped according to the connection configuration.
+	 *
+	 * @param connection The connection.
+	 * @param columnName The column name.
+	 * @return The name to use in SQL statements.
+	 */
+	public static String getQualifiedColumnName(IDatabaseConnection connection, String columnName) {
+		String escapePattern = (String) connection.getConfig().getProperty(DatabaseConfig.PROPERTY_ESCAPE_PATTERN);
+		return new QualifiedTableName(columnName, null, escapePattern).getQualifiedName();
+	}
+
+	/**
+	 * Registers the name prefix of tables that are created by the framework itself, such as snapshot or scratch
+	 * tables, so that they are left out of {@link #createDataSet(IDatabaseConnection)}.
+	 *
+	 * @param prefix The table name prefix, compared case insensitively.
+	 */
+	public static void addInternalTablePrefix(String prefix) {
+		INTERNAL_TABLE_PREFIXES.add(prefix.toUpperCase());
+	}
+
+	/**
+	 * Checks whether a table was created by the framework itself.
+	 *
+	 * @param tableName The table name, qualified or not.
+	 * @return {@code true} if the name starts with a registered {@link #addInternalTablePrefix(String) prefix}.
+	 */
+	public static boolean isInternalTable(String tableName) {
+		String name = tableName.substring(tableName.lastIndexOf('.') + 1).toUpperCase();
+		for (String prefix : INTERNAL_TABLE_PREFIXES) {
+			if (name.startsWith(prefix)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Drops every table of the connection schema whose name starts with the given prefix, including the tables left
+	 * behind by earlier runs. The tables must not be in use by another run.
+	 *
+	 * @param connection The connection.
+	 * @param prefix The table name prefix, compared case insensitively.
+	 * @return The number of dropped tables.
+	 * @throws SQLException If the database metadata cannot be read or a table cannot be dropped.
+	 */
+	public static int dropTables(IDatabaseConnection connection, String prefix) throws SQLException {
+		String escapePattern = (String) connection.getConfig().getProperty(DatabaseConfig.PROPERTY_ESCAPE_PATTERN);
+		List<String> tables = new ArrayList<String>();
+		ResultSet resultSet = connection.getConnection().getMetaData().getTables(null, connection.getSchema(), null,
+				new String[] { "TABLE" });
+		try {
+			while (resultSet.next()) {
+				String tableName = resultSet.getString("TABLE_NAME");
+				if (tableName.toUpperCase().startsWith(prefix.toUpperCase())) {
+					tables.add(new QualifiedTableName(tableName, resultSet.getString("TABLE_SCHEM"), escapePattern)
+							.getQualifiedName());
+				}
+			}
+		} finally {
+			resultSet.close();
+		}
+		for (String table : tables) {
+			execute(connection, "DROP TABLE " + table);
+		}
+		return tables.size();
+	}
+
+	/**
+	 * Returns the dataset of every table of the connection, except the {@link #isInternalTable(String) internal
+	 * tables}. This dataset must be used instead of {@link IDatabaseConnection#createDataSet()} wherever the whole
+	 * database is cleared or compared.
+	 *
+	 * @param connection The connection.
+	 * @return The dataset of the user tables.
+	 * @throws SQLException If the database metadata cannot be read.
+	 * @throws DataSetException If the dataset cannot be filtered.
+	 */
+	public static IDataSet createDataSet(IDatabaseConnection connection) throws SQLException, DataSetException {
+		IDataSet dataSet = connection.createDataSet();
+		String[] tableNames = dataSet.getTableNames();
+		List<String> userTableNames = new ArrayList<String>(tableNames.length);
+		for (String tableName : tableNames) {
+			if (!isInternalTable(tableName)) {
+				userTableNames.add(tableName);
+			}
+		}
+		if (userTableNames.size() == tableNames.length) {
+			return dataSet;
+		}
+		return new FilteredDataSet(userTableNames.toArray(new String[userTableNames.size()]), dataSet);
+	}
+
+	/**
+	 * Returns the number of rows written by a single batch, as configured by {@link DatabaseConfig#PROPERTY_BATCH_SIZE}.
+	 *
+	 * @param config The connection configuration.
+	 * @return The batch size, at least one.
+	 */
+	public static int getBatchSize(DatabaseConfig config) {
+		Object batchSize = config.getProperty(DatabaseConfig.PROPERTY_BATCH_SIZE);
+		return (batchSize instanceof Integer ? Math.max(1, (Integer) batchSize) : DEFAULT_BATCH_SIZE);
+	}
+
+	/**
+	 * Returns the number of rows fetched at once when reading, as configured by
+	 * {@link DatabaseConfig#PROPERTY_FETCH_SIZE}.
+	 *
+	 * @param config The connection configuration.
+	 * @return The fetch size.
+	 */
+	public static int getFetchSize(DatabaseConfig config) {
+		Object fetchSize = config.getProperty(DatabaseConfig.PROPERTY_FETCH_SIZE);
+		return (fetchSize instanceof Integer ? (Integer) fetchSize : DEFAULT_FETCH_SIZE);
+	}
+
+	/**
+	 * Copies every property and feature set on a connection configuration to another one.
+	 *
+	 * @param source The configuration to copy.
+	 * @param target The configuration to update.
+	 */
+	public static void copyConfig(DatabaseConfig source, DatabaseConfig target) {
+		for (DatabaseConfig.ConfigProperty property : DatabaseConfig.ALL_PROPERTIES) {
+			Object value = source.getProperty(property.getProperty());
+			if (value != null) {
+				target.setProperty(property.getProperty(), value);
+			}
+		}
+	}
+
+	/**
+	 * Executes an SQL statement.
+	 *
+	 * @param connection The connection.
+	 * @param sql The SQL statement.
+	 * @throws SQLException If the statement fails.
+	 */
+	public static void execute(IDatabaseConnection connection, String sql) throws SQLException {
+		execute(connection, Collections.singletonList(sql));
+	}
+
+	/**
+	 * Executes SQL statements one after the other, stopping at the first failure.
+	 *
+	 * @param connection The connection.
+	 * @param statements The SQL statements.
+	 * @throws SQLException If a statement fails.
+	 */
+	public static void execute(IDatabaseConnection connection, List<String> statements) throws SQLException {
+		Statement statement = connection.getConnection().createStatement();
+		try {
+			for (String sql : statements) {
+				statement.execute(sql);
+			}
+		} finally {
+			statement.close();
+		}
+	}
+
+	/**
+	 * Executes a query that returns a single number, such as {@code SELECT COUNT(*)}.
+	 *
+	 * @param connection The connection.
+	 * @param sql The query.
+	 * @return The number in the first column of the first row.
+	 * @throws SQLException If the query fails.
+	 */
+	public static long queryForLong(IDatabaseConnection connection, String sql) throws SQLException {
+		Statement statement = connection.getConnection().createStatement();
+		try {
+			ResultSet resultSet = statement.executeQuery(sql);
+			try {
+				resultSet.next();
+				return resultSet.getLong(1);
+			} finally {
+				resultSet.close();
+			}
+		} finally {
+			statement.close();
+		}
+	}
+
+	/**
+	 * Counts the rows of a table.
+	 *
+	 * @param connection The connection.
+	 * @param tableName The table name.
+	 * @return The row count.
+	 * @throws SQLException If the table cannot be read.
+	 */
+	public static long countRows(IDatabaseConnection connection, String tableName) throws SQLException {
+		return queryForLong(connection, "SELECT COUNT(*) FROM " + getQualifiedTableName(connection, tableName));
+	}
+
+	/**
+	 * Computes a checksum of the content of a table. The checksum does not depend on the order in which the rows are
+	 * returned, so equal checksums mean that the table very likely holds the same rows. The checksum is computed by the
+	 * database when its {@link DatabaseDialect#getTableChecksumSql(String) dialect} has a suitable function, otherwise
+	 * the rows are read and checksummed as a {@link RowChecksum}.
+	 *
+	 * @param connection The connection.
+	 * @param tableName The table name.
+	 * @return The checksum.
+	 * @throws SQLException If the table cannot be read.
+	 */
+	public static String checksumTable(IDatabaseConnection connection, String tableName) throws SQLException {
+		String table = getQualifiedTableName(connection, tableName);
+		String checksumSql = DatabaseDialect.get(connection).getTableChecksumSql(table);
+		if (checksumSql != null) {
+			return queryForChecksum(connection, checksumSql);
+		}
+		Statement statement = connection.getConnection().createStatement(ResultSet.TYPE_FORWARD_ONLY,
+				ResultSet.CONCUR_READ_ONLY);
+		try {
+			statement.setFetchSize(getFetchSize(connection.getConfig()));
+			ResultSet resultSet = statement.executeQuery("SELECT * FROM " + table);
+			try {
+				ResultSetMetaData metaData = resultSet.getMetaData();
+				int columnCount = metaData.getColumnCount();
+				boolean[] binary = new boolean[columnCount + 1];
+				for (int column = 1; column <= columnCount; column++) {
+					binary[column] = isBinary(metaData.getColumnType(column));
+				}
+				RowChecksum checksum = new RowChecksum();
+				while (resultSet.next()) {
+					for (int column = 1; column <= columnCount; column++) {
+						checksum.addValue(binary[column] ? resultSet.getBytes(column) : getBytes(resultSet.getString(column)));
+					}
+					checksum.endRow();
+				}
+				return checksum.toString();
+			} finally {
+				resultSet.close();
+			}
+		} finally {
+			statement.close();
+		}
+	}
+
+	private static String queryForChecksum(IDatabaseConnection connection, String sql) throws SQLException {
+		Statement statement = connection.getConnection().createStatement();
+		try {
+			ResultSet resultSet = statement.executeQuery(sql);
+			try {
+				resultSet.next();
+				return resultSet.getString(resultSet.getMetaData().getColumnCount());
+			} finally {
+				resultSet.close();
+			}
+		} finally {
+			statement.close();
+		}
+	}
+
+	private static boolean isBinary(int sqlType) {
+		return (sqlType == Types.BINARY) || (sqlType == Types.VARBINARY) || (sqlType == Types.LONGVARBINARY)
+				|| (sqlType == Types.BLOB);
+	}
+
+	private static byte[] getBytes(String value) {
+		return (value != null ? value.getBytes(StandardCharsets.UTF_8) : null);
+	}
+
+}
@@ -0,0 +1,401 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.springtestdbunit.util;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.dbunit.database.IDatabaseConnection;
+import org.springframework.util.StringUtils;
+
+/**
+ * SQL differences between the databases that are commonly used in tests. Only covers the statements that cannot be
+ * written portably.
+ */
+public enum DatabaseDialect {
+
+	HSQLDB("HSQL", 32767, Integer.MAX_VALUE) {
+
+		@Override
+		public String getCreateTableAsSelectSql(String tableName, String selectSql) {
+			return "CREATE TABLE " + tableName + " AS (" + selectSql + ") WITH DATA";
+		}
+
+		@Override
+		public String getRestartIdentitySql(String tableName, String columnName) {
+			return "ALTER TABLE " + tableName + " ALTER COLUMN " + columnName + " RESTART WITH 1";
+		}
+
+		@Override
+		public List<String> getDisableReferentialIntegritySql(List<String> tableNames) {
+			return Collections.singletonList("SET DATABASE REFERENTIAL INTEGRITY FALSE");
+		}
+
+		@Override
+		public List<String> getEnableReferentialIntegritySql(List<String> tableNames) {
+			return Collections.singletonList("SET DATABASE REFERENTIAL INTEGRITY TRUE");
+		}
+
+	},
+
+	H2("H2", 32767, Integer.MAX_VALUE) {
+
+		@Override
+		public String getRestartIdentitySql(String tableName, String columnName) {
+			return "ALTER TABLE " + tableName + " ALTER COLUMN " + columnName + " RESTART WITH 1";
+		}
+
+		@Override
+		public List<String> getDisableReferentialIntegritySql(List<String> tableNames) {
+			return forEachTable("ALTER TABLE ", tableNames, " SET REFERENTIAL_INTEGRITY FALSE");
+		}
+
+		@Override
+		public List<String> getEnableReferentialIntegritySql(List<String> tableNames) {
+			return forEachTable("ALTER TABLE ", tableNames, " SET REFERENTIAL_INTEGRITY TRUE NOCHECK");
+		}
+
+		@Override
+		public boolean canTruncateWithoutReferentialIntegrity() {
+			return true;
+		}
+
+	},
+
+	POSTGRESQL("PostgreSQL", 32767, Integer.MAX_VALUE) {
+
+		@Override
+		public List<String> getTruncateTablesSql(List<String> tableNames) {
+			return Collections.singletonList("TRUNCATE TABLE " + StringUtils.collectionToDelimitedString(tableNames, ", "));
+		}
+
+		@Override
+		public String getRestartIdentitySql(String tableName, String columnName) {
+			return "SELECT setval(pg_get_serial_sequence('" + tableName + "', '" + columnName + "'), 1, false)";
+		}
+
+		@Override
+		public String getTableChecksumSql(String tableName) {
+			return "SELECT COALESCE(SUM(('x' || SUBSTR(MD5(CAST(c AS TEXT)), 1, 16))::BIT(64)::BIGINT), 0) FROM "
+					+ tableName + " c";
+		}
+
+	},
+
+	MYSQL("MySQL", 65535, Integer.MAX_VALUE) {
+
+		@Override
+		public String getRestartIdentitySql(String tableName, String columnName) {
+			return "ALTER TABLE " + tableName + " AUTO_INCREMENT = 1";
+		}
+
+
+		@Override
+		public List<String> getDisableReferentialIntegritySql(List<String> tableNames) {
+			return Collections.singletonList("SET FOREIGN_KEY_CHECKS = 0");
+		}
+
+		@Override
+		public List<String> getEnableReferentialIntegritySql(List<String> tableNames) {
+			return Collections.singletonList("SET FOREIGN_KEY_CHECKS = 1");
+		}
+
+		@Override
+		public boolean canTruncateWithoutReferentialIntegrity() {
+			return true;
+		}
+
+		@Override
+		public String getTableChecksumSql(String tableName) {
+			return "CHECKSUM TABLE " + tableName;
+		}
+
+		@Override
+		public String getExactComparisonExpression(String columnName) {
+			return "BINARY " + columnName;
+		}
+
+	},
+
+	MARIADB("MariaDB", 65535, Integer.MAX_VALUE) {
+
+		@Override
+		public String getRestartIdentitySql(String tableName, String columnName) {
+			return "ALTER TABLE " + tableName + " AUTO_INCREMENT = 1";
+		}
+
+
+		@Override
+		public List<String> getDisableReferentialIntegritySql(List<String> tableNames) {
+			return Collections.singletonList("SET FOREIGN_KEY_CHECKS = 0");
+		}
+
+		@Override
+		public List<String> getEnableReferentialIntegritySql(List<String> tableNames) {
+			return Collections.singletonList("SET FOREIGN_KEY_CHECKS = 1");
+		}
+
+		@Override
+		public boolean canTruncateWithoutReferentialIntegrity() {
+			return true;
+		}
+
+		@Override
+		public String getTableChecksumSql(String tableName) {
+			return "CHECKSUM TABLE " + tableName;
+		}
+
+		@Override
+		public String getExactComparisonExpression(String columnName) {
+			return "BINARY " + columnName;
+		}
+
+	},
+
+	ORACLE("Oracle", 0, 0) {
+
+		@Override
+		public String getExceptOperator() {
+			return "MINUS";
+		}
+
+	},
+
+	SQL_SERVER("Microsoft SQL Server", 2000, 1000) {
+
+		@Override
+		public String getCreateTableAsSelectSql(String tableName, String selectSql) {
+			return selectSql.replaceFirst("(?i) FROM ", " INTO " + tableName + " FROM ");
+		}
+
+		@Override
+		public List<String> getDisableReferentialIntegritySql(List<String> tableNames) {
+			return forEachTable("ALTER TABLE ", tableNames, " NOCHECK CONSTRAINT ALL");
+		}
+
+		@Override
+		public List<String> getEnableReferentialIntegritySql(List<String> tableNames) {
+			return forEachTable("ALTER TABLE ", tableNames, " CHECK CONSTRAINT ALL");
+		}
+
+		@Override
+		public String getExactComparisonExpression(String columnName) {
+			return "CAST(" + columnName + " AS VARBINARY(MAX))";
+		}
+
+	},
+
+	DB2("DB2", 32767, Integer.MAX_VALUE) {
+
+		@Override
+		public String getCreateTableAsSelectSql(String tableName, String selectSql) {
+			return "CREATE TABLE " + tableName + " AS (" + selectSql + ") WITH DATA";
+		}
+
+		@Override
+		public List<String> getTruncateTablesSql(List<String> tableNames) {
+			List<String> statements = new ArrayList<String>(tableNames.size());
+			for (String tableName : tableNames) {
+				statements.add("TRUNCATE TABLE " + tableName + " IMMEDIATE");
+			}
+			return statements;
+		}
+
+		@Override
+		public String getRestartIdentitySql(String tableName, String columnName) {
+			return "ALTER TABLE " + tableName + " ALTER COLUMN " + columnName + " RESTART WITH 1";
+		}
+
+	},
+
+	/**
+	 * Any other database, standard SQL is used.
+	 */
+	GENERIC(null, 0, 0);
+
+	private final String productNamePrefix;
+
+	private final int maxInsertParameters;
+
+	private final int maxInsertRows;
+
+	DatabaseDialect(String productNamePrefix, int maxInsertParameters, int maxInsertRows) {
+		this.productNamePrefix = productNamePrefix;
+		this.maxInsertParameters = maxInsertParameters;
+		this.maxInsertRows = maxInsertRows;
+	}
+
+	/**
+	 * Returns if a single {@code INSERT} statement can hold several rows, as in {@code VALUES (...), (...)}.
+	 *
+	 * @return {@code true} if multi-row inserts are supported.
+	 */
+	public boolean supportsMultiRowInsert() {
+		return this.maxInsertParameters > 0;
+	}
+
+	/**
+	 * Returns the number of rows that a multi-row {@code INSERT} statement can hold.
+	 *
+	 * @param columnCount The number of columns of each row.
+	 * @return The number of rows, at least one.
+	 */
+	public int getMaxInsertRows(int columnCount) {
+		if (!supportsMultiRowInsert()) {
+			return 1;
+		}
+		return Math.max(1, Math.min(this.maxInsertRows, this.maxInsertParameters / Math.max(1, columnCount)));
+	}
+
+	/**
+	 * Returns the statement that creates a table holding the result of a query.
+	 *
+	 * @param tableName The name of the table to create.
+	 * @param selectSql The query, of the form {@code SELECT ... FROM ...}.
+	 * @return The SQL statement.
+	 */
+	public String getCreateTableAsSelectSql(String tableName, String selectSql) {
+		return "CREATE TABLE " + tableName + " AS " + selectSql;
+	}
+
+	/**
+	 * Returns the set operator that returns the rows of a query that are not returned by another one.
+	 *
+	 * @return The operator, {@code EXCEPT} in standard SQL.
+	 */
+	public String getExceptOperator() {
+		return "EXCEPT";
+	}
+
+	/**
+	 * Returns an expression of a character column whose equality, grouping and set operations are case and accent
+	 * sensitive and do not ignore trailing spaces, as DbUnit compares strings.
+	 *
+	 * @param columnName The column name.
+	 * @return The SQL expression, the column itself when the default collation is already exact.
+	 */
+	public String getExactComparisonExpression(String columnName) {
+		return columnName;
+	}
+
+	/**
+	 * Returns the statements that truncate the given tables, one per table unless the database can truncate several
+	 * tables at once.
+	 *
+	 * @param tableNames The names of the tables, referencing tables first.
+	 * @return The SQL statements.
+	 */
+	public List<String> getTruncateTablesSql(List<String> tableNames) {
+		List<String> statements = new ArrayList<String>(tableNames.size());
+		for (String tableName : tableNames) {
+			statements.add("TRUNCATE TABLE " + tableName);
+		}
+		return statements;
+	}
+
+	/**
+	 * Returns the statement that restarts the values generated for an identity (auto-increment) column.
+	 *
+	 * @param tableName The table name.
+	 * @param columnName The identity column name.
+	 * @return The SQL statement, or {@code null} if the database has no simple way to do so.
+	 */
+	public String getRestartIdentitySql(String tableName, String columnName) {
+		return null;
+	}
+
+	/**
+	 * Returns the statements that stop enforcing the foreign keys of the given tables, until the statements of
+	 * {@link #getEnableReferentialIntegritySql(List)} are executed. Depending on the database, integrity is disabled
+	 * for the given tables, for the session or for the whole database.
+	 *
+	 * @param tableNames The names of the tables.
+	 * @return The SQL statements, or {@code null} if the database has no simple way to do so.
+	 */
+	public List<String> getDisableReferentialIntegritySql(List<String> tableNames) {
+		return null;
+	}
+
+	/**
+	 * Returns the statements that enforce the foreign keys of the given tables again. Existing rows are not checked.
+	 *
+	 * @param tableNames The names of the tables.
+	 * @return The SQL statements.
+	 */
+	public List<String> getEnableReferentialIntegritySql(List<String> tableNames) {
+		return Collections.emptyList();
+	}
+
+	/**
+	 * Returns if referenced tables can be truncated once referential integrity is disabled.
+	 *
+	 * @return {@code true} if {@code TRUNCATE} can be used, {@code false} if rows must be deleted.
+	 */
+	public boolean canTruncateWithoutReferentialIntegrity() {
+		return false;
+	}
+
+	/**
+	 * Returns a query that computes an order-independent checksum of the rows of a table inside the database, so that
+	 * the rows do not have to be read by the client. The checksum is the last column of the first row returned.
+	 *
+	 * @param tableName The table name.
+	 * @return The SQL query, or {@code null} if the database has no suitable function.
+	 */
+	public String getTableChecksumSql(String tableName) {
+		return null;
+	}
+
+	/**
+	 * Returns the dialect of the database of the given connection.
+	 *
+	 * @param connection The connection.
+	 * @return The dialect, {@link #GENERIC} for unknown databases.
+	 * @throws SQLException If the connection metadata cannot be read.
+	 */
+	public static DatabaseDialect get(IDatabaseConnection connection) throws SQLException {
+		return forProductName(connection.getConnection().getMetaData().getDatabaseProductName());
+	}
+
+	/**
+	 * Returns the dialect for the given product name, as reported by the JDBC driver.
+	 *
+	 * @param productName The database product name.
+	 * @return The dialect, {@link #GENERIC} for unknown databases.
+	 */
+	public static DatabaseDialect forProductName(String productName) {
+		if (productName != null) {
+			for (DatabaseDialect dialect : values()) {
+				if ((dialect.productNamePrefix != null) && productName.startsWith(dialect.productNamePrefix)) {
+					return dialect;
+				}
+			}
+		}
+		return GENERIC;
+	}
+
+	private static List<String> forEachTable(String prefix, List<String> tableNames, String suffix) {
+		List<String> statements = new ArrayList<String>(tableNames.size());
+		for (String tableName : tableNames) {
+			statements.add(prefix + tableName + suffix);
+		}
+		return statements;
+	}
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.springtestdbunit.util;
+
+/**
+ * An order-independent checksum of rows: the row count and the sum of a 64-bit hash of each row. Each row hash is
+ * mixed before it is added, so that the sum does not depend on the order of the rows while duplicate rows still
+ * count. Equal checksums mean that the rows are very likely the same, without keeping them in memory.
+ */
+public final class RowChecksum {
+
+	private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private long rowCount;
+
+	private long sum;
+
+	private long hash = FNV_OFFSET_BASIS;
+
+	/**
+	 * Add the next value of the current row.
+	 * @param value the value bytes, {@code null} for a null value
+	 */
+	public void addValue(byte[] value) {
+		if (value == null) {
+			this.hash = (this.hash ^ 0xff) * FNV_PRIME;
+			return;
+		}
+		long hash = this.hash;
+		for (byte b : value) {
+			hash = (hash ^ (b & 0xff)) * FNV_PRIME;
+		}
+		// Separate the values so that "ab","c" and "a","bc" differ
+		this.hash = ((hash ^ value.length) * FNV_PRIME ^ 0xfe) * FNV_PRIME;
+	}
+
+	/**
+	 * End the current row, the following values belong to a new row.
+	 */
+	public void endRow() {
+		long hash = this.hash;
+		hash ^= (hash >>> 33);
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= (hash >>> 33);
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= (hash >>> 33);
+		this.sum += hash;
+		this.rowCount++;
+		this.hash = FNV_OFFSET_BASIS;
+	}
+
+	public long getRowCount() {
+		return this.rowCount;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (!(obj instanceof RowChecksum)) {
+			return false;
+		}
+		RowChecksum other = (RowChecksum) obj;
+		return (this.rowCount == other.rowCount) && (this.sum == other.sum);
+	}
+
+	@Override
+	public int hashCode() {
+		return (int) (this.rowCount * 31 + (this.sum ^ (this.sum >>> 32)));
+	}
+
+	@Override
+	public String toString() {
+		return this.rowCount + ":" + Long.toHexString(this.sum);
+	}
+
+}
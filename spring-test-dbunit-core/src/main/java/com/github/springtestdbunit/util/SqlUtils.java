@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.springtestdbunit.util;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Utility class for SQL statements.
+ */
+public class SqlUtils {
+
+	private static final Pattern LITERAL_OR_COMMENT = Pattern.compile("'(?:[^']|'')*'|--[^\\n]*|/\\*.*?\\*/",
+			Pattern.DOTALL);
+
+	private static final String NAME = "(?:\"[^\"]+\"|`[^`]+`|\\[[^\\]]+\\]|[\\w$#]+)";
+
+	private static final Pattern TARGET = Pattern.compile("^(?:INSERT\\s+(?:IGNORE\\s+)?INTO|REPLACE\\s+INTO|"
+			+ "MERGE\\s+INTO|UPDATE|DELETE\\s+FROM|DELETE|TRUNCATE\\s+TABLE|TRUNCATE)\\s+(?:ONLY\\s+)?(" + NAME
+			+ "(?:\\s*\\.\\s*" + NAME + ")*)(\\s*(?:AS\\s+)?[\\w$#]*\\s*,)?", Pattern.CASE_INSENSITIVE);
+
+	private static final Pattern READ_ONLY = Pattern.compile("^(?:SELECT|VALUES|SHOW|EXPLAIN|DESCRIBE|SET|COMMIT|"
+			+ "ROLLBACK|SAVEPOINT|RELEASE|START\\s+TRANSACTION|BEGIN\\s*$)\\b", Pattern.CASE_INSENSITIVE);
+
+	private static final Pattern FUNCTION_CALL = Pattern.compile("(" + NAME + "(?:\\s*\\.\\s*" + NAME + ")*)\\s*\\(");
+
+	/**
+	 * Keywords and type names followed by parentheses, and standard functions that do not change any table.
+	 */
+	private static final Set<String> NON_CHANGING_CALLS = new HashSet<String>(Arrays.asList(
+			"ALL", "AND", "ANY", "ARRAY", "AS", "BETWEEN", "BY", "CASE", "CAST", "CONVERT", "ELSE", "EXCEPT", "EXISTS",
+			"FILTER", "FROM", "HAVING", "IN", "INTERSECT", "INTERVAL", "IS", "JOIN", "LATERAL", "LIKE", "NOT", "ON",
+			"OR", "OVER", "ROW", "SELECT", "SOME", "THEN", "UNION", "UNNEST", "USING", "VALUES", "WHEN", "WHERE",
+			"WITHIN", "BINARY", "BIT", "CHAR", "DECIMAL", "NUMERIC", "VARBINARY", "VARCHAR", "ABS", "AVG", "CEIL",
+			"CEILING", "CHAR_LENGTH", "CHARACTER_LENGTH", "COALESCE", "CONCAT", "COUNT", "CURRENT_DATE",
+			"CURRENT_TIMESTAMP", "DATE", "DAY", "DENSE_RANK", "EXTRACT", "FIRST_VALUE", "FLOOR", "GREATEST", "IFNULL",
+			"ISNULL", "LAG", "LAST_VALUE", "LEAD", "LEAST", "LENGTH", "LOWER", "LTRIM", "MAX", "MD5", "MIN", "MOD",
+			"MONTH", "NULLIF", "NVL", "OCTET_LENGTH", "PG_GET_SERIAL_SEQUENCE", "POSITION", "POWER", "RANK", "REPLACE",
+			"ROUND", "ROW_NUMBER", "RTRIM", "SETVAL", "SQRT", "SUBSTR", "SUBSTRING", "SUM", "TRIM", "UPPER", "YEAR"));
+
+	private static final Pattern SCHEMA_CHANGE = Pattern.compile("^(?:CREATE|ALTER|DROP|RENAME)\\b",
+			Pattern.CASE_INSENSITIVE);
+
+	/**
+	 * Default private constructor to avoid instantiating this class.
+	 */
+	private SqlUtils() {
+		super();
+	}
+
+	/**
+	 * Returns the tables whose rows can be changed by the given SQL. {@code INSERT}, {@code UPDATE}, {@code DELETE},
+	 * {@code MERGE} and {@code TRUNCATE} statements change their target table, queries and transaction control
+	 * statements change nothing. Any other statement, such as DDL, procedure calls or common table expressions, may
+	 * change any table, and so may queries that call functions other than the standard ones. Changes made by triggers
+	 * are not seen.
+	 *
+	 * @param sql The SQL, possibly made of several statements separated by semicolons.
+	 * @return The {@link #getTableKey(String) keys} of the changed tables, or {@code null} if they cannot be told.
+	 */
+	public static Set<String> getChangedTableKeys(String sql) {
+		Set<String> tableKeys = new LinkedHashSet<String>();
+		for (String statement : LITERAL_OR_COMMENT.matcher(sql).replaceAll(" ").split(";")) {
+			statement = statement.trim();
+			while (statement.startsWith("(")) {
+				statement = statement.substring(1).trim();
+			}
+			if ((statement.length() == 0) || READ_ONLY.matcher(statement).find()) {
+				if (callsFunction(statement)) {
+					// The function may write to any table
+					return null;
+				}
+				continue;
+			}
+			Matcher matcher = TARGET.matcher(statement);
+			if (!matcher.find() || (matcher.group(2) != null)) {
+				// Unknown statement or several target tables
+				return null;
+			}
+			tableKeys.add(getTableKey(matcher.group(1)));
+		}
+		return tableKeys;
+	}
+
+	private static boolean callsFunction(String statement) {
+		Matcher matcher = FUNCTION_CALL.matcher(statement);
+		while (matcher.find()) {
+			if (!NON_CHANGING_CALLS.contains(matcher.group(1).toUpperCase(Locale.ROOT))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Determine if the given SQL changes the database schema, that is if it contains a {@code CREATE}, {@code ALTER},
+	 * {@code DROP} or {@code RENAME} statement.
+	 *
+	 * @param sql The SQL, possibly made of several statements separated by semicolons.
+	 * @return {@code true} if the schema may change.
+	 */
+	public static boolean isSchemaChange(String sql) {
+		for (String statement : LITERAL_OR_COMMENT.matcher(sql).replaceAll(" ").split(";")) {
+			if (SCHEMA_CHANGE.matcher(statement.trim()).find()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns a key that identifies a table regardless of its schema, quoting or case.
+	 *
+	 * @param tableName The table name, possibly qualified or quoted.
+	 * @return The key.
+	 */
+	public static String getTableKey(String tableName) {
+		String name = tableName.trim();
+		if (name.length() == 0) {
+			return name;
+		}
+		char last = name.charAt(name.length() - 1);
+		if ((last == '"') || (last == '`') || (last == ']')) {
+			int start = name.lastIndexOf((last == ']') ? '[' : last, name.length() - 2);
+			name = name.substring(start + 1, name.length() - 1);
+		} else {
+			name = name.substring(name.lastIndexOf('.') + 1).trim();
+		}
+		return name.toUpperCase();
+	}
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.springtestdbunit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.List;
+
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.xml.FlatXmlDataSetBuilder;
+import org.junit.jupiter.api.Test;
+
+import com.github.springtestdbunit.annotation.DatabaseOperation;
+import com.github.springtestdbunit.annotation.DatabaseSetupTearDownAnnotationAttributes;
+
+/**
+ * Tests for {@link CoalescedOperation}.
+ */
+public class CoalescedOperationTest {
+
+	@Test
+	public void shouldCoalesceSameOperation() throws Exception {
+		CoalescedOperation coalesced = new CoalescedOperation(annotation(DatabaseOperation.INSERT, ""), dataSets("A"));
+		assertTrue(coalesced.add(annotation(DatabaseOperation.INSERT, ""), dataSets("B")));
+		assertEquals(DatabaseOperation.INSERT, coalesced.getOperation());
+		assertNull(coalesced.getCleanDataSet());
+		assertArrayEquals(new String[] { "A", "B" }, coalesced.getDataSet().getTableNames());
+	}
+
+	@Test
+	public void shouldCoalesceCleanInsertFollowedByInsert() throws Exception {
+		CoalescedOperation coalesced = new CoalescedOperation(annotation(DatabaseOperation.CLEAN_INSERT, ""),
+				dataSets("A"));
+		assertTrue(coalesced.add(annotation(DatabaseOperation.INSERT, ""), dataSets("B")));
+		assertFalse(coalesced.add(annotation(DatabaseOperation.CLEAN_INSERT, ""), dataSets("C")));
+		assertEquals(DatabaseOperation.INSERT, coalesced.getOperation());
+		assertArrayEquals(new String[] { "A" }, coalesced.getCleanDataSet().getTableNames());
+		assertArrayEquals(new String[] { "A", "B" }, coalesced.getDataSet().getTableNames());
+	}
+
+	@Test
+	public void shouldNotCoalesceWhenSemanticsDiffer() throws Exception {
+		CoalescedOperation coalesced = new CoalescedOperation(annotation(DatabaseOperation.INSERT, ""), dataSets("A"));
+		assertFalse(coalesced.add(annotation(DatabaseOperation.INSERT, ""), dataSets("A")));
+		assertFalse(coalesced.add(annotation(DatabaseOperation.INSERT, "other"), dataSets("B")));
+		assertFalse(coalesced.add(annotation(DatabaseOperation.CLEAN_INSERT, ""), dataSets("B")));
+		assertFalse(coalesced.add(annotation(DatabaseOperation.DELETE, ""), dataSets("B")));
+	}
+
+	private DatabaseSetupTearDownAnnotationAttributes annotation(DatabaseOperation type, String connection) {
+		DatabaseSetupTearDownAnnotationAttributes annotation = mock(DatabaseSetupTearDownAnnotationAttributes.class);
+		given(annotation.getType()).willReturn(type);
+		given(annotation.getConnection()).willReturn(connection);
+		given(annotation.getValue()).willReturn(new String[] { "dataset.xml" });
+		return annotation;
+	}
+
+	private List<IDataSet> dataSets(String tableName) throws Exception {
+		return Collections.singletonList(new FlatXmlDataSetBuilder()
+				.build(new StringReader("<dataset><" + tableName + " ID=\"1\"/></dataset>")));
+	}
+
+}
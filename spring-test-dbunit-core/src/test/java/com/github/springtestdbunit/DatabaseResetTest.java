@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.springtestdbunit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.dbunit.database.IDatabaseConnection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.springtestdbunit.annotation.DatabaseOperation;
+import com.github.springtestdbunit.testutils.HsqldbTestDatabase;
+
+/**
+ * Tests for {@link DatabaseReset}.
+ */
+public class DatabaseResetTest {
+
+	private HsqldbTestDatabase database;
+
+	private IDatabaseConnection connection;
+
+	private DatabaseReset reset;
+
+	@BeforeEach
+	public void setup() throws Exception {
+		database = new HsqldbTestDatabase("reset");
+		database.execute(
+				"CREATE TABLE RESET_PARENT (ID INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, NAME VARCHAR(20))");
+		database.execute(
+				"CREATE TABLE RESET_CHILD (ID INTEGER PRIMARY KEY, PARENT_ID INTEGER REFERENCES RESET_PARENT(ID))");
+		database.execute("INSERT INTO RESET_PARENT (NAME) VALUES ('a')");
+		database.execute("INSERT INTO RESET_PARENT (NAME) VALUES ('b')");
+		database.execute("INSERT INTO RESET_CHILD VALUES (1, 1)");
+		connection = database.newDatabaseConnection();
+		reset = new DatabaseReset();
+	}
+
+	@AfterEach
+	public void cleanup() throws Exception {
+		database.execute("DROP TABLE RESET_CHILD");
+		database.execute("DROP TABLE RESET_PARENT");
+		database.close();
+	}
+
+	@Test
+	public void shouldDeleteChildrenFirst() throws Exception {
+		assertTrue(reset.reset(connection, DatabaseOperation.DELETE_ALL, false));
+		assertEquals(0, count("RESET_PARENT"));
+		assertEquals(0, count("RESET_CHILD"));
+		database.execute("INSERT INTO RESET_PARENT (NAME) VALUES ('c')");
+		assertEquals(3, database.queryForInt("SELECT ID FROM RESET_PARENT"));
+	}
+
+	@Test
+	public void shouldRestartIdentities() throws Exception {
+		assertTrue(reset.reset(connection, DatabaseOperation.DELETE, true));
+		database.execute("INSERT INTO RESET_PARENT (NAME) VALUES ('c')");
+		assertEquals(1, database.queryForInt("SELECT ID FROM RESET_PARENT"));
+	}
+
+	@Test
+	public void shouldCacheTables() throws Exception {
+		reset.reset(connection, DatabaseOperation.DELETE_ALL, false);
+		database.execute("CREATE TABLE RESET_LATE (ID INTEGER)");
+		try {
+			database.execute("INSERT INTO RESET_LATE VALUES (1)");
+			reset.reset(connection, DatabaseOperation.DELETE_ALL, false);
+			assertEquals(1, count("RESET_LATE"));
+			reset.clear();
+			reset.reset(connection, DatabaseOperation.DELETE_ALL, false);
+			assertEquals(0, count("RESET_LATE"));
+		} finally {
+			database.execute("DROP TABLE RESET_LATE");
+		}
+	}
+
+	private int count(String tableName) throws Exception {
+		return database.queryForInt("SELECT COUNT(*) FROM " + tableName);
+	}
+
+}
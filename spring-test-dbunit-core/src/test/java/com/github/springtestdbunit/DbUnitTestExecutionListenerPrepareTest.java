@@ -175,6 +175,16 @@ public class DbUnitTestExecutionListenerPrepareTest {
         assertEquals(CustomDataSetLoader.class, testContextManager.getTestContextAttribute(DbUnitTestContextConstants.DATA_SET_LOADER_ATTRIBUTE).getClass()) ;
     }
 
+    @Test
+    public void shouldSupportCustomDatabaseOperationLookupBean() throws Exception {
+        addBean("dataSource", dataSource) ;
+        final CustomDatabaseOperationLookup lookup = new CustomDatabaseOperationLookup() ;
+        addBean("customLookup", lookup) ;
+        final ExtendedTestContextManager testContextManager = new ExtendedTestContextManager(CustomLookupBeanConfiguration.class) ;
+        testContextManager.prepareTestInstance() ;
+        assertSame(lookup, testContextManager.getTestContextAttribute(DbUnitTestContextConstants.DATABASE_OPERATION_LOOKUP_ATTRIBUTE)) ;
+    }
+
     private static class LocalApplicationContextLoader implements ContextLoader {
 
         @Override
@@ -229,6 +239,13 @@ public class DbUnitTestExecutionListenerPrepareTest {
 
     }
 
+    @ContextConfiguration(loader = LocalApplicationContextLoader.class)
+    @TestExecutionListeners(DbUnitTestExecutionListener.class)
+    @DbUnitConfiguration(databaseOperationLookupBean = "customLookup")
+    private static class CustomLookupBeanConfiguration {
+
+    }
+
     @ContextConfiguration(loader = LocalApplicationContextLoader.class)
     @TestExecutionListeners(DbUnitTestExecutionListener.class)
     @DbUnitConfiguration(dataSetLoader = AbstractCustomDataSetLoader.class)
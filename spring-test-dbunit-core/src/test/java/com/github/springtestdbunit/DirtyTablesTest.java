@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.springtestdbunit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import org.dbunit.database.DatabaseConnection;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.xml.FlatXmlDataSetBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.github.springtestdbunit.annotation.DatabaseOperation;
+import com.github.springtestdbunit.bean.DirtyTableTrackingDataSource;
+
+/**
+ * Tests for {@link DirtyTables}.
+ */
+public class DirtyTablesTest {
+
+	private DriverManagerDataSource targetDataSource;
+
+	private DirtyTableTrackingDataSource dataSource;
+
+	private Connection jdbcConnection;
+
+	private IDatabaseConnection connection;
+
+	private DirtyTables dirtyTables;
+
+	@BeforeEach
+	public void setup() throws Exception {
+		targetDataSource = new DriverManagerDataSource("jdbc:hsqldb:mem:dirtytablesrunner", "sa", "");
+		dataSource = new DirtyTableTrackingDataSource(targetDataSource);
+		jdbcConnection = dataSource.getConnection();
+		execute(jdbcConnection, "CREATE TABLE DIRTY_PARENT (ID INTEGER PRIMARY KEY)");
+		execute(jdbcConnection, "CREATE TABLE DIRTY_CHILD (ID INTEGER PRIMARY KEY, "
+				+ "PARENT_ID INTEGER REFERENCES DIRTY_PARENT(ID))");
+		execute(jdbcConnection, "CREATE TABLE DIRTY_OTHER (ID INTEGER PRIMARY KEY)");
+		connection = new DatabaseConnection(jdbcConnection);
+		dirtyTables = new DirtyTables();
+	}
+
+	@AfterEach
+	public void cleanup() throws Exception {
+		execute(jdbcConnection, "DROP TABLE DIRTY_CHILD");
+		execute(jdbcConnection, "DROP TABLE DIRTY_PARENT");
+		execute(jdbcConnection, "DROP TABLE DIRTY_OTHER");
+		jdbcConnection.close();
+	}
+
+	@Test
+	public void shouldOnlyApplyChangedTablesAndTheirReferencingTables() throws Exception {
+		cleanInsert();
+		execute(jdbcConnection, "INSERT INTO DIRTY_PARENT VALUES (2)");
+		// Changes made without the tracking data source are not seen, they tell which tables were applied again
+		Connection untracked = targetDataSource.getConnection();
+		try {
+			execute(untracked, "INSERT INTO DIRTY_CHILD VALUES (2, 1)");
+			execute(untracked, "INSERT INTO DIRTY_OTHER VALUES (2)");
+		} finally {
+			untracked.close();
+		}
+		cleanInsert();
+		assertEquals(1, count("DIRTY_PARENT"));
+		assertEquals(1, count("DIRTY_CHILD"));
+		assertEquals(2, count("DIRTY_OTHER"));
+	}
+
+	@Test
+	public void shouldSkipUnchangedTables() throws Exception {
+		cleanInsert();
+		execute(jdbcConnection, "SELECT * FROM DIRTY_OTHER");
+		long sequence = dataSource.getSequence();
+		cleanInsert();
+		assertEquals(sequence, dataSource.getSequence());
+	}
+
+	@Test
+	public void shouldApplyTablesChangedByPreparedStatementExecutedAfterSetup() throws Exception {
+		PreparedStatement statement = jdbcConnection.prepareStatement("INSERT INTO DIRTY_OTHER VALUES (?)");
+		try {
+			statement.setInt(1, 2);
+			statement.executeUpdate();
+			cleanInsert();
+			statement.setInt(1, 3);
+			statement.executeUpdate();
+			cleanInsert();
+		} finally {
+			statement.close();
+		}
+		assertEquals(1, count("DIRTY_OTHER"));
+	}
+
+	private void cleanInsert() throws Exception {
+		dirtyTables.execute(connection, dataSource, DatabaseOperation.CLEAN_INSERT,
+				org.dbunit.operation.DatabaseOperation.CLEAN_INSERT, dataSet());
+	}
+
+	private IDataSet dataSet() throws Exception {
+		return new FlatXmlDataSetBuilder().build(new StringReader("<dataset><DIRTY_PARENT ID=\"1\"/>"
+				+ "<DIRTY_CHILD ID=\"1\" PARENT_ID=\"1\"/><DIRTY_OTHER ID=\"1\"/></dataset>"));
+	}
+
+	private int count(String tableName) throws Exception {
+		Statement statement = jdbcConnection.createStatement();
+		try {
+			ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM " + tableName);
+			resultSet.next();
+			return resultSet.getInt(1);
+		} finally {
+			statement.close();
+		}
+	}
+
+	private void execute(Connection connection, String sql) throws Exception {
+		Statement statement = connection.createStatement();
+		try {
+			statement.execute(sql);
+		} finally {
+			statement.close();
+		}
+	}
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.springtestdbunit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ParallelVerification}.
+ */
+public class ParallelVerificationTest {
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+	@AfterEach
+	public void shutdown() {
+		this.executor.shutdownNow();
+	}
+
+	@Test
+	public void shouldRunLanesConcurrently() throws Exception {
+		CountDownLatch latch = new CountDownLatch(2);
+		ParallelVerification verification = new ParallelVerification(this.executor);
+		verification.add("a", () -> await(latch));
+		verification.add("b", () -> await(latch));
+		verification.verify();
+	}
+
+	@Test
+	public void shouldRunLaneInOrder() throws Exception {
+		List<Integer> order = Collections.synchronizedList(new ArrayList<Integer>());
+		ParallelVerification verification = new ParallelVerification(this.executor);
+		for (int i = 0; i < 5; i++) {
+			int index = i;
+			verification.add("a", () -> order.add(index));
+		}
+		verification.add("b", () -> order.add(5));
+		verification.verify();
+		order.remove(Integer.valueOf(5));
+		assertEquals(Arrays.asList(0, 1, 2, 3, 4), order);
+	}
+
+	@Test
+	public void shouldThrowSingleFailure() throws Exception {
+		AssertionError failure = new AssertionError("a");
+		ParallelVerification verification = new ParallelVerification(this.executor);
+		verification.add("a", () -> {
+			throw failure;
+		});
+		verification.add("b", () -> {
+		});
+		assertSame(failure, assertThrows(AssertionError.class, verification::verify));
+	}
+
+	@Test
+	public void shouldReportFailuresInAddedOrder() throws Exception {
+		CountDownLatch first = new CountDownLatch(1);
+		ParallelVerification verification = new ParallelVerification(this.executor);
+		verification.add("a", () -> {
+			waitFor(first);
+			throw new AssertionError("first");
+		});
+		verification.add("b", () -> {
+			first.countDown();
+			throw new AssertionError("second");
+		});
+		AssertionError error = assertThrows(AssertionError.class, verification::verify);
+		assertEquals("2 expectations failed\n(1) first\n(2) second", error.getMessage());
+		assertEquals("first", error.getCause().getMessage());
+		assertEquals("second", error.getSuppressed()[0].getMessage());
+	}
+
+	@Test
+	public void shouldThrowFirstExceptionWithOthersSuppressed() throws Exception {
+		SQLException exception = new SQLException("a");
+		ParallelVerification verification = new ParallelVerification(this.executor);
+		verification.add("a", () -> {
+			throw exception;
+		});
+		verification.add("b", () -> {
+			throw new AssertionError("b");
+		});
+		assertSame(exception, assertThrows(SQLException.class, verification::verify));
+		assertEquals(1, exception.getSuppressed().length);
+	}
+
+	private void await(CountDownLatch latch) {
+		latch.countDown();
+		waitFor(latch);
+	}
+
+	private void waitFor(CountDownLatch latch) {
+		try {
+			assertTrue(latch.await(10, TimeUnit.SECONDS));
+		} catch (InterruptedException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+}
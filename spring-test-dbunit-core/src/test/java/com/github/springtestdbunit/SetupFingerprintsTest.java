@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.springtestdbunit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringReader;
+
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.xml.FlatXmlDataSetBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.springtestdbunit.annotation.DatabaseOperation;
+import com.github.springtestdbunit.testutils.HsqldbTestDatabase;
+
+/**
+ * Tests for {@link SetupFingerprints}.
+ */
+public class SetupFingerprintsTest {
+
+	private HsqldbTestDatabase database;
+
+	private IDatabaseConnection connection;
+
+	private SetupFingerprints fingerprints;
+
+	@BeforeEach
+	public void setup() throws Exception {
+		database = new HsqldbTestDatabase("fingerprints");
+		database.execute("CREATE TABLE FINGERPRINT (ID INTEGER PRIMARY KEY, NAME VARCHAR(20))");
+		connection = database.newDatabaseConnection();
+		fingerprints = new SetupFingerprints();
+	}
+
+	@AfterEach
+	public void cleanup() throws Exception {
+		database.execute("DROP TABLE FINGERPRINT");
+		database.close();
+	}
+
+	@Test
+	public void shouldSkipWhenDatabaseIsUnchanged() throws Exception {
+		IDataSet dataSet = dataSet("a");
+		SetupFingerprints.Fingerprint fingerprint = fingerprints.fingerprint(connection, DatabaseOperation.CLEAN_INSERT,
+				dataSet);
+		assertFalse(fingerprints.isApplied(connection, fingerprint));
+		applyWithChecksums(dataSet, fingerprint);
+		assertTrue(fingerprints.isApplied(connection,
+				fingerprints.fingerprint(connection, DatabaseOperation.CLEAN_INSERT, dataSet("a"))));
+	}
+
+	@Test
+	public void shouldOnlyRecordChecksumsOnceRowCountsMatched() throws Exception {
+		IDataSet dataSet = dataSet("a");
+		SetupFingerprints.Fingerprint fingerprint = fingerprints.fingerprint(connection, DatabaseOperation.CLEAN_INSERT,
+				dataSet);
+		apply(dataSet, fingerprint);
+		assertFalse(fingerprints.isApplied(connection, fingerprint));
+		apply(dataSet, fingerprint);
+		assertTrue(fingerprints.isApplied(connection, fingerprint));
+	}
+
+	@Test
+	public void shouldNotSkipWhenTableChanged() throws Exception {
+		IDataSet dataSet = dataSet("a");
+		SetupFingerprints.Fingerprint fingerprint = fingerprints.fingerprint(connection, DatabaseOperation.CLEAN_INSERT,
+				dataSet);
+		applyWithChecksums(dataSet, fingerprint);
+		database.execute("UPDATE FINGERPRINT SET NAME = 'b'");
+		assertFalse(fingerprints.isApplied(connection, fingerprint));
+	}
+
+	@Test
+	public void shouldNotSkipWhenRowCountChanged() throws Exception {
+		IDataSet dataSet = dataSet("a");
+		SetupFingerprints.Fingerprint fingerprint = fingerprints.fingerprint(connection, DatabaseOperation.CLEAN_INSERT,
+				dataSet);
+		apply(dataSet, fingerprint);
+		database.execute("INSERT INTO FINGERPRINT VALUES (2, 'a')");
+		assertFalse(fingerprints.isApplied(connection, fingerprint));
+	}
+
+	@Test
+	public void shouldNotSkipOtherDataSet() throws Exception {
+		IDataSet dataSet = dataSet("a");
+		apply(dataSet, fingerprints.fingerprint(connection, DatabaseOperation.CLEAN_INSERT, dataSet));
+		assertFalse(fingerprints.isApplied(connection,
+				fingerprints.fingerprint(connection, DatabaseOperation.CLEAN_INSERT, dataSet("b"))));
+		assertFalse(fingerprints.isApplied(connection,
+				fingerprints.fingerprint(connection, DatabaseOperation.DELETE_ALL, dataSet)));
+	}
+
+	private void apply(IDataSet dataSet, SetupFingerprints.Fingerprint fingerprint) throws Exception {
+		org.dbunit.operation.DatabaseOperation.CLEAN_INSERT.execute(connection, dataSet);
+		fingerprints.applied(connection, fingerprint);
+	}
+
+	private void applyWithChecksums(IDataSet dataSet, SetupFingerprints.Fingerprint fingerprint) throws Exception {
+		apply(dataSet, fingerprint);
+		fingerprints.isApplied(connection, fingerprint);
+		apply(dataSet, fingerprint);
+	}
+
+	private IDataSet dataSet(String name) throws Exception {
+		return new FlatXmlDataSetBuilder()
+				.build(new StringReader("<dataset><FINGERPRINT ID=\"1\" NAME=\"" + name + "\"/></dataset>"));
+	}
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.springtestdbunit.assertion;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.StringReader;
+import java.util.Collections;
+
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.filter.IColumnFilter;
+import org.dbunit.dataset.xml.FlatXmlDataSetBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.springtestdbunit.testutils.HsqldbTestDatabase;
+
+/**
+ * Tests for {@link ChecksumDatabaseAssertion}.
+ */
+public class ChecksumDatabaseAssertionTest {
+
+	private final ConnectionDatabaseAssertion assertion = (ConnectionDatabaseAssertion) DatabaseAssertionMode.CHECKSUM
+			.getDatabaseAssertion();
+
+	private HsqldbTestDatabase database;
+
+	private IDatabaseConnection connection;
+
+	@BeforeEach
+	public void setup() throws Exception {
+		database = new HsqldbTestDatabase("checksum");
+		database.execute(
+				"CREATE TABLE CHECKED (ID INTEGER, NAME VARCHAR(10), AMOUNT DECIMAL(10, 2), OTHER VARCHAR(10))");
+		database.execute("INSERT INTO CHECKED VALUES (1, 'Aa', 1.50, 'x')");
+		database.execute("INSERT INTO CHECKED VALUES (1, 'Aa', 1.50, 'y')");
+		database.execute("INSERT INTO CHECKED VALUES (2, NULL, 0, 'z')");
+		connection = database.newDatabaseConnection();
+	}
+
+	@AfterEach
+	public void cleanup() throws Exception {
+		database.execute("DROP TABLE CHECKED");
+		database.close();
+	}
+
+	@Test
+	public void shouldMatchRowsInAnyOrder() throws Exception {
+		verify("<CHECKED ID=\"2\" AMOUNT=\"0\"/><CHECKED ID=\"1\" NAME=\"Aa\" AMOUNT=\"1.50\"/>"
+				+ "<CHECKED ID=\"1\" NAME=\"Aa\" AMOUNT=\"1.50\"/>");
+		verify("<CHECKED NAME=\"Aa\"/><CHECKED/><CHECKED NAME=\"Aa\"/>");
+	}
+
+	@Test
+	public void shouldMatchNumbersOfDifferentScales() throws Exception {
+		verify("<CHECKED ID=\"1\" AMOUNT=\"1.5\"/><CHECKED ID=\"2\" AMOUNT=\"0.000\"/>"
+				+ "<CHECKED ID=\"1\" AMOUNT=\"1.500\"/>");
+	}
+
+	@Test
+	public void shouldFailOnDifferentValues() throws Exception {
+		assertThrows(AssertionError.class, () -> verify(
+				"<CHECKED ID=\"1\" NAME=\"Aa\"/><CHECKED ID=\"1\" NAME=\"Aa\"/><CHECKED ID=\"2\" NAME=\"c\"/>"));
+	}
+
+	@Test
+	public void shouldFailOnValuesWithTheSameHashCode() throws Exception {
+		assertThrows(AssertionError.class,
+				() -> verify("<CHECKED NAME=\"BB\"/><CHECKED NAME=\"BB\"/><CHECKED/>"));
+	}
+
+	@Test
+	public void shouldFailOnDifferentDuplicates() throws Exception {
+		assertThrows(AssertionError.class,
+				() -> verify("<CHECKED ID=\"1\"/><CHECKED ID=\"2\"/><CHECKED ID=\"2\"/>"));
+	}
+
+	@Test
+	public void shouldFailOnDifferentRowCounts() throws Exception {
+		assertThrows(AssertionError.class, () -> verify("<CHECKED ID=\"1\"/><CHECKED ID=\"1\"/>"));
+	}
+
+	private void verify(String rows) throws Exception {
+		IDataSet expected = new FlatXmlDataSetBuilder().build(new StringReader("<dataset>" + rows + "</dataset>"));
+		assertion.assertEquals(expected, connection, Collections.<IColumnFilter>emptyList());
+	}
+
+}
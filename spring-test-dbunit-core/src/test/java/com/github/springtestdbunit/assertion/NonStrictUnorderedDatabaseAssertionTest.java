@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.springtestdbunit.assertion;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.DefaultTable;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.datatype.DataType;
+import org.dbunit.dataset.filter.IColumnFilter;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link NonStrictUnorderedDatabaseAssertion}.
+ */
+public class NonStrictUnorderedDatabaseAssertionTest {
+
+	private final NonStrictUnorderedDatabaseAssertion assertion = new NonStrictUnorderedDatabaseAssertion();
+
+	@Test
+	public void shouldMatchRowsInAnyOrder() throws Exception {
+		ITable expected = expected(new Object[] { "2", "b" }, new Object[] { "1", "a" }, new Object[] { "2", "b" });
+		ITable actual = actual(new Object[] { 1, "a", "x" }, new Object[] { 2, "b", "y" },
+				new Object[] { 2, "b", "z" });
+		assertion.assertEquals(expected, actual, Collections.<IColumnFilter>emptyList());
+	}
+
+	@Test
+	public void shouldMatchNumbersOfDifferentScales() throws Exception {
+		DefaultTable expected = new DefaultTable("SAMPLE",
+				new Column[] { new Column("ID", DataType.NUMERIC), new Column("NAME", DataType.VARCHAR) });
+		expected.addRow(new Object[] { new BigDecimal("1.0"), "a" });
+		DefaultTable actual = new DefaultTable("SAMPLE",
+				new Column[] { new Column("ID", DataType.NUMERIC), new Column("NAME", DataType.VARCHAR) });
+		actual.addRow(new Object[] { new BigDecimal("1"), "a" });
+		assertion.assertEquals(expected, actual, Collections.<IColumnFilter>emptyList());
+	}
+
+	@Test
+	public void shouldFailOnDifferentRows() throws Exception {
+		ITable expected = expected(new Object[] { "1", "a" }, new Object[] { "2", "b" });
+		ITable actual = actual(new Object[] { 2, "b", "x" }, new Object[] { 1, "c", "y" });
+		assertThrows(AssertionError.class,
+				() -> assertion.assertEquals(expected, actual, Collections.<IColumnFilter>emptyList()));
+	}
+
+	@Test
+	public void shouldFailOnDuplicateRows() throws Exception {
+		ITable expected = expected(new Object[] { "1", "a" }, new Object[] { "1", "a" });
+		ITable actual = actual(new Object[] { 1, "a", "x" }, new Object[] { 2, "a", "y" });
+		assertThrows(AssertionError.class,
+				() -> assertion.assertEquals(expected, actual, Collections.<IColumnFilter>emptyList()));
+	}
+
+	@Test
+	public void shouldFailOnDifferentRowCounts() throws Exception {
+		ITable expected = expected(new Object[] { "1", "a" });
+		ITable actual = actual(new Object[] { 1, "a", "x" }, new Object[] { 2, "b", "y" });
+		assertThrows(AssertionError.class,
+				() -> assertion.assertEquals(expected, actual, Collections.<IColumnFilter>emptyList()));
+	}
+
+	private ITable expected(Object[]... rows) throws Exception {
+		DefaultTable table = new DefaultTable("SAMPLE",
+				new Column[] { new Column("ID", DataType.UNKNOWN), new Column("NAME", DataType.UNKNOWN) });
+		for (Object[] row : rows) {
+			table.addRow(row);
+		}
+		return table;
+	}
+
+	private ITable actual(Object[]... rows) throws Exception {
+		DefaultTable table = new DefaultTable("SAMPLE", new Column[] { new Column("ID", DataType.INTEGER),
+				new Column("NAME", DataType.VARCHAR), new Column("OTHER", DataType.VARCHAR) });
+		for (Object[] row : rows) {
+			table.addRow(row);
+		}
+		return table;
+	}
+
+}
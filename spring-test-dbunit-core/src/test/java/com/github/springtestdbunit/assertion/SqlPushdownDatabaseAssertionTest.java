@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.springtestdbunit.assertion;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.StringReader;
+import java.util.Collections;
+
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.filter.IColumnFilter;
+import org.dbunit.dataset.xml.FlatXmlDataSetBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.springtestdbunit.testutils.HsqldbTestDatabase;
+import com.github.springtestdbunit.util.DatabaseConnectionUtils;
+
+/**
+ * Tests for {@link SqlPushdownDatabaseAssertion}.
+ */
+public class SqlPushdownDatabaseAssertionTest {
+
+	private final ConnectionDatabaseAssertion assertion = (ConnectionDatabaseAssertion) DatabaseAssertionMode
+			.SQL_PUSHDOWN.getDatabaseAssertion();
+
+	private HsqldbTestDatabase database;
+
+	private IDatabaseConnection connection;
+
+	@BeforeEach
+	public void setup() throws Exception {
+		database = new HsqldbTestDatabase("sqlpushdown");
+		database.execute("CREATE TABLE PUSHED (ID INTEGER, NAME VARCHAR(10), OTHER VARCHAR(10))");
+		database.execute("INSERT INTO PUSHED VALUES (1, 'a', 'x')");
+		database.execute("INSERT INTO PUSHED VALUES (1, 'a', 'y')");
+		database.execute("INSERT INTO PUSHED VALUES (2, 'b', 'z')");
+		connection = database.newDatabaseConnection();
+	}
+
+	@AfterEach
+	public void cleanup() throws Exception {
+		SqlPushdownDatabaseAssertion.dropScratchTables(connection);
+		database.execute("DROP TABLE PUSHED");
+		database.close();
+	}
+
+	@Test
+	public void shouldMatchRowsInAnyOrder() throws Exception {
+		verify("<PUSHED ID=\"2\" NAME=\"b\"/><PUSHED ID=\"1\" NAME=\"a\"/><PUSHED ID=\"1\" NAME=\"a\"/>");
+		verify("<PUSHED NAME=\"a\"/><PUSHED NAME=\"b\"/><PUSHED NAME=\"a\"/>");
+	}
+
+	@Test
+	public void shouldFailOnDifferentValues() throws Exception {
+		assertThrows(AssertionError.class, () -> verify(
+				"<PUSHED ID=\"1\" NAME=\"a\"/><PUSHED ID=\"1\" NAME=\"a\"/><PUSHED ID=\"2\" NAME=\"c\"/>"));
+	}
+
+	@Test
+	public void shouldFailOnDifferentDuplicates() throws Exception {
+		assertThrows(AssertionError.class, () -> verify(
+				"<PUSHED ID=\"1\" NAME=\"a\"/><PUSHED ID=\"2\" NAME=\"b\"/><PUSHED ID=\"2\" NAME=\"b\"/>"));
+	}
+
+	@Test
+	public void shouldFailOnDifferentRowCounts() throws Exception {
+		assertThrows(AssertionError.class, () -> verify("<PUSHED ID=\"1\" NAME=\"a\"/>"));
+	}
+
+	@Test
+	public void shouldDropScratchTables() throws Exception {
+		verify("<PUSHED ID=\"2\" NAME=\"b\"/><PUSHED ID=\"1\" NAME=\"a\"/><PUSHED ID=\"1\" NAME=\"a\"/>");
+		SqlPushdownDatabaseAssertion.dropScratchTables(connection);
+		assertEquals(0, database.queryForInt("SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES "
+				+ "WHERE TABLE_NAME LIKE '" + SqlPushdownDatabaseAssertion.SCRATCH_TABLE_PREFIX + "%'"));
+	}
+
+	@Test
+	public void shouldDropScratchTablesOfEarlierRuns() throws Exception {
+		database.execute("CREATE TABLE " + SqlPushdownDatabaseAssertion.SCRATCH_TABLE_PREFIX + "EARLIER_1 (ID INTEGER)");
+		SqlPushdownDatabaseAssertion.dropScratchTables(connection);
+		assertEquals(0, database.queryForInt("SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES "
+				+ "WHERE TABLE_NAME LIKE '" + SqlPushdownDatabaseAssertion.SCRATCH_TABLE_PREFIX + "%'"));
+	}
+
+	@Test
+	public void shouldKeepScratchTablesOutOfFullDatabaseDataSet() throws Exception {
+		verify("<PUSHED ID=\"2\" NAME=\"b\"/><PUSHED ID=\"1\" NAME=\"a\"/><PUSHED ID=\"1\" NAME=\"a\"/>");
+		IDataSet dataSet = DatabaseConnectionUtils.createDataSet(database.newDatabaseConnection());
+		assertArrayEquals(new String[] { "PUSHED" }, dataSet.getTableNames());
+	}
+
+	@Test
+	public void shouldNotAcceptValuesRoundedByTheDatabase() throws Exception {
+		database.execute("CREATE TABLE ROUNDED (AMOUNT DECIMAL(10, 1))", "INSERT INTO ROUNDED VALUES (1.2)");
+		try {
+			IDatabaseConnection roundedConnection = database.newDatabaseConnection();
+			assertThrows(AssertionError.class, () -> verify(roundedConnection, "<ROUNDED AMOUNT=\"1.24\"/>"));
+		} finally {
+			SqlPushdownDatabaseAssertion.dropScratchTables(connection);
+			database.execute("DROP TABLE ROUNDED");
+		}
+	}
+
+	private void verify(String rows) throws Exception {
+		verify(connection, rows);
+	}
+
+	private void verify(IDatabaseConnection connection, String rows) throws Exception {
+		IDataSet expected = new FlatXmlDataSetBuilder().build(new StringReader("<dataset>" + rows + "</dataset>"));
+		assertion.assertEquals(expected, connection, Collections.<IColumnFilter>emptyList());
+	}
+
+}
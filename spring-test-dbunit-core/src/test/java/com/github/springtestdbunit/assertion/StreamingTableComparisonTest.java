@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.springtestdbunit.assertion;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringReader;
+import java.util.Collections;
+
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.filter.IColumnFilter;
+import org.dbunit.dataset.xml.FlatXmlDataSetBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.springtestdbunit.testutils.HsqldbTestDatabase;
+
+/**
+ * Tests for {@link StreamingTableComparison}.
+ */
+public class StreamingTableComparisonTest {
+
+	private HsqldbTestDatabase database;
+
+	private IDatabaseConnection connection;
+
+	@BeforeEach
+	public void setup() throws Exception {
+		database = new HsqldbTestDatabase("streamingcomparison");
+		database.execute("CREATE TABLE STREAMED (ID INTEGER PRIMARY KEY, NAME VARCHAR(10), OTHER VARCHAR(10))");
+		database.execute("INSERT INTO STREAMED VALUES (2, 'b', 'y')");
+		database.execute("INSERT INTO STREAMED VALUES (1, 'a', 'x')");
+		connection = database.newDatabaseConnection();
+	}
+
+	@AfterEach
+	public void cleanup() throws Exception {
+		database.execute("DROP TABLE STREAMED");
+		database.close();
+	}
+
+	@Test
+	public void shouldMatchTableOrderedByPrimaryKey() throws Exception {
+		assertTrue(matches(DatabaseAssertionMode.NON_STRICT,
+				"<STREAMED ID=\"1\" NAME=\"a\"/><STREAMED ID=\"2\" NAME=\"b\"/>", null));
+		assertFalse(matches(DatabaseAssertionMode.NON_STRICT,
+				"<STREAMED ID=\"2\" NAME=\"b\"/><STREAMED ID=\"1\" NAME=\"a\"/>", null));
+	}
+
+	@Test
+	public void shouldMatchUnorderedRows() throws Exception {
+		assertTrue(matches(DatabaseAssertionMode.NON_STRICT_UNORDERED,
+				"<STREAMED ID=\"2\" NAME=\"b\"/><STREAMED ID=\"1\" NAME=\"a\"/>", null));
+		assertFalse(matches(DatabaseAssertionMode.NON_STRICT_UNORDERED,
+				"<STREAMED ID=\"2\" NAME=\"a\"/><STREAMED ID=\"1\" NAME=\"a\"/>", null));
+	}
+
+	@Test
+	public void shouldNotMatchDifferentRowCounts() throws Exception {
+		assertFalse(matches(DatabaseAssertionMode.NON_STRICT, "<STREAMED ID=\"1\" NAME=\"a\"/>", null));
+		assertFalse(matches(DatabaseAssertionMode.NON_STRICT_UNORDERED, "<STREAMED ID=\"1\" NAME=\"a\"/>"
+				+ "<STREAMED ID=\"2\" NAME=\"b\"/><STREAMED ID=\"3\" NAME=\"c\"/>", null));
+	}
+
+	@Test
+	public void shouldRequireAllColumnsInDefaultMode() throws Exception {
+		assertFalse(matches(DatabaseAssertionMode.DEFAULT,
+				"<STREAMED ID=\"1\" NAME=\"a\"/><STREAMED ID=\"2\" NAME=\"b\"/>", null));
+		assertTrue(matches(DatabaseAssertionMode.DEFAULT,
+				"<STREAMED ID=\"1\" NAME=\"a\" OTHER=\"x\"/><STREAMED ID=\"2\" NAME=\"b\" OTHER=\"y\"/>", null));
+	}
+
+	@Test
+	public void shouldMatchQuery() throws Exception {
+		assertTrue(matches(DatabaseAssertionMode.NON_STRICT, "<STREAMED NAME=\"b\"/>",
+				"SELECT NAME FROM STREAMED WHERE ID = 2"));
+		assertFalse(matches(DatabaseAssertionMode.NON_STRICT, "<STREAMED ID=\"2\"/>",
+				"SELECT NAME FROM STREAMED WHERE ID = 2"));
+	}
+
+	private boolean matches(DatabaseAssertionMode mode, String rows, String query) throws Exception {
+		ITable expectedTable = new FlatXmlDataSetBuilder()
+				.build(new StringReader("<dataset>" + rows + "</dataset>")).getTable("STREAMED");
+		return new StreamingTableComparison(mode, Collections.<IColumnFilter>emptyList()).matches(expectedTable,
+				connection, "STREAMED", query);
+	}
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.springtestdbunit.bean;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.springtestdbunit.testutils.HsqldbTestDatabase;
+
+/**
+ * Tests for {@link DirtyTableTrackingDataSource}.
+ */
+public class DirtyTableTrackingDataSourceTest {
+
+	private HsqldbTestDatabase database;
+
+	private DirtyTableTrackingDataSource dataSource;
+
+	private Connection connection;
+
+	@BeforeEach
+	public void setup() throws Exception {
+		database = new HsqldbTestDatabase("dirtytables");
+		dataSource = new DirtyTableTrackingDataSource(database.newDataSource());
+		connection = dataSource.getConnection();
+		HsqldbTestDatabase.execute(connection, "CREATE TABLE DIRTY_A (ID INTEGER PRIMARY KEY)");
+		HsqldbTestDatabase.execute(connection, "CREATE TABLE DIRTY_B (ID INTEGER PRIMARY KEY)");
+	}
+
+	@AfterEach
+	public void cleanup() throws Exception {
+		HsqldbTestDatabase.execute(connection, "DROP TABLE DIRTY_A");
+		HsqldbTestDatabase.execute(connection, "DROP TABLE DIRTY_B");
+		connection.close();
+		database.close();
+	}
+
+	@Test
+	public void shouldTrackStatementTargets() throws Exception {
+		long sequence = dataSource.getSequence();
+		HsqldbTestDatabase.execute(connection, "INSERT INTO DIRTY_A VALUES (1)");
+		HsqldbTestDatabase.execute(connection, "SELECT * FROM DIRTY_B");
+		assertTrue(dataSource.isChangedSince("DIRTY_A", sequence));
+		assertTrue(dataSource.isChangedSince("PUBLIC.dirty_a", sequence));
+		assertFalse(dataSource.isChangedSince("DIRTY_B", sequence));
+	}
+
+	@Test
+	public void shouldTrackPreparedStatementsWhenExecuted() throws Exception {
+		long sequence = dataSource.getSequence();
+		PreparedStatement statement = connection.prepareStatement("UPDATE DIRTY_B SET ID = ?");
+		try {
+			assertFalse(dataSource.isChangedSince("DIRTY_B", sequence));
+			statement.setInt(1, 1);
+			statement.executeUpdate();
+			assertTrue(dataSource.isChangedSince("DIRTY_B", sequence));
+			sequence = dataSource.getSequence();
+			statement.executeUpdate();
+			assertFalse(dataSource.isChangedSince("DIRTY_A", sequence));
+			assertTrue(dataSource.isChangedSince("DIRTY_B", sequence));
+		} finally {
+			statement.close();
+		}
+	}
+
+	@Test
+	public void shouldTrackBatchesWhenExecuted() throws Exception {
+		long sequence = dataSource.getSequence();
+		Statement statement = connection.createStatement();
+		try {
+			statement.addBatch("INSERT INTO DIRTY_A VALUES (1)");
+			assertFalse(dataSource.isChangedSince("DIRTY_A", sequence));
+			statement.executeBatch();
+			assertTrue(dataSource.isChangedSince("DIRTY_A", sequence));
+		} finally {
+			statement.close();
+		}
+	}
+
+	@Test
+	public void shouldConsiderFunctionCallsAsChangingAllTables() throws Exception {
+		HsqldbTestDatabase.execute(connection, "CREATE FUNCTION DIRTY_ONE() RETURNS INTEGER RETURN 1");
+		try {
+			long sequence = dataSource.getSequence();
+			HsqldbTestDatabase.execute(connection, "SELECT COUNT(*), MAX(ID) FROM DIRTY_B");
+			assertFalse(dataSource.isChangedSince("DIRTY_A", sequence));
+			HsqldbTestDatabase.execute(connection, "SELECT DIRTY_ONE() FROM DIRTY_B");
+			assertTrue(dataSource.isChangedSince("DIRTY_A", sequence));
+		} finally {
+			HsqldbTestDatabase.execute(connection, "DROP FUNCTION DIRTY_ONE");
+		}
+	}
+
+	@Test
+	public void shouldConsiderRollbackAsChangingAllTables() throws Exception {
+		long sequence = dataSource.getSequence();
+		connection.setAutoCommit(false);
+		connection.rollback();
+		connection.setAutoCommit(true);
+		assertTrue(dataSource.isChangedSince("DIRTY_A", sequence));
+		assertTrue(dataSource.isChangedSince("DIRTY_B", sequence));
+	}
+
+	@Test
+	public void shouldUnwrapFromConnection() throws Exception {
+		assertSame(dataSource, connection.unwrap(DirtyTableTrackingDataSource.class));
+		assertSame(dataSource,
+				DirtyTableTrackingDataSource.get(DatabaseDataSourceConnectionFactoryBean.newConnection(dataSource)));
+	}
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.springtestdbunit.bean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.dataset.ITableMetaData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.springtestdbunit.testutils.HsqldbTestDatabase;
+
+/**
+ * Tests for {@link TableMetaDataCache}.
+ */
+public class TableMetaDataCacheTest {
+
+	private HsqldbTestDatabase database;
+
+	private DirtyTableTrackingDataSource dataSource;
+
+	private TableMetaDataCache cache;
+
+	@BeforeEach
+	public void setup() throws Exception {
+		database = new HsqldbTestDatabase("metadatacache");
+		dataSource = new DirtyTableTrackingDataSource(database.newDataSource());
+		cache = TableMetaDataCache.get(dataSource);
+		HsqldbTestDatabase.execute(dataSource, "CREATE TABLE META_A (ID INTEGER PRIMARY KEY, NAME VARCHAR(10))");
+	}
+
+	@AfterEach
+	public void cleanup() throws Exception {
+		HsqldbTestDatabase.execute(dataSource, "DROP TABLE META_A");
+		database.close();
+	}
+
+	@Test
+	public void shouldShareMetaDataBetweenConnections() throws Exception {
+		ITableMetaData metaData = getTableMetaData("META_A");
+		assertSame(metaData, getTableMetaData("meta_a"));
+		assertEquals(2, metaData.getColumns().length);
+		assertEquals("ID", metaData.getPrimaryKeys()[0].getColumnName());
+		assertSame(cache, TableMetaDataCache.get(dataSource));
+	}
+
+	@Test
+	public void shouldReadMetaDataAgainWhenCleared() throws Exception {
+		ITableMetaData metaData = getTableMetaData("META_A");
+		cache.clear();
+		assertNotSame(metaData, getTableMetaData("META_A"));
+	}
+
+	@Test
+	public void shouldReadMetaDataAgainAfterSchemaChange() throws Exception {
+		assertEquals(2, getTableMetaData("META_A").getColumns().length);
+		HsqldbTestDatabase.execute(dataSource, "ALTER TABLE META_A ADD COLUMN AMOUNT INTEGER");
+		assertEquals(3, getTableMetaData("META_A").getColumns().length);
+	}
+
+	private ITableMetaData getTableMetaData(String tableName) throws Exception {
+		IDatabaseConnection connection = DatabaseDataSourceConnectionFactoryBean.newConnection(dataSource, cache);
+		try {
+			return connection.createDataSet().getTableMetaData(tableName);
+		} finally {
+			connection.close();
+		}
+	}
+
+}
@@ -16,27 +16,34 @@
 package com.github.springtestdbunit.config;
 
 import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 
 import javax.annotation.Resource;
 import javax.sql.DataSource;
 
+import org.dbunit.database.IDatabaseConnection;
 import org.dbunit.dataset.datatype.IDataTypeFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
 import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
 import org.springframework.jdbc.datasource.init.ScriptException;
 
 import com.github.springtestdbunit.DbUnitTestExecutionListener;
 import com.github.springtestdbunit.bean.DatabaseConfigBean;
 import com.github.springtestdbunit.bean.DatabaseDataSourceConnectionFactoryBean;
+import com.github.springtestdbunit.bean.DbUnitRunnerConfigBean;
+import com.github.springtestdbunit.dataset.FlatXmlDataSetLoader;
 import com.github.springtestdbunit.entity.EntityAssert;
 import com.github.springtestdbunit.entity.OtherEntityAssert;
+import com.github.springtestdbunit.operation.CachingStatementFactory;
 import com.github.springtestdbunit.test.config.TestConfiguration;
+import com.github.springtestdbunit.testutils.CountingDataSetLoader;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 
@@ -139,6 +146,58 @@ public class CoreTestConfiguration {
 		return resourceLoader;
 	}
 
+	@Bean
+	public DbUnitRunnerConfigBean prefetchDbUnitRunnerConfig() {
+
+		DbUnitRunnerConfigBean dbUnitRunnerConfig = new DbUnitRunnerConfigBean();
+		dbUnitRunnerConfig.setParallelPrefetchEnabled(true);
+
+		return dbUnitRunnerConfig;
+	}
+
+	@Bean
+	public CachingStatementFactory statementCache() {
+		return new CachingStatementFactory();
+	}
+
+	@Bean
+	public IDatabaseConnection statementCacheConnection() throws SQLException {
+		return DatabaseDataSourceConnectionFactoryBean
+				.newConnection(new SingleConnectionDataSource(dataSource.getConnection(), true));
+	}
+
+	@Bean
+	public DbUnitRunnerConfigBean statementCacheDbUnitRunnerConfig() {
+
+		DbUnitRunnerConfigBean dbUnitRunnerConfig = new DbUnitRunnerConfigBean();
+		dbUnitRunnerConfig.setStatementCache(statementCache());
+
+		return dbUnitRunnerConfig;
+	}
+
+	@Bean
+	public DbUnitRunnerConfigBean streamingDbUnitRunnerConfig() {
+
+		DbUnitRunnerConfigBean dbUnitRunnerConfig = new DbUnitRunnerConfigBean();
+		dbUnitRunnerConfig.setStreamingSetupEnabled(true);
+
+		return dbUnitRunnerConfig;
+	}
+
+	@Bean
+	public FlatXmlDataSetLoader streamingDataSetLoader() {
+
+		FlatXmlDataSetLoader dataSetLoader = new FlatXmlDataSetLoader();
+		dataSetLoader.setColumnSensingEnabled(false);
+
+		return dataSetLoader;
+	}
+
+	@Bean
+	public CountingDataSetLoader savepointDataSetLoader() {
+		return new CountingDataSetLoader();
+	}
+
 	@Bean
 	public EntityAssert entityAssert() {
 		return new EntityAssert();
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.springtestdbunit.dataset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.File;
+
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.DefaultDataSet;
+import org.dbunit.dataset.DefaultTable;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.datatype.DataType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestContext;
+
+import com.github.springtestdbunit.dataset.binary.BinaryDataSetFormat;
+import com.github.springtestdbunit.dataset.binary.BinaryDataSetWriter;
+import com.github.springtestdbunit.testutils.ExtendedTestContextManager;
+
+/**
+ * Tests for {@link BinaryDataSetLoader}.
+ */
+public class BinaryDataSetLoaderTest {
+
+	private TestContext testContext;
+
+	private BinaryDataSetLoader loader;
+
+	private File file;
+
+	@BeforeEach
+	public void setup() throws Exception {
+		loader = new BinaryDataSetLoader();
+		ExtendedTestContextManager manager = new ExtendedTestContextManager(getClass());
+		testContext = manager.accessTestContext();
+		file = File.createTempFile("test", BinaryDataSetFormat.FILE_EXTENSION);
+	}
+
+	@AfterEach
+	public void cleanup() {
+		file.delete();
+	}
+
+	@Test
+	public void shouldRoundTripFlatXml() throws Exception {
+		IDataSet source = new FlatXmlDataSetLoader().loadDataSet(testContext.getTestClass(), "test-column-sensing.xml");
+		BinaryDataSetWriter.write(source, file);
+		IDataSet dataset = loader.loadDataSet(testContext.getTestClass(), file.toURI().toString());
+		assertEquals("Sample", dataset.getTableNames()[0]);
+		ITable expected = source.getTable("Sample");
+		ITable actual = dataset.getTable("Sample");
+		assertEquals(expected.getRowCount(), actual.getRowCount());
+		assertEquals(expected.getTableMetaData().getColumns().length, actual.getTableMetaData().getColumns().length);
+		assertNull(actual.getValue(0, "name"));
+		assertEquals("test", actual.getValue(1, "name"));
+	}
+
+	@Test
+	public void shouldRoundTripNoValue() throws Exception {
+		DefaultTable table = new DefaultTable("Sample",
+				new Column[] { new Column("id", DataType.UNKNOWN), new Column("name", DataType.UNKNOWN) });
+		table.addRow(new Object[] { 1L, ITable.NO_VALUE });
+		table.addRow(new Object[] { 2L, "test" });
+		BinaryDataSetWriter.write(new DefaultDataSet(table), file);
+		ITable actual = loader.loadDataSet(testContext.getTestClass(), file.toURI().toString()).getTable("Sample");
+		assertEquals(2L, actual.getValue(1, "id"));
+		assertSame(ITable.NO_VALUE, actual.getValue(0, "name"));
+		assertEquals("test", actual.getValue(1, "name"));
+	}
+
+	@Test
+	public void shouldReturnNullOnMissingFile() throws Exception {
+		IDataSet dataset = loader.loadDataSet(testContext.getTestClass(), "doesnotexist" + BinaryDataSetFormat.FILE_EXTENSION);
+		assertNull(dataset);
+	}
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.springtestdbunit.dataset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.dbunit.dataset.IDataSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestContext;
+
+import com.github.springtestdbunit.testutils.ExtendedTestContextManager;
+
+/**
+ * Tests for {@link DataSetCache}.
+ */
+public class DataSetCacheTest {
+
+	private TestContext testContext;
+
+	private FlatXmlDataSetLoader loader;
+
+	private DataSetCache cache;
+
+	@BeforeEach
+	public void setup() throws Exception {
+		cache = new DataSetCache();
+		loader = new FlatXmlDataSetLoader();
+		loader.setDataSetCache(cache);
+		ExtendedTestContextManager manager = new ExtendedTestContextManager(getClass());
+		testContext = manager.accessTestContext();
+	}
+
+	@Test
+	public void shouldReuseParsedDataSet() throws Exception {
+		IDataSet first = loader.loadDataSet(testContext.getTestClass(), "test-column-sensing.xml");
+		IDataSet second = loader.loadDataSet(testContext.getTestClass(), "test-column-sensing.xml");
+		assertSame(first, second);
+		assertEquals("test", second.getTable("Sample").getValue(1, "name"));
+		assertEquals(1, cache.getMissCount());
+		assertEquals(1, cache.getHitCount());
+	}
+
+	@Test
+	public void shouldSeparateLoaderSettings() throws Exception {
+		IDataSet sensing = loader.loadDataSet(testContext.getTestClass(), "test-column-sensing.xml");
+		loader.setColumnSensingEnabled(false);
+		IDataSet notSensing = loader.loadDataSet(testContext.getTestClass(), "test-column-sensing.xml");
+		assertNotSame(sensing, notSensing);
+		assertEquals(2, cache.size());
+	}
+
+	@Test
+	public void shouldBypassDisabledCache() throws Exception {
+		cache.setEnabled(false);
+		loader.loadDataSet(testContext.getTestClass(), "test.xml");
+		assertEquals(0, cache.size());
+		assertEquals(0, cache.getMissCount());
+	}
+
+	@Test
+	public void shouldEvictLeastRecentlyUsed() throws Exception {
+		long first = measure("test.xml");
+		long second = measure("test-column-sensing.xml");
+		cache = new DataSetCache(first + second - 1);
+		loader.setDataSetCache(cache);
+		loader.loadDataSet(testContext.getTestClass(), "test.xml");
+		loader.loadDataSet(testContext.getTestClass(), "test-column-sensing.xml");
+		assertEquals(1, cache.size());
+		assertEquals(1, cache.getEvictionCount());
+		loader.loadDataSet(testContext.getTestClass(), "test-column-sensing.xml");
+		assertEquals(1, cache.getHitCount());
+		assertEquals(second, cache.getCurrentBytes());
+	}
+
+	private long measure(String location) throws Exception {
+		DataSetCache scratch = new DataSetCache();
+		loader.setDataSetCache(scratch);
+		loader.loadDataSet(testContext.getTestClass(), location);
+		return scratch.getCurrentBytes();
+	}
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.springtestdbunit.dataset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.dbunit.dataset.IDataSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestContext;
+
+import com.github.springtestdbunit.dataset.xml.IndexedFlatXmlDataSet;
+import com.github.springtestdbunit.testutils.ExtendedTestContextManager;
+
+/**
+ * Tests for {@link IndexedFlatXmlDataSetLoader}.
+ */
+public class IndexedFlatXmlDataSetLoaderTest {
+
+	private TestContext testContext;
+
+	private IndexedFlatXmlDataSetLoader loader;
+
+	@BeforeEach
+	public void setup() throws Exception {
+		loader = new IndexedFlatXmlDataSetLoader();
+		ExtendedTestContextManager manager = new ExtendedTestContextManager(getClass());
+		testContext = manager.accessTestContext();
+	}
+
+	@Test
+	public void shouldSenseColumns() throws Exception {
+		IDataSet dataset = loader.loadDataSet(testContext.getTestClass(), "test-column-sensing.xml");
+		assertTrue(dataset instanceof IndexedFlatXmlDataSet);
+		assertEquals(null, dataset.getTable("Sample").getValue(0, "name"));
+		assertEquals("test", dataset.getTable("Sample").getValue(1, "name"));
+	}
+
+	@Test
+	public void shouldUseFirstRowColumnsWithoutColumnSensing() throws Exception {
+		loader.setColumnSensingEnabled(false);
+		IDataSet dataset = loader.loadDataSet(testContext.getTestClass(), "test-column-sensing.xml");
+		assertEquals(1, dataset.getTable("Sample").getTableMetaData().getColumns().length);
+		assertEquals(2, dataset.getTable("Sample").getRowCount());
+	}
+
+	@Test
+	public void shouldLoadFromRelativeFile() throws Exception {
+		IDataSet dataset = loader.loadDataSet(testContext.getTestClass(), "test.xml");
+		assertEquals("Sample", dataset.getTableNames()[0]);
+	}
+
+	@Test
+	public void shouldParseDocumentsWithDoctypeEagerly() throws Exception {
+		IDataSet dataset = loader.loadDataSet(testContext.getTestClass(), "/META-INF/db/expected_nonstrict_with_dtd.xml");
+		assertFalse(dataset instanceof IndexedFlatXmlDataSet);
+	}
+
+	@Test
+	public void shouldReturnNullOnMissingFile() throws Exception {
+		IDataSet dataset = loader.loadDataSet(testContext.getTestClass(), "doesnotexist.xml");
+		assertNull(dataset);
+	}
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.springtestdbunit.dataset;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.ITable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestContext;
+
+import com.github.springtestdbunit.testutils.ExtendedTestContextManager;
+
+/**
+ * Tests for {@link MappedCsvDataSetLoader}.
+ */
+public class MappedCsvDataSetLoaderTest {
+
+	private TestContext testContext;
+
+	private MappedCsvDataSetLoader loader;
+
+	@BeforeEach
+	public void setup() throws Exception {
+		loader = new MappedCsvDataSetLoader();
+		ExtendedTestContextManager manager = new ExtendedTestContextManager(getClass());
+		testContext = manager.accessTestContext();
+	}
+
+	@Test
+	public void shouldLoadFromRelativeFile() throws Exception {
+		IDataSet dataset = loader.loadDataSet(testContext.getTestClass(), "csv/");
+		assertArrayEquals(new String[] { "Sample_2", "Sample_1" }, dataset.getTableNames());
+		assertEquals("id", dataset.getTable("Sample_1").getTableMetaData().getColumns()[0].getColumnName());
+	}
+
+	@Test
+	public void shouldDecodeQuotedValues() throws Exception {
+		ITable table = loader.loadDataSet(testContext.getTestClass(), "csv-quoted/").getTable("Sample");
+		assertEquals(2, table.getRowCount());
+		assertEquals("1", table.getValue(0, "id"));
+		assertEquals("comma, and \"quotes\"", table.getValue(0, "name"));
+		assertNull(table.getValue(1, "name"));
+	}
+
+	@Test
+	public void shouldReturnNullOnMissingFile() throws Exception {
+		IDataSet dataset = loader.loadDataSet(testContext.getTestClass(), "doesnotexist/");
+		assertNull(dataset);
+	}
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.springtestdbunit.dataset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestContext;
+
+import com.github.springtestdbunit.testutils.ExtendedTestContextManager;
+
+/**
+ * Tests for {@link ResourceResolutionCache}.
+ */
+public class ResourceResolutionCacheTest {
+
+	private TestContext testContext;
+
+	private ResourceResolutionCache cache;
+
+	@BeforeEach
+	public void setup() throws Exception {
+		cache = new ResourceResolutionCache();
+		ExtendedTestContextManager manager = new ExtendedTestContextManager(getClass());
+		testContext = manager.accessTestContext();
+	}
+
+	@Test
+	public void shouldShareResolutionsBetweenLoaders() throws Exception {
+		FlatXmlDataSetLoader flatXmlLoader = new FlatXmlDataSetLoader();
+		flatXmlLoader.setResourceResolutionCache(cache);
+		XmlDataSetLoader xmlLoader = new XmlDataSetLoader();
+		xmlLoader.setResourceResolutionCache(cache);
+		flatXmlLoader.loadDataSet(testContext.getTestClass(), "test.xml");
+		flatXmlLoader.loadDataSet(testContext.getTestClass(), "test.xml");
+		xmlLoader.getResource(testContext.getTestClass(), "test.xml");
+		assertEquals(1, cache.getMissCount());
+		assertEquals(2, cache.getHitCount());
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void shouldNotCacheMissingResources() throws Exception {
+		FlatXmlDataSetLoader loader = new FlatXmlDataSetLoader();
+		loader.setResourceResolutionCache(cache);
+		assertNull(loader.loadDataSet(testContext.getTestClass(), "doesnotexist.xml"));
+		assertNull(loader.loadDataSet(testContext.getTestClass(), "doesnotexist.xml"));
+		assertEquals(2, cache.getMissCount());
+		assertEquals(0, cache.getHitCount());
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void shouldNotCacheResolutionsByDefault() throws Exception {
+		assertNull(new FlatXmlDataSetLoader().getResourceResolutionCache());
+	}
+
+}
@@ -52,6 +52,15 @@ public class SqlLoaderControlDataSetLoaderTest {
 		assertEquals("Sample_1", dataset.getTableNames()[1]);
 	}
 
+	@Test
+	public void shouldLoadInParallelInListOrder() throws Exception {
+		loader.setParallelParsingEnabled(true);
+		IDataSet dataset = loader.loadDataSet(testContext.getTestClass(), "sql/");
+		assertEquals(2, dataset.getTableNames().length, "Wrong number of tables");
+		assertEquals("Sample_2", dataset.getTableNames()[0]);
+		assertEquals("Sample_1", dataset.getTableNames()[1]);
+	}
+
 	@Test
 	public void shouldReturnNullOnMissingFile() throws Exception {
 		IDataSet dataset = loader.loadDataSet(testContext.getTestClass(), "doesnotexist/");
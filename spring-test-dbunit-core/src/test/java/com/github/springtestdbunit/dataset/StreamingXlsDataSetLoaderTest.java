@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.springtestdbunit.dataset;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.dbunit.dataset.CachedDataSet;
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.ITable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestContext;
+
+import com.github.springtestdbunit.testutils.ExtendedTestContextManager;
+
+/**
+ * Tests for {@link StreamingXlsDataSetLoader}.
+ */
+public class StreamingXlsDataSetLoaderTest {
+
+	private TestContext testContext;
+
+	private StreamingXlsDataSetLoader loader;
+
+	@BeforeEach
+	public void setup() throws Exception {
+		loader = new StreamingXlsDataSetLoader();
+		ExtendedTestContextManager manager = new ExtendedTestContextManager(getClass());
+		testContext = manager.accessTestContext();
+	}
+
+	@Test
+	public void shouldLoadFromRelativeFile() throws Exception {
+		IDataSet dataset = loader.loadDataSet(testContext.getTestClass(), "test.xls");
+		assertArrayEquals(new String[] { "Sample_1", "Sample_2" }, dataset.getTableNames());
+		assertSameContent(new XlsDataSetLoader().loadDataSet(testContext.getTestClass(), "test.xls"), dataset);
+	}
+
+	@Test
+	public void shouldProduceSameDataSetWhenStreamed() throws Exception {
+		IDataSet loaded = loader.loadDataSet(testContext.getTestClass(), "test.xls");
+		IDataSet streamed = new CachedDataSet(loader.loadDataSetProducer(testContext.getTestClass(), "test.xls"));
+		assertSameContent(loaded, streamed);
+	}
+
+	@Test
+	public void shouldReturnNullOnMissingFile() throws Exception {
+		assertNull(loader.loadDataSet(testContext.getTestClass(), "doesnotexist.xls"));
+		assertNull(loader.loadDataSetProducer(testContext.getTestClass(), "doesnotexist.xls"));
+	}
+
+	private void assertSameContent(IDataSet expected, IDataSet actual) throws Exception {
+		assertArrayEquals(expected.getTableNames(), actual.getTableNames());
+		for (String tableName : expected.getTableNames()) {
+			ITable expectedTable = expected.getTable(tableName);
+			ITable actualTable = actual.getTable(tableName);
+			Column[] columns = expectedTable.getTableMetaData().getColumns();
+			assertEquals(columns.length, actualTable.getTableMetaData().getColumns().length);
+			assertEquals(expectedTable.getRowCount(), actualTable.getRowCount());
+			for (int row = 0; row < expectedTable.getRowCount(); row++) {
+				for (Column column : columns) {
+					assertEquals(String.valueOf(expectedTable.getValue(row, column.getColumnName())),
+							String.valueOf(actualTable.getValue(row, column.getColumnName())));
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.springtestdbunit.dataset.binary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.dbunit.dataset.ITable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * Tests for {@link BinaryDataSetConverter}.
+ */
+public class BinaryDataSetConverterTest {
+
+	private File directory;
+
+	@BeforeEach
+	public void setup() throws Exception {
+		directory = Files.createTempDirectory("converter").toFile();
+	}
+
+	@AfterEach
+	public void cleanup() {
+		FileSystemUtils.deleteRecursively(directory);
+	}
+
+	@Test
+	public void shouldDetectTheFormatFromTheRootElement() throws Exception {
+		write("flat.xml", "<dataset><Sample id=\"1\" name=\"flat\"/></dataset>");
+		write("xml.xml", "<dataset><table name=\"Sample\"><column>id</column><column>name</column>"
+				+ "<row><value>1</value><value>xml</value></row></table></dataset>");
+		write("beans.xml", "<beans><bean id=\"sample\"/></beans>");
+		assertEquals(2, new BinaryDataSetConverter(directory, null).convert());
+		assertEquals("flat", read("flat").getValue(0, "name"));
+		assertEquals("xml", read("xml").getValue(0, "name"));
+		assertFalse(new File(directory, "beans" + BinaryDataSetFormat.FILE_EXTENSION).exists());
+	}
+
+	private void write(String name, String content) throws Exception {
+		Files.write(new File(directory, name).toPath(), content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private ITable read(String name) throws Exception {
+		return BinaryDataSet.map(new File(directory, name + BinaryDataSetFormat.FILE_EXTENSION)).getTable("Sample");
+	}
+
+}
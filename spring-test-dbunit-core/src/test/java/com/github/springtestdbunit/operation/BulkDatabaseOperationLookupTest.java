@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.springtestdbunit.operation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.dbunit.database.DatabaseConfig;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.DefaultDataSet;
+import org.dbunit.dataset.DefaultTable;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.datatype.DataType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.springtestdbunit.annotation.DatabaseOperation;
+import com.github.springtestdbunit.testutils.HsqldbTestDatabase;
+
+/**
+ * Tests for {@link BulkDatabaseOperationLookup}.
+ */
+public class BulkDatabaseOperationLookupTest {
+
+	private HsqldbTestDatabase database;
+
+	private IDatabaseConnection connection;
+
+	private DefaultDatabaseOperationLookup lookup;
+
+	@BeforeEach
+	public void setup() throws Exception {
+		database = new HsqldbTestDatabase("bulk");
+		database.execute("CREATE TABLE BULK_SAMPLE (ID INTEGER PRIMARY KEY, NAME VARCHAR(20) DEFAULT 'default')");
+		connection = database.newDatabaseConnection();
+		connection.getConfig().setProperty(DatabaseConfig.PROPERTY_BATCH_SIZE, 7);
+		lookup = new BulkDatabaseOperationLookup();
+	}
+
+	@AfterEach
+	public void cleanup() throws Exception {
+		database.execute("DROP TABLE BULK_SAMPLE");
+		database.close();
+	}
+
+	@Test
+	public void shouldLookup() throws Exception {
+		assertSame(BulkInsertOperation.class, lookup.get(DatabaseOperation.INSERT).getClass());
+		assertSame(BulkRefreshOperation.class, lookup.get(DatabaseOperation.REFRESH).getClass());
+		assertSame(org.dbunit.operation.DatabaseOperation.UPDATE, lookup.get(DatabaseOperation.UPDATE));
+		assertSame(org.dbunit.operation.DatabaseOperation.DELETE_ALL, lookup.get(DatabaseOperation.DELETE_ALL));
+	}
+
+	@Test
+	public void shouldInsertInChunks() throws Exception {
+		lookup.get(DatabaseOperation.INSERT).execute(connection, new DefaultDataSet(table(1, 50)));
+		assertEquals("50", database.queryForString("SELECT COUNT(*) FROM BULK_SAMPLE"));
+		assertEquals("name37", database.queryForString("SELECT NAME FROM BULK_SAMPLE WHERE ID = 37"));
+	}
+
+	@Test
+	public void shouldLeaveOutMissingValues() throws Exception {
+		DefaultTable table = table(1, 3);
+		table.setValue(1, "NAME", ITable.NO_VALUE);
+		table.setValue(2, "NAME", null);
+		lookup.get(DatabaseOperation.INSERT).execute(connection, new DefaultDataSet(table));
+		assertEquals("name1", database.queryForString("SELECT NAME FROM BULK_SAMPLE WHERE ID = 1"));
+		assertEquals("default", database.queryForString("SELECT NAME FROM BULK_SAMPLE WHERE ID = 2"));
+		assertEquals(null, database.queryForString("SELECT NAME FROM BULK_SAMPLE WHERE ID = 3"));
+	}
+
+	@Test
+	public void shouldCleanInsert() throws Exception {
+		database.execute("INSERT INTO BULK_SAMPLE VALUES (100, 'old')");
+		lookup.get(DatabaseOperation.CLEAN_INSERT).execute(connection, new DefaultDataSet(table(1, 10)));
+		assertEquals("10", database.queryForString("SELECT COUNT(*) FROM BULK_SAMPLE"));
+	}
+
+	@Test
+	public void shouldRefresh() throws Exception {
+		database.execute("INSERT INTO BULK_SAMPLE VALUES (5, 'old')");
+		database.execute("INSERT INTO BULK_SAMPLE VALUES (100, 'kept')");
+		lookup.get(DatabaseOperation.REFRESH).execute(connection, new DefaultDataSet(table(1, 20)));
+		assertEquals("21", database.queryForString("SELECT COUNT(*) FROM BULK_SAMPLE"));
+		assertEquals("name5", database.queryForString("SELECT NAME FROM BULK_SAMPLE WHERE ID = 5"));
+		assertEquals("kept", database.queryForString("SELECT NAME FROM BULK_SAMPLE WHERE ID = 100"));
+	}
+
+	@Test
+	public void shouldRejectRowsWithoutValues() throws Exception {
+		DefaultTable table = table(1, 2);
+		table.addRow(new Object[] { ITable.NO_VALUE, ITable.NO_VALUE });
+		assertThrows(DataSetException.class,
+				() -> lookup.get(DatabaseOperation.INSERT).execute(connection, new DefaultDataSet(table)));
+	}
+
+	@Test
+	public void shouldRefreshRowsOfTheSameKey() throws Exception {
+		database.execute("INSERT INTO BULK_SAMPLE VALUES (5, 'old')");
+		DefaultTable table = table(1, 8);
+		table.addRow(new Object[] { 3, "again" });
+		table.addRow(new Object[] { 5, "later" });
+		table.addRow(new Object[] { "8", "last" });
+		lookup.get(DatabaseOperation.REFRESH).execute(connection, new DefaultDataSet(table));
+		assertEquals("8", database.queryForString("SELECT COUNT(*) FROM BULK_SAMPLE"));
+		assertEquals("again", database.queryForString("SELECT NAME FROM BULK_SAMPLE WHERE ID = 3"));
+		assertEquals("later", database.queryForString("SELECT NAME FROM BULK_SAMPLE WHERE ID = 5"));
+		assertEquals("last", database.queryForString("SELECT NAME FROM BULK_SAMPLE WHERE ID = 8"));
+	}
+
+	private DefaultTable table(int first, int last) throws Exception {
+		DefaultTable table = new DefaultTable("BULK_SAMPLE",
+				new Column[] { new Column("ID", DataType.INTEGER), new Column("NAME", DataType.VARCHAR) });
+		for (int id = first; id <= last; id++) {
+			table.addRow(new Object[] { id, "name" + id });
+		}
+		return table;
+	}
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.springtestdbunit.operation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.StringReader;
+
+import org.dbunit.database.DatabaseConfig;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.xml.FlatXmlDataSetBuilder;
+import org.dbunit.operation.DatabaseOperation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.springtestdbunit.testutils.HsqldbTestDatabase;
+
+/**
+ * Tests for {@link CachingStatementFactory}.
+ */
+public class CachingStatementFactoryTest {
+
+	private HsqldbTestDatabase database;
+
+	private IDatabaseConnection connection;
+
+	@BeforeEach
+	public void setup() throws Exception {
+		database = new HsqldbTestDatabase("cachingstatement");
+		database.execute("CREATE TABLE CACHED_A (ID INTEGER PRIMARY KEY, NAME VARCHAR(10))");
+		database.execute("CREATE TABLE CACHED_B (ID INTEGER PRIMARY KEY)");
+		connection = database.newDatabaseConnection();
+	}
+
+	@AfterEach
+	public void cleanup() throws Exception {
+		database.execute("DROP TABLE CACHED_A");
+		database.execute("DROP TABLE CACHED_B");
+		database.close();
+	}
+
+	@Test
+	public void shouldReuseStatementsBetweenOperations() throws Exception {
+		CachingStatementFactory factory = new CachingStatementFactory();
+		connection.getConfig().setProperty(DatabaseConfig.PROPERTY_STATEMENT_FACTORY, factory);
+		DatabaseOperation.CLEAN_INSERT.execute(connection, dataSet("<CACHED_A ID=\"1\" NAME=\"a\"/>"));
+		long misses = factory.getMissCount();
+		DatabaseOperation.CLEAN_INSERT.execute(connection,
+				dataSet("<CACHED_A ID=\"2\" NAME=\"b\"/><CACHED_A ID=\"3\" NAME=\"c\"/>"));
+		assertEquals(misses, factory.getMissCount());
+		assertEquals(2, database.queryForInt("SELECT COUNT(*) FROM CACHED_A"));
+		assertEquals(3, database.queryForInt("SELECT MAX(ID) FROM CACHED_A"));
+	}
+
+	@Test
+	public void shouldExecuteRowsWithoutBatches() throws Exception {
+		CachingStatementFactory factory = new CachingStatementFactory();
+		connection.getConfig().setProperty(DatabaseConfig.PROPERTY_STATEMENT_FACTORY, factory);
+		connection.getConfig().setFeature(DatabaseConfig.FEATURE_BATCHED_STATEMENTS, false);
+		DatabaseOperation.INSERT.execute(connection, dataSet("<CACHED_B ID=\"1\"/><CACHED_B ID=\"2\"/>"));
+		assertEquals(2, database.queryForInt("SELECT COUNT(*) FROM CACHED_B"));
+	}
+
+	@Test
+	public void shouldEvictLeastRecentlyUsedStatements() throws Exception {
+		CachingStatementFactory factory = new CachingStatementFactory(1);
+		connection.getConfig().setProperty(DatabaseConfig.PROPERTY_STATEMENT_FACTORY, factory);
+		IDataSet dataSet = dataSet("<CACHED_A ID=\"1\" NAME=\"a\"/><CACHED_B ID=\"1\"/>");
+		DatabaseOperation.CLEAN_INSERT.execute(connection, dataSet);
+		long misses = factory.getMissCount();
+		DatabaseOperation.CLEAN_INSERT.execute(connection, dataSet);
+		assertEquals(misses * 2, factory.getMissCount());
+		assertEquals(0, factory.getHitCount());
+		assertEquals(1, database.queryForInt("SELECT COUNT(*) FROM CACHED_B"));
+	}
+
+	private IDataSet dataSet(String rows) throws Exception {
+		return new FlatXmlDataSetBuilder().build(new StringReader("<dataset>" + rows + "</dataset>"));
+	}
+
+}
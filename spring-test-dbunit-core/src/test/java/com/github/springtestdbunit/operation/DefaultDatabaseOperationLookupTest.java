@@ -39,6 +39,7 @@ public class DefaultDatabaseOperationLookupTest {
 		assertSame(org.dbunit.operation.DatabaseOperation.DELETE_ALL, lookup.get(DatabaseOperation.DELETE_ALL));
 		assertSame(org.dbunit.operation.DatabaseOperation.TRUNCATE_TABLE, lookup.get(DatabaseOperation.TRUNCATE_TABLE));
 		assertSame(org.dbunit.operation.DatabaseOperation.CLEAN_INSERT, lookup.get(DatabaseOperation.CLEAN_INSERT));
+		assertSame(FastCleanInsertOperation.class, lookup.get(DatabaseOperation.FAST_CLEAN_INSERT).getClass());
 	}
 
 }
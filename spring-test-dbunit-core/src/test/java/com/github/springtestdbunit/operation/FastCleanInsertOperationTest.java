@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.springtestdbunit.operation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.StringReader;
+import java.sql.SQLException;
+import java.util.Collections;
+
+import org.dbunit.DatabaseUnitException;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.xml.FlatXmlDataSetBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.springtestdbunit.testutils.HsqldbTestDatabase;
+import com.github.springtestdbunit.util.DatabaseDialect;
+
+/**
+ * Tests for {@link FastCleanInsertOperation}.
+ */
+public class FastCleanInsertOperationTest {
+
+	private HsqldbTestDatabase database;
+
+	private IDatabaseConnection connection;
+
+	@BeforeEach
+	public void setup() throws Exception {
+		database = new HsqldbTestDatabase("fastcleaninsert");
+		database.execute("CREATE TABLE FAST_PARENT (ID INTEGER PRIMARY KEY)");
+		database.execute(
+				"CREATE TABLE FAST_CHILD (ID INTEGER PRIMARY KEY, PARENT_ID INTEGER REFERENCES FAST_PARENT(ID))");
+		database.execute("INSERT INTO FAST_PARENT VALUES (1)");
+		database.execute("INSERT INTO FAST_CHILD VALUES (1, 1)");
+		connection = database.newDatabaseConnection();
+	}
+
+	@AfterEach
+	public void cleanup() throws Exception {
+		database.execute("SET DATABASE REFERENTIAL INTEGRITY TRUE");
+		database.execute("DROP TABLE FAST_CHILD");
+		database.execute("DROP TABLE FAST_PARENT");
+		database.close();
+	}
+
+	@Test
+	public void shouldInsertChildrenBeforeParents() throws Exception {
+		new FastCleanInsertOperation().execute(connection,
+				dataSet("<FAST_CHILD ID=\"2\" PARENT_ID=\"2\"/><FAST_PARENT ID=\"2\"/>"));
+		assertEquals(1, database.queryForInt("SELECT COUNT(*) FROM FAST_PARENT"));
+		assertEquals(2, database.queryForInt("SELECT PARENT_ID FROM FAST_CHILD"));
+		assertThrows(SQLException.class, () -> database.execute("INSERT INTO FAST_CHILD VALUES (3, 3)"));
+	}
+
+	@Test
+	public void shouldReportViolationsWhenValidating() throws Exception {
+		IDataSet dataSet = dataSet("<FAST_CHILD ID=\"2\" PARENT_ID=\"3\"/><FAST_PARENT ID=\"2\"/>");
+		assertThrows(DatabaseUnitException.class,
+				() -> new FastCleanInsertOperation(org.dbunit.operation.DatabaseOperation.INSERT, true)
+						.execute(connection, dataSet));
+		database.execute("DELETE FROM FAST_CHILD");
+		assertThrows(SQLException.class, () -> database.execute("INSERT INTO FAST_CHILD VALUES (3, 3)"));
+	}
+
+	@Test
+	public void shouldValidateWithValidation() throws Exception {
+		IDataSet dataSet = dataSet("<FAST_CHILD ID=\"2\" PARENT_ID=\"3\"/><FAST_PARENT ID=\"2\"/>");
+		assertThrows(DatabaseUnitException.class,
+				() -> new FastCleanInsertOperation().withValidation().execute(connection, dataSet));
+	}
+
+	@Test
+	public void shouldFailLikeCleanInsertWhenReferencedFromOtherTables() throws Exception {
+		// The DELETE of the referenced rows fails as with CLEAN_INSERT
+		assertThrows(Exception.class,
+				() -> new FastCleanInsertOperation().execute(connection, dataSet("<FAST_PARENT ID=\"2\"/>")));
+		assertEquals(1, database.queryForInt("SELECT ID FROM FAST_PARENT"));
+		assertEquals(1, database.queryForInt("SELECT PARENT_ID FROM FAST_CHILD"));
+	}
+
+	@Test
+	public void shouldIgnoreOtherTablesWithoutReferences() throws Exception {
+		database.execute("UPDATE FAST_CHILD SET PARENT_ID = NULL");
+		new FastCleanInsertOperation().execute(connection, dataSet("<FAST_PARENT ID=\"2\"/>"));
+		assertEquals(2, database.queryForInt("SELECT ID FROM FAST_PARENT"));
+		assertEquals(1, database.queryForInt("SELECT COUNT(*) FROM FAST_CHILD"));
+	}
+
+	@Test
+	public void shouldNotDisableReferentialIntegrityOnPostgresql() throws Exception {
+		// Deferring only affects DEFERRABLE constraints, and nothing outside of a transaction
+		assertNull(DatabaseDialect.POSTGRESQL.getDisableReferentialIntegritySql(Collections.singletonList("FAST_CHILD")));
+	}
+
+	private IDataSet dataSet(String rows) throws Exception {
+		return new FlatXmlDataSetBuilder().build(new StringReader("<dataset>" + rows + "</dataset>"));
+	}
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.springtestdbunit.operation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.DefaultDataSet;
+import org.dbunit.dataset.DefaultTable;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.datatype.DataType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.springtestdbunit.annotation.DatabaseOperation;
+import com.github.springtestdbunit.testutils.HsqldbTestDatabase;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Tests for {@link ParallelDatabaseOperationLookup}.
+ */
+public class ParallelDatabaseOperationLookupTest {
+
+	private HsqldbTestDatabase database;
+
+	private IDatabaseConnection connection;
+
+	private ParallelDatabaseOperationLookup lookup;
+
+	@BeforeEach
+	public void setup() throws Exception {
+		database = new HsqldbTestDatabase("parallel");
+		database.execute("CREATE TABLE PARENT (ID INTEGER PRIMARY KEY)");
+		database.execute("CREATE TABLE CHILD_A (ID INTEGER PRIMARY KEY, PARENT_ID INTEGER REFERENCES PARENT(ID))");
+		database.execute("CREATE TABLE CHILD_B (ID INTEGER PRIMARY KEY, PARENT_ID INTEGER REFERENCES PARENT(ID))");
+		database.execute("CREATE TABLE UNRELATED (ID INTEGER PRIMARY KEY)");
+		connection = database.newDatabaseConnection();
+		lookup = new ParallelDatabaseOperationLookup(database.newDataSource());
+	}
+
+	@AfterEach
+	public void cleanup() throws Exception {
+		database.execute("DROP TABLE CHILD_A");
+		database.execute("DROP TABLE CHILD_B");
+		database.execute("DROP TABLE PARENT");
+		database.execute("DROP TABLE UNRELATED");
+		database.close();
+	}
+
+	@Test
+	public void shouldLayerTablesOnForeignKeys() throws Exception {
+		List<List<String>> layers = ForeignKeyDependencies.getLayers(connection,
+				Arrays.asList("CHILD_A", "child_b", "PARENT", "UNRELATED"));
+		assertEquals(Arrays.asList(Arrays.asList("PARENT", "UNRELATED"), Arrays.asList("CHILD_A", "child_b")),
+				layers);
+	}
+
+	@Test
+	public void shouldCleanInsertInParallel() throws Exception {
+		database.execute("INSERT INTO UNRELATED VALUES (100)");
+		lookup.get(DatabaseOperation.CLEAN_INSERT).execute(connection, dataSet(2));
+		assertEquals("2", database.queryForString("SELECT COUNT(*) FROM PARENT"));
+		assertEquals("2", database.queryForString("SELECT COUNT(*) FROM CHILD_A"));
+		assertEquals("2", database.queryForString("SELECT COUNT(*) FROM CHILD_B"));
+		assertEquals("2", database.queryForString("SELECT COUNT(*) FROM UNRELATED"));
+	}
+
+	@Test
+	public void shouldRollBackLayerOnFailure() throws Exception {
+		database.execute("INSERT INTO PARENT VALUES (1)");
+		database.execute("INSERT INTO CHILD_B VALUES (1, 1)");
+		DefaultDataSet dataSet = new DefaultDataSet();
+		dataSet.addTable(table("CHILD_A", 1, 1));
+		dataSet.addTable(table("CHILD_B", 1, 1));
+		assertThrows(Exception.class, () -> lookup.get(DatabaseOperation.INSERT).execute(connection, dataSet));
+		assertEquals("0", database.queryForString("SELECT COUNT(*) FROM CHILD_A"));
+	}
+
+	@Test
+	public void shouldWriteWideLayersInChunksOfTheParallelism() throws Exception {
+		database.execute("CREATE TABLE CHILD_C (ID INTEGER PRIMARY KEY, PARENT_ID INTEGER REFERENCES PARENT(ID))");
+		HikariConfig config = new HikariConfig();
+		config.setJdbcUrl(database.getUrl());
+		config.setUsername("sa");
+		config.setMaximumPoolSize(2);
+		config.setConnectionTimeout(1000);
+		HikariDataSource dataSource = new HikariDataSource(config);
+		try {
+			ParallelDatabaseOperationLookup lookup = new ParallelDatabaseOperationLookup(dataSource);
+			lookup.setParallelism(2);
+			DefaultDataSet dataSet = (DefaultDataSet) dataSet(2);
+			dataSet.addTable(table("CHILD_C", 2, 1));
+			lookup.get(DatabaseOperation.INSERT).execute(connection, dataSet);
+			assertEquals("2", database.queryForString("SELECT COUNT(*) FROM CHILD_C"));
+		} finally {
+			dataSource.close();
+			database.execute("DROP TABLE CHILD_C");
+		}
+	}
+
+	private IDataSet dataSet(int rows) throws Exception {
+		DefaultTable parent = new DefaultTable("PARENT", new Column[] { new Column("ID", DataType.INTEGER) });
+		DefaultTable unrelated = new DefaultTable("UNRELATED", new Column[] { new Column("ID", DataType.INTEGER) });
+		for (int id = 1; id <= rows; id++) {
+			parent.addRow(new Object[] { id });
+			unrelated.addRow(new Object[] { id });
+		}
+		DefaultDataSet dataSet = new DefaultDataSet();
+		dataSet.addTable(parent);
+		dataSet.addTable(table("CHILD_A", rows, 1));
+		dataSet.addTable(table("CHILD_B", rows, 1));
+		dataSet.addTable(unrelated);
+		return dataSet;
+	}
+
+	private DefaultTable table(String name, int rows, int parentId) throws Exception {
+		DefaultTable table = new DefaultTable(name,
+				new Column[] { new Column("ID", DataType.INTEGER), new Column("PARENT_ID", DataType.INTEGER) });
+		for (int id = 1; id <= rows; id++) {
+			table.addRow(new Object[] { id, parentId });
+		}
+		return table;
+	}
+
+}
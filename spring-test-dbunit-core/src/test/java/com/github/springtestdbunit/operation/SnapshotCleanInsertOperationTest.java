@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.springtestdbunit.operation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.StringReader;
+
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.xml.FlatXmlDataSetBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.springtestdbunit.annotation.DatabaseOperation;
+import com.github.springtestdbunit.testutils.HsqldbTestDatabase;
+import com.github.springtestdbunit.util.DatabaseConnectionUtils;
+
+/**
+ * Tests for {@link SnapshotCleanInsertOperation} and {@link SnapshotDatabaseOperationLookup}.
+ */
+public class SnapshotCleanInsertOperationTest {
+
+	private HsqldbTestDatabase database;
+
+	private IDatabaseConnection connection;
+
+	private SnapshotCleanInsertOperation operation;
+
+	@BeforeEach
+	public void setup() throws Exception {
+		database = new HsqldbTestDatabase("snapshots");
+		database.execute("CREATE TABLE SNAPSHOT_SAMPLE (ID INTEGER PRIMARY KEY, NAME VARCHAR(20))");
+		connection = database.newDatabaseConnection();
+		operation = new SnapshotCleanInsertOperation();
+	}
+
+	@AfterEach
+	public void cleanup() throws Exception {
+		SnapshotCleanInsertOperation.dropSnapshots(connection);
+		database.execute("DROP TABLE SNAPSHOT_SAMPLE");
+		database.close();
+	}
+
+	@Test
+	public void shouldLookupSnapshotCleanInsert() throws Exception {
+		DefaultDatabaseOperationLookup lookup = new SnapshotDatabaseOperationLookup();
+		assertSame(SnapshotCleanInsertOperation.class, lookup.get(DatabaseOperation.CLEAN_INSERT).getClass());
+		assertSame(org.dbunit.operation.DatabaseOperation.INSERT, lookup.get(DatabaseOperation.INSERT));
+	}
+
+	@Test
+	public void shouldRestoreSnapshot() throws Exception {
+		operation.execute(connection, dataSet("a"));
+		assertEquals(1, countShadowTables());
+		database.execute("UPDATE SNAPSHOT_SAMPLE SET NAME = 'changed'");
+		database.execute("INSERT INTO SNAPSHOT_SAMPLE VALUES (2, 'extra')");
+		operation.execute(connection, dataSet("a"));
+		assertEquals("a", database.queryForString("SELECT NAME FROM SNAPSHOT_SAMPLE WHERE ID = 1"));
+		assertEquals("1", database.queryForString("SELECT COUNT(*) FROM SNAPSHOT_SAMPLE"));
+		assertEquals(1, countShadowTables());
+	}
+
+	@Test
+	public void shouldRecaptureWhenDataSetChanged() throws Exception {
+		operation.execute(connection, dataSet("a"));
+		operation.execute(connection, dataSet("b"));
+		assertEquals("b", database.queryForString("SELECT NAME FROM SNAPSHOT_SAMPLE WHERE ID = 1"));
+		assertEquals(1, countShadowTables());
+		database.execute("DELETE FROM SNAPSHOT_SAMPLE");
+		operation.execute(connection, dataSet("b"));
+		assertEquals("b", database.queryForString("SELECT NAME FROM SNAPSHOT_SAMPLE WHERE ID = 1"));
+	}
+
+	@Test
+	public void shouldKeepSnapshotOutOfFullDatabaseDataSet() throws Exception {
+		operation.execute(connection, dataSet("a"));
+		org.dbunit.operation.DatabaseOperation.DELETE_ALL.execute(connection,
+				DatabaseConnectionUtils.createDataSet(connection));
+		assertEquals("0", database.queryForString("SELECT COUNT(*) FROM SNAPSHOT_SAMPLE"));
+		operation.execute(connection, dataSet("a"));
+		assertEquals("a", database.queryForString("SELECT NAME FROM SNAPSHOT_SAMPLE WHERE ID = 1"));
+	}
+
+	@Test
+	public void shouldReplayWhenSnapshotWasCleared() throws Exception {
+		operation.execute(connection, dataSet("a"));
+		org.dbunit.operation.DatabaseOperation.DELETE_ALL.execute(connection, connection.createDataSet());
+		operation.execute(connection, dataSet("a"));
+		assertEquals("a", database.queryForString("SELECT NAME FROM SNAPSHOT_SAMPLE WHERE ID = 1"));
+		assertEquals(1, countShadowTables());
+	}
+
+	@Test
+	public void shouldDropSnapshots() throws Exception {
+		operation.execute(connection, dataSet("a"));
+		SnapshotCleanInsertOperation.dropSnapshots(connection);
+		assertEquals(0, countShadowTables());
+	}
+
+	@Test
+	public void shouldDropSnapshotsOfEarlierRuns() throws Exception {
+		database.execute("CREATE TABLE " + SnapshotCleanInsertOperation.DEFAULT_SHADOW_TABLE_PREFIX
+				+ "EARLIER_1_0 (ID INTEGER)");
+		SnapshotCleanInsertOperation.dropSnapshots(connection);
+		assertEquals(0, countShadowTables());
+	}
+
+	private int countShadowTables() throws Exception {
+		return database.queryForInt("SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_NAME LIKE '"
+				+ SnapshotCleanInsertOperation.DEFAULT_SHADOW_TABLE_PREFIX + "%'");
+	}
+
+	private IDataSet dataSet(String name) throws Exception {
+		return new FlatXmlDataSetBuilder()
+				.build(new StringReader("<dataset><SNAPSHOT_SAMPLE ID=\"1\" NAME=\"" + name + "\"/></dataset>"));
+	}
+
+}
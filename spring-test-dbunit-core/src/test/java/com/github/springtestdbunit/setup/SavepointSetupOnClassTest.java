@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.springtestdbunit.setup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.context.support.DependencyInjectionTestExecutionListener;
+
+import com.github.springtestdbunit.DbUnitTestExecutionListener;
+import com.github.springtestdbunit.SavepointDbUnitTestExecutionListener;
+import com.github.springtestdbunit.annotation.DatabaseOperation;
+import com.github.springtestdbunit.annotation.DatabaseSetup;
+import com.github.springtestdbunit.annotation.DbUnitConfiguration;
+import com.github.springtestdbunit.config.CoreTestConfiguration;
+import com.github.springtestdbunit.testutils.CountingDataSetLoader;
+
+@SpringJUnitConfig(CoreTestConfiguration.class)
+@TestExecutionListeners({ DependencyInjectionTestExecutionListener.class,
+		SavepointDbUnitTestExecutionListener.class })
+@DbUnitConfiguration(databaseConnection = DbUnitTestExecutionListener.DEFAULT_DATASOURCE_BEAN_NAME,
+		dataSetLoaderBean = "savepointDataSetLoader")
+@DatabaseSetup(type = DatabaseOperation.CLEAN_INSERT, value = SavepointSetupOnClassTest.CLASS_DATASET)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class SavepointSetupOnClassTest {
+
+	static final String CLASS_DATASET = "/META-INF/db/insert.xml";
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private CountingDataSetLoader dataSetLoader;
+
+	@Test
+	@Order(1)
+	public void shouldSeeClassSetup() throws Exception {
+		assertValues("fromDbUnit");
+		new JdbcTemplate(dataSource).update("insert into SampleEntity(id, value) values (200, 'fromTest')");
+		assertValues("fromDbUnit", "fromTest");
+	}
+
+	@Test
+	@Order(2)
+	@DatabaseSetup(type = DatabaseOperation.INSERT, value = "/META-INF/db/insert2.xml")
+	public void shouldApplyMethodSetupOnTopOfClassSetup() throws Exception {
+		assertValues("fromDbUnit", "fromDbUnit2");
+	}
+
+	@Test
+	@Order(3)
+	public void shouldRollBackPreviousMethods() throws Exception {
+		assertValues("fromDbUnit");
+	}
+
+	private void assertValues(String... expected) {
+		assertEquals(1, dataSetLoader.getLoadCount(CLASS_DATASET), "Class dataset loaded more than once");
+		List<String> actual = new JdbcTemplate(dataSource).queryForList("select value from SampleEntity", String.class);
+		assertEquals(new HashSet<String>(Arrays.asList(expected)), new HashSet<String>(actual));
+	}
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.springtestdbunit.setup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.context.support.DependencyInjectionTestExecutionListener;
+
+import com.github.springtestdbunit.DbUnitTestExecutionListener;
+import com.github.springtestdbunit.annotation.DatabaseOperation;
+import com.github.springtestdbunit.annotation.DatabaseSetup;
+import com.github.springtestdbunit.annotation.DatabaseTearDown;
+import com.github.springtestdbunit.annotation.DbUnitConfiguration;
+import com.github.springtestdbunit.config.CoreTestConfiguration;
+import com.github.springtestdbunit.operation.CachingStatementFactory;
+
+@SpringJUnitConfig(CoreTestConfiguration.class)
+@TestExecutionListeners({ DependencyInjectionTestExecutionListener.class, DbUnitTestExecutionListener.class })
+@DbUnitConfiguration(databaseConnection = "statementCacheConnection",
+		dbUnitRunnerConfigBean = "statementCacheDbUnitRunnerConfig")
+@DatabaseSetup(type = DatabaseOperation.INSERT, value = "/META-INF/db/insert.xml")
+@DatabaseTearDown(type = DatabaseOperation.DELETE, value = "/META-INF/db/insert.xml")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class StatementCacheSetupTest {
+
+	@Autowired
+	private CachingStatementFactory statementCache;
+
+	@Test
+	@Order(1)
+	public void shouldPrepareStatementsOnFirstTest() throws Exception {
+		assertEquals(0, statementCache.getHitCount());
+		assertTrue(statementCache.getMissCount() > 0);
+	}
+
+	@Test
+	@Order(2)
+	public void shouldReuseStatementsOfPreviousTest() throws Exception {
+		assertTrue(statementCache.getHitCount() > 0);
+	}
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.springtestdbunit.testutils;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.IDataSet;
+
+import com.github.springtestdbunit.dataset.FlatXmlDataSetLoader;
+
+/**
+ * {@link FlatXmlDataSetLoader} that counts how many times each location is loaded.
+ */
+public class CountingDataSetLoader extends FlatXmlDataSetLoader {
+
+	private final ConcurrentMap<String, AtomicInteger> loadCounts = new ConcurrentHashMap<String, AtomicInteger>();
+
+	@Override
+	public IDataSet loadDataSet(Class<?> testClass, String location) throws DataSetException, IOException {
+		this.loadCounts.computeIfAbsent(location, (key) -> new AtomicInteger()).incrementAndGet();
+		return super.loadDataSet(testClass, location);
+	}
+
+	public int getLoadCount(String location) {
+		AtomicInteger loadCount = this.loadCounts.get(location);
+		return (loadCount != null ? loadCount.get() : 0);
+	}
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.springtestdbunit.testutils;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.dbunit.DatabaseUnitException;
+import org.dbunit.database.DatabaseConnection;
+import org.dbunit.database.IDatabaseConnection;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * Named in-memory HSQLDB database with a single open JDBC connection and plain SQL helpers, shared by the tests that
+ * exercise operations and assertions directly against a database rather than through a Spring test context.
+ */
+public class HsqldbTestDatabase {
+
+	private static final String USERNAME = "sa";
+
+	private static final String PASSWORD = "";
+
+	private final String url;
+
+	private final Connection connection;
+
+	public HsqldbTestDatabase(String name) throws SQLException {
+		this.url = "jdbc:hsqldb:mem:" + name;
+		this.connection = DriverManager.getConnection(this.url, USERNAME, PASSWORD);
+	}
+
+	public String getUrl() {
+		return this.url;
+	}
+
+	public Connection getConnection() {
+		return this.connection;
+	}
+
+	public DataSource newDataSource() {
+		return new DriverManagerDataSource(this.url, USERNAME, PASSWORD);
+	}
+
+	public IDatabaseConnection newDatabaseConnection() throws DatabaseUnitException {
+		return new DatabaseConnection(this.connection);
+	}
+
+	public void execute(String... sql) throws SQLException {
+		for (String statement : sql) {
+			execute(this.connection, statement);
+		}
+	}
+
+	public String queryForString(String sql) throws SQLException {
+		Statement statement = this.connection.createStatement();
+		try {
+			ResultSet resultSet = statement.executeQuery(sql);
+			resultSet.next();
+			return resultSet.getString(1);
+		} finally {
+			statement.close();
+		}
+	}
+
+	public int queryForInt(String sql) throws SQLException {
+		return Integer.parseInt(queryForString(sql));
+	}
+
+	public void close() throws SQLException {
+		this.connection.close();
+	}
+
+	public static void execute(Connection connection, String sql) throws SQLException {
+		Statement statement = connection.createStatement();
+		try {
+			statement.execute(sql);
+		} finally {
+			statement.close();
+		}
+	}
+
+	public static void execute(DataSource dataSource, String sql) throws SQLException {
+		Connection connection = dataSource.getConnection();
+		try {
+			execute(connection, sql);
+		} finally {
+			connection.close();
+		}
+	}
+
+}